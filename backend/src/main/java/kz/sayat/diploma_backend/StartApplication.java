@@ -2,8 +2,10 @@ package kz.sayat.diploma_backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class StartApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(StartApplication.class, args);
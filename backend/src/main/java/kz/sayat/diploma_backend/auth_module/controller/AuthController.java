@@ -4,7 +4,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import kz.sayat.diploma_backend.auth_module.security.dto.LoginRequest;
+import kz.sayat.diploma_backend.auth_module.security.dto.RefreshRequest;
 import kz.sayat.diploma_backend.auth_module.security.dto.RegisterRequest;
+import kz.sayat.diploma_backend.auth_module.security.dto.TokenPair;
 import kz.sayat.diploma_backend.auth_module.dto.UserDto;
 import kz.sayat.diploma_backend.auth_module.service.AuthService;
 import kz.sayat.diploma_backend.auth_module.service.implementation.EmailService;
@@ -32,6 +34,14 @@ public class AuthController {
         return ResponseEntity.ok().body(authService.login(request, response, authRequest));
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenPair> refresh(HttpServletRequest request,
+                                             HttpServletResponse response,
+                                             @RequestBody(required = false) RefreshRequest refreshRequest) {
+        String refreshToken = refreshRequest != null ? refreshRequest.refreshToken() : null;
+        return ResponseEntity.ok(authService.refresh(request, response, refreshToken));
+    }
+
     @PostMapping("/send-code")
     public ResponseEntity<String> sendCode(@RequestParam String email) {
         emailService.sendEmailVerificationCode(email);
@@ -56,8 +66,8 @@ public class AuthController {
     }
 
     @GetMapping("/check-session")
-    public ResponseEntity<?> checkSession(HttpServletRequest request) {
-        return (request.getSession(false) != null)
+    public ResponseEntity<?> checkSession(HttpServletRequest request, Authentication authentication) {
+        return (request.getSession(false) != null || authentication != null)
             ? ResponseEntity.ok().build()
             : ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
     }
@@ -4,13 +4,13 @@ import jakarta.validation.Valid;
 import kz.sayat.diploma_backend.auth_module.dto.PasswordDto;
 import kz.sayat.diploma_backend.auth_module.dto.StudentDto;
 import kz.sayat.diploma_backend.auth_module.service.StudentService;
+import kz.sayat.diploma_backend.util.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/student")
@@ -44,8 +44,11 @@ public class StudentController {
 
 
     @GetMapping("/all")
-    public ResponseEntity<List<StudentDto>> getAllTeachers() {
-        return ResponseEntity.ok(studentService.getAllStudents());
+    public ResponseEntity<CursorPage<StudentDto>> getAllTeachers(
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(studentService.getAllStudents(cursor, size, withTotal));
     }
 
     @PutMapping("/profile/change-password")
@@ -4,12 +4,14 @@ import kz.sayat.diploma_backend.auth_module.dto.PasswordDto;
 import kz.sayat.diploma_backend.auth_module.dto.TeacherDto;
 import kz.sayat.diploma_backend.auth_module.service.TeacherService;
 import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
+import kz.sayat.diploma_backend.util.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -46,8 +48,11 @@ public class TeacherController {
     }
 
     @GetMapping
-    public ResponseEntity<List<TeacherDto>> getAllTeachers() {
-        return ResponseEntity.ok(teacherService.getAllTeachers());
+    public ResponseEntity<CursorPage<TeacherDto>> getAllTeachers(
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(teacherService.getAllTeachers(cursor, size, withTotal));
     }
 
     @GetMapping("/courses")
@@ -72,14 +77,18 @@ public class TeacherController {
 
 
     @GetMapping("/profile/image")
-    public ResponseEntity<Resource> getProfileImage(Authentication authentication) throws IOException {
-        return teacherService.getProfileImage(authentication);
+    public ResponseEntity<Resource> getProfileImage(Authentication authentication,
+                                                    @RequestParam(required = false) String variant,
+                                                    ServletWebRequest request) throws IOException {
+        return teacherService.getProfileImage(authentication, variant, request);
     }
 
 
         @GetMapping("/profile/image/{id}")
-        public ResponseEntity<Resource> getProfileImage(@PathVariable int id) throws IOException {
-            return teacherService.getProfileImageId(id);
+        public ResponseEntity<Resource> getProfileImage(@PathVariable int id,
+                                                        @RequestParam(required = false) String variant,
+                                                        ServletWebRequest request) throws IOException {
+            return teacherService.getProfileImageId(id, variant, request);
         }
 
 }
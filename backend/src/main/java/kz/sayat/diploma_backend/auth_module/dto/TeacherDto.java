@@ -1,16 +1,19 @@
 package kz.sayat.diploma_backend.auth_module.dto;
 
 import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
+import kz.sayat.diploma_backend.media_module.dto.ImageUrls;
 import lombok.Data;
 
+import java.io.Serializable;
 import java.util.List;
 
 @Data
-public class TeacherDto {
+public class TeacherDto implements Serializable {
     private int id;
     private String email;
     private String firstname;
     private String lastname;
     private String bio;
     private List<CourseSummaryDto> createdCourses;
+    private ImageUrls image;
 }
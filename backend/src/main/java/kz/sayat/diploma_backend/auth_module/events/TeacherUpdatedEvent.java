@@ -0,0 +1,4 @@
+package kz.sayat.diploma_backend.auth_module.events;
+
+public record TeacherUpdatedEvent(int teacherId) {
+}
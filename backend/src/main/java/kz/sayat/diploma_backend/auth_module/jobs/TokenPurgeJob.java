@@ -0,0 +1,29 @@
+package kz.sayat.diploma_backend.auth_module.jobs;
+
+import kz.sayat.diploma_backend.auth_module.service.TokenService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class TokenPurgeJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenPurgeJob.class);
+
+    private final TokenService tokenService;
+
+    @Scheduled(cron = "${auth.token.purge-cron:0 15 4 * * *}")
+    public void purge() {
+        try {
+            int removed = tokenService.purgeExpired();
+            if (removed > 0) {
+                logger.info("Purged {} expired tokens", removed);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Failed to purge expired tokens", e);
+        }
+    }
+}
@@ -8,10 +8,12 @@
     import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
     import kz.sayat.diploma_backend.course_module.mapper.CourseMapper;
     import kz.sayat.diploma_backend.course_module.repository.EnrollmentRepository;
+    import kz.sayat.diploma_backend.course_module.repository.projection.StudentCourseView;
     import lombok.RequiredArgsConstructor;
     import org.springframework.stereotype.Component;
 
     import java.util.List;
+    import java.util.Map;
     import java.util.stream.Collectors;
 
     @Component
@@ -58,15 +60,7 @@
             if (student == null) {
                 return null;
             }
-            StudentDto studentDto = new StudentDto();
-            studentDto.setId(student.getId());
-            studentDto.setEmail(student.getEmail());
-            studentDto.setFirstname(student.getFirstname());
-            studentDto.setLastname(student.getLastname());
-            studentDto.setGradeLevel(student.getGradeLevel());
-            studentDto.setSchoolInfo(student.getSchoolInfo());
-            studentDto.setBirthday(student.getBirthDate());
-
+            StudentDto studentDto = toStudentDtoWithoutCourses(student);
             List<CourseSummaryDto> enrolledCourses = enrollmentRepository.findCoursesByStudentId(student.getId())
                 .stream()
                 .map(courseMapper::toCourseSummaryDto)
@@ -76,10 +70,35 @@
             return studentDto;
         }
 
+        /**
+         * Maps a page of students with one query for all of their enrollments.
+         */
         @Override
         public List<StudentDto> toStudentDtoList(List<Student> students) {
-            return students.stream().map(
-                this:: toStudentDto
-            ).collect(Collectors.toList());
+            if (students.isEmpty()) {
+                return List.of();
+            }
+            Map<Integer, List<CourseSummaryDto>> coursesByStudent = enrollmentRepository
+                .findCourseHeadersByStudentIdIn(students.stream().map(Student::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(StudentCourseView::getStudentId,
+                    Collectors.mapping(courseMapper::toCourseSummaryDto, Collectors.toList())));
+            return students.stream().map(student -> {
+                StudentDto studentDto = toStudentDtoWithoutCourses(student);
+                studentDto.setEnrolledCourses(coursesByStudent.getOrDefault(student.getId(), List.of()));
+                return studentDto;
+            }).collect(Collectors.toList());
+        }
+
+        private StudentDto toStudentDtoWithoutCourses(Student student) {
+            StudentDto studentDto = new StudentDto();
+            studentDto.setId(student.getId());
+            studentDto.setEmail(student.getEmail());
+            studentDto.setFirstname(student.getFirstname());
+            studentDto.setLastname(student.getLastname());
+            studentDto.setGradeLevel(student.getGradeLevel());
+            studentDto.setSchoolInfo(student.getSchoolInfo());
+            studentDto.setBirthday(student.getBirthDate());
+            return studentDto;
         }
     }
@@ -2,6 +2,7 @@ package kz.sayat.diploma_backend.auth_module.mapper.implementation;
 
 import kz.sayat.diploma_backend.auth_module.dto.TeacherDto;
 import kz.sayat.diploma_backend.auth_module.models.Teacher;
+import kz.sayat.diploma_backend.media_module.dto.ImageUrls;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -16,6 +17,7 @@ public class TeacherMapperHelper {
         teacherDto.setFirstname(teacher.getFirstname());
         teacherDto.setLastname(teacher.getLastname());
         teacherDto.setBio(teacher.getBio());
+        teacherDto.setImage(ImageUrls.forTeacher(teacher.getId(), teacher.getProfileImagePath()));
 
         return teacherDto;
     }
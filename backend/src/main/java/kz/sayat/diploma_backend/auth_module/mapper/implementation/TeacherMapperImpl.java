@@ -6,11 +6,16 @@ import kz.sayat.diploma_backend.auth_module.mapper.TeacherMapper;
 import kz.sayat.diploma_backend.auth_module.models.Teacher;
 import kz.sayat.diploma_backend.auth_module.models.enums.UserRole;
 import kz.sayat.diploma_backend.auth_module.security.dto.RegisterRequest;
+import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
 import kz.sayat.diploma_backend.course_module.mapper.CourseMapper;
+import kz.sayat.diploma_backend.course_module.repository.CourseRepository;
+import kz.sayat.diploma_backend.course_module.repository.projection.CourseHeaderView;
+import kz.sayat.diploma_backend.media_module.dto.ImageUrls;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
@@ -18,6 +23,7 @@ import java.util.stream.Collectors;
 public class TeacherMapperImpl implements TeacherMapper {
 
     private final CourseMapper courseMapper;
+    private final CourseRepository courseRepository;
 
     @Override
     public Teacher toTeacher(TeacherDto teacherDto) {
@@ -42,12 +48,7 @@ public class TeacherMapperImpl implements TeacherMapper {
             return null;
         }
 
-        TeacherDto teacherDto = new TeacherDto();
-        teacherDto.setId(teacher.getId());
-        teacherDto.setEmail(teacher.getEmail());
-        teacherDto.setFirstname(teacher.getFirstname());
-        teacherDto.setLastname(teacher.getLastname());
-        teacherDto.setBio(teacher.getBio());
+        TeacherDto teacherDto = toTeacherDtoWithoutCourses(teacher);
         teacherDto.setCreatedCourses(courseMapper.toCourseSummaryDtoList(teacher.getCreatedCourses()));
 
         return teacherDto;
@@ -70,11 +71,35 @@ public class TeacherMapperImpl implements TeacherMapper {
         return teacher;
     }
 
+    /**
+     * Maps a page of teachers with one query for all of their courses.
+     */
     @Override
     public List<TeacherDto> toTeacherDtoList(List<Teacher> teachers) {
-        return teachers.stream().map(
-            this::toTeacherDto
-        ).collect(Collectors.toList());
+        if (teachers.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, List<CourseSummaryDto>> coursesByTeacher = courseRepository
+            .findHeadersByTeacherIdIn(teachers.stream().map(Teacher::getId).toList())
+            .stream()
+            .collect(Collectors.groupingBy(CourseHeaderView::getTeacherId,
+                Collectors.mapping(courseMapper::toCourseSummaryDto, Collectors.toList())));
+        return teachers.stream().map(teacher -> {
+            TeacherDto teacherDto = toTeacherDtoWithoutCourses(teacher);
+            teacherDto.setCreatedCourses(coursesByTeacher.getOrDefault(teacher.getId(), List.of()));
+            return teacherDto;
+        }).collect(Collectors.toList());
+    }
+
+    private TeacherDto toTeacherDtoWithoutCourses(Teacher teacher) {
+        TeacherDto teacherDto = new TeacherDto();
+        teacherDto.setId(teacher.getId());
+        teacherDto.setEmail(teacher.getEmail());
+        teacherDto.setFirstname(teacher.getFirstname());
+        teacherDto.setLastname(teacher.getLastname());
+        teacherDto.setBio(teacher.getBio());
+        teacherDto.setImage(ImageUrls.forTeacher(teacher.getId(), teacher.getProfileImagePath()));
+        return teacherDto;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package kz.sayat.diploma_backend.auth_module.repository;
+
+import kz.sayat.diploma_backend.auth_module.models.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO revoked_tokens (jti, expires_at) VALUES (:jti, :expiresAt)
+        ON CONFLICT (jti) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("jti") String jti, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,12 +1,16 @@
 package kz.sayat.diploma_backend.auth_module.repository;
 
 import kz.sayat.diploma_backend.auth_module.models.Student;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Integer> {
     Optional<Student> findByEmail(String name);
+
+    List<Student> findByIdGreaterThanOrderByIdAsc(int afterId, Pageable pageable);
 }
@@ -1,10 +1,14 @@
 package kz.sayat.diploma_backend.auth_module.repository;
 
 import kz.sayat.diploma_backend.auth_module.models.Teacher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface TeacherRepository extends JpaRepository<Teacher, Integer> {
 
+    List<Teacher> findByIdGreaterThanOrderByIdAsc(int afterId, Pageable pageable);
 }
@@ -0,0 +1,5 @@
+package kz.sayat.diploma_backend.auth_module.security;
+
+public enum AuthMode {
+    STATEFUL, STATELESS
+}
@@ -1,35 +1,55 @@
 package kz.sayat.diploma_backend.auth_module.security;
 
 import kz.sayat.diploma_backend.auth_module.models.User;
+import kz.sayat.diploma_backend.auth_module.models.enums.UserRole;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.function.Supplier;
 
 
 public class MyUserDetails implements UserDetails {
 
-    private final User user;
+    private final int id;
+    private final String email;
+    private final UserRole role;
+    private transient Supplier<User> loader;
+    private User user;
 
     public MyUserDetails(User user) {
+        this.id = user.getId();
+        this.email = user.getEmail();
+        this.role = user.getRole();
         this.user = user;
     }
 
+    /**
+     * A principal restored from a token: id, email and role are known up front and the entity is only
+     * loaded if a caller asks for it.
+     */
+    public MyUserDetails(int id, String email, UserRole role, Supplier<User> loader) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.loader = loader;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority( "ROLE_"+user.getRole().name()));
+        return Collections.singletonList(new SimpleGrantedAuthority( "ROLE_"+role.name()));
     }
 
     @Override
     public String getPassword() {
-        return this.user.getPassword();
+        return user != null ? user.getPassword() : null;
     }
 
     @Override
     public String getUsername() {
-        return this.user.getEmail();
+        return this.email;
     }
 
     @Override
@@ -52,7 +72,18 @@ public class MyUserDetails implements UserDetails {
         return true;
     }
 
+    public int getId() {
+        return this.id;
+    }
+
+    public UserRole getRole() {
+        return this.role;
+    }
+
     public User getUser() {
+        if (this.user == null) {
+            this.user = loader.get();
+        }
         return this.user;
     }
 }
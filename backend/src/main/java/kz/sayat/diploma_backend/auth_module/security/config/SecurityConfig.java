@@ -1,8 +1,13 @@
 package kz.sayat.diploma_backend.auth_module.security.config;
 
+import kz.sayat.diploma_backend.auth_module.security.AuthMode;
 import kz.sayat.diploma_backend.auth_module.security.MyUserDetailsService;
+import kz.sayat.diploma_backend.auth_module.security.token.TokenAuthenticationFilter;
+import kz.sayat.diploma_backend.auth_module.security.token.TokenCookies;
+import kz.sayat.diploma_backend.auth_module.service.TokenService;
 import kz.sayat.diploma_backend.util.exceptions.global.CustomAuthenticationEntryPoint;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -15,8 +20,10 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.web.cors.CorsConfiguration;
 
@@ -28,6 +35,11 @@ import java.util.List;
 public class SecurityConfig {
 
     private final MyUserDetailsService userDetailsService;
+    private final TokenService tokenService;
+    private final TokenCookies tokenCookies;
+
+    @Value("${auth.mode:STATEFUL}")
+    private AuthMode authMode;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -43,33 +55,49 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(requests -> requests
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-                        .requestMatchers("/api/auth/send-code", "/api/auth/verify-code", "/api/auth/register/**", "/api/auth/login", "/api/auth/check-session").permitAll()
+                        .requestMatchers("/api/auth/send-code", "/api/auth/verify-code", "/api/auth/register/**", "/api/auth/login", "/api/auth/refresh", "/api/auth/check-session").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/api/teachers", "/api/courses/all").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/certificates/*/verify").permitAll()
                         // Add endpoints for CourseList page to allow unauthenticated access
-                        .requestMatchers("/api/courses/get", "/api/courses/search/categories", "/api/courses/categories", "/api/courses/profile/image/**").permitAll()
+                        .requestMatchers("/api/courses/get", "/api/courses/search", "/api/courses/search/categories", "/api/courses/categories", "/api/courses/profile/image/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session ->
-                        session.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
+                        session.sessionCreationPolicy(authMode == AuthMode.STATELESS
+                            ? SessionCreationPolicy.STATELESS
+                            : SessionCreationPolicy.IF_REQUIRED)
                 )
                 .securityContext(securityContext ->
                         securityContext.securityContextRepository(securityContextRepository())
                 )
                 .logout(logout -> logout
                         .logoutUrl("/api/auth/logout")
+                        .addLogoutHandler((request, response, authentication) -> {
+                            if (authMode == AuthMode.STATELESS) {
+                                tokenService.revoke(TokenCookies.accessToken(request), TokenCookies.refreshToken(request));
+                                tokenCookies.clear(response);
+                            }
+                        })
                         .logoutSuccessHandler(new HttpStatusReturningLogoutSuccessHandler())
                         .invalidateHttpSession(true)
                         .deleteCookies("SESSIONID", "JSESSIONID"))
                 .exceptionHandling(ex -> ex.authenticationEntryPoint(new CustomAuthenticationEntryPoint()))
         ;
+        if (authMode == AuthMode.STATELESS) {
+            http.addFilterBefore(new TokenAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class);
+        }
 
         return http.build();
     }
 
     @Bean
     SecurityContextRepository securityContextRepository() {
-        return new HttpSessionSecurityContextRepository();
+        return authMode == AuthMode.STATELESS
+            ? new RequestAttributeSecurityContextRepository()
+            : new HttpSessionSecurityContextRepository();
     }
 
     @Bean
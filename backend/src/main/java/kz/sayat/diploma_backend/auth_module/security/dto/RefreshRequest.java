@@ -0,0 +1,5 @@
+package kz.sayat.diploma_backend.auth_module.security.dto;
+
+public record RefreshRequest(
+     String refreshToken
+){}
@@ -0,0 +1,8 @@
+package kz.sayat.diploma_backend.auth_module.security.dto;
+
+public record TokenPair(
+     String accessToken,
+     long accessExpiresIn,
+     String refreshToken,
+     long refreshExpiresIn
+){}
@@ -0,0 +1,9 @@
+package kz.sayat.diploma_backend.auth_module.security.token;
+
+import kz.sayat.diploma_backend.auth_module.models.enums.UserRole;
+
+import java.time.Instant;
+
+public record AccessClaims(String tokenId, int userId, String email, UserRole role, Instant issuedAt,
+                           Instant expiresAt) {
+}
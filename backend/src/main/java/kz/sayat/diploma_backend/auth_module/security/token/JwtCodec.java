@@ -0,0 +1,108 @@
+package kz.sayat.diploma_backend.auth_module.security.token;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kz.sayat.diploma_backend.auth_module.models.enums.UserRole;
+import kz.sayat.diploma_backend.auth_module.security.AuthMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compact HS256 JWTs for access tokens. Only tokens whose header is exactly the one written here are accepted,
+ * so {@code alg} cannot be downgraded by the client.
+ */
+@Component
+public class JwtCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String HEADER =
+        ENCODER.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec key;
+
+    public JwtCodec(ObjectMapper objectMapper,
+                    @Value("${auth.token.secret:}") String secret,
+                    @Value("${auth.mode:STATEFUL}") AuthMode mode) {
+        this.objectMapper = objectMapper;
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < MIN_SECRET_BYTES) {
+            if (mode == AuthMode.STATELESS) {
+                throw new IllegalStateException("auth.token.secret must be at least " + MIN_SECRET_BYTES
+                    + " bytes in stateless mode");
+            }
+            secretBytes = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(secretBytes);
+        }
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+    }
+
+    public String encode(AccessClaims claims) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("sub", String.valueOf(claims.userId()));
+        payload.put("email", claims.email());
+        payload.put("role", claims.role().name());
+        payload.put("iat", claims.issuedAt().getEpochSecond());
+        payload.put("exp", claims.expiresAt().getEpochSecond());
+        payload.put("jti", claims.tokenId());
+        try {
+            String signingInput = HEADER + "." + ENCODER.encodeToString(objectMapper.writeValueAsBytes(payload));
+            return signingInput + "." + ENCODER.encodeToString(sign(signingInput));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize token claims", e);
+        }
+    }
+
+    /**
+     * Returns the claims of a well-formed, correctly signed and unexpired token.
+     */
+    public Optional<AccessClaims> decode(String token) {
+        String[] parts = token.split("\\.", -1);
+        if (parts.length != 3 || !HEADER.equals(parts[0])) {
+            return Optional.empty();
+        }
+        try {
+            if (!MessageDigest.isEqual(sign(parts[0] + "." + parts[1]), DECODER.decode(parts[2]))) {
+                return Optional.empty();
+            }
+            JsonNode payload = objectMapper.readTree(DECODER.decode(parts[1]));
+            Instant expiresAt = Instant.ofEpochSecond(payload.path("exp").asLong());
+            if (!expiresAt.isAfter(Instant.now())) {
+                return Optional.empty();
+            }
+            return Optional.of(new AccessClaims(payload.path("jti").asText(),
+                Integer.parseInt(payload.path("sub").asText()), payload.path("email").asText(),
+                UserRole.valueOf(payload.path("role").asText()),
+                Instant.ofEpochSecond(payload.path("iat").asLong()), expiresAt));
+        } catch (IOException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String signingInput) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+}
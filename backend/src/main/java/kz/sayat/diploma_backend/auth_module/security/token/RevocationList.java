@@ -0,0 +1,42 @@
+package kz.sayat.diploma_backend.auth_module.security.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kz.sayat.diploma_backend.auth_module.repository.RevokedTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Access tokens revoked before they expire. The table is shared by every instance; lookups are cached per node
+ * for a few seconds, so a revocation takes effect everywhere within that delay.
+ */
+@Component
+public class RevocationList {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Cache<String, Boolean> revoked;
+
+    public RevocationList(RevokedTokenRepository revokedTokenRepository,
+                          @Value("${auth.token.revocation-cache-seconds:30}") long cacheSeconds,
+                          @Value("${auth.token.revocation-cache-size:100000}") long cacheSize) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.revoked = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterWrite(Duration.ofSeconds(cacheSeconds))
+            .build();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return revoked.get(tokenId, revokedTokenRepository::existsById);
+    }
+
+    public void revoke(String tokenId, Instant expiresAt) {
+        revokedTokenRepository.insertIfAbsent(tokenId, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+        revoked.put(tokenId, true);
+    }
+}
@@ -0,0 +1,76 @@
+package kz.sayat.diploma_backend.auth_module.security.token;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kz.sayat.diploma_backend.auth_module.security.dto.TokenPair;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Carries tokens for the browser client in HttpOnly cookies; the refresh token is only sent to the auth
+ * endpoints. API clients may send the access token as a bearer token instead.
+ */
+@Component
+public class TokenCookies {
+
+    public static final String ACCESS_TOKEN = "access_token";
+    public static final String REFRESH_TOKEN = "refresh_token";
+
+    private static final String REFRESH_PATH = "/api/auth";
+    private static final String BEARER = "Bearer ";
+
+    @Value("${auth.token.secure-cookies:false}")
+    private boolean secure;
+
+    public void write(HttpServletResponse response, TokenPair tokens) {
+        response.addHeader(HttpHeaders.SET_COOKIE,
+            cookie(ACCESS_TOKEN, tokens.accessToken(), "/", Duration.ofSeconds(tokens.accessExpiresIn())));
+        response.addHeader(HttpHeaders.SET_COOKIE,
+            cookie(REFRESH_TOKEN, tokens.refreshToken(), REFRESH_PATH, Duration.ofSeconds(tokens.refreshExpiresIn())));
+    }
+
+    public void clear(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie(ACCESS_TOKEN, "", "/", Duration.ZERO));
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie(REFRESH_TOKEN, "", REFRESH_PATH, Duration.ZERO));
+    }
+
+    public static String accessToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER)) {
+            return header.substring(BEARER.length()).trim();
+        }
+        return read(request, ACCESS_TOKEN);
+    }
+
+    public static String refreshToken(HttpServletRequest request) {
+        return read(request, REFRESH_TOKEN);
+    }
+
+    private String cookie(String name, String value, String path, Duration maxAge) {
+        return ResponseCookie.from(name, value)
+            .httpOnly(true)
+            .secure(secure)
+            .sameSite("Lax")
+            .path(path)
+            .maxAge(maxAge)
+            .build()
+            .toString();
+    }
+
+    private static String read(HttpServletRequest request, String name) {
+        if (request.getCookies() == null) {
+            return null;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (name.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+}
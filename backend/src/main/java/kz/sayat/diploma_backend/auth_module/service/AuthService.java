@@ -5,6 +5,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import kz.sayat.diploma_backend.auth_module.security.dto.LoginRequest;
 import kz.sayat.diploma_backend.auth_module.security.dto.RegisterRequest;
 import kz.sayat.diploma_backend.auth_module.dto.UserDto;
+import kz.sayat.diploma_backend.auth_module.security.dto.TokenPair;
 import org.springframework.security.core.Authentication;
 
 import java.util.Map;
@@ -13,6 +14,8 @@ public interface AuthService {
 
     UserDto login(HttpServletRequest request, HttpServletResponse response, LoginRequest authRequest);
 
+    TokenPair refresh(HttpServletRequest request, HttpServletResponse response, String refreshToken);
+
     void register(RegisterRequest request);
 
     void registerTeacher(RegisterRequest request);
@@ -3,6 +3,7 @@ package kz.sayat.diploma_backend.auth_module.service;
 import kz.sayat.diploma_backend.auth_module.dto.PasswordDto;
 import kz.sayat.diploma_backend.auth_module.dto.StudentDto;
 import kz.sayat.diploma_backend.auth_module.models.Student;
+import kz.sayat.diploma_backend.util.pagination.CursorPage;
 import org.springframework.security.core.Authentication;
 
 import java.util.List;
@@ -19,7 +20,7 @@ public interface StudentService {
 
     void deleteStudent(int id);
 
-    List<StudentDto> getAllStudents();
+    CursorPage<StudentDto> getAllStudents(Integer cursor, int size, boolean withTotal);
 
     Student getStudentFromUser(Authentication authentication);
 
@@ -4,9 +4,11 @@ import kz.sayat.diploma_backend.auth_module.dto.PasswordDto;
 import kz.sayat.diploma_backend.auth_module.dto.TeacherDto;
 import kz.sayat.diploma_backend.auth_module.models.Teacher;
 import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
+import kz.sayat.diploma_backend.util.pagination.CursorPage;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -24,7 +26,7 @@ public interface TeacherService {
 
     TeacherDto getTeacherById(int id);
 
-    List<TeacherDto> getAllTeachers();
+    CursorPage<TeacherDto> getAllTeachers(Integer cursor, int size, boolean withTotal);
 
     Teacher getTeacherFromUser(Authentication authentication);
 
@@ -34,7 +36,7 @@ public interface TeacherService {
 
     void saveFile(Authentication authentication,MultipartFile file) throws IOException;
 
-    ResponseEntity<Resource> getProfileImage(Authentication authentication) throws IOException;
+    ResponseEntity<Resource> getProfileImage(Authentication authentication, String variant, ServletWebRequest request) throws IOException;
 
-    ResponseEntity<Resource> getProfileImageId(int id) throws IOException;
+    ResponseEntity<Resource> getProfileImageId(int id, String variant, ServletWebRequest request) throws IOException;
 }
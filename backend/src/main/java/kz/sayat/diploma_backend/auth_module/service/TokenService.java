@@ -0,0 +1,20 @@
+package kz.sayat.diploma_backend.auth_module.service;
+
+import kz.sayat.diploma_backend.auth_module.models.User;
+import kz.sayat.diploma_backend.auth_module.security.MyUserDetails;
+import kz.sayat.diploma_backend.auth_module.security.dto.TokenPair;
+
+import java.util.Optional;
+
+public interface TokenService {
+
+    TokenPair issue(User user);
+
+    TokenPair refresh(String refreshToken);
+
+    Optional<MyUserDetails> authenticate(String accessToken);
+
+    void revoke(String accessToken, String refreshToken);
+
+    int purgeExpired();
+}
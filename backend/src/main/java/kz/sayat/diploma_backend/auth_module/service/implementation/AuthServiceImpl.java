@@ -6,8 +6,12 @@ import kz.sayat.diploma_backend.auth_module.dto.UserDto;
 import kz.sayat.diploma_backend.auth_module.dto.VerificationCodeData;
 import kz.sayat.diploma_backend.auth_module.mapper.implementation.UserMapper;
 import kz.sayat.diploma_backend.auth_module.models.User;
+import kz.sayat.diploma_backend.auth_module.security.AuthMode;
 import kz.sayat.diploma_backend.auth_module.security.MyUserDetails;
+import kz.sayat.diploma_backend.auth_module.security.dto.TokenPair;
+import kz.sayat.diploma_backend.auth_module.security.token.TokenCookies;
 import kz.sayat.diploma_backend.auth_module.service.AuthService;
+import kz.sayat.diploma_backend.auth_module.service.TokenService;
 import kz.sayat.diploma_backend.util.exceptions.AuthException;
 
 import kz.sayat.diploma_backend.auth_module.mapper.StudentMapper;
@@ -17,9 +21,11 @@ import kz.sayat.diploma_backend.auth_module.models.Teacher;
 import kz.sayat.diploma_backend.auth_module.security.dto.LoginRequest;
 import kz.sayat.diploma_backend.auth_module.security.dto.RegisterRequest;
 import kz.sayat.diploma_backend.auth_module.repository.UserRepository;
+import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
 import kz.sayat.diploma_backend.util.exceptions.UnauthorizedException;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -40,7 +46,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
     private final TeacherServiceImpl teacherService;
@@ -52,7 +58,11 @@ public class AuthServiceImpl implements AuthService {
     private final StudentServiceImpl studentService;
     private final UserRepository  userRepository;
     private final UserMapper userMapper;
+    private final TokenService tokenService;
+    private final TokenCookies tokenCookies;
 
+    @Value("${auth.mode:STATEFUL}")
+    private AuthMode authMode;
 
     @Override
     public UserDto login(HttpServletRequest request, HttpServletResponse response, LoginRequest authRequest) {
@@ -65,6 +75,9 @@ public class AuthServiceImpl implements AuthService {
         if (authentication != null && authentication.getPrincipal() instanceof UserDetails userDetails) {
             if (userDetails instanceof MyUserDetails customUserDetails) {
                 User user = customUserDetails.getUser();
+                if (isStateless()) {
+                    tokenCookies.write(response, tokenService.issue(user));
+                }
                 System.out.println(authRequest.email() + " signed in with role: " + user.getRole());
                 return userMapper.toUserDto(user);
             }
@@ -72,6 +85,16 @@ public class AuthServiceImpl implements AuthService {
         throw new AuthException("Failed to retrieve user details");
     }
 
+    @Override
+    public TokenPair refresh(HttpServletRequest request, HttpServletResponse response, String refreshToken) {
+        if (!isStateless()) {
+            throw new ResourceNotFoundException("Token refresh is not enabled");
+        }
+        TokenPair tokens = tokenService.refresh(refreshToken != null ? refreshToken : TokenCookies.refreshToken(request));
+        tokenCookies.write(response, tokens);
+        return tokens;
+    }
+
 
     @Override
     public void register(RegisterRequest request){
@@ -104,9 +127,8 @@ public class AuthServiceImpl implements AuthService {
             throw new UnauthorizedException("User is not authenticated");
         }
         MyUserDetails userDetails = (MyUserDetails) authentication.getPrincipal();
-        User user = userDetails.getUser();
         Map<String, String> response = new HashMap<>();
-        response.put("role", user.getRole().toString());
+        response.put("role", userDetails.getRole().toString());
         return response;
     }
 
@@ -115,7 +137,13 @@ public class AuthServiceImpl implements AuthService {
         SecurityContext context = this.securityContextHolderStrategy.createEmptyContext();
         context.setAuthentication(authentication);
         this.securityContextHolderStrategy.setContext(context);
-        this.securityContextRepository.saveContext(context,request,response);
+        if (!isStateless()) {
+            this.securityContextRepository.saveContext(context,request,response);
+        }
+    }
+
+    private boolean isStateless() {
+        return authMode == AuthMode.STATELESS;
     }
 
     private boolean isEmailExist(String email) {
@@ -5,6 +5,7 @@ import kz.sayat.diploma_backend.auth_module.dto.PasswordDto;
 import kz.sayat.diploma_backend.auth_module.dto.StudentDto;
 import kz.sayat.diploma_backend.auth_module.service.StudentService;
 import kz.sayat.diploma_backend.util.exceptions.UnauthorizedException;
+import kz.sayat.diploma_backend.util.pagination.CursorPage;
 import kz.sayat.diploma_backend.auth_module.mapper.StudentMapper;
 import kz.sayat.diploma_backend.auth_module.models.Student;
 import kz.sayat.diploma_backend.auth_module.models.User;
@@ -71,10 +72,11 @@ public class StudentServiceImpl implements StudentService {
 
     @Override
     @PreAuthorize("hasRole('ADMIN')")
-    public List<StudentDto> getAllStudents() {
-        List<Student>students = studentRepository.findAll();
-
-        return studentMapper.toStudentDtoList(students);
+    public CursorPage<StudentDto> getAllStudents(Integer cursor, int size, boolean withTotal) {
+        List<Student> students = studentRepository.findByIdGreaterThanOrderByIdAsc(cursor == null ? 0 : cursor,
+            CursorPage.request(size));
+        return CursorPage.ofBatch(students, size, Student::getId, studentMapper::toStudentDtoList,
+            withTotal, studentRepository::count);
     }
 
     @Override
@@ -3,23 +3,27 @@ package kz.sayat.diploma_backend.auth_module.service.implementation;
 import jakarta.transaction.Transactional;
 import kz.sayat.diploma_backend.auth_module.dto.PasswordDto;
 import kz.sayat.diploma_backend.auth_module.dto.TeacherDto;
+import kz.sayat.diploma_backend.auth_module.events.TeacherUpdatedEvent;
 import kz.sayat.diploma_backend.auth_module.service.TeacherService;
 import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
 import kz.sayat.diploma_backend.course_module.mapper.CourseMapper;
 import kz.sayat.diploma_backend.course_module.models.Course;
+import kz.sayat.diploma_backend.util.cache.CacheNames;
 import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
 import kz.sayat.diploma_backend.util.exceptions.UnauthorizedException;
+import kz.sayat.diploma_backend.util.pagination.CursorPage;
 import kz.sayat.diploma_backend.auth_module.mapper.TeacherMapper;
 import kz.sayat.diploma_backend.auth_module.models.Teacher;
 import kz.sayat.diploma_backend.auth_module.models.User;
 import kz.sayat.diploma_backend.auth_module.repository.TeacherRepository;
 import kz.sayat.diploma_backend.auth_module.security.MyUserDetails;
+import kz.sayat.diploma_backend.media_module.service.ImageService;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -27,19 +31,15 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 @Transactional
@@ -50,11 +50,14 @@ public class TeacherServiceImpl implements TeacherService {
     private final TeacherMapper teacherMapper;
     private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
     private final CourseMapper courseMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageService imageService;
 
     @Override
     public void save(Teacher teacher){
         teacher.setPassword(encoder.encode(teacher.getPassword()));
         teacherRepository.save(teacher);
+        eventPublisher.publishEvent(new TeacherUpdatedEvent(teacher.getId()));
     }
 
     @Override
@@ -70,6 +73,7 @@ public class TeacherServiceImpl implements TeacherService {
         teacher.setLastname(teacherDto.getLastname());
         teacher.setBio(teacherDto.getBio());
         teacherRepository.save(teacher);
+        eventPublisher.publishEvent(new TeacherUpdatedEvent(teacher.getId()));
 
     }
 
@@ -80,9 +84,11 @@ public class TeacherServiceImpl implements TeacherService {
             .orElseThrow(() -> new ResourceNotFoundException("Teacher not found"));
 
         teacherRepository.delete(teacher);
+        eventPublisher.publishEvent(new TeacherUpdatedEvent(id));
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.TEACHERS, key = "#id")
     public TeacherDto getTeacherById(int id) {
         Teacher teacher=teacherRepository.findById(id).
             orElseThrow(() -> new ResourceNotFoundException("Teacher not found"));
@@ -90,9 +96,12 @@ public class TeacherServiceImpl implements TeacherService {
     }
 
     @Override
-    public List<TeacherDto> getAllTeachers() {
-        List<Teacher> teachers = teacherRepository.findAll();
-        return teacherMapper.toTeacherDtoList(teachers);
+    @Cacheable(cacheNames = CacheNames.TEACHERS, key = "'all:' + #cursor + ':' + #size + ':' + #withTotal")
+    public CursorPage<TeacherDto> getAllTeachers(Integer cursor, int size, boolean withTotal) {
+        List<Teacher> teachers = teacherRepository.findByIdGreaterThanOrderByIdAsc(cursor == null ? 0 : cursor,
+            CursorPage.request(size));
+        return CursorPage.ofBatch(teachers, size, Teacher::getId, teacherMapper::toTeacherDtoList,
+            withTotal, teacherRepository::count);
     }
 
     @Override
@@ -130,48 +139,26 @@ public class TeacherServiceImpl implements TeacherService {
 
     @Override
     public void saveFile(Authentication authentication, MultipartFile file) throws IOException {
-        Path uploadPath = Paths.get("uploads", "teachers");
-
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
-
-        String filename = UUID.randomUUID() + "_" + file.getOriginalFilename();
-        Path filePath = uploadPath.resolve(filename);
-
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
         Teacher teacher = getTeacherFromUser(authentication);
-        teacher.setProfileImagePath(filename);
+        teacher.setProfileImagePath(imageService.store(ImageService.TEACHERS, file));
         teacherRepository.save(teacher);
-
-        System.out.println("Файл сохранён: " + filePath.toAbsolutePath());
+        eventPublisher.publishEvent(new TeacherUpdatedEvent(teacher.getId()));
     }
 
 
     @Override
-    public ResponseEntity<Resource> getProfileImage(Authentication authentication) throws IOException {
+    public ResponseEntity<Resource> getProfileImage(Authentication authentication, String variant, ServletWebRequest request) throws IOException {
         Teacher teacher = getTeacherFromUser(authentication);
 
         if (teacher.getProfileImagePath() == null) {
             throw new FileNotFoundException("У преподавателя нет изображения");
         }
 
-        Path path = Paths.get("uploads/teachers").resolve(teacher.getProfileImagePath());
-        Resource resource = new UrlResource(path.toUri());
-
-        if (!resource.exists()) {
-            throw new FileNotFoundException("Файл не найден: " + path.toString());
-        }
-
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(Files.probeContentType(path)))
-                .body(resource);
+        return imageService.serve(ImageService.TEACHERS, teacher.getProfileImagePath(), variant, request);
     }
 
     @Override
-    public ResponseEntity<Resource> getProfileImageId(int id) throws IOException {
+    public ResponseEntity<Resource> getProfileImageId(int id, String variant, ServletWebRequest request) throws IOException {
         Teacher teacher = teacherRepository.findById(id).orElseThrow(
                 () -> new ResourceNotFoundException("Teacher not found"));
 
@@ -179,17 +166,7 @@ public class TeacherServiceImpl implements TeacherService {
             throw new FileNotFoundException("У преподавателя нет изображения");
         }
 
-        Path path = Paths.get("uploads/teachers").resolve(teacher.getProfileImagePath());
-        Resource resource = new UrlResource(path.toUri());
-
-        if (!resource.exists()) {
-            throw new FileNotFoundException("Файл не найден: " + path.toString());
-        }
-
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(Files.probeContentType(path)))
-                .body(resource);
+        return imageService.serve(ImageService.TEACHERS, teacher.getProfileImagePath(), variant, request);
     }
 
 
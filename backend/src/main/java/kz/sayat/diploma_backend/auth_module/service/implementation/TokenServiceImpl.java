@@ -0,0 +1,146 @@
+package kz.sayat.diploma_backend.auth_module.service.implementation;
+
+import jakarta.transaction.Transactional;
+import kz.sayat.diploma_backend.auth_module.models.RefreshToken;
+import kz.sayat.diploma_backend.auth_module.models.User;
+import kz.sayat.diploma_backend.auth_module.repository.RefreshTokenRepository;
+import kz.sayat.diploma_backend.auth_module.repository.RevokedTokenRepository;
+import kz.sayat.diploma_backend.auth_module.repository.UserRepository;
+import kz.sayat.diploma_backend.auth_module.security.MyUserDetails;
+import kz.sayat.diploma_backend.auth_module.security.dto.TokenPair;
+import kz.sayat.diploma_backend.auth_module.security.token.AccessClaims;
+import kz.sayat.diploma_backend.auth_module.security.token.JwtCodec;
+import kz.sayat.diploma_backend.auth_module.security.token.RevocationList;
+import kz.sayat.diploma_backend.auth_module.service.TokenService;
+import kz.sayat.diploma_backend.util.exceptions.UnauthorizedException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Short-lived signed access tokens plus opaque, single-use refresh tokens stored by hash. Every refresh rotates
+ * the token within its family; presenting a token that was already rotated revokes the whole family, since
+ * one of the two holders must have stolen it.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class TokenServiceImpl implements TokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenServiceImpl.class);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final JwtCodec jwtCodec;
+    private final RevocationList revocationList;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserRepository userRepository;
+
+    @Value("${auth.token.access-ttl-seconds:900}")
+    private long accessTtlSeconds;
+
+    @Value("${auth.token.refresh-ttl-seconds:1209600}")
+    private long refreshTtlSeconds;
+
+    @Override
+    public TokenPair issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Failures keep their effects: a detected reuse must leave the family revoked.
+     */
+    @Override
+    @Transactional(dontRollbackOn = UnauthorizedException.class)
+    public TokenPair refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new UnauthorizedException("Refresh token is missing");
+        }
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+            .orElseThrow(() -> new UnauthorizedException("Refresh token is invalid"));
+        LocalDateTime now = LocalDateTime.now();
+        if (stored.getRevokedAt() != null || !stored.getExpiresAt().isAfter(now)) {
+            throw new UnauthorizedException("Refresh token is invalid");
+        }
+        if (stored.getUsedAt() != null || refreshTokenRepository.markUsed(stored.getId(), now) == 0) {
+            refreshTokenRepository.revokeFamily(stored.getFamilyId(), now);
+            logger.warn("Refresh token reuse detected for user {}, token family revoked", stored.getUserId());
+            throw new UnauthorizedException("Refresh token was already used");
+        }
+
+        User user = userRepository.findById(stored.getUserId())
+            .orElseThrow(() -> new UnauthorizedException("User not found"));
+        return issue(user, stored.getFamilyId());
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public Optional<MyUserDetails> authenticate(String accessToken) {
+        Optional<AccessClaims> claims = jwtCodec.decode(accessToken);
+        if (claims.isEmpty() || revocationList.isRevoked(claims.get().tokenId())) {
+            return Optional.empty();
+        }
+        AccessClaims access = claims.get();
+        return Optional.of(new MyUserDetails(access.userId(), access.email(), access.role(),
+            () -> userRepository.findById(access.userId())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"))));
+    }
+
+    @Override
+    public void revoke(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            jwtCodec.decode(accessToken)
+                .ifPresent(claims -> revocationList.revoke(claims.tokenId(), claims.expiresAt()));
+        }
+        if (refreshToken != null) {
+            refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .ifPresent(stored -> refreshTokenRepository.revokeFamily(stored.getFamilyId(), LocalDateTime.now()));
+        }
+    }
+
+    @Override
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        return revokedTokenRepository.deleteExpired(now) + refreshTokenRepository.deleteExpired(now);
+    }
+
+    private TokenPair issue(User user, String familyId) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        String accessToken = jwtCodec.encode(new AccessClaims(UUID.randomUUID().toString(), user.getId(),
+            user.getEmail(), user.getRole(), now, now.plusSeconds(accessTtlSeconds)));
+
+        byte[] secret = new byte[32];
+        RANDOM.nextBytes(secret);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+        LocalDateTime issuedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        refreshTokenRepository.save(new RefreshToken(hash(refreshToken), familyId, user.getId(), issuedAt,
+            issuedAt.plusSeconds(refreshTtlSeconds)));
+
+        return new TokenPair(accessToken, accessTtlSeconds, refreshToken, refreshTtlSeconds);
+    }
+
+    private static String hash(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package kz.sayat.diploma_backend.course_module.cache;
+
+import kz.sayat.diploma_backend.auth_module.events.TeacherUpdatedEvent;
+import kz.sayat.diploma_backend.course_module.events.CourseContentEditedEvent;
+import kz.sayat.diploma_backend.course_module.events.CourseStructureChangedEvent;
+import kz.sayat.diploma_backend.course_module.events.CourseUpdatedEvent;
+import kz.sayat.diploma_backend.util.cache.CacheInvalidator;
+import kz.sayat.diploma_backend.util.cache.CacheNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class CourseCacheEvictor {
+
+    private final CacheInvalidator cacheInvalidator;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseUpdated(CourseUpdatedEvent event) {
+        cacheInvalidator.evict(CacheNames.COURSE_STRUCTURE, event.courseId());
+        cacheInvalidator.clear(CacheNames.COURSE_CATALOG);
+        cacheInvalidator.clear(CacheNames.TEACHERS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseStructureChanged(CourseStructureChangedEvent event) {
+        cacheInvalidator.evict(CacheNames.COURSE_STRUCTURE, event.courseId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseContentEdited(CourseContentEditedEvent event) {
+        cacheInvalidator.evict(CacheNames.COURSE_STRUCTURE, event.courseId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeacherUpdated(TeacherUpdatedEvent event) {
+        cacheInvalidator.clear(CacheNames.COURSE_STRUCTURE);
+        cacheInvalidator.clear(CacheNames.COURSE_CATALOG);
+        cacheInvalidator.clear(CacheNames.TEACHERS);
+    }
+}
@@ -0,0 +1,7 @@
+package kz.sayat.diploma_backend.course_module.certificate;
+
+import java.time.LocalDate;
+
+public record CertificateContent(String number, String studentName, String courseTitle,
+                                 LocalDate completedOn, double progress) {
+}
@@ -0,0 +1,165 @@
+package kz.sayat.diploma_backend.course_module.certificate;
+
+import com.itextpdf.text.*;
+import com.itextpdf.text.pdf.BaseFont;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Lays out completion certificates. The images are decoded and the fonts resolved once at startup; a render
+ * only copies the decoded image headers and writes the PDF straight into the caller's stream.
+ */
+@Component
+public class CertificateRenderer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CertificateRenderer.class);
+
+    private static final DateTimeFormatter COMPLETION_DATE = DateTimeFormatter.ofPattern("dd MMMM yyyy");
+
+    private final Image background;
+    private final Image logo;
+    private final Image signature;
+
+    private final Font titleFont;
+    private final Font subtitleFont;
+    private final Font contentFont;
+    private final Font smallFont;
+
+    public CertificateRenderer() {
+        background = image("certificate_background.png");
+        if (background != null) {
+            background.setAbsolutePosition(0, 0);
+            background.scaleToFit(PageSize.A4.getHeight(), PageSize.A4.getWidth());
+        }
+        logo = image("logo.png");
+        if (logo != null) {
+            logo.scaleToFit(180, 180);
+            logo.setAbsolutePosition(50, PageSize.A4.getWidth() - 200);
+        }
+        signature = image("signature.png");
+        if (signature != null) {
+            signature.scaleToFit(120, 40);
+        }
+
+        BaseFont regular = baseFont(BaseFont.HELVETICA);
+        BaseFont bold = baseFont(BaseFont.HELVETICA_BOLD);
+        titleFont = new Font(bold, 36, Font.NORMAL, new BaseColor(0, 51, 102));
+        subtitleFont = new Font(bold, 24, Font.NORMAL);
+        contentFont = new Font(regular, 18, Font.NORMAL);
+        smallFont = new Font(baseFont(BaseFont.HELVETICA_OBLIQUE), 14, Font.NORMAL, BaseColor.GRAY);
+    }
+
+    public void render(CertificateContent content, OutputStream out) throws IOException {
+        Document document = new Document(PageSize.A4.rotate(), 50, 50, 50, 50);
+        try {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
+            document.open();
+
+            if (background != null) {
+                writer.getDirectContentUnder().addImage(Image.getInstance(background));
+            }
+            if (logo != null) {
+                document.add(Image.getInstance(logo));
+            }
+
+            Paragraph idPara = new Paragraph("Certificate No: " + content.number(), smallFont);
+            idPara.setAlignment(Element.ALIGN_RIGHT);
+            document.add(idPara);
+
+            Paragraph title = new Paragraph("Certificate of Achievement", titleFont);
+            title.setAlignment(Element.ALIGN_CENTER);
+            title.setSpacingBefore(40);
+            document.add(title);
+
+            Paragraph subtitle = new Paragraph("Awarded for Course Completion", subtitleFont);
+            subtitle.setAlignment(Element.ALIGN_CENTER);
+            subtitle.setSpacingAfter(30);
+            document.add(subtitle);
+
+            Paragraph awardedTo = new Paragraph("Awarded to: " + content.studentName(), contentFont);
+            awardedTo.setAlignment(Element.ALIGN_CENTER);
+            awardedTo.setSpacingAfter(15);
+            document.add(awardedTo);
+
+            Paragraph courseName = new Paragraph("Course: " + content.courseTitle(), contentFont);
+            courseName.setAlignment(Element.ALIGN_CENTER);
+            courseName.setSpacingAfter(10);
+            document.add(courseName);
+
+            Paragraph completionDate = new Paragraph("Completion Date: " +
+                content.completedOn().format(COMPLETION_DATE), contentFont);
+            completionDate.setAlignment(Element.ALIGN_CENTER);
+            completionDate.setSpacingAfter(20);
+            document.add(completionDate);
+
+            Paragraph message = new Paragraph(
+                "This certificate confirms that the above-named individual has successfully completed the course with a score of "
+                    + Math.round(content.progress()) + "%.",
+                contentFont);
+            message.setAlignment(Element.ALIGN_CENTER);
+            message.setSpacingAfter(30);
+            document.add(message);
+
+            PdfPTable footerTable = new PdfPTable(2);
+            footerTable.setWidthPercentage(80);
+            footerTable.setWidths(new int[]{2, 3});
+
+            PdfPCell signatureCell = new PdfPCell();
+            signatureCell.setBorder(Rectangle.NO_BORDER);
+            signatureCell.setHorizontalAlignment(Element.ALIGN_LEFT);
+            if (signature != null) {
+                signatureCell.addElement(Image.getInstance(signature));
+            }
+            footerTable.addCell(signatureCell);
+
+            PdfPCell textCell = new PdfPCell(new Phrase("Issued electronically by Educational Platform Ozat", smallFont));
+            textCell.setBorder(Rectangle.NO_BORDER);
+            textCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
+            textCell.setHorizontalAlignment(Element.ALIGN_LEFT);
+            footerTable.addCell(textCell);
+
+            document.add(footerTable);
+        } catch (DocumentException e) {
+            throw new IOException("Error generating certificate", e);
+        } finally {
+            if (document.isOpen()) {
+                document.close();
+            }
+        }
+    }
+
+    private static Image image(String name) {
+        URL resource = CertificateRenderer.class.getClassLoader().getResource("static/images/" + name);
+        if (resource == null) {
+            logger.warn("Certificate image {} not found.", name);
+            return null;
+        }
+        try {
+            return Image.getInstance(resource);
+        } catch (BadElementException | IOException e) {
+            logger.warn("Certificate image {} could not be read.", name, e);
+            return null;
+        }
+    }
+
+    private static BaseFont baseFont(String name) {
+        try {
+            return BaseFont.createFont(name, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        } catch (DocumentException e) {
+            throw new IllegalStateException("Built-in font " + name + " is unavailable", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
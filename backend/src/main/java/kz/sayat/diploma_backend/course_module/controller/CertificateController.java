@@ -0,0 +1,20 @@
+package kz.sayat.diploma_backend.course_module.controller;
+
+import kz.sayat.diploma_backend.course_module.dto.CertificateVerificationDto;
+import kz.sayat.diploma_backend.course_module.service.CertificateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/certificates")
+public class CertificateController {
+
+    private final CertificateService certificateService;
+
+    @GetMapping("/{number}/verify")
+    public ResponseEntity<CertificateVerificationDto> verify(@PathVariable String number) {
+        return ResponseEntity.ok(certificateService.verify(number));
+    }
+}
@@ -4,9 +4,15 @@ import kz.sayat.diploma_backend.auth_module.dto.StudentDto;
 import kz.sayat.diploma_backend.course_module.dto.CourseDto;
 import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
 import kz.sayat.diploma_backend.course_module.models.enums.CourseCategory;
+import kz.sayat.diploma_backend.course_module.repository.projection.CertificateView;
+import kz.sayat.diploma_backend.course_module.service.CertificateService;
+import kz.sayat.diploma_backend.course_module.service.CourseSearchService;
 import kz.sayat.diploma_backend.course_module.service.CourseService;
+import kz.sayat.diploma_backend.util.pagination.CursorPage;
+import kz.sayat.diploma_backend.util.pagination.PageDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -14,8 +20,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
@@ -27,6 +35,8 @@ import java.util.stream.Collectors;
 public class CourseController {
 
     private final CourseService courseService;
+    private final CourseSearchService courseSearchService;
+    private final CertificateService certificateService;
 
     @PostMapping()
     public ResponseEntity<CourseDto> courseCreation(@RequestBody CourseDto dto, Authentication authentication) {
@@ -40,12 +50,21 @@ public class CourseController {
     }
 
     @GetMapping("/certificate")
-    public ResponseEntity<byte[]> generateCertificate(@RequestParam("courseId") int courseId, Authentication authentication) {
-        ByteArrayOutputStream pdfStream = courseService.generateCertificate(courseId, authentication);
+    public ResponseEntity<StreamingResponseBody> generateCertificate(@RequestParam("courseId") int courseId,
+                                                                     Authentication authentication,
+                                                                     WebRequest request) {
+        CertificateView certificate = certificateService.getCertificate(courseId, authentication);
+        String etag = "\"" + certificate.getPdfSha256() + "\"";
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_PDF);
-        headers.setContentDispositionFormData("attachment", "certificate.pdf");
-        return new ResponseEntity<>(pdfStream.toByteArray(), headers, HttpStatus.OK);
+        headers.setContentDispositionFormData("attachment", "certificate-" + certificate.getNumber() + ".pdf");
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        headers.setETag(etag);
+        StreamingResponseBody body = out -> certificateService.writePdf(certificate.getId(), out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
     }
 
     @PostMapping("/{courseId}/enroll")
@@ -74,8 +93,11 @@ public class CourseController {
 
 
     @GetMapping("/{id}/students")
-    public ResponseEntity<List<StudentDto>> enrolledStudents(@PathVariable(name = "id") int id) {
-        return ResponseEntity.ok(courseService.getStudentForCourse(id));
+    public ResponseEntity<CursorPage<StudentDto>> enrolledStudents(@PathVariable(name = "id") int id,
+                                                                   @RequestParam(required = false) Integer cursor,
+                                                                   @RequestParam(defaultValue = "50") int size,
+                                                                   @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(courseService.getStudentForCourse(id, cursor, size, withTotal));
     }
 
 
@@ -85,11 +107,19 @@ public class CourseController {
         return ResponseEntity.ok(courses);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<PageDto<CourseSummaryDto>> searchCourses(@RequestParam String query,
+                                                                  @RequestParam(defaultValue = "0") int page,
+                                                                  @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(courseSearchService.search(query, page, size));
+    }
+
     @GetMapping("/search/categories")
-    public ResponseEntity<List<CourseSummaryDto>> getCoursesByCategories(
-            @RequestParam(required = true) List<String> categories) {
-        List<CourseSummaryDto> courses = courseService.getCoursesByCategory(categories);
-        return ResponseEntity.ok(courses);
+    public ResponseEntity<PageDto<CourseSummaryDto>> getCoursesByCategories(
+            @RequestParam(required = true) List<String> categories,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(courseService.getCoursesByCategory(categories, page, size));
     }
 
     @GetMapping("/categories")
@@ -113,8 +143,11 @@ public class CourseController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<CourseSummaryDto>> getAllCourses() {
-        return ResponseEntity.ok(courseService.getAllCourses());
+    public ResponseEntity<CursorPage<CourseSummaryDto>> getAllCourses(
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(courseService.getAllCourses(cursor, size, withTotal));
     }
 
     @PutMapping("/{id}")
@@ -129,7 +162,9 @@ public class CourseController {
 
 
     @GetMapping("/profile/image/{id}")
-    public ResponseEntity<Resource> getProfileImage(@PathVariable int id) throws IOException {
-        return courseService.getProfileImageId(id);
+    public ResponseEntity<Resource> getProfileImage(@PathVariable int id,
+                                                    @RequestParam(required = false) String variant,
+                                                    ServletWebRequest request) throws IOException {
+        return courseService.getProfileImageId(id, variant, request);
     }
 }
@@ -0,0 +1,7 @@
+package kz.sayat.diploma_backend.course_module.dto;
+
+import java.time.LocalDateTime;
+
+public record CertificateVerificationDto(String number, String studentName, String courseTitle, double progress,
+                                         LocalDateTime issuedAt) {
+}
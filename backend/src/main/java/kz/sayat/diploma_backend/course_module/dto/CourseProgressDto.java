@@ -0,0 +1,17 @@
+package kz.sayat.diploma_backend.course_module.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CourseProgressDto {
+    private int courseId;
+    private double progress;
+    private boolean completed;
+    private Map<Integer, Double> moduleProgress;
+}
@@ -0,0 +1,25 @@
+package kz.sayat.diploma_backend.course_module.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record CourseStructure(int id,
+                              String title,
+                              String description,
+                              boolean isPublic,
+                              Teacher teacher,
+                              List<Module> modules) implements Serializable {
+
+    public record Teacher(int id, String email, String firstname, String lastname, String bio,
+                          String profileImagePath) implements Serializable {
+    }
+
+    public record Module(int id, String title, List<Quiz> quizzes, List<Lecture> lectures) implements Serializable {
+    }
+
+    public record Quiz(int id, String title, int passingScore, int durationInMinutes, int questionCount) implements Serializable {
+    }
+
+    public record Lecture(int id, String title, String url) implements Serializable {
+    }
+}
@@ -1,14 +1,18 @@
 package kz.sayat.diploma_backend.course_module.dto;
 
 import kz.sayat.diploma_backend.auth_module.dto.TeacherDto;
+import kz.sayat.diploma_backend.media_module.dto.ImageUrls;
 import lombok.Data;
 
+import java.io.Serializable;
+
 @Data
-public class CourseSummaryDto {
+public class CourseSummaryDto implements Serializable {
     private int id;
     private String title;
     private String description;
     private TeacherDto teacher;
     private boolean isPublic;
     private double progress;
+    private ImageUrls image;
 }
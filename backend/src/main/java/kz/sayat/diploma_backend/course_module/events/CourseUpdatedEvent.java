@@ -0,0 +1,4 @@
+package kz.sayat.diploma_backend.course_module.events;
+
+public record CourseUpdatedEvent(int courseId) {
+}
@@ -0,0 +1,61 @@
+package kz.sayat.diploma_backend.course_module.jobs;
+
+import jakarta.annotation.PreDestroy;
+import kz.sayat.diploma_backend.course_module.events.CourseCompletedEvent;
+import kz.sayat.diploma_backend.course_module.service.CertificateService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders and stores the certificate off the request thread once the completing submission has committed.
+ * Certificates that were not issued here (failures, work lost on shutdown) are issued on first download.
+ */
+@Component
+public class CertificateIssuer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CertificateIssuer.class);
+
+    private final CertificateService certificateService;
+    private final ThreadPoolExecutor executor;
+
+    public CertificateIssuer(CertificateService certificateService,
+                             @Value("${certificates.workers:1}") int workers) {
+        this.certificateService = certificateService;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), new CustomizableThreadFactory("certificates-"));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseCompleted(CourseCompletedEvent event) {
+        try {
+            executor.execute(() -> process(event.studentId(), event.courseId()));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Certificate for student {} in course {} was not queued, it will be issued on download",
+                event.studentId(), event.courseId());
+        }
+    }
+
+    void process(int studentId, int courseId) {
+        try {
+            certificateService.issueIfAbsent(studentId, courseId);
+        } catch (RuntimeException e) {
+            logger.warn("Could not issue certificate for student {} in course {}, it will be issued on download",
+                studentId, courseId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,43 @@
+package kz.sayat.diploma_backend.course_module.jobs;
+
+import kz.sayat.diploma_backend.course_module.service.CourseCategoryService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CourseCategoryBackfillJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseCategoryBackfillJob.class);
+
+    private final CourseCategoryService courseCategoryService;
+
+    @Value("${categories.backfill-batch-size:200}")
+    private int batchSize;
+
+    /**
+     * Runs until one pass completes, then never again: courses created since are classified on save, and
+     * courses that match no category would otherwise be rescanned on every start.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int lastId = 0;
+        try {
+            if (courseCategoryService.isBackfilled()) {
+                return;
+            }
+            while ((lastId = courseCategoryService.backfill(lastId, batchSize)) >= 0) {
+                logger.debug("Categorized courses up to id {}", lastId);
+            }
+            courseCategoryService.markBackfilled();
+            logger.info("Course category backfill completed");
+        } catch (RuntimeException e) {
+            logger.error("Failed to backfill course categories after course {}", lastId, e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package kz.sayat.diploma_backend.course_module.jobs;
+
+import kz.sayat.diploma_backend.course_module.repository.EnrollmentRepository;
+import kz.sayat.diploma_backend.course_module.service.EnrollmentProgressService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ProgressReconcileJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProgressReconcileJob.class);
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentProgressService enrollmentProgressService;
+
+    @Scheduled(cron = "${progress.reconcile-cron:0 0 3 * * *}")
+    public void reconcile() {
+        for (Integer courseId : enrollmentRepository.findEnrolledCourseIds()) {
+            try {
+                enrollmentProgressService.refreshCourseProgress(courseId);
+            } catch (RuntimeException e) {
+                logger.error("Failed to reconcile progress for course {}", courseId, e);
+            }
+        }
+    }
+}
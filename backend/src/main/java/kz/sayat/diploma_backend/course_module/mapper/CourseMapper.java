@@ -1,15 +1,21 @@
 package kz.sayat.diploma_backend.course_module.mapper;
 
 import kz.sayat.diploma_backend.course_module.dto.CourseDto;
+import kz.sayat.diploma_backend.course_module.dto.CourseStructure;
 import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
 import kz.sayat.diploma_backend.course_module.models.Course;
+import kz.sayat.diploma_backend.course_module.repository.projection.CourseHeaderView;
+import kz.sayat.diploma_backend.course_module.repository.projection.EnrolledCourseView;
 
 import java.util.List;
 
 public interface CourseMapper {
     Course toCourse(CourseDto courseDto);
     CourseDto toCourseDto(Course course);
+    CourseDto toCourseDto(CourseStructure structure);
     List<CourseDto> toCourseDtoList(List<Course> courseList);
     CourseSummaryDto toCourseSummaryDto(Course course);
     List<CourseSummaryDto> toCourseSummaryDtoList(List<Course> courseList);
+    CourseSummaryDto toCourseSummaryDto(EnrolledCourseView view);
+    CourseSummaryDto toCourseSummaryDto(CourseHeaderView view);
 }
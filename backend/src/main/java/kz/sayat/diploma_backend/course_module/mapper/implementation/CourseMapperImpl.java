@@ -1,13 +1,22 @@
 package kz.sayat.diploma_backend.course_module.mapper.implementation;
 
+import kz.sayat.diploma_backend.auth_module.dto.TeacherDto;
 import kz.sayat.diploma_backend.auth_module.mapper.implementation.TeacherMapperHelper;
 import kz.sayat.diploma_backend.course_module.dto.CourseDto;
+import kz.sayat.diploma_backend.course_module.dto.CourseStructure;
+import kz.sayat.diploma_backend.course_module.dto.LectureDto;
+import kz.sayat.diploma_backend.course_module.dto.ModuleDto;
+import kz.sayat.diploma_backend.course_module.dto.QuizSummaryDto;
 import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
 import kz.sayat.diploma_backend.course_module.mapper.CourseMapper;
 import kz.sayat.diploma_backend.course_module.mapper.ModuleMapper;
 import kz.sayat.diploma_backend.course_module.models.Course;
+import kz.sayat.diploma_backend.course_module.repository.projection.CourseHeaderView;
+import kz.sayat.diploma_backend.course_module.repository.projection.EnrolledCourseView;
+import kz.sayat.diploma_backend.media_module.dto.ImageUrls;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -55,6 +64,63 @@ public class CourseMapperImpl implements CourseMapper {
         return courseDto;
     }
 
+    @Override
+    public CourseDto toCourseDto(CourseStructure structure) {
+        if (structure == null) {
+            return null;
+        }
+
+        CourseDto courseDto = new CourseDto();
+        courseDto.setId(structure.id());
+        courseDto.setTitle(structure.title());
+        courseDto.setDescription(structure.description());
+        courseDto.setPublic(structure.isPublic());
+
+        CourseStructure.Teacher teacher = structure.teacher();
+        if (teacher != null) {
+            courseDto.setTeacher(toTeacherDto(teacher.id(), teacher.email(), teacher.firstname(),
+                teacher.lastname(), teacher.bio(), teacher.profileImagePath()));
+        }
+
+        List<ModuleDto> modules = new ArrayList<>();
+        for (CourseStructure.Module module : structure.modules()) {
+            ModuleDto moduleDto = new ModuleDto();
+            moduleDto.setId(module.id());
+            moduleDto.setTitle(module.title());
+            moduleDto.setCourseId(structure.id());
+
+            List<QuizSummaryDto> quizzes = new ArrayList<>();
+            for (CourseStructure.Quiz quiz : module.quizzes()) {
+                QuizSummaryDto quizDto = new QuizSummaryDto();
+                quizDto.setId(quiz.id());
+                quizDto.setTitle(quiz.title());
+                quizDto.setModuleId(module.id());
+                quizDto.setPassingScore(quiz.passingScore());
+                quizDto.setDurationInMinutes(quiz.durationInMinutes());
+                quizDto.setQuestionCount(quiz.questionCount());
+                quizzes.add(quizDto);
+            }
+            moduleDto.setQuizzes(quizzes);
+
+            List<LectureDto> lectures = new ArrayList<>();
+            for (CourseStructure.Lecture lecture : module.lectures()) {
+                LectureDto lectureDto = new LectureDto();
+                lectureDto.setId(lecture.id());
+                lectureDto.setTitle(lecture.title());
+                lectureDto.setUrl(lecture.url());
+                lectureDto.setCourseId(structure.id());
+                lectureDto.setModuleId(module.id());
+                lectures.add(lectureDto);
+            }
+            moduleDto.setLectures(lectures);
+
+            modules.add(moduleDto);
+        }
+        courseDto.setModules(modules);
+
+        return courseDto;
+    }
+
     @Override
     public List<CourseDto> toCourseDtoList(List<Course> courseList) {
         return courseList.stream().map(
@@ -73,6 +139,7 @@ public class CourseMapperImpl implements CourseMapper {
         courseSummaryDto.setDescription(course.getDescription());
         courseSummaryDto.setTeacher(teacherMapper.toTeacherDtoWithoutCourses(course.getTeacher()));
         courseSummaryDto.setPublic(course.isPublic());
+        courseSummaryDto.setImage(ImageUrls.forCourse(course.getId(), course.getProfileImagePath()));
 
         return courseSummaryDto;
     }
@@ -84,4 +151,56 @@ public class CourseMapperImpl implements CourseMapper {
         ).collect(Collectors.toList());
     }
 
+    @Override
+    public CourseSummaryDto toCourseSummaryDto(EnrolledCourseView view) {
+        if (view == null) {
+            return null;
+        }
+        CourseSummaryDto courseSummaryDto = new CourseSummaryDto();
+        courseSummaryDto.setId(view.getCourseId());
+        courseSummaryDto.setTitle(view.getTitle());
+        courseSummaryDto.setDescription(view.getDescription());
+        courseSummaryDto.setTeacher(toTeacherDto(view.getTeacherId(), view.getTeacherEmail(),
+            view.getTeacherFirstname(), view.getTeacherLastname(), view.getTeacherBio(),
+            view.getTeacherProfileImagePath()));
+        courseSummaryDto.setPublic(Boolean.TRUE.equals(view.getIsPublic()));
+        courseSummaryDto.setProgress(view.getProgress());
+        courseSummaryDto.setImage(ImageUrls.forCourse(view.getCourseId(), view.getProfileImagePath()));
+
+        return courseSummaryDto;
+    }
+
+    @Override
+    public CourseSummaryDto toCourseSummaryDto(CourseHeaderView view) {
+        if (view == null) {
+            return null;
+        }
+        CourseSummaryDto courseSummaryDto = new CourseSummaryDto();
+        courseSummaryDto.setId(view.getId());
+        courseSummaryDto.setTitle(view.getTitle());
+        courseSummaryDto.setDescription(view.getDescription());
+        courseSummaryDto.setTeacher(toTeacherDto(view.getTeacherId(), view.getTeacherEmail(),
+            view.getTeacherFirstname(), view.getTeacherLastname(), view.getTeacherBio(),
+            view.getTeacherProfileImagePath()));
+        courseSummaryDto.setPublic(Boolean.TRUE.equals(view.getIsPublic()));
+        courseSummaryDto.setImage(ImageUrls.forCourse(view.getId(), view.getProfileImagePath()));
+
+        return courseSummaryDto;
+    }
+
+    private TeacherDto toTeacherDto(Integer id, String email, String firstname, String lastname, String bio,
+                                    String profileImagePath) {
+        if (id == null) {
+            return null;
+        }
+        TeacherDto teacherDto = new TeacherDto();
+        teacherDto.setId(id);
+        teacherDto.setEmail(email);
+        teacherDto.setFirstname(firstname);
+        teacherDto.setLastname(lastname);
+        teacherDto.setBio(bio);
+        teacherDto.setImage(ImageUrls.forTeacher(id, profileImagePath));
+        return teacherDto;
+    }
+
 }
\ No newline at end of file
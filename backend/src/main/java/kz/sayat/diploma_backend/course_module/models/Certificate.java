@@ -0,0 +1,47 @@
+package kz.sayat.diploma_backend.course_module.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "certificates")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class Certificate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    @Column(nullable = false, unique = true, length = 16)
+    private String number;
+
+    @Column(name = "student_id")
+    private Integer studentId;
+
+    @Column(name = "course_id")
+    private Integer courseId;
+
+    @Column(name = "student_name", nullable = false)
+    private String studentName;
+
+    @Column(name = "course_title", nullable = false)
+    private String courseTitle;
+
+    @Column(nullable = false)
+    private double progress;
+
+    @Column(name = "issued_at", nullable = false)
+    private LocalDateTime issuedAt;
+
+    @Column(nullable = false)
+    private byte[] pdf;
+
+    @Column(name = "pdf_sha256", nullable = false, length = 64)
+    private String pdfSha256;
+}
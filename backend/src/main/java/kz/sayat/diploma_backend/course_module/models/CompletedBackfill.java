@@ -0,0 +1,23 @@
+package kz.sayat.diploma_backend.course_module.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "completed_backfills")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CompletedBackfill {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -3,12 +3,17 @@ package kz.sayat.diploma_backend.course_module.models;
 import jakarta.persistence.*;
 import kz.sayat.diploma_backend.auth_module.models.Student;
 import kz.sayat.diploma_backend.auth_module.models.Teacher;
+import kz.sayat.diploma_backend.course_module.models.enums.CourseCategory;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "courses")
@@ -44,4 +49,12 @@ public class Course {
     @Column(name = "is_public")
     private boolean isPublic;
 
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "course_categories", joinColumns = @JoinColumn(name = "course_id"))
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Set<CourseCategory> categories = new HashSet<>();
+
 }
@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "enrollments")
 @Data
@@ -27,4 +29,22 @@ public class Enrollment {
     private Course course;
 
     private boolean completed;
+
+    private int totalLectures;
+
+    private int lecturesViewed;
+
+    private int totalQuizzes;
+
+    private int quizzesPassed;
+
+    private double progress;
+
+    private LocalDateTime lastActivityAt;
+
+    public Enrollment(EnrollmentId id, Student student, Course course) {
+        this.id = id;
+        this.student = student;
+        this.course = course;
+    }
 }
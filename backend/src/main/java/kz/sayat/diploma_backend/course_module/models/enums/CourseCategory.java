@@ -25,4 +25,13 @@ public enum CourseCategory {
         this.label = label;
         this.tags = tags;
     }
+
+    public static CourseCategory fromName(String name) {
+        for (CourseCategory category : values()) {
+            if (category.name().equalsIgnoreCase(name) || category.label.equalsIgnoreCase(name)) {
+                return category;
+            }
+        }
+        throw new IllegalArgumentException("Invalid category name: " + name);
+    }
 }
@@ -0,0 +1,13 @@
+package kz.sayat.diploma_backend.course_module.repository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface CertificatePdfRepository {
+
+    /**
+     * Copies the stored PDF of the certificate into {@code out} from the JDBC binary stream,
+     * returning {@code false} if there is no such certificate.
+     */
+    boolean writePdf(int id, OutputStream out) throws IOException;
+}
@@ -0,0 +1,35 @@
+package kz.sayat.diploma_backend.course_module.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@RequiredArgsConstructor
+class CertificatePdfRepositoryImpl implements CertificatePdfRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean writePdf(int id, OutputStream out) throws IOException {
+        try {
+            Boolean found = jdbcTemplate.query("SELECT pdf FROM certificates WHERE id = ?", rs -> {
+                if (!rs.next()) {
+                    return false;
+                }
+                try (InputStream pdf = rs.getBinaryStream(1)) {
+                    pdf.transferTo(out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return true;
+            }, id);
+            return Boolean.TRUE.equals(found);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package kz.sayat.diploma_backend.course_module.repository;
+
+import kz.sayat.diploma_backend.course_module.models.Certificate;
+import kz.sayat.diploma_backend.course_module.repository.projection.CertificateView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface CertificateRepository extends JpaRepository<Certificate, Integer>, CertificatePdfRepository {
+
+    Optional<CertificateView> findByStudentIdAndCourseId(int studentId, int courseId);
+
+    Optional<CertificateView> findByNumber(String number);
+
+    boolean existsByStudentIdAndCourseId(int studentId, int courseId);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO certificates (number, student_id, course_id, student_name, course_title, progress, issued_at,
+                                  pdf, pdf_sha256)
+        VALUES (:number, :studentId, :courseId, :studentName, :courseTitle, :progress, :issuedAt, :pdf, :pdfSha256)
+        ON CONFLICT (student_id, course_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("number") String number, @Param("studentId") int studentId,
+                       @Param("courseId") int courseId, @Param("studentName") String studentName,
+                       @Param("courseTitle") String courseTitle, @Param("progress") double progress,
+                       @Param("issuedAt") LocalDateTime issuedAt, @Param("pdf") byte[] pdf,
+                       @Param("pdfSha256") String pdfSha256);
+}
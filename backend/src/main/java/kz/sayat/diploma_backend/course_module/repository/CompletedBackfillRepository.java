@@ -0,0 +1,19 @@
+package kz.sayat.diploma_backend.course_module.repository;
+
+import kz.sayat.diploma_backend.course_module.models.CompletedBackfill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface CompletedBackfillRepository extends JpaRepository<CompletedBackfill, String> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO completed_backfills (name, completed_at) VALUES (:name, :completedAt)
+        ON CONFLICT (name) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("completedAt") LocalDateTime completedAt);
+}
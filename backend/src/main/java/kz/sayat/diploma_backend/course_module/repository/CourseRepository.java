@@ -2,17 +2,110 @@ package kz.sayat.diploma_backend.course_module.repository;
 
 import kz.sayat.diploma_backend.auth_module.models.Student;
 import kz.sayat.diploma_backend.course_module.models.Course;
+import kz.sayat.diploma_backend.course_module.models.enums.CourseCategory;
+import kz.sayat.diploma_backend.course_module.repository.projection.CourseHeaderView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Integer>, JpaSpecificationExecutor<Course> {
     List<Course> findByTitleContainingIgnoreCaseAndIsPublicTrue(String name);
-    List<Course> findByIsPublicTrueAndTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
-            String titleKeyword, String descriptionKeyword);
     List<Course> findByIsPublicTrue();
-    List<Course> findByIsPublicFalse();
+    long countByIsPublicFalse();
+
+    @Query("""
+        SELECT c.id AS id, c.title AS title, c.description AS description, c.isPublic AS isPublic,
+               c.profileImagePath AS profileImagePath,
+               t.id AS teacherId, t.email AS teacherEmail, t.firstname AS teacherFirstname,
+               t.lastname AS teacherLastname, t.bio AS teacherBio, t.profileImagePath AS teacherProfileImagePath
+        FROM Course c
+        LEFT JOIN c.teacher t
+        WHERE c.id = :id
+        """)
+    Optional<CourseHeaderView> findHeaderById(@Param("id") int id);
+
+    @Query("""
+        SELECT c.id AS id, c.title AS title, c.description AS description, c.isPublic AS isPublic,
+               c.profileImagePath AS profileImagePath,
+               t.id AS teacherId, t.email AS teacherEmail, t.firstname AS teacherFirstname,
+               t.lastname AS teacherLastname, t.bio AS teacherBio, t.profileImagePath AS teacherProfileImagePath
+        FROM Course c
+        LEFT JOIN c.teacher t
+        WHERE c.id > :afterId
+        ORDER BY c.id
+        """)
+    List<CourseHeaderView> findHeadersAfter(@Param("afterId") int afterId, Pageable pageable);
+
+    @Query("""
+        SELECT c.id AS id, c.title AS title, c.description AS description, c.isPublic AS isPublic,
+               c.profileImagePath AS profileImagePath,
+               t.id AS teacherId, t.email AS teacherEmail, t.firstname AS teacherFirstname,
+               t.lastname AS teacherLastname, t.bio AS teacherBio, t.profileImagePath AS teacherProfileImagePath
+        FROM Course c
+        LEFT JOIN c.teacher t
+        WHERE c.isPublic = false AND c.id > :afterId
+        ORDER BY c.id
+        """)
+    List<CourseHeaderView> findPrivateHeadersAfter(@Param("afterId") int afterId, Pageable pageable);
+
+    @Query("""
+        SELECT c.id AS id, c.title AS title, c.description AS description, c.isPublic AS isPublic,
+               c.profileImagePath AS profileImagePath,
+               t.id AS teacherId, t.email AS teacherEmail, t.firstname AS teacherFirstname,
+               t.lastname AS teacherLastname, t.bio AS teacherBio, t.profileImagePath AS teacherProfileImagePath
+        FROM Course c
+        JOIN c.teacher t
+        WHERE t.id IN :teacherIds
+        ORDER BY c.id
+        """)
+    List<CourseHeaderView> findHeadersByTeacherIdIn(@Param("teacherIds") Collection<Integer> teacherIds);
+
+    @Query(value = """
+        SELECT c.id AS id, c.title AS title, c.description AS description, c.is_public AS isPublic,
+               c.profile_image_path AS profileImagePath,
+               u.id AS teacherId, u.email AS teacherEmail, u.firstname AS teacherFirstname,
+               u.lastname AS teacherLastname, t.bio AS teacherBio, t.profile_image_path AS teacherProfileImagePath
+        FROM courses c
+        LEFT JOIN teachers t ON t.id = c.teacher_id
+        LEFT JOIN users u ON u.id = t.id
+        WHERE c.is_public AND c.search_vector @@ to_tsquery('simple', :query)
+        ORDER BY ts_rank(c.search_vector, to_tsquery('simple', :query)) DESC, c.id
+        """,
+        countQuery = """
+        SELECT COUNT(*) FROM courses c
+        WHERE c.is_public AND c.search_vector @@ to_tsquery('simple', :query)
+        """,
+        nativeQuery = true)
+    Page<CourseHeaderView> searchPublic(@Param("query") String query, Pageable pageable);
+
+    @Query(value = """
+        SELECT c.id AS id, c.title AS title, c.description AS description, c.isPublic AS isPublic,
+               c.profileImagePath AS profileImagePath,
+               t.id AS teacherId, t.email AS teacherEmail, t.firstname AS teacherFirstname,
+               t.lastname AS teacherLastname, t.bio AS teacherBio, t.profileImagePath AS teacherProfileImagePath
+        FROM Course c
+        LEFT JOIN c.teacher t
+        WHERE c.isPublic = true
+          AND c.id IN (SELECT cc.id FROM Course cc JOIN cc.categories category WHERE category IN :categories)
+        ORDER BY c.id
+        """,
+        countQuery = """
+        SELECT COUNT(c) FROM Course c
+        WHERE c.isPublic = true
+          AND c.id IN (SELECT cc.id FROM Course cc JOIN cc.categories category WHERE category IN :categories)
+        """)
+    Page<CourseHeaderView> findPublicByCategories(@Param("categories") Collection<CourseCategory> categories,
+                                                  Pageable pageable);
+
+    @Query("SELECT c FROM Course c WHERE c.id > :afterId AND c.categories IS EMPTY ORDER BY c.id")
+    List<Course> findUncategorizedAfter(@Param("afterId") int afterId, Pageable pageable);
 }
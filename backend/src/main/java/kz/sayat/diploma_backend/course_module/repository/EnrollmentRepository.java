@@ -4,19 +4,100 @@ import kz.sayat.diploma_backend.auth_module.models.Student;
 import kz.sayat.diploma_backend.course_module.models.Course;
 import kz.sayat.diploma_backend.course_module.models.Enrollment;
 import kz.sayat.diploma_backend.course_module.models.EnrollmentId;
+import kz.sayat.diploma_backend.course_module.repository.projection.EnrolledCourseView;
+import kz.sayat.diploma_backend.course_module.repository.projection.StudentCourseView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface EnrollmentRepository extends JpaRepository<Enrollment, EnrollmentId> {
+
     boolean existsByStudentAndCourse(Student student, Course course);
-    @Query("SELECT e.student FROM Enrollment e WHERE e.course.id = :courseId")
-    List<Student> findStudentsByCourseId(@Param("courseId") int courseId);
+    @Query("SELECT e.student FROM Enrollment e WHERE e.course.id = :courseId AND e.student.id > :afterId ORDER BY e.student.id")
+    List<Student> findStudentsByCourseIdAfter(@Param("courseId") int courseId, @Param("afterId") int afterId,
+                                              Pageable pageable);
+
+    long countByCourseId(int courseId);
 
     @Query("SELECT e.course FROM Enrollment e WHERE e.student.id = :studentId")
     List<Course> findCoursesByStudentId(@Param("studentId") int studentId);
 
-}
+    @Query("""
+        SELECT e.id.student AS studentId,
+               c.id AS id, c.title AS title, c.description AS description, c.isPublic AS isPublic,
+               c.profileImagePath AS profileImagePath,
+               t.id AS teacherId, t.email AS teacherEmail, t.firstname AS teacherFirstname,
+               t.lastname AS teacherLastname, t.bio AS teacherBio, t.profileImagePath AS teacherProfileImagePath
+        FROM Enrollment e
+        JOIN e.course c
+        LEFT JOIN c.teacher t
+        WHERE e.id.student IN :studentIds
+        ORDER BY c.id
+        """)
+    List<StudentCourseView> findCourseHeadersByStudentIdIn(@Param("studentIds") Collection<Integer> studentIds);
+
+    @Query("""
+        SELECT c.id AS courseId, c.title AS title, c.description AS description, c.isPublic AS isPublic,
+               c.profileImagePath AS profileImagePath,
+               t.id AS teacherId, t.email AS teacherEmail, t.firstname AS teacherFirstname,
+               t.lastname AS teacherLastname, t.bio AS teacherBio, t.profileImagePath AS teacherProfileImagePath,
+               e.progress AS progress, e.completed AS completed
+        FROM Enrollment e
+        JOIN e.course c
+        LEFT JOIN c.teacher t
+        WHERE e.id.student = :studentId
+        ORDER BY c.id
+        """)
+    List<EnrolledCourseView> findEnrolledCoursesByStudentId(@Param("studentId") int studentId);
 
+    @Query("""
+        SELECT COUNT(e) > 0 FROM Enrollment e
+        WHERE e.id.student = :studentId AND e.id.course = :courseId AND e.completed = true
+          AND NOT EXISTS (SELECT 1 FROM Certificate c WHERE c.studentId = :studentId AND c.courseId = :courseId)
+        """)
+    boolean isCompletedWithoutCertificate(@Param("studentId") int studentId, @Param("courseId") int courseId);
+
+    @Query("SELECT DISTINCT e.id.course FROM Enrollment e")
+    List<Integer> findEnrolledCourseIds();
+
+    /**
+     * Recomputes the stored progress of every enrollment in the course, or only the given student's
+     * enrollment when {@code studentId} is set.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE enrollments e
+        SET total_lectures   = p.total_lectures,
+            lectures_viewed  = p.lectures_viewed,
+            total_quizzes    = p.total_quizzes,
+            quizzes_passed   = p.quizzes_passed,
+            progress         = p.progress,
+            completed        = p.completed,
+            last_activity_at = p.last_activity_at
+        FROM (SELECT en.student_id,
+                     en.course_id,
+                     COALESCE(SUM(mp.total_lectures), 0)  AS total_lectures,
+                     COALESCE(SUM(mp.lectures_viewed), 0) AS lectures_viewed,
+                     COALESCE(SUM(mp.total_quizzes), 0)   AS total_quizzes,
+                     COALESCE(SUM(mp.quizzes_passed), 0)  AS quizzes_passed,
+                     COALESCE(AVG(CASE WHEN mp.total_lectures + mp.total_quizzes = 0 THEN 0
+                                       ELSE (mp.lectures_viewed + mp.quizzes_passed) * 100.0
+                                            / (mp.total_lectures + mp.total_quizzes) END), 0) AS progress,
+                     COUNT(mp.module_id) > 0
+                         AND COALESCE(BOOL_AND(mp.quizzes_passed = mp.total_quizzes), FALSE) AS completed,
+                     MAX(mp.last_activity_at) AS last_activity_at
+              FROM enrollments en
+              LEFT JOIN LATERAL module_progress(en.student_id, en.course_id) mp ON TRUE
+              WHERE en.course_id = :courseId
+                AND (CAST(:studentId AS int) IS NULL OR en.student_id = :studentId)
+              GROUP BY en.student_id, en.course_id) p
+        WHERE e.student_id = p.student_id AND e.course_id = p.course_id
+        """, nativeQuery = true)
+    int refreshProgress(@Param("courseId") int courseId, @Param("studentId") Integer studentId);
+
+}
@@ -1,6 +1,7 @@
 package kz.sayat.diploma_backend.course_module.repository;
 
 import kz.sayat.diploma_backend.course_module.models.Lecture;
+import kz.sayat.diploma_backend.course_module.repository.projection.LectureSummaryView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface LectureRepository extends JpaRepository<Lecture, Integer> {
@@ -17,4 +19,11 @@ public interface LectureRepository extends JpaRepository<Lecture, Integer> {
     void deleteByModuleId(@Param("moduleId") int moduleId);
 
     List<Lecture> findByModuleId(int moduleId);
+
+    @Query("SELECT l.module.course.id FROM Lecture l WHERE l.id = :id")
+    Optional<Integer> findCourseIdById(@Param("id") int id);
+
+    @Query("SELECT l.id AS id, l.title AS title, l.url AS url, l.module.id AS moduleId " +
+        "FROM Lecture l WHERE l.module.course.id = :courseId ORDER BY l.id")
+    List<LectureSummaryView> findSummariesByCourseId(@Param("courseId") int courseId);
 }
@@ -3,9 +3,21 @@ package kz.sayat.diploma_backend.course_module.repository;
 import kz.sayat.diploma_backend.auth_module.models.User;
 import kz.sayat.diploma_backend.course_module.models.Lecture;
 import kz.sayat.diploma_backend.course_module.models.LectureView;
+import kz.sayat.diploma_backend.util.collections.IntSet;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface LectureViewRepository extends JpaRepository<LectureView, Integer> {
     boolean existsByStudentIdAndLectureId(int studentId, int lectureId);
-}
 
+    @Query("SELECT lv.lecture.id FROM LectureView lv " +
+        "WHERE lv.student.id = :studentId AND lv.lecture.module.course.id = :courseId")
+    List<Integer> findViewedLectureIdsByCourse(@Param("studentId") int studentId, @Param("courseId") int courseId);
+
+    default IntSet findViewedLectureIdSetByCourse(int studentId, int courseId) {
+        return IntSet.of(findViewedLectureIdsByCourse(studentId, courseId));
+    }
+}
@@ -1,15 +1,51 @@
 package kz.sayat.diploma_backend.course_module.repository;
 
 import kz.sayat.diploma_backend.course_module.models.Module;
+import kz.sayat.diploma_backend.course_module.repository.projection.ModuleProgressView;
+import kz.sayat.diploma_backend.course_module.repository.projection.ModuleQuizView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ModuleRepository extends JpaRepository<Module, Integer> {
     @Query("SELECT m FROM Module m WHERE m.course.id = :courseId")
     List<Module> findByCourseId(@Param("courseId") int courseId);
+
+    @Query("SELECT DISTINCT m FROM Module m LEFT JOIN FETCH m.lectures WHERE m.id IN :ids")
+    List<Module> findWithLecturesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query("SELECT m.course.id FROM Module m WHERE m.id = :id")
+    Optional<Integer> findCourseIdById(@Param("id") int id);
+
+    @Query("""
+        SELECT m.id AS moduleId, m.title AS moduleTitle,
+               q.id AS quizId, q.title AS quizTitle, q.passingScore AS passingScore,
+               q.durationInMinutes AS durationInMinutes, q.questionCount AS questionCount
+        FROM Module m
+        LEFT JOIN m.quizzes q
+        WHERE m.course.id = :courseId
+        ORDER BY m.id, q.id
+        """)
+    List<ModuleQuizView> findModuleQuizzesByCourseId(@Param("courseId") int courseId);
+
+    @Query(value = """
+        SELECT c.id AS courseId,
+               mp.module_id AS moduleId,
+               mp.total_lectures AS totalLectures,
+               mp.lectures_viewed AS viewedLectures,
+               mp.total_quizzes AS totalQuizzes,
+               mp.quizzes_passed AS passedQuizzes
+        FROM courses c
+        CROSS JOIN LATERAL module_progress(:studentId, c.id) mp
+        WHERE c.id IN (:courseIds)
+        ORDER BY c.id, mp.module_id
+        """, nativeQuery = true)
+    List<ModuleProgressView> findModuleProgress(@Param("studentId") int studentId,
+                                                @Param("courseIds") Collection<Integer> courseIds);
 }
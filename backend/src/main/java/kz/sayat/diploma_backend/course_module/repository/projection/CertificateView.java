@@ -0,0 +1,20 @@
+package kz.sayat.diploma_backend.course_module.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface CertificateView {
+
+    int getId();
+
+    String getNumber();
+
+    String getStudentName();
+
+    String getCourseTitle();
+
+    double getProgress();
+
+    LocalDateTime getIssuedAt();
+
+    String getPdfSha256();
+}
@@ -0,0 +1,26 @@
+package kz.sayat.diploma_backend.course_module.repository.projection;
+
+public interface CourseHeaderView {
+
+    Integer getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    Boolean getIsPublic();
+
+    String getProfileImagePath();
+
+    Integer getTeacherId();
+
+    String getTeacherEmail();
+
+    String getTeacherFirstname();
+
+    String getTeacherLastname();
+
+    String getTeacherBio();
+
+    String getTeacherProfileImagePath();
+}
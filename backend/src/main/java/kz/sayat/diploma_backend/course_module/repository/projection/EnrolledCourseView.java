@@ -0,0 +1,30 @@
+package kz.sayat.diploma_backend.course_module.repository.projection;
+
+public interface EnrolledCourseView {
+
+    Integer getCourseId();
+
+    String getTitle();
+
+    String getDescription();
+
+    Boolean getIsPublic();
+
+    String getProfileImagePath();
+
+    Integer getTeacherId();
+
+    String getTeacherEmail();
+
+    String getTeacherFirstname();
+
+    String getTeacherLastname();
+
+    String getTeacherBio();
+
+    String getTeacherProfileImagePath();
+
+    Double getProgress();
+
+    Boolean getCompleted();
+}
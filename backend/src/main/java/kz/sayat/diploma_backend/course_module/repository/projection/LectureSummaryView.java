@@ -0,0 +1,12 @@
+package kz.sayat.diploma_backend.course_module.repository.projection;
+
+public interface LectureSummaryView {
+
+    Integer getId();
+
+    String getTitle();
+
+    String getUrl();
+
+    Integer getModuleId();
+}
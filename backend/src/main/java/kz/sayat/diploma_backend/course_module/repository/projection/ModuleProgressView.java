@@ -0,0 +1,10 @@
+package kz.sayat.diploma_backend.course_module.repository.projection;
+
+public interface ModuleProgressView {
+    Integer getCourseId();
+    Integer getModuleId();
+    Long getTotalLectures();
+    Long getViewedLectures();
+    Long getTotalQuizzes();
+    Long getPassedQuizzes();
+}
@@ -0,0 +1,18 @@
+package kz.sayat.diploma_backend.course_module.repository.projection;
+
+public interface ModuleQuizView {
+
+    Integer getModuleId();
+
+    String getModuleTitle();
+
+    Integer getQuizId();
+
+    String getQuizTitle();
+
+    Integer getPassingScore();
+
+    Integer getDurationInMinutes();
+
+    Integer getQuestionCount();
+}
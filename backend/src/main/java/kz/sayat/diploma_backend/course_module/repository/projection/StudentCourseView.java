@@ -0,0 +1,6 @@
+package kz.sayat.diploma_backend.course_module.repository.projection;
+
+public interface StudentCourseView extends CourseHeaderView {
+
+    Integer getStudentId();
+}
@@ -0,0 +1,21 @@
+package kz.sayat.diploma_backend.course_module.service;
+
+import kz.sayat.diploma_backend.course_module.dto.CertificateVerificationDto;
+import kz.sayat.diploma_backend.course_module.repository.projection.CertificateView;
+import org.springframework.security.core.Authentication;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface CertificateService {
+
+    CertificateView getCertificate(int courseId, Authentication authentication);
+
+    void writePdf(int certificateId, OutputStream out) throws IOException;
+
+    CertificateVerificationDto verify(String number);
+
+    CertificateView issue(int studentId, int courseId);
+
+    void issueIfAbsent(int studentId, int courseId);
+}
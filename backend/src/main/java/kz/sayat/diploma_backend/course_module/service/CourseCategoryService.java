@@ -0,0 +1,16 @@
+package kz.sayat.diploma_backend.course_module.service;
+
+import kz.sayat.diploma_backend.course_module.models.enums.CourseCategory;
+
+import java.util.Set;
+
+public interface CourseCategoryService {
+
+    Set<CourseCategory> classify(String title, String description);
+
+    int backfill(int afterId, int batchSize);
+
+    boolean isBackfilled();
+
+    void markBackfilled();
+}
@@ -0,0 +1,13 @@
+package kz.sayat.diploma_backend.course_module.service;
+
+import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
+import kz.sayat.diploma_backend.util.pagination.PageDto;
+
+import java.util.List;
+
+public interface CourseSearchService {
+
+    PageDto<CourseSummaryDto> search(String query, int page, int size);
+
+    List<CourseSummaryDto> searchAll(String query);
+}
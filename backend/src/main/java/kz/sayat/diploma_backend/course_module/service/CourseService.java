@@ -4,12 +4,14 @@ import kz.sayat.diploma_backend.auth_module.dto.StudentDto;
 import kz.sayat.diploma_backend.course_module.dto.CourseDto;
 import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
 import kz.sayat.diploma_backend.course_module.models.Course;
+import kz.sayat.diploma_backend.util.pagination.CursorPage;
+import kz.sayat.diploma_backend.util.pagination.PageDto;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
@@ -24,17 +26,17 @@ public interface CourseService {
 
     List<CourseSummaryDto> getMyCourses(Authentication authentication);
 
-    List<CourseSummaryDto> getAllCourses();
+    CursorPage<CourseSummaryDto> getAllCourses(Integer cursor, int size, boolean withTotal);
 
     void deleteCourse(int id);
 
-    List<StudentDto> getStudentForCourse(int id);
+    CursorPage<StudentDto> getStudentForCourse(int id, Integer cursor, int size, boolean withTotal);
 
     List<CourseSummaryDto> getCoursesByQuery(String query);
 
     void approve(int id);
 
-    List<CourseSummaryDto> getPrivateCourses();
+    CursorPage<CourseSummaryDto> getPrivateCourses(Integer cursor, int size, boolean withTotal);
 
     void disallow(int id);
 
@@ -44,9 +46,8 @@ public interface CourseService {
 
     void saveFile(int id, MultipartFile file) throws IOException;
 
-    ResponseEntity<Resource> getProfileImageId(int id) throws IOException;
+    ResponseEntity<Resource> getProfileImageId(int id, String variant, ServletWebRequest request) throws IOException;
 
-    ByteArrayOutputStream generateCertificate(int courseId, Authentication authentication);
 
-    List<CourseSummaryDto> getCoursesByCategory(List<String> tags);
+    PageDto<CourseSummaryDto> getCoursesByCategory(List<String> categories, int page, int size);
 }
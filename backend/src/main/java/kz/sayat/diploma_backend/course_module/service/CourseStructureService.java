@@ -0,0 +1,8 @@
+package kz.sayat.diploma_backend.course_module.service;
+
+import kz.sayat.diploma_backend.course_module.dto.CourseStructure;
+
+public interface CourseStructureService {
+
+    CourseStructure getCourseStructure(int courseId);
+}
@@ -0,0 +1,8 @@
+package kz.sayat.diploma_backend.course_module.service;
+
+public interface EnrollmentProgressService {
+
+    void refreshProgress(int studentId, int courseId);
+
+    void refreshCourseProgress(int courseId);
+}
@@ -0,0 +1,13 @@
+package kz.sayat.diploma_backend.course_module.service;
+
+import kz.sayat.diploma_backend.course_module.dto.CourseProgressDto;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ProgressService {
+
+    CourseProgressDto getCourseProgress(int studentId, int courseId);
+
+    Map<Integer, CourseProgressDto> getCoursesProgress(int studentId, Collection<Integer> courseIds);
+}
@@ -0,0 +1,122 @@
+package kz.sayat.diploma_backend.course_module.service.implementations;
+
+import jakarta.transaction.Transactional;
+import kz.sayat.diploma_backend.auth_module.models.Student;
+import kz.sayat.diploma_backend.auth_module.repository.StudentRepository;
+import kz.sayat.diploma_backend.course_module.certificate.CertificateContent;
+import kz.sayat.diploma_backend.course_module.certificate.CertificateRenderer;
+import kz.sayat.diploma_backend.course_module.dto.CertificateVerificationDto;
+import kz.sayat.diploma_backend.course_module.models.Enrollment;
+import kz.sayat.diploma_backend.course_module.models.EnrollmentId;
+import kz.sayat.diploma_backend.course_module.repository.CertificateRepository;
+import kz.sayat.diploma_backend.course_module.repository.EnrollmentRepository;
+import kz.sayat.diploma_backend.course_module.repository.projection.CertificateView;
+import kz.sayat.diploma_backend.course_module.service.CertificateService;
+import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CertificateServiceImpl implements CertificateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CertificateServiceImpl.class);
+
+    private static final char[] NUMBER_ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789".toCharArray();
+    private static final int NUMBER_LENGTH = 12;
+
+    private final CertificateRepository certificateRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudentRepository studentRepository;
+    private final CertificateRenderer certificateRenderer;
+    private final SecureRandom random = new SecureRandom();
+
+    @Override
+    public CertificateView getCertificate(int courseId, Authentication authentication) {
+        Student student = studentRepository.findByEmail(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("Student not found"));
+        return certificateRepository.findByStudentIdAndCourseId(student.getId(), courseId)
+            .orElseGet(() -> issue(student.getId(), courseId));
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void writePdf(int certificateId, OutputStream out) throws IOException {
+        if (!certificateRepository.writePdf(certificateId, out)) {
+            throw new ResourceNotFoundException("Certificate not found");
+        }
+    }
+
+    @Override
+    public CertificateVerificationDto verify(String number) {
+        CertificateView certificate = certificateRepository.findByNumber(number)
+            .orElseThrow(() -> new ResourceNotFoundException("Certificate not found"));
+        return new CertificateVerificationDto(certificate.getNumber(), certificate.getStudentName(),
+            certificate.getCourseTitle(), certificate.getProgress(), certificate.getIssuedAt());
+    }
+
+    @Override
+    public CertificateView issue(int studentId, int courseId) {
+        Enrollment enrollment = enrollmentRepository.findById(new EnrollmentId(studentId, courseId))
+            .filter(Enrollment::isCompleted)
+            .orElseThrow(() -> new RuntimeException("Course is not completed"));
+
+        LocalDateTime issuedAt = LocalDateTime.now();
+        CertificateContent content = new CertificateContent(newNumber(),
+            enrollment.getStudent().getFirstname() + " " + enrollment.getStudent().getLastname(),
+            enrollment.getCourse().getTitle(), issuedAt.toLocalDate(), enrollment.getProgress());
+        byte[] pdf = render(content);
+
+        certificateRepository.insertIfAbsent(content.number(), studentId, courseId, content.studentName(),
+            content.courseTitle(), content.progress(), issuedAt, pdf, sha256(pdf));
+        return certificateRepository.findByStudentIdAndCourseId(studentId, courseId)
+            .orElseThrow(() -> new IllegalStateException("Certificate was not stored"));
+    }
+
+    @Override
+    public void issueIfAbsent(int studentId, int courseId) {
+        if (!certificateRepository.existsByStudentIdAndCourseId(studentId, courseId)) {
+            issue(studentId, courseId);
+        }
+    }
+
+    private byte[] render(CertificateContent content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 * 1024);
+        try {
+            certificateRenderer.render(content, out);
+        } catch (IOException e) {
+            logger.error("Certificate generation failed", e);
+            throw new RuntimeException("Error generating certificate", e);
+        }
+        return out.toByteArray();
+    }
+
+    private String newNumber() {
+        char[] number = new char[NUMBER_LENGTH];
+        for (int i = 0; i < number.length; i++) {
+            number[i] = NUMBER_ALPHABET[random.nextInt(NUMBER_ALPHABET.length)];
+        }
+        return new String(number);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package kz.sayat.diploma_backend.course_module.service.implementations;
+
+import jakarta.transaction.Transactional;
+import kz.sayat.diploma_backend.course_module.events.CourseUpdatedEvent;
+import kz.sayat.diploma_backend.course_module.models.Course;
+import kz.sayat.diploma_backend.course_module.models.enums.CourseCategory;
+import kz.sayat.diploma_backend.course_module.repository.CompletedBackfillRepository;
+import kz.sayat.diploma_backend.course_module.repository.CourseRepository;
+import kz.sayat.diploma_backend.course_module.service.CourseCategoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CourseCategoryServiceImpl implements CourseCategoryService {
+
+    private static final Map<CourseCategory, Pattern> PATTERNS = compilePatterns();
+    private static final String BACKFILL = "course_categories";
+
+    private final CourseRepository courseRepository;
+    private final CompletedBackfillRepository completedBackfillRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public Set<CourseCategory> classify(String title, String description) {
+        String text = (title == null ? "" : title) + "\n" + (description == null ? "" : description);
+        Set<CourseCategory> categories = EnumSet.noneOf(CourseCategory.class);
+        PATTERNS.forEach((category, pattern) -> {
+            if (pattern.matcher(text).find()) {
+                categories.add(category);
+            }
+        });
+        return categories;
+    }
+
+    @Override
+    public int backfill(int afterId, int batchSize) {
+        List<Course> courses = courseRepository.findUncategorizedAfter(afterId, PageRequest.of(0, batchSize));
+        if (courses.isEmpty()) {
+            return -1;
+        }
+        for (Course course : courses) {
+            Set<CourseCategory> categories = classify(course.getTitle(), course.getDescription());
+            if (!categories.isEmpty()) {
+                course.getCategories().addAll(categories);
+                eventPublisher.publishEvent(new CourseUpdatedEvent(course.getId()));
+            }
+        }
+        return courses.get(courses.size() - 1).getId();
+    }
+
+    @Override
+    public boolean isBackfilled() {
+        return completedBackfillRepository.existsById(BACKFILL);
+    }
+
+    @Override
+    public void markBackfilled() {
+        completedBackfillRepository.insertIfAbsent(BACKFILL, LocalDateTime.now());
+    }
+
+    private static Map<CourseCategory, Pattern> compilePatterns() {
+        Map<CourseCategory, Pattern> patterns = new EnumMap<>(CourseCategory.class);
+        for (CourseCategory category : CourseCategory.values()) {
+            String alternatives = category.getTags().stream()
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|"));
+            patterns.put(category, Pattern.compile("(?<![\\p{L}\\p{N}])(?:" + alternatives + ")(?![\\p{L}\\p{N}])",
+                Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE));
+        }
+        return patterns;
+    }
+}
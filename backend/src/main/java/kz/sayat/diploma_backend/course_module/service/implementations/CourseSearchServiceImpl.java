@@ -0,0 +1,64 @@
+package kz.sayat.diploma_backend.course_module.service.implementations;
+
+import jakarta.transaction.Transactional;
+import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
+import kz.sayat.diploma_backend.course_module.mapper.CourseMapper;
+import kz.sayat.diploma_backend.course_module.repository.CourseRepository;
+import kz.sayat.diploma_backend.course_module.repository.projection.CourseHeaderView;
+import kz.sayat.diploma_backend.course_module.service.CourseSearchService;
+import kz.sayat.diploma_backend.util.pagination.PageDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CourseSearchServiceImpl implements CourseSearchService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final CourseRepository courseRepository;
+    private final CourseMapper courseMapper;
+
+    @Override
+    public PageDto<CourseSummaryDto> search(String query, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        String tsQuery = toPrefixTsQuery(query);
+        Page<CourseHeaderView> results = tsQuery.isEmpty()
+            ? Page.empty(pageRequest)
+            : courseRepository.searchPublic(tsQuery, pageRequest);
+        return PageDto.of(results, courseMapper::toCourseSummaryDto);
+    }
+
+    /**
+     * Every ranked match in one list, for the legacy unpaged {@code /api/courses/get} endpoint.
+     */
+    @Override
+    public List<CourseSummaryDto> searchAll(String query) {
+        String tsQuery = toPrefixTsQuery(query);
+        if (tsQuery.isEmpty()) {
+            return List.of();
+        }
+        return courseRepository.searchPublic(tsQuery, Pageable.unpaged()).stream()
+            .map(courseMapper::toCourseSummaryDto)
+            .collect(Collectors.toList());
+    }
+
+    public static String toPrefixTsQuery(String query) {
+        if (query == null) {
+            return "";
+        }
+        return Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+            .filter(term -> !term.isEmpty())
+            .map(term -> term + ":*")
+            .collect(Collectors.joining(" & "));
+    }
+}
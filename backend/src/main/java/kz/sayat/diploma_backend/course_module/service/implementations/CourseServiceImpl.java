@@ -1,14 +1,6 @@
 package kz.sayat.diploma_backend.course_module.service.implementations;
 
 
-import com.itextpdf.text.*;
-import com.itextpdf.text.log.Logger;
-import com.itextpdf.text.log.LoggerFactory;
-import com.itextpdf.text.pdf.PdfContentByte;
-import com.itextpdf.text.pdf.PdfPCell;
-import com.itextpdf.text.pdf.PdfPTable;
-import com.itextpdf.text.pdf.PdfWriter;
-import jakarta.transaction.Transactional;
 import kz.sayat.diploma_backend.auth_module.dto.StudentDto;
 import kz.sayat.diploma_backend.auth_module.mapper.StudentMapper;
 import kz.sayat.diploma_backend.auth_module.models.Student;
@@ -17,46 +9,57 @@ import kz.sayat.diploma_backend.auth_module.repository.StudentRepository;
 import kz.sayat.diploma_backend.auth_module.service.StudentService;
 import kz.sayat.diploma_backend.auth_module.service.TeacherService;
 import kz.sayat.diploma_backend.course_module.dto.*;
+import kz.sayat.diploma_backend.course_module.events.CourseUpdatedEvent;
+import kz.sayat.diploma_backend.course_module.events.StudentProgressEvent;
 import kz.sayat.diploma_backend.course_module.models.*;
 import kz.sayat.diploma_backend.course_module.models.Module;
 import kz.sayat.diploma_backend.course_module.models.enums.CourseCategory;
 import kz.sayat.diploma_backend.course_module.repository.*;
+import kz.sayat.diploma_backend.course_module.repository.projection.CourseHeaderView;
+import kz.sayat.diploma_backend.course_module.repository.projection.EnrolledCourseView;
+import kz.sayat.diploma_backend.course_module.service.CourseCategoryService;
+import kz.sayat.diploma_backend.course_module.service.CourseSearchService;
 import kz.sayat.diploma_backend.course_module.service.CourseService;
-import kz.sayat.diploma_backend.quiz_module.models.Quiz;
-import kz.sayat.diploma_backend.quiz_module.models.QuizAttempt;
+import kz.sayat.diploma_backend.course_module.service.CourseStructureService;
+import kz.sayat.diploma_backend.course_module.service.ProgressService;
 import kz.sayat.diploma_backend.quiz_module.repository.QuizAttemptRepository;
-import kz.sayat.diploma_backend.quiz_module.repository.QuizRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.projection.LatestAttemptView;
+import kz.sayat.diploma_backend.util.cache.CacheNames;
+import kz.sayat.diploma_backend.util.collections.IntSet;
 import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
+import kz.sayat.diploma_backend.util.pagination.CursorPage;
+import kz.sayat.diploma_backend.util.pagination.PageDto;
 import kz.sayat.diploma_backend.auth_module.models.Teacher;
 import kz.sayat.diploma_backend.auth_module.models.User;
 import kz.sayat.diploma_backend.course_module.mapper.CourseMapper;
 import kz.sayat.diploma_backend.auth_module.repository.TeacherRepository;
 import kz.sayat.diploma_backend.auth_module.security.MyUserDetails;
+import kz.sayat.diploma_backend.media_module.service.ImageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Uses Spring's {@code @Transactional} instead of the jakarta one used by the other services: only Spring's
+ * supports {@code readOnly}, which the projection-backed course lists rely on.
+ */
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -70,12 +73,15 @@ public class CourseServiceImpl implements CourseService {
     private final CourseRepository courseRepository;
     private final CourseMapper courseMapper;
     private final StudentMapper studentMapper;
-    private final ModuleRepository moduleRepository;
     private final EnrollmentRepository enrollmentRepository;
-    private final QuizRepository quizRepository;
     private final QuizAttemptRepository quizAttemptRepository;
     private final LectureViewRepository lectureViewRepository;
-    private final LectureRepository lectureRepository;
+    private final ProgressService progressService;
+    private final CourseStructureService courseStructureService;
+    private final CourseSearchService courseSearchService;
+    private final CourseCategoryService courseCategoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageService imageService;
 
     @Override
     @PreAuthorize("hasRole('TEACHER')")
@@ -88,56 +94,58 @@ public class CourseServiceImpl implements CourseService {
         Teacher teacher = teacherRepository.findById(user.getId())
             .orElseThrow(() -> new ResourceNotFoundException("Teacher not found"));
         course.setTeacher(teacher);
+        course.setCategories(courseCategoryService.classify(course.getTitle(), course.getDescription()));
 
-        return courseMapper.toCourseDto(courseRepository.save(course));
+        Course saved = courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseUpdatedEvent(saved.getId()));
+        return courseMapper.toCourseDto(saved);
     }
 
 
     @Override
     public CourseDto findCourseById(int id, Authentication auth) {
-        Course course = courseRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
+        CourseStructure structure = courseStructureService.getCourseStructure(id);
 
         boolean isEnrolled = false;
         boolean isTeacher = false;
         Integer authenticatedStudentId = null;
-        Student authenticatedStudent = null;
 
         if (auth != null && auth.isAuthenticated()) {
             MyUserDetails userDetails = (MyUserDetails) auth.getPrincipal();
-            UserRole role = userDetails.getUser().getRole();
+            UserRole role = userDetails.getRole();
 
             if (role == UserRole.STUDENT) {
-                authenticatedStudent = studentService.getStudentFromUser(auth);
-                authenticatedStudentId = authenticatedStudent.getId();
-                isEnrolled = enrollmentRepository.existsByStudentAndCourse(authenticatedStudent, course);
+                authenticatedStudentId = studentService.getStudentFromUser(auth).getId();
+                isEnrolled = enrollmentRepository.existsById(new EnrollmentId(authenticatedStudentId, id));
             } else if (role == UserRole.TEACHER) {
                 Teacher authenticatedTeacher = teacherService.getTeacherFromUser(auth);
-                isTeacher = course.getTeacher().getId() == authenticatedTeacher.getId();
+                isTeacher = structure.teacher().id() == authenticatedTeacher.getId();
             }
         }
 
-        CourseDto courseDto = mapper.toCourseDto(course);
+        CourseDto courseDto = mapper.toCourseDto(structure);
         courseDto.setEnrolled(isEnrolled);
         courseDto.setCreator(isTeacher);
 
         if (authenticatedStudentId != null) {
+            Map<Integer, Double> moduleProgress = progressService
+                .getCourseProgress(authenticatedStudentId, id)
+                .getModuleProgress();
+            Map<Integer, Boolean> passedQuizzes = quizAttemptRepository
+                .findLatestAttemptsByCourse(authenticatedStudentId, id).stream()
+                .collect(Collectors.toMap(LatestAttemptView::getQuizId, view -> Boolean.TRUE.equals(view.getPassed())));
+            IntSet viewedLectures = lectureViewRepository
+                .findViewedLectureIdSetByCourse(authenticatedStudentId, id);
+
             for (ModuleDto moduleDto : courseDto.getModules()) {
-                double progress = calculateModuleProgress(authenticatedStudentId, moduleDto.getId());
-                moduleDto.setProgress(progress);
+                moduleDto.setProgress(moduleProgress.getOrDefault(moduleDto.getId(), 0.0));
 
                 for (LectureDto lectureDto : moduleDto.getLectures()) {
-                    boolean viewed = lectureViewRepository.existsByStudentIdAndLectureId(
-                            authenticatedStudentId, lectureDto.getId());
-                    lectureDto.setViewed(viewed);
+                    lectureDto.setViewed(viewedLectures.contains(lectureDto.getId()));
                 }
 
                 for (QuizSummaryDto quizSummary : moduleDto.getQuizzes()) {
-                    Quiz quiz = quizRepository.findById(quizSummary.getId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Quiz not found"));
-                    QuizAttempt latestAttempt = quizAttemptRepository
-                        .findTopByStudentAndQuizOrderByAttemptNumberDesc(authenticatedStudent, quiz);
-                    quizSummary.setPassed(latestAttempt != null && latestAttempt.isPassed());
+                    quizSummary.setPassed(passedQuizzes.getOrDefault(quizSummary.getId(), false));
                 }
             }
         } else {
@@ -171,26 +179,33 @@ public class CourseServiceImpl implements CourseService {
             throw new RuntimeException("Student is already enrolled in this course");
         }
 
-        Enrollment enrollment = new Enrollment(enrollmentId, student, course, false);
+        Enrollment enrollment = new Enrollment(enrollmentId, student, course);
         enrollmentRepository.save(enrollment);
+        eventPublisher.publishEvent(new StudentProgressEvent(student.getId(), course.getId()));
     }
 
 
     @Override
     @PreAuthorize("hasRole('ADMIN')")
-    public List<CourseSummaryDto> getAllCourses() {
-        List<Course> courses=courseRepository.findAll();
-        return courseMapper.toCourseSummaryDtoList(courses);
+    @Cacheable(cacheNames = CacheNames.COURSE_CATALOG, key = "'all:' + #cursor + ':' + #size + ':' + #withTotal")
+    public CursorPage<CourseSummaryDto> getAllCourses(Integer cursor, int size, boolean withTotal) {
+        List<CourseHeaderView> rows = courseRepository.findHeadersAfter(cursor == null ? 0 : cursor,
+            CursorPage.request(size));
+        return CursorPage.of(rows, size, CourseHeaderView::getId, courseMapper::toCourseSummaryDto,
+            withTotal, courseRepository::count);
     }
 
     @Override
     @PreAuthorize("hasRole('TEACHER') or ('ADMIN')")
-    public List<StudentDto> getStudentForCourse(int id) {
-        List<Student> students = enrollmentRepository.findStudentsByCourseId(id);
-        return studentMapper.toStudentDtoList(students);
+    public CursorPage<StudentDto> getStudentForCourse(int id, Integer cursor, int size, boolean withTotal) {
+        List<Student> students = enrollmentRepository.findStudentsByCourseIdAfter(id, cursor == null ? 0 : cursor,
+            CursorPage.request(size));
+        return CursorPage.ofBatch(students, size, Student::getId, studentMapper::toStudentDtoList,
+            withTotal, () -> enrollmentRepository.countByCourseId(id));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CourseSummaryDto> getMyCourses(Authentication authentication) {
         MyUserDetails userDetails = (MyUserDetails) authentication.getPrincipal();
         User user = userDetails.getUser();
@@ -199,147 +214,45 @@ public class CourseServiceImpl implements CourseService {
             throw new RuntimeException("User is not a student");
         }
 
-        List<Course> courses = enrollmentRepository.findCoursesByStudentId(student.getId())
-            .stream()
-            .filter(course -> course.isPublic() && !isCourseCompleted(student.getId(), course.getId())) // Исключаем завершенные
-            .toList();
-
-        return courses.stream()
-            .map(course -> {
-                CourseSummaryDto dto = courseMapper.toCourseSummaryDto(course);
-                double progress = calculateCourseProgress(student.getId(), course.getId());
-                dto.setProgress(progress);
-                return dto;
-            })
+        return enrollmentRepository.findEnrolledCoursesByStudentId(student.getId()).stream()
+            .filter(view -> view.getIsPublic() && !view.getCompleted()) // Исключаем завершенные
+            .map(courseMapper::toCourseSummaryDto)
             .collect(Collectors.toList());
     }
 
-    public boolean isCourseCompleted(int studentId, int courseId) {
-        List<Module> modules = moduleRepository.findByCourseId(courseId);
-
-        if (modules.isEmpty()) {
-            return false;
-        }
-
-        Student student = studentRepository.findById(studentId)
-            .orElseThrow(() -> new RuntimeException("Student not found"));
-
-        for (Module module : modules) {
-            List<Quiz> quizzes = quizRepository.findQuizzesByModule_Id(module.getId());
-
-            if (!quizzes.isEmpty()) {
-                boolean allQuizzesPassed = quizzes.stream()
-                    .map(quiz -> quizAttemptRepository.findTopByStudentAndQuizOrderByAttemptNumberDesc(student, quiz))
-                    .allMatch(attempt -> attempt != null && attempt.isPassed());
-
-                if (!allQuizzesPassed) {
-                    return false;
-                }
-            }
-        }
-
-        return true;
-    }
-
-    public void updateEnrollmentStatus(int studentId, int courseId) {
-        Enrollment enrollment = enrollmentRepository.findById(new EnrollmentId(studentId, courseId))
-            .orElseThrow(() -> new ResourceNotFoundException("Enrollment not found"));
-
-        if (isCourseCompleted(studentId, courseId)) {
-            enrollment.setCompleted(true);
-            enrollmentRepository.save(enrollment);
-        }
-    }
-
-
-
-    public double calculateCourseProgress(int studentId, int courseId) {
-        List<Module> modules = moduleRepository.findByCourseId(courseId);
-        double totalProgress = 0;
-        int totalModules = modules.size();
-
-        for (Module module : modules) {
-            totalProgress += calculateModuleProgress(studentId, module.getId());
-        }
-
-        double progress = totalModules == 0 ? 0 : totalProgress / totalModules;
-
-        updateEnrollmentStatus(studentId, courseId);
-
-        return progress;
-    }
-
-
-    private double calculateModuleProgress(Integer studentId, int moduleId) {
-        List<Lecture> lectures = lectureRepository.findByModuleId(moduleId);
-        List<Quiz> quizzes = quizRepository.findByModuleId(moduleId);
-
-        int totalItems = lectures.size() + quizzes.size();
-        if (totalItems == 0) {
-            return 0.0;
-        }
-
-        int completedItems = 0;
-        for (Lecture lecture : lectures) {
-            if (lectureViewRepository.existsByStudentIdAndLectureId(studentId, lecture.getId())) {
-                completedItems++;
-            }
-        }
-        for (Quiz quiz : quizzes) {
-            QuizAttempt latestAttempt = quizAttemptRepository
-                    .findTopByStudentIdAndQuizIdOrderByAttemptNumberDesc(studentId, quiz.getId());
-            if (latestAttempt != null && latestAttempt.isPassed()) {
-                completedItems++;
-            }
-        }
-
-        return ((double) completedItems / totalItems) * 100.0;
-    }
-
-
     @Override
     @PreAuthorize("hasRole('TEACHER')")
     public void deleteCourse(int id) {
         courseRepository.deleteById(id);
+        eventPublisher.publishEvent(new CourseUpdatedEvent(id));
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.COURSE_CATALOG, key = "'public'",
+        condition = "#query == null || #query.trim().isEmpty()")
     public List<CourseSummaryDto> getCoursesByQuery(String query) {
-        List<Course> courses;
         if (query == null || query.trim().isEmpty()) {
-            courses = courseRepository.findByIsPublicTrue();
-        } else {
-            courses = courseRepository.findByIsPublicTrueAndTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(query, query);
+            return courseMapper.toCourseSummaryDtoList(courseRepository.findByIsPublicTrue());
         }
-        return courseMapper.toCourseSummaryDtoList(courses);
+        return courseSearchService.searchAll(query);
     }
 
     @Override
-    public List<CourseSummaryDto> getCoursesByCategory(List<String> selectedCategoryNames) {
+    @Cacheable(cacheNames = CacheNames.COURSE_CATALOG,
+        key = "'categories:' + #selectedCategoryNames + ':' + #page + ':' + #size")
+    public PageDto<CourseSummaryDto> getCoursesByCategory(List<String> selectedCategoryNames, int page, int size) {
         if (selectedCategoryNames == null || selectedCategoryNames.isEmpty()) {
             throw new IllegalArgumentException("At least one category name must be provided");
         }
 
-        Set<String> tags = selectedCategoryNames.stream()
-                .map(name -> {
-                    try {
-                        return CourseCategory.valueOf(name);
-                    } catch (IllegalArgumentException e) {
-                        throw new IllegalArgumentException("Invalid category name: " + name);
-                    }
-                })
-                .flatMap(category -> category.getTags().stream())
-                .map(String::toLowerCase)
-                .collect(Collectors.toSet());
-
-        Set<Course> matchingCourses = new HashSet<>();
-        for (String tag : tags) {
-            List<Course> courses = courseRepository
-                    .findByIsPublicTrueAndTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(tag, tag);
-            matchingCourses.addAll(courses);
-        }
+        Set<CourseCategory> categories = selectedCategoryNames.stream()
+                .map(CourseCategory::fromName)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(CourseCategory.class)));
 
-        return courseMapper.toCourseSummaryDtoList(new ArrayList<>(matchingCourses));
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0),
+            Math.min(Math.max(size, 1), CourseSearchServiceImpl.MAX_PAGE_SIZE));
+        return PageDto.of(courseRepository.findPublicByCategories(categories, pageRequest),
+            courseMapper::toCourseSummaryDto);
     }
 
 
@@ -349,12 +262,15 @@ public class CourseServiceImpl implements CourseService {
         Course course= courseRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
         course.setPublic(true);
+        eventPublisher.publishEvent(new CourseUpdatedEvent(id));
     }
 
     @Override
-    public List<CourseSummaryDto> getPrivateCourses() {
-        List<Course> courses= courseRepository.findByIsPublicFalse();
-        return courseMapper.toCourseSummaryDtoList(courses);
+    public CursorPage<CourseSummaryDto> getPrivateCourses(Integer cursor, int size, boolean withTotal) {
+        List<CourseHeaderView> rows = courseRepository.findPrivateHeadersAfter(cursor == null ? 0 : cursor,
+            CursorPage.request(size));
+        return CursorPage.of(rows, size, CourseHeaderView::getId, courseMapper::toCourseSummaryDto,
+            withTotal, courseRepository::countByIsPublicFalse);
     }
 
     @Override
@@ -362,6 +278,7 @@ public class CourseServiceImpl implements CourseService {
         Course course= courseRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
         course.setPublic(false);
+        eventPublisher.publishEvent(new CourseUpdatedEvent(id));
     }
 
     @Override
@@ -370,56 +287,35 @@ public class CourseServiceImpl implements CourseService {
             .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
         course.setTitle(dto.getTitle());
         course.setDescription(dto.getDescription());
+        course.getCategories().clear();
+        course.getCategories().addAll(courseCategoryService.classify(dto.getTitle(), dto.getDescription()));
+        eventPublisher.publishEvent(new CourseUpdatedEvent(id));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CourseSummaryDto> getCompletedCourses(Authentication authentication) {
         Student student = studentRepository.findByEmail(authentication.getName())
             .orElseThrow(() -> new RuntimeException("Student not found"));
 
-        List<Course> courses = enrollmentRepository.findCoursesByStudentId(student.getId());
-
-        return courses.stream()
-            .filter(course -> {
-                boolean completed = isCourseCompleted(student.getId(), course.getId());
-                if (completed) {
-                    updateEnrollmentStatus(student.getId(), course.getId());
-                }
-                return completed;
-            })
-            .map(course -> {
-                CourseSummaryDto dto = courseMapper.toCourseSummaryDto(course);
-                double progress = calculateCourseProgress(student.getId(), course.getId());
-                dto.setProgress(progress);
-                return dto;
-            })
+        return enrollmentRepository.findEnrolledCoursesByStudentId(student.getId()).stream()
+            .filter(EnrolledCourseView::getCompleted)
+            .map(courseMapper::toCourseSummaryDto)
             .collect(Collectors.toList());
     }
 
     @Override
     public void saveFile(int id, MultipartFile file) throws IOException {
-        Path uploadPath = Paths.get("uploads", "courses");
-
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
-
-        String filename = UUID.randomUUID() + "_" + file.getOriginalFilename();
-        Path filePath = uploadPath.resolve(filename);
-
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
         Course course= courseRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
 
-        course.setProfileImagePath(filename);
+        course.setProfileImagePath(imageService.store(ImageService.COURSES, file));
         courseRepository.save(course);
-
-        System.out.println("Файл сохранён: " + filePath.toAbsolutePath());
+        eventPublisher.publishEvent(new CourseUpdatedEvent(id));
     }
 
     @Override
-    public ResponseEntity<Resource> getProfileImageId(int id) throws IOException {
+    public ResponseEntity<Resource> getProfileImageId(int id, String variant, ServletWebRequest request) throws IOException {
         Course course= courseRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
 
@@ -427,143 +323,7 @@ public class CourseServiceImpl implements CourseService {
             throw new FileNotFoundException("У курса нет изображения");
         }
 
-        Path path = Paths.get("uploads/courses").resolve(course.getProfileImagePath());
-        Resource resource = new UrlResource(path.toUri());
-
-        if (!resource.exists()) {
-            throw new FileNotFoundException("Файл не найден: " + path.toString());
-        }
-
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(Files.probeContentType(path)))
-                .body(resource);
-    }
-
-    public ByteArrayOutputStream generateCertificate(int courseId, Authentication authentication) {
-        Student student = studentRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new RuntimeException("Student not found"));
-
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
-
-        if (!isCourseCompleted(student.getId(), course.getId())) {
-            throw new RuntimeException("Course is not completed");
-        }
-
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        Logger logger = LoggerFactory.getLogger(CourseServiceImpl.class);
-
-        try {
-            Document document = new Document(PageSize.A4.rotate(), 50, 50, 50, 50);
-            PdfWriter writer = PdfWriter.getInstance(document, outputStream);
-            document.open();
-
-            // Background
-            try {
-                Image bg = Image.getInstance(getClass().getClassLoader().getResource("static/images/certificate_background.png"));
-                bg.setAbsolutePosition(0, 0);
-                bg.scaleToFit(PageSize.A4.getHeight(), PageSize.A4.getWidth());
-                writer.getDirectContentUnder().addImage(bg);
-            } catch (Exception e) {
-                logger.warn("Background image not found.");
-            }
-
-            // Logo
-            try {
-                Image logo = Image.getInstance(getClass().getClassLoader().getResource("static/images/logo.png"));
-                logo.scaleToFit(180, 180);
-                logo.setAbsolutePosition(50, PageSize.A4.getWidth() - 200);
-                document.add(logo);
-            } catch (Exception e) {
-                logger.warn("Logo image not found.");
-            }
-
-            // Fonts
-            Font titleFont = new Font(Font.FontFamily.HELVETICA, 36, Font.BOLD, new BaseColor(0, 51, 102));
-            Font subtitleFont = new Font(Font.FontFamily.HELVETICA, 24, Font.BOLD);
-            Font contentFont = new Font(Font.FontFamily.HELVETICA, 18);
-            Font smallFont = new Font(Font.FontFamily.HELVETICA, 14, Font.ITALIC, BaseColor.GRAY);
-
-            // Certificate ID
-            String certId = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-            Paragraph idPara = new Paragraph("Certificate No: " + certId, smallFont);
-            idPara.setAlignment(Element.ALIGN_RIGHT);
-            document.add(idPara);
-
-            // Title
-            Paragraph title = new Paragraph("Certificate of Achievement", titleFont);
-            title.setAlignment(Element.ALIGN_CENTER);
-            title.setSpacingBefore(40);
-            document.add(title);
-
-            Paragraph subtitle = new Paragraph("Awarded for Course Completion", subtitleFont);
-            subtitle.setAlignment(Element.ALIGN_CENTER);
-            subtitle.setSpacingAfter(30);
-            document.add(subtitle);
-
-            // Student Info
-            Paragraph awardedTo = new Paragraph("Awarded to: " + student.getFirstname() + " " + student.getLastname(), contentFont);
-            awardedTo.setAlignment(Element.ALIGN_CENTER);
-            awardedTo.setSpacingAfter(15);
-            document.add(awardedTo);
-
-            Paragraph courseName = new Paragraph("Course: " + course.getTitle(), contentFont);
-            courseName.setAlignment(Element.ALIGN_CENTER);
-            courseName.setSpacingAfter(10);
-            document.add(courseName);
-
-            Paragraph completionDate = new Paragraph("Completion Date: " +
-                    LocalDate.now().format(DateTimeFormatter.ofPattern("dd MMMM yyyy")), contentFont);
-            completionDate.setAlignment(Element.ALIGN_CENTER);
-            completionDate.setSpacingAfter(20);
-            document.add(completionDate);
-
-            double progress = calculateCourseProgress(student.getId(), course.getId());
-            String formattedProgress = String.format("%.0f", progress); // Rounds to nearest integer
-            Paragraph message = new Paragraph(
-                    "This certificate confirms that the above-named individual has successfully completed the course with a score of "
-                            + formattedProgress + "%.",
-                    contentFont);
-            message.setAlignment(Element.ALIGN_CENTER);
-            message.setSpacingAfter(30);
-            document.add(message);
-
-            // Signature and "Issued by" on the same line using PdfPTable
-            PdfPTable footerTable = new PdfPTable(2);
-            footerTable.setWidthPercentage(80);
-            footerTable.setWidths(new int[]{2, 3}); // Signature : Text ratio
-
-            // Signature Cell
-            PdfPCell signatureCell = new PdfPCell();
-            signatureCell.setBorder(Rectangle.NO_BORDER);
-            signatureCell.setHorizontalAlignment(Element.ALIGN_LEFT);
-            try {
-                Image sign = Image.getInstance(getClass().getClassLoader().getResource("static/images/signature.png"));
-                sign.scaleToFit(120, 40);
-                signatureCell.addElement(sign);
-            } catch (Exception e) {
-                logger.warn("Signature image not found.");
-            }
-            footerTable.addCell(signatureCell);
-
-            // Text Cell
-            PdfPCell textCell = new PdfPCell(new Phrase("Issued electronically by Educational Platform Ozat", smallFont));
-            textCell.setBorder(Rectangle.NO_BORDER);
-            textCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
-            textCell.setHorizontalAlignment(Element.ALIGN_LEFT);
-            footerTable.addCell(textCell);
-
-            document.add(footerTable);
-
-            // Close
-            document.close();
-        } catch (Exception e) {
-            logger.error("Certificate generation failed", e);
-            throw new RuntimeException("Error generating certificate", e);
-        }
-
-        return outputStream;
+        return imageService.serve(ImageService.COURSES, course.getProfileImagePath(), variant, request);
     }
 
 
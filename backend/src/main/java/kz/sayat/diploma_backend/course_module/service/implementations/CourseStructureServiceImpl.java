@@ -0,0 +1,70 @@
+package kz.sayat.diploma_backend.course_module.service.implementations;
+
+import jakarta.transaction.Transactional;
+import kz.sayat.diploma_backend.course_module.dto.CourseStructure;
+import kz.sayat.diploma_backend.course_module.repository.CourseRepository;
+import kz.sayat.diploma_backend.course_module.repository.LectureRepository;
+import kz.sayat.diploma_backend.course_module.repository.ModuleRepository;
+import kz.sayat.diploma_backend.course_module.repository.projection.CourseHeaderView;
+import kz.sayat.diploma_backend.course_module.repository.projection.LectureSummaryView;
+import kz.sayat.diploma_backend.course_module.repository.projection.ModuleQuizView;
+import kz.sayat.diploma_backend.course_module.service.CourseStructureService;
+import kz.sayat.diploma_backend.util.cache.CacheNames;
+import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CourseStructureServiceImpl implements CourseStructureService {
+
+    private final CourseRepository courseRepository;
+    private final ModuleRepository moduleRepository;
+    private final LectureRepository lectureRepository;
+
+    @Override
+    @Cacheable(cacheNames = CacheNames.COURSE_STRUCTURE, key = "#courseId")
+    public CourseStructure getCourseStructure(int courseId) {
+        CourseHeaderView header = courseRepository.findHeaderById(courseId)
+            .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
+
+        Map<Integer, String> moduleTitles = new LinkedHashMap<>();
+        Map<Integer, List<CourseStructure.Quiz>> quizzes = new LinkedHashMap<>();
+        for (ModuleQuizView row : moduleRepository.findModuleQuizzesByCourseId(courseId)) {
+            moduleTitles.putIfAbsent(row.getModuleId(), row.getModuleTitle());
+            List<CourseStructure.Quiz> moduleQuizzes =
+                quizzes.computeIfAbsent(row.getModuleId(), id -> new ArrayList<>());
+            if (row.getQuizId() != null) {
+                moduleQuizzes.add(new CourseStructure.Quiz(row.getQuizId(), row.getQuizTitle(),
+                    row.getPassingScore(), row.getDurationInMinutes(), row.getQuestionCount()));
+            }
+        }
+
+        Map<Integer, List<CourseStructure.Lecture>> lectures = new LinkedHashMap<>();
+        for (LectureSummaryView row : lectureRepository.findSummariesByCourseId(courseId)) {
+            lectures.computeIfAbsent(row.getModuleId(), id -> new ArrayList<>())
+                .add(new CourseStructure.Lecture(row.getId(), row.getTitle(), row.getUrl()));
+        }
+
+        List<CourseStructure.Module> modules = moduleTitles.entrySet().stream()
+            .map(entry -> new CourseStructure.Module(entry.getKey(), entry.getValue(),
+                List.copyOf(quizzes.get(entry.getKey())),
+                List.copyOf(lectures.getOrDefault(entry.getKey(), List.of()))))
+            .toList();
+
+        CourseStructure.Teacher teacher = header.getTeacherId() == null ? null
+            : new CourseStructure.Teacher(header.getTeacherId(), header.getTeacherEmail(),
+                header.getTeacherFirstname(), header.getTeacherLastname(), header.getTeacherBio(),
+                header.getTeacherProfileImagePath());
+
+        return new CourseStructure(header.getId(), header.getTitle(), header.getDescription(),
+            Boolean.TRUE.equals(header.getIsPublic()), teacher, modules);
+    }
+}
@@ -0,0 +1,46 @@
+package kz.sayat.diploma_backend.course_module.service.implementations;
+
+import jakarta.transaction.Transactional;
+import kz.sayat.diploma_backend.course_module.events.CourseCompletedEvent;
+import kz.sayat.diploma_backend.course_module.events.CourseStructureChangedEvent;
+import kz.sayat.diploma_backend.course_module.events.StudentProgressEvent;
+import kz.sayat.diploma_backend.course_module.repository.EnrollmentRepository;
+import kz.sayat.diploma_backend.course_module.service.EnrollmentProgressService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class EnrollmentProgressServiceImpl implements EnrollmentProgressService {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void refreshProgress(int studentId, int courseId) {
+        enrollmentRepository.refreshProgress(courseId, studentId);
+        if (enrollmentRepository.isCompletedWithoutCertificate(studentId, courseId)) {
+            eventPublisher.publishEvent(new CourseCompletedEvent(studentId, courseId));
+        }
+    }
+
+    @Override
+    public void refreshCourseProgress(int courseId) {
+        enrollmentRepository.refreshProgress(courseId, null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void onStudentProgress(StudentProgressEvent event) {
+        refreshProgress(event.studentId(), event.courseId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void onCourseStructureChanged(CourseStructureChangedEvent event) {
+        refreshCourseProgress(event.courseId());
+    }
+}
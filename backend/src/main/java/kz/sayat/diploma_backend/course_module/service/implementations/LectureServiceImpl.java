@@ -6,6 +6,9 @@ import kz.sayat.diploma_backend.auth_module.models.User;
 import kz.sayat.diploma_backend.auth_module.models.enums.UserRole;
 import kz.sayat.diploma_backend.auth_module.security.MyUserDetails;
 import kz.sayat.diploma_backend.course_module.dto.LectureDto;
+import kz.sayat.diploma_backend.course_module.events.CourseContentEditedEvent;
+import kz.sayat.diploma_backend.course_module.events.CourseStructureChangedEvent;
+import kz.sayat.diploma_backend.course_module.events.StudentProgressEvent;
 import kz.sayat.diploma_backend.course_module.mapper.LectureMapper;
 import kz.sayat.diploma_backend.course_module.models.Lecture;
 import kz.sayat.diploma_backend.course_module.models.LectureView;
@@ -17,6 +20,7 @@ import kz.sayat.diploma_backend.course_module.service.LectureService;
 import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
 import kz.sayat.diploma_backend.util.exceptions.UnauthorizedException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -24,6 +28,7 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 @Service
 @Transactional
@@ -34,6 +39,7 @@ public class LectureServiceImpl implements LectureService {
     private final ModuleRepository moduleRepository;
     private final LectureMapper mapper;
     private final LectureViewRepository lectureViewRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @PreAuthorize("hasRole('TEACHER')")
@@ -44,6 +50,7 @@ public class LectureServiceImpl implements LectureService {
         lecture.setModule(module);
 
         lectureRepository.save(lecture);
+        eventPublisher.publishEvent(new CourseStructureChangedEvent(module.getCourse().getId()));
         return mapper.toLectureDto(lecture);
     }
 
@@ -61,7 +68,7 @@ public class LectureServiceImpl implements LectureService {
         LectureDto lectureDto = mapper.toLectureDto(lecture);
 
         if (auth != null && auth.isAuthenticated() && auth.getPrincipal() instanceof MyUserDetails userDetails
-                && userDetails.getUser().getRole() == UserRole.STUDENT) {
+                && userDetails.getRole() == UserRole.STUDENT) {
             Student student = (Student) userDetails.getUser();
             boolean viewed = lectureViewRepository.existsByStudentIdAndLectureId(student.getId(), id);
             lectureDto.setViewed(viewed);
@@ -82,7 +89,9 @@ public class LectureServiceImpl implements LectureService {
     @Override
     @PreAuthorize("hasRole('TEACHER')")
     public void deleteLecture(int id) {
+        Optional<Integer> courseId = lectureRepository.findCourseIdById(id);
         lectureRepository.deleteById(id);
+        courseId.ifPresent(value -> eventPublisher.publishEvent(new CourseStructureChangedEvent(value)));
     }
 
     @Override
@@ -93,6 +102,7 @@ public class LectureServiceImpl implements LectureService {
 
         lecture.setTitle(dto.getTitle());
         lecture.setUrl(dto.getUrl());
+        eventPublisher.publishEvent(new CourseContentEditedEvent(lecture.getModule().getCourse().getId()));
 
         return mapper.toLectureDto(lecture);
     }
@@ -110,6 +120,8 @@ public class LectureServiceImpl implements LectureService {
             lectureView.setViewedAt(LocalDateTime.now());
 
             lectureViewRepository.save(lectureView);
+            eventPublisher.publishEvent(new StudentProgressEvent(student.getId(),
+                lecture.getModule().getCourse().getId()));
         }
     }
 
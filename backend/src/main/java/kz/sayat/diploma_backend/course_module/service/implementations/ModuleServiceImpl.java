@@ -5,6 +5,8 @@ import jakarta.transaction.Transactional;
 import kz.sayat.diploma_backend.course_module.dto.LectureDto;
 import kz.sayat.diploma_backend.course_module.dto.ModuleDto;
 import kz.sayat.diploma_backend.course_module.dto.QuizSummaryDto;
+import kz.sayat.diploma_backend.course_module.events.CourseContentEditedEvent;
+import kz.sayat.diploma_backend.course_module.events.CourseStructureChangedEvent;
 import kz.sayat.diploma_backend.course_module.mapper.ModuleMapper;
 import kz.sayat.diploma_backend.course_module.models.Course;
 import kz.sayat.diploma_backend.course_module.models.Module;
@@ -14,11 +16,13 @@ import kz.sayat.diploma_backend.course_module.service.ModuleService;
 import kz.sayat.diploma_backend.quiz_module.service.implementation.QuizServiceImpl;
 import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 @Service
 @Transactional
@@ -30,7 +34,7 @@ public class ModuleServiceImpl implements ModuleService {
     private final CourseRepository courseRepository;
     private final QuizServiceImpl quizService;
     private final LectureServiceImpl lectureService;
-    private final ModuleMapper moduleMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @PreAuthorize("hasRole('TEACHER')")
@@ -40,7 +44,9 @@ public class ModuleServiceImpl implements ModuleService {
         Module module = mapper.toModule(dto);
         module.setCourse(course);
 
-        return moduleMapper.toModuleDto(moduleRepository.save(module));
+        ModuleDto saved = mapper.toModuleDto(moduleRepository.save(module));
+        eventPublisher.publishEvent(new CourseStructureChangedEvent(course.getId()));
+        return saved;
     }
 
     @Override
@@ -63,7 +69,9 @@ public class ModuleServiceImpl implements ModuleService {
         if(!moduleRepository.existsById(moduleId)) {
             throw new ResourceNotFoundException("Module with ID " + moduleId + " not found");
         }
+        Optional<Integer> courseId = moduleRepository.findCourseIdById(moduleId);
         moduleRepository.deleteById(moduleId);
+        courseId.ifPresent(value -> eventPublisher.publishEvent(new CourseStructureChangedEvent(value)));
 
     }
 
@@ -76,5 +84,6 @@ public class ModuleServiceImpl implements ModuleService {
         module.setTitle(dto.getTitle());
 
         moduleRepository.save(module);
+        eventPublisher.publishEvent(new CourseContentEditedEvent(module.getCourse().getId()));
     }
 }
@@ -0,0 +1,60 @@
+package kz.sayat.diploma_backend.course_module.service.implementations;
+
+import jakarta.transaction.Transactional;
+import kz.sayat.diploma_backend.course_module.dto.CourseProgressDto;
+import kz.sayat.diploma_backend.course_module.repository.ModuleRepository;
+import kz.sayat.diploma_backend.course_module.repository.projection.ModuleProgressView;
+import kz.sayat.diploma_backend.course_module.service.ProgressService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ProgressServiceImpl implements ProgressService {
+
+    private final ModuleRepository moduleRepository;
+
+    @Override
+    public CourseProgressDto getCourseProgress(int studentId, int courseId) {
+        return getCoursesProgress(studentId, List.of(courseId)).get(courseId);
+    }
+
+    @Override
+    public Map<Integer, CourseProgressDto> getCoursesProgress(int studentId, Collection<Integer> courseIds) {
+        Map<Integer, CourseProgressDto> result = new HashMap<>();
+        if (courseIds.isEmpty()) {
+            return result;
+        }
+
+        for (Integer courseId : courseIds) {
+            result.put(courseId, new CourseProgressDto(courseId, 0, false, new LinkedHashMap<>()));
+        }
+
+        Map<Integer, Boolean> allQuizzesPassed = new HashMap<>();
+        for (ModuleProgressView row : moduleRepository.findModuleProgress(studentId, courseIds)) {
+            CourseProgressDto course = result.get(row.getCourseId());
+            course.getModuleProgress().put(row.getModuleId(), calculateModuleProgress(row));
+            allQuizzesPassed.merge(row.getCourseId(),
+                row.getPassedQuizzes().equals(row.getTotalQuizzes()), Boolean::logicalAnd);
+        }
+
+        for (CourseProgressDto course : result.values()) {
+            Collection<Double> modules = course.getModuleProgress().values();
+            course.setProgress(modules.stream().mapToDouble(Double::doubleValue).average().orElse(0));
+            course.setCompleted(allQuizzesPassed.getOrDefault(course.getCourseId(), false));
+        }
+        return result;
+    }
+
+    private double calculateModuleProgress(ModuleProgressView row) {
+        long totalItems = row.getTotalLectures() + row.getTotalQuizzes();
+        if (totalItems == 0) {
+            return 0.0;
+        }
+        long completedItems = row.getViewedLectures() + row.getPassedQuizzes();
+        return ((double) completedItems / totalItems) * 100.0;
+    }
+}
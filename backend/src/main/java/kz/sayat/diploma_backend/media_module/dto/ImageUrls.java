@@ -0,0 +1,31 @@
+package kz.sayat.diploma_backend.media_module.dto;
+
+import kz.sayat.diploma_backend.media_module.models.enums.ImageVariantSize;
+
+import java.io.Serializable;
+
+/**
+ * Links to an uploaded image and its resized variants. The {@code v} parameter changes with every upload, so a
+ * browser never keeps showing a replaced picture.
+ */
+public record ImageUrls(String original, String thumb, String medium) implements Serializable {
+
+    public static ImageUrls forCourse(int courseId, String filename) {
+        return of("/api/courses/profile/image/" + courseId, filename);
+    }
+
+    public static ImageUrls forTeacher(int teacherId, String filename) {
+        return of("/api/teachers/profile/image/" + teacherId, filename);
+    }
+
+    public static ImageUrls of(String endpoint, String filename) {
+        if (filename == null) {
+            return null;
+        }
+        String version = "v=" + filename.substring(0, Math.min(12, filename.length()))
+            .replaceAll("[^A-Za-z0-9-]", "");
+        return new ImageUrls(endpoint + "?" + version,
+            endpoint + "?variant=" + ImageVariantSize.THUMB.getKey() + "&" + version,
+            endpoint + "?variant=" + ImageVariantSize.MEDIUM.getKey() + "&" + version);
+    }
+}
@@ -0,0 +1,4 @@
+package kz.sayat.diploma_backend.media_module.events;
+
+public record ImageStoredEvent(int imageId) {
+}
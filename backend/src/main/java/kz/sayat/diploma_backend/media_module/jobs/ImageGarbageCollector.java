@@ -0,0 +1,31 @@
+package kz.sayat.diploma_backend.media_module.jobs;
+
+import kz.sayat.diploma_backend.media_module.service.ImageService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+@RequiredArgsConstructor
+public class ImageGarbageCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageGarbageCollector.class);
+
+    private final ImageService imageService;
+
+    @Scheduled(cron = "${images.gc-cron:0 30 3 * * *}")
+    public void collect() {
+        try {
+            int removed = imageService.collectOrphans();
+            if (removed > 0) {
+                logger.info("Removed {} orphaned images", removed);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to collect orphaned images", e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package kz.sayat.diploma_backend.media_module.jobs;
+
+import jakarta.annotation.PreDestroy;
+import kz.sayat.diploma_backend.media_module.events.ImageStoredEvent;
+import kz.sayat.diploma_backend.media_module.service.ImageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates image variants off the request thread once the upload has committed. Images whose variants were
+ * never generated (older uploads, or work lost on shutdown) are picked up by the periodic backfill.
+ */
+@Component
+public class ImageVariantWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageVariantWorker.class);
+
+    private final ImageService imageService;
+    private final int backfillBatchSize;
+    private final ThreadPoolExecutor executor;
+    private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantWorker(ImageService imageService,
+                              @Value("${images.variants.workers:2}") int workers,
+                              @Value("${images.variants.backfill-batch-size:50}") int backfillBatchSize) {
+        this.imageService = imageService;
+        this.backfillBatchSize = backfillBatchSize;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), new CustomizableThreadFactory("image-variants-"));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageStored(ImageStoredEvent event) {
+        submit(event.imageId());
+    }
+
+    @Scheduled(fixedDelayString = "${images.variants.backfill-interval-ms:300000}")
+    public void backfill() {
+        if (!executor.getQueue().isEmpty()) {
+            return;
+        }
+        imageService.findImagesWithoutVariants(backfillBatchSize).forEach(this::submit);
+    }
+
+    void process(int imageId) {
+        try {
+            imageService.generateVariants(imageId);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to generate variants for image {}", imageId, e);
+        } finally {
+            pending.remove(imageId);
+        }
+    }
+
+    private void submit(int imageId) {
+        if (!pending.add(imageId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> process(imageId));
+        } catch (RejectedExecutionException e) {
+            pending.remove(imageId);
+            logger.warn("Image {} was not queued for variants, the backfill will retry it", imageId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
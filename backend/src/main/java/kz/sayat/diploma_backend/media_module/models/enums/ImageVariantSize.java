@@ -0,0 +1,26 @@
+package kz.sayat.diploma_backend.media_module.models.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ImageVariantSize {
+    THUMB("thumb", 320),
+    MEDIUM("medium", 960);
+
+    private final String key;
+    private final int maxEdge;
+
+    ImageVariantSize(String key, int maxEdge) {
+        this.key = key;
+        this.maxEdge = maxEdge;
+    }
+
+    public static ImageVariantSize fromKey(String key) {
+        for (ImageVariantSize size : values()) {
+            if (size.key.equalsIgnoreCase(key)) {
+                return size;
+            }
+        }
+        throw new IllegalArgumentException("Invalid image variant: " + key);
+    }
+}
@@ -0,0 +1,35 @@
+package kz.sayat.diploma_backend.media_module.repository;
+
+import kz.sayat.diploma_backend.media_module.models.ImageVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ImageVariantRepository extends JpaRepository<ImageVariant, Integer> {
+
+    List<ImageVariant> findByImageId(int imageId);
+
+    List<ImageVariant> findByImageIdAndName(int imageId, String name);
+
+    @Query("""
+        SELECT v.filename FROM ImageVariant v, StoredImage i
+        WHERE v.imageId = i.id AND i.directory = :directory
+        """)
+    List<String> findFilenamesByDirectory(@Param("directory") String directory);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO image_variants (image_id, name, filename, content_type, size_bytes, sha256, width, height)
+        VALUES (:imageId, :name, :filename, :contentType, :sizeBytes, :sha256, :width, :height)
+        ON CONFLICT (image_id, name, content_type) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("imageId") int imageId, @Param("name") String name,
+                       @Param("filename") String filename, @Param("contentType") String contentType,
+                       @Param("sizeBytes") long sizeBytes, @Param("sha256") String sha256,
+                       @Param("width") int width, @Param("height") int height);
+}
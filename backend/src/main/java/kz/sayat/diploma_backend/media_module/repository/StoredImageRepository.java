@@ -0,0 +1,55 @@
+package kz.sayat.diploma_backend.media_module.repository;
+
+import kz.sayat.diploma_backend.media_module.models.StoredImage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredImageRepository extends JpaRepository<StoredImage, Integer> {
+
+    Optional<StoredImage> findByDirectoryAndFilename(String directory, String filename);
+
+    Optional<StoredImage> findFirstByDirectoryAndSha256OrderById(String directory, String sha256);
+
+    @Query("SELECT i.id FROM StoredImage i WHERE i.variantsAt IS NULL ORDER BY i.id")
+    List<Integer> findIdsWithoutVariants(Pageable pageable);
+
+    @Query("SELECT i.filename FROM StoredImage i WHERE i.directory = :directory")
+    List<String> findFilenamesByDirectory(@Param("directory") String directory);
+
+    @Query(value = """
+        SELECT profile_image_path FROM courses WHERE :directory = 'courses' AND profile_image_path IS NOT NULL
+        UNION
+        SELECT profile_image_path FROM teachers WHERE :directory = 'teachers' AND profile_image_path IS NOT NULL
+        """, nativeQuery = true)
+    List<String> findReferencedFilenames(@Param("directory") String directory);
+
+    @Query(value = """
+        SELECT i.* FROM stored_images i
+        WHERE i.created_at < :before
+          AND NOT (i.directory = 'courses'
+                   AND EXISTS (SELECT 1 FROM courses c WHERE c.profile_image_path = i.filename))
+          AND NOT (i.directory = 'teachers'
+                   AND EXISTS (SELECT 1 FROM teachers t WHERE t.profile_image_path = i.filename))
+        ORDER BY i.id
+        """, nativeQuery = true)
+    List<StoredImage> findUnreferencedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO stored_images (directory, filename, content_type, size_bytes, sha256, created_at)
+        VALUES (:directory, :filename, :contentType, :sizeBytes, :sha256, :createdAt)
+        ON CONFLICT (directory, filename) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("directory") String directory, @Param("filename") String filename,
+                       @Param("contentType") String contentType, @Param("sizeBytes") long sizeBytes,
+                       @Param("sha256") String sha256, @Param("createdAt") LocalDateTime createdAt);
+}
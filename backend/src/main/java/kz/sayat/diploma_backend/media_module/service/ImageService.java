@@ -0,0 +1,30 @@
+package kz.sayat.diploma_backend.media_module.service;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface ImageService {
+
+    String COURSES = "courses";
+    String TEACHERS = "teachers";
+
+    String store(String directory, MultipartFile file) throws IOException;
+
+    default ResponseEntity<Resource> serve(String directory, String filename, ServletWebRequest request) throws IOException {
+        return serve(directory, filename, null, request);
+    }
+
+    ResponseEntity<Resource> serve(String directory, String filename, String variant, ServletWebRequest request)
+        throws IOException;
+
+    List<Integer> findImagesWithoutVariants(int limit);
+
+    void generateVariants(int imageId) throws IOException;
+
+    int collectOrphans() throws IOException;
+}
@@ -0,0 +1,389 @@
+package kz.sayat.diploma_backend.media_module.service.implementation;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.transaction.Transactional;
+import kz.sayat.diploma_backend.media_module.events.ImageStoredEvent;
+import kz.sayat.diploma_backend.media_module.models.ImageVariant;
+import kz.sayat.diploma_backend.media_module.models.StoredImage;
+import kz.sayat.diploma_backend.media_module.models.enums.ImageVariantSize;
+import kz.sayat.diploma_backend.media_module.repository.ImageVariantRepository;
+import kz.sayat.diploma_backend.media_module.repository.StoredImageRepository;
+import kz.sayat.diploma_backend.media_module.service.ImageService;
+import kz.sayat.diploma_backend.media_module.variants.ImageVariantRenderer;
+import kz.sayat.diploma_backend.media_module.variants.RenderedVariant;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Uploaded images, stored once per content hash with their content type, size and SHA-256 recorded at upload.
+ * Resized variants are generated in the background and picked by the {@code Accept} header when requested.
+ * Serving answers conditional requests from the stored record and hands the file body to the container
+ * ({@code sendfile}) or to nginx ({@code X-Accel-Redirect}) instead of copying it through the heap.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ImageServiceImpl implements ImageService {
+
+    public enum Delivery { SENDFILE, ACCEL_REDIRECT, STREAM }
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageServiceImpl.class);
+    private static final int HEADER_BYTES = 12;
+
+    private final StoredImageRepository storedImageRepository;
+    private final ImageVariantRepository imageVariantRepository;
+    private final ImageVariantRenderer imageVariantRenderer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${images.root:uploads}")
+    private String root;
+
+    @Value("${images.delivery:SENDFILE}")
+    private Delivery delivery;
+
+    @Value("${images.accel-redirect-prefix:/internal/uploads/}")
+    private String accelRedirectPrefix;
+
+    @Value("${images.max-age-seconds:300}")
+    private long maxAgeSeconds;
+
+    @Value("${images.max-upload-bytes:5242880}")
+    private long maxUploadBytes;
+
+    @Value("${images.orphan-grace-hours:24}")
+    private long orphanGraceHours;
+
+    @Override
+    public String store(String directory, MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Image file is empty");
+        }
+        if (file.getSize() > maxUploadBytes) {
+            throw new IllegalArgumentException("Image is larger than " + maxUploadBytes + " bytes");
+        }
+        Path uploadPath = Paths.get(root, directory);
+        Files.createDirectories(uploadPath);
+
+        Path temp = Files.createTempFile(uploadPath, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                size = in.transferTo(out);
+            }
+            String contentType = contentType(temp);
+            if (!contentType.startsWith("image/")) {
+                throw new IllegalArgumentException("Only image files can be uploaded");
+            }
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+            Optional<StoredImage> existing = storedImageRepository.findFirstByDirectoryAndSha256OrderById(directory, sha256);
+            if (existing.isPresent() && Files.isRegularFile(uploadPath.resolve(existing.get().getFilename()))) {
+                existing.get().setCreatedAt(now);
+                logger.info("Image already stored: {}", existing.get().getFilename());
+                return existing.get().getFilename();
+            }
+
+            String filename = sha256 + "." + extension(contentType);
+            Path filePath = uploadPath.resolve(filename);
+            Files.move(temp, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            storedImageRepository.insertIfAbsent(directory, filename, contentType, size, sha256, now);
+            StoredImage image = storedImageRepository.findByDirectoryAndFilename(directory, filename)
+                .orElseThrow(() -> new IllegalStateException("Image metadata was not stored for " + filename));
+            eventPublisher.publishEvent(new ImageStoredEvent(image.getId()));
+            logger.info("Image saved: {}", filePath.toAbsolutePath());
+            return filename;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public ResponseEntity<Resource> serve(String directory, String filename, String variant, ServletWebRequest request)
+        throws IOException {
+        ImageVariantSize size = variant == null || variant.isBlank() ? null : ImageVariantSize.fromKey(variant);
+        Optional<StoredImage> stored = storedImageRepository.findByDirectoryAndFilename(directory, filename);
+        StoredImage image = stored.isPresent() ? stored.get() : describe(directory, filename);
+
+        Served served = new Served(image.getFilename(), image.getContentType(), image.getSizeBytes(),
+            image.getSha256(), image.getCreatedAt());
+        if (size != null) {
+            Optional<ImageVariant> chosen = chooseVariant(image, size, request);
+            if (chosen.isPresent()) {
+                ImageVariant found = chosen.get();
+                served = new Served(found.getFilename(), found.getContentType(), found.getSizeBytes(),
+                    found.getSha256(), image.getVariantsAt() != null ? image.getVariantsAt() : image.getCreatedAt());
+            }
+        }
+        return respond(directory, served, size != null, request);
+    }
+
+    @Override
+    public List<Integer> findImagesWithoutVariants(int limit) {
+        return storedImageRepository.findIdsWithoutVariants(PageRequest.of(0, limit));
+    }
+
+    @Override
+    public void generateVariants(int imageId) throws IOException {
+        Optional<StoredImage> stored = storedImageRepository.findById(imageId);
+        if (stored.isEmpty()) {
+            return;
+        }
+        StoredImage image = stored.get();
+        Path directory = Paths.get(root, image.getDirectory());
+        Path source = directory.resolve(image.getFilename());
+        BufferedImage decoded = Files.isRegularFile(source) ? imageVariantRenderer.read(source) : null;
+        if (decoded == null) {
+            logger.warn("Image {} cannot be decoded, only the original will be served", source);
+        } else {
+            String base = image.getFilename().replaceFirst("\\.[^.]*$", "");
+            for (ImageVariantSize size : ImageVariantSize.values()) {
+                for (RenderedVariant rendered : imageVariantRenderer.render(decoded, size)) {
+                    String filename = base + "-" + size.getKey() + "." + rendered.extension();
+                    write(directory, filename, rendered.bytes());
+                    imageVariantRepository.insertIfAbsent(image.getId(), size.getKey(), filename,
+                        rendered.contentType(), rendered.bytes().length, HexFormat.of().formatHex(
+                            sha256().digest(rendered.bytes())), rendered.width(), rendered.height());
+                }
+            }
+        }
+        image.setVariantsAt(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    /**
+     * Deletes images that no course or teacher has referenced for the grace period, then any file on disk that
+     * is neither recorded nor referenced. Replaced uploads are never deleted eagerly because identical content
+     * may be shared by several owners.
+     */
+    @Override
+    public int collectOrphans() throws IOException {
+        LocalDateTime before = LocalDateTime.now().minusHours(orphanGraceHours);
+        int removed = 0;
+        for (StoredImage image : storedImageRepository.findUnreferencedBefore(before)) {
+            List<ImageVariant> variants = imageVariantRepository.findByImageId(image.getId());
+            storedImageRepository.delete(image);
+            for (ImageVariant variant : variants) {
+                Files.deleteIfExists(Paths.get(root, image.getDirectory()).resolve(variant.getFilename()));
+            }
+            Files.deleteIfExists(Paths.get(root, image.getDirectory()).resolve(image.getFilename()));
+            removed++;
+        }
+        for (String directory : List.of(COURSES, TEACHERS)) {
+            removed += sweep(directory, before.atZone(ZoneId.systemDefault()).toInstant());
+        }
+        return removed;
+    }
+
+    private int sweep(String directory, Instant before) throws IOException {
+        Path path = Paths.get(root, directory);
+        if (!Files.isDirectory(path)) {
+            return 0;
+        }
+        Set<String> known = new HashSet<>(storedImageRepository.findFilenamesByDirectory(directory));
+        known.addAll(imageVariantRepository.findFilenamesByDirectory(directory));
+        known.addAll(storedImageRepository.findReferencedFilenames(directory));
+
+        int removed = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(path)) {
+            for (Path file : files) {
+                if (Files.isRegularFile(file) && !known.contains(file.getFileName().toString())
+                    && Files.getLastModifiedTime(file).toInstant().isBefore(before)) {
+                    Files.deleteIfExists(file);
+                    logger.info("Orphaned image file deleted: {}", file.toAbsolutePath());
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    private Optional<ImageVariant> chooseVariant(StoredImage image, ImageVariantSize size, ServletWebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        boolean webp = accept != null && accept.contains("image/webp");
+        List<ImageVariant> variants = imageVariantRepository.findByImageIdAndName(image.getId(), size.getKey());
+        Optional<ImageVariant> preferred = variants.stream()
+            .filter(variant -> webp && "image/webp".equals(variant.getContentType()))
+            .findFirst();
+        return preferred.isPresent() ? preferred : variants.stream()
+            .filter(variant -> !"image/webp".equals(variant.getContentType()))
+            .findFirst();
+    }
+
+    private ResponseEntity<Resource> respond(String directory, Served served, boolean negotiated,
+                                             ServletWebRequest request) throws IOException {
+        Path path = Paths.get(root, directory).resolve(served.filename());
+        String etag = "\"" + served.sha256() + "\"";
+        long lastModified = served.modifiedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setLastModified(lastModified);
+        headers.setCacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePrivate());
+        if (negotiated) {
+            headers.setVary(List.of(HttpHeaders.ACCEPT));
+        }
+
+        if (request.checkNotModified(etag, lastModified)) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+        headers.setContentType(MediaType.parseMediaType(served.contentType()));
+
+        if (delivery == Delivery.ACCEL_REDIRECT) {
+            headers.set("X-Accel-Redirect", accelRedirectPrefix + directory + "/"
+                + UriUtils.encodePathSegment(served.filename(), StandardCharsets.UTF_8));
+            return new ResponseEntity<>(headers, HttpStatus.OK);
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new FileNotFoundException("Файл не найден: " + path);
+        }
+        HttpServletRequest servletRequest = request.getRequest();
+        if (delivery == Delivery.SENDFILE && Boolean.TRUE.equals(servletRequest.getAttribute(SENDFILE_SUPPORT))) {
+            servletRequest.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            servletRequest.setAttribute(SENDFILE_START, 0L);
+            servletRequest.setAttribute(SENDFILE_END, served.sizeBytes());
+            headers.setContentLength(served.sizeBytes());
+            return new ResponseEntity<>(headers, HttpStatus.OK);
+        }
+        return new ResponseEntity<>(new FileSystemResource(path), headers, HttpStatus.OK);
+    }
+
+    /**
+     * Records a file uploaded before image metadata existed, so it is hashed and probed only once, and queues
+     * its variants.
+     */
+    private StoredImage describe(String directory, String filename) throws IOException {
+        Path path = Paths.get(root, directory).resolve(filename);
+        if (!Files.isRegularFile(path)) {
+            throw new FileNotFoundException("Файл не найден: " + path);
+        }
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        LocalDateTime modified = LocalDateTime.ofInstant(Files.getLastModifiedTime(path).toInstant(),
+            ZoneId.systemDefault()).truncatedTo(ChronoUnit.SECONDS);
+        int inserted = storedImageRepository.insertIfAbsent(directory, filename, contentType(path), Files.size(path),
+            HexFormat.of().formatHex(digest.digest()), modified);
+        StoredImage image = storedImageRepository.findByDirectoryAndFilename(directory, filename)
+            .orElseThrow(() -> new IllegalStateException("Image metadata was not stored for " + filename));
+        if (inserted > 0) {
+            eventPublisher.publishEvent(new ImageStoredEvent(image.getId()));
+        }
+        return image;
+    }
+
+    private static void write(Path directory, String filename, byte[] content) throws IOException {
+        Path temp = Files.createTempFile(directory, "variant-", ".tmp");
+        try {
+            Files.write(temp, content);
+            Files.move(temp, directory.resolve(filename), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String contentType(Path path) throws IOException {
+        String contentType;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            in.mark(HEADER_BYTES);
+            contentType = sniffModernFormat(in.readNBytes(HEADER_BYTES));
+            in.reset();
+            if (contentType == null) {
+                contentType = URLConnection.guessContentTypeFromStream(in);
+            }
+        }
+        if (contentType == null) {
+            contentType = Files.probeContentType(path);
+        }
+        return contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    }
+
+    /**
+     * Recognises the WebP and AVIF signatures, which {@link URLConnection} does not know about. HEIC shares the AVIF
+     * container but is left unrecognised, since neither ImageIO nor most browsers can decode it.
+     */
+    private static String sniffModernFormat(byte[] header) {
+        if (header.length < HEADER_BYTES) {
+            return null;
+        }
+        String fourCc = new String(header, 0, 4, StandardCharsets.US_ASCII);
+        String format = new String(header, 8, 4, StandardCharsets.US_ASCII);
+        if ("RIFF".equals(fourCc) && "WEBP".equals(format)) {
+            return "image/webp";
+        }
+        if ("ftyp".equals(new String(header, 4, 4, StandardCharsets.US_ASCII))) {
+            return switch (format) {
+                case "avif", "avis" -> "image/avif";
+                default -> null;
+            };
+        }
+        return null;
+    }
+
+    private static String extension(String contentType) {
+        String subtype = contentType.substring(contentType.indexOf('/') + 1).toLowerCase();
+        return "jpeg".equals(subtype) ? "jpg" : subtype.replaceAll("[^a-z0-9]", "");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Served(String filename, String contentType, long sizeBytes, String sha256,
+                          LocalDateTime modifiedAt) {
+    }
+}
@@ -0,0 +1,128 @@
+package kz.sayat.diploma_backend.media_module.variants;
+
+import kz.sayat.diploma_backend.media_module.models.enums.ImageVariantSize;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Decodes uploaded images and re-encodes them at the catalog sizes: JPEG for opaque images, PNG when there is
+ * transparency, and additionally WebP when an ImageIO WebP writer is on the classpath.
+ */
+@Component
+public class ImageVariantRenderer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageVariantRenderer.class);
+
+    private static final float QUALITY = 0.8f;
+    private static final String WEBP = "image/webp";
+
+    private final boolean webpAvailable = ImageIO.getImageWritersByMIMEType(WEBP).hasNext();
+
+    @Value("${images.variants.max-pixels:40000000}")
+    private long maxPixels;
+
+    /**
+     * Returns {@code null} when the file is not a decodable image or its declared dimensions exceed the pixel
+     * budget, which is checked before any pixel data is read.
+     */
+    public BufferedImage read(Path path) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    logger.warn("Image {} has {} pixels, more than the limit of {}", path, pixels, maxPixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    public List<RenderedVariant> render(BufferedImage source, ImageVariantSize size) throws IOException {
+        double scale = Math.min(1.0, (double) size.getMaxEdge() / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        boolean alpha = source.getColorModel().hasAlpha();
+        BufferedImage scaled = scale(source, width, height,
+            alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+        List<RenderedVariant> variants = new ArrayList<>();
+        variants.add(alpha ? encode(scaled, "png", "image/png") : encode(scaled, "jpg", "image/jpeg"));
+        if (webpAvailable) {
+            variants.add(encode(scaled, "webp", WEBP));
+        }
+        return variants;
+    }
+
+    /**
+     * Halves the image until it is within a factor of two of the target, so bilinear filtering never skips
+     * source pixels and large photos do not alias.
+     */
+    private static BufferedImage scale(BufferedImage source, int width, int height, int type) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    private static RenderedVariant encode(BufferedImage image, String extension, String contentType) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByMIMEType(contentType).next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed() && !"image/png".equals(contentType)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null && param.getCompressionTypes() != null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(QUALITY);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return new RenderedVariant(extension, contentType, out.toByteArray(), image.getWidth(), image.getHeight());
+    }
+}
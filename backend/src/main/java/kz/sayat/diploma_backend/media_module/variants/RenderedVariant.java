@@ -0,0 +1,4 @@
+package kz.sayat.diploma_backend.media_module.variants;
+
+public record RenderedVariant(String extension, String contentType, byte[] bytes, int width, int height) {
+}
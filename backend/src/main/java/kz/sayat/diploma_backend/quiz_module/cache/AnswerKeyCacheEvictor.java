@@ -0,0 +1,20 @@
+package kz.sayat.diploma_backend.quiz_module.cache;
+
+import kz.sayat.diploma_backend.quiz_module.events.QuizAnswersChangedEvent;
+import kz.sayat.diploma_backend.util.cache.CacheInvalidator;
+import kz.sayat.diploma_backend.util.cache.CacheNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class AnswerKeyCacheEvictor {
+
+    private final CacheInvalidator cacheInvalidator;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizAnswersChanged(QuizAnswersChangedEvent event) {
+        cacheInvalidator.evict(CacheNames.ANSWER_KEYS, event.quizId());
+    }
+}
@@ -0,0 +1,130 @@
+package kz.sayat.diploma_backend.quiz_module.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.transaction.Transactional;
+import kz.sayat.diploma_backend.quiz_module.repository.FeedbackCacheRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Two-tier store of LLM feedback keyed by a fingerprint of everything that shapes the prompt:
+ * an in-memory LRU in front of the {@code feedback_cache} table. Hits are counted in memory and
+ * written to the table by {@link #flushHits()}.
+ */
+@Component
+public class FeedbackResponseCache {
+
+    private final FeedbackCacheRepository feedbackCacheRepository;
+    private final Cache<String, LlmResponse> memory;
+    private final Map<String, PendingHits> pendingHits = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Counter savedTokens;
+    private final Timer savedLatency;
+
+    public FeedbackResponseCache(FeedbackCacheRepository feedbackCacheRepository,
+                                 @Value("${feedback.cache.max-entries:10000}") long maxEntries,
+                                 MeterRegistry meterRegistry) {
+        this.feedbackCacheRepository = feedbackCacheRepository;
+        this.memory = Caffeine.newBuilder().maximumSize(maxEntries).recordStats().build();
+        this.meterRegistry = meterRegistry;
+        this.savedTokens = Counter.builder("llm.cache.saved.tokens")
+            .description("Prompt and output tokens not sent to the LLM thanks to cache hits")
+            .register(meterRegistry);
+        this.savedLatency = Timer.builder("llm.cache.saved.latency")
+            .description("Original LLM latency of responses served from the cache")
+            .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "feedbackResponses");
+    }
+
+    public static String fingerprint(int quizId, Collection<Integer> answerIds, int durationBucket, String prompt) {
+        StringBuilder key = new StringBuilder().append(quizId).append('|');
+        answerIds.stream().sorted().forEach(id -> key.append(id).append(','));
+        key.append('|').append(durationBucket).append('|').append(prompt);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public Optional<LlmResponse> lookup(String fingerprint) {
+        LlmResponse cached = memory.getIfPresent(fingerprint);
+        if (cached != null) {
+            countHit(fingerprint);
+            return Optional.of(hit("memory", cached));
+        }
+
+        Optional<LlmResponse> stored = feedbackCacheRepository.findById(fingerprint)
+            .map(entry -> new LlmResponse(entry.getResponseText(), entry.getPromptTokens(),
+                entry.getOutputTokens(), entry.getLatencyMs()));
+        if (stored.isEmpty()) {
+            count("miss");
+            return Optional.empty();
+        }
+        memory.put(fingerprint, stored.get());
+        countHit(fingerprint);
+        return Optional.of(hit("db", stored.get()));
+    }
+
+    @Transactional
+    public void store(String fingerprint, int quizId, LlmResponse response) {
+        if (response.text() == null) {
+            return;
+        }
+        feedbackCacheRepository.insertIfAbsent(fingerprint, quizId, response.text(),
+            response.promptTokens(), response.outputTokens(), response.latencyMs());
+        memory.put(fingerprint, response);
+    }
+
+    /**
+     * Adds the hits counted since the previous flush to {@code hit_count} and moves {@code last_hit_at} forward.
+     */
+    @Transactional
+    public int flushHits() {
+        int flushed = 0;
+        for (String fingerprint : pendingHits.keySet()) {
+            PendingHits hits = pendingHits.remove(fingerprint);
+            if (hits != null) {
+                feedbackCacheRepository.recordHits(fingerprint, hits.count(), hits.lastHitAt());
+                flushed++;
+            }
+        }
+        return flushed;
+    }
+
+    private void countHit(String fingerprint) {
+        pendingHits.merge(fingerprint, new PendingHits(1, LocalDateTime.now()),
+            (previous, hit) -> new PendingHits(previous.count() + 1, hit.lastHitAt()));
+    }
+
+    private LlmResponse hit(String tier, LlmResponse response) {
+        count("hit_" + tier);
+        savedTokens.increment(response.promptTokens() + response.outputTokens());
+        savedLatency.record(Duration.ofMillis(response.latencyMs()));
+        return response;
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("llm.cache.requests", "result", result).increment();
+    }
+
+    private record PendingHits(int count, LocalDateTime lastHitAt) {
+    }
+}
@@ -0,0 +1,393 @@
+package kz.sayat.diploma_backend.quiz_module.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kz.sayat.diploma_backend.quiz_module.dto.GeminiRequest;
+import kz.sayat.diploma_backend.quiz_module.dto.GeminiResponse;
+import kz.sayat.diploma_backend.util.exceptions.LlmUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+@Component
+public class GeminiClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeminiClient.class);
+    static final String API_KEY_HEADER = "x-goog-api-key";
+
+    private final HttpClient httpClient;
+    private final URI endpoint;
+    private final URI streamEndpoint;
+    private final String apiKey;
+    private final Duration requestTimeout;
+    private final Semaphore permits;
+    private final RateLimiter rateLimiter;
+    private final long acquireTimeoutMs;
+    private final CircuitBreaker circuitBreaker;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public GeminiClient(@Value("${gemini.api-url:}") String apiUrl,
+                        @Value("${gemini.api-key:}") String apiKey,
+                        @Value("${gemini.connect-timeout-ms:5000}") long connectTimeoutMs,
+                        @Value("${gemini.request-timeout-ms:60000}") long requestTimeoutMs,
+                        @Value("${gemini.max-concurrent:8}") int maxConcurrent,
+                        @Value("${gemini.acquire-timeout-ms:2000}") long acquireTimeoutMs,
+                        @Value("${gemini.rate-limit-per-second:10}") double rateLimitPerSecond,
+                        @Value("${gemini.circuit.failure-threshold:5}") int failureThreshold,
+                        @Value("${gemini.circuit.open-seconds:30}") long openSeconds,
+                        ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry) {
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+            .build();
+        String baseUrl = apiUrl == null ? "" : apiUrl.replaceFirst("[?&]key=[^&]*$", "");
+        this.endpoint = baseUrl.isBlank() ? null : URI.create(baseUrl);
+        this.streamEndpoint = baseUrl.contains(":generateContent")
+            ? URI.create(baseUrl.replace(":generateContent", ":streamGenerateContent") + "?alt=sse")
+            : null;
+        this.apiKey = apiKey;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.rateLimiter = new RateLimiter(rateLimitPerSecond);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, Duration.ofSeconds(openSeconds));
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("llm.requests.in_flight", permits, p -> maxConcurrent - p.availablePermits())
+            .tag("client", "gemini")
+            .register(meterRegistry);
+        Gauge.builder("llm.circuit.open", circuitBreaker, b -> b.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+            .tag("client", "gemini")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Sends the prompt and returns the first candidate's text, which is {@code null} if the model returned none.
+     * Throws {@link LlmUnavailableException} for failures worth retrying and {@link IllegalStateException} otherwise.
+     */
+    public LlmResponse generate(String prompt) {
+        if (endpoint == null) {
+            throw new IllegalStateException("Gemini API URL is not configured");
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            record("circuit_open", 0);
+            throw new LlmUnavailableException("Gemini circuit is open");
+        }
+        if (!acquirePermit()) {
+            circuitBreaker.release();
+            record("rejected", 0);
+            throw new LlmUnavailableException("Too many concurrent Gemini requests");
+        }
+        if (!rateLimiter.tryAcquire(acquireTimeoutMs)) {
+            permits.release();
+            circuitBreaker.release();
+            record("rate_limited", 0);
+            throw new LlmUnavailableException("Gemini request rate limit reached");
+        }
+
+        long start = System.nanoTime();
+        String outcome = "io_error";
+        try {
+            HttpResponse<byte[]> response = httpClient.send(buildRequest(endpoint, prompt), HttpResponse.BodyHandlers.ofByteArray());
+            int status = response.statusCode();
+            if (status == 429 || status >= 500) {
+                outcome = "server_error";
+                circuitBreaker.onFailure();
+                throw new LlmUnavailableException("Gemini responded with " + status);
+            }
+            if (status >= 400) {
+                outcome = "client_error";
+                circuitBreaker.release();
+                throw new IllegalStateException("Gemini rejected the request with " + status);
+            }
+            GeminiResponse body = objectMapper.readValue(response.body(), GeminiResponse.class);
+            outcome = "success";
+            circuitBreaker.onSuccess();
+            return toResponse(body, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (HttpTimeoutException e) {
+            outcome = "timeout";
+            circuitBreaker.onFailure();
+            throw new LlmUnavailableException("Gemini request timed out", e);
+        } catch (IOException e) {
+            circuitBreaker.onFailure();
+            throw new LlmUnavailableException("Gemini request failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "interrupted";
+            circuitBreaker.release();
+            throw new LlmUnavailableException("Gemini request interrupted", e);
+        } finally {
+            permits.release();
+            record(outcome, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Streams the prompt through {@code streamGenerateContent}, handing each text delta to {@code onChunk}
+     * on an HTTP client thread as it arrives. The returned future carries the full text once the stream ends.
+     * Like {@link #generate}, it waits on the calling thread for a concurrency permit and a rate-limit slot.
+     * The whole stream must finish within the request timeout; cancelling the future closes the connection.
+     */
+    public CompletableFuture<LlmResponse> stream(String prompt, Consumer<String> onChunk) {
+        if (streamEndpoint == null) {
+            return CompletableFuture.failedFuture(
+                new IllegalStateException("Gemini API URL does not point to a generateContent model endpoint"));
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            record("circuit_open", 0);
+            return CompletableFuture.failedFuture(new LlmUnavailableException("Gemini circuit is open"));
+        }
+        if (!acquirePermit()) {
+            circuitBreaker.release();
+            record("rejected", 0);
+            return CompletableFuture.failedFuture(new LlmUnavailableException("Too many concurrent Gemini requests"));
+        }
+        if (!rateLimiter.tryAcquire(acquireTimeoutMs)) {
+            permits.release();
+            circuitBreaker.release();
+            record("rate_limited", 0);
+            return CompletableFuture.failedFuture(new LlmUnavailableException("Gemini request rate limit reached"));
+        }
+
+        long start = System.nanoTime();
+        HttpRequest request;
+        try {
+            request = buildRequest(streamEndpoint, prompt);
+        } catch (IOException e) {
+            permits.release();
+            circuitBreaker.release();
+            return CompletableFuture.failedFuture(new IllegalStateException("Could not serialize Gemini request", e));
+        }
+
+        StreamSubscriber subscriber = new StreamSubscriber(onChunk, start);
+        HttpResponse.BodyHandler<LlmResponse> handler = info -> info.statusCode() == 200
+            ? HttpResponse.BodySubscribers.fromLineSubscriber(subscriber, StreamSubscriber::result, StandardCharsets.UTF_8, null)
+            : HttpResponse.BodySubscribers.replacing(null);
+
+        CompletableFuture<LlmResponse> result = httpClient.sendAsync(request, handler)
+            .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            .handle((response, error) -> {
+                subscriber.releasePermit();
+                if (subscriber.isCancelled()) {
+                    circuitBreaker.release();
+                    record("cancelled", System.nanoTime() - start);
+                    return null;
+                }
+                String outcome = "error";
+                try {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        subscriber.closeSubscription();
+                        outcome = failureOutcome(cause);
+                        circuitBreaker.onFailure();
+                        throw new LlmUnavailableException("Gemini stream failed", cause);
+                    }
+                    int status = response.statusCode();
+                    if (status == 429 || status >= 500) {
+                        outcome = "server_error";
+                        circuitBreaker.onFailure();
+                        throw new LlmUnavailableException("Gemini responded with " + status);
+                    }
+                    if (status != 200) {
+                        outcome = "client_error";
+                        circuitBreaker.release();
+                        throw new IllegalStateException("Gemini rejected the request with " + status);
+                    }
+                    outcome = "success";
+                    circuitBreaker.onSuccess();
+                    return response.body();
+                } finally {
+                    record(outcome, System.nanoTime() - start);
+                }
+            });
+        result.whenComplete((response, error) -> {
+            if (error instanceof CancellationException) {
+                subscriber.cancel();
+            }
+        });
+        return result;
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private HttpRequest buildRequest(URI uri, String prompt) throws IOException {
+        return HttpRequest.newBuilder(uri)
+            .timeout(requestTimeout)
+            .header("Content-Type", "application/json")
+            .header(API_KEY_HEADER, apiKey)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(new GeminiRequest(prompt))))
+            .build();
+    }
+
+    private boolean acquirePermit() {
+        try {
+            return permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String failureOutcome(Throwable cause) {
+        if (cause instanceof HttpTimeoutException || cause instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (cause instanceof IOException) {
+            return "io_error";
+        }
+        return "error";
+    }
+
+    private void record(String outcome, long nanos) {
+        Timer.builder("llm.requests")
+            .tag("client", "gemini")
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(50))
+            .maximumExpectedValue(Duration.ofMinutes(2))
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private final class StreamSubscriber implements Flow.Subscriber<String> {
+
+        private final Consumer<String> onChunk;
+        private final long start;
+        private final StringBuilder text = new StringBuilder();
+        private final AtomicBoolean permitHeld = new AtomicBoolean(true);
+        private volatile Flow.Subscription subscription;
+        private volatile boolean cancelled;
+        private int promptTokens;
+        private int outputTokens;
+
+        private StreamSubscriber(Consumer<String> onChunk, long start) {
+            this.onChunk = onChunk;
+            this.start = start;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (cancelled) {
+                subscription.cancel();
+                return;
+            }
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (!line.startsWith("data:")) {
+                return;
+            }
+            GeminiResponse chunk;
+            try {
+                chunk = objectMapper.readValue(line.substring(5).trim(), GeminiResponse.class);
+            } catch (IOException e) {
+                logger.warn("Skipping malformed Gemini stream event", e);
+                return;
+            }
+            if (chunk.getUsageMetadata() != null) {
+                promptTokens = chunk.getUsageMetadata().getPromptTokenCount();
+                outputTokens = chunk.getUsageMetadata().getCandidatesTokenCount();
+            }
+            String delta = firstText(chunk);
+            if (delta == null || delta.isEmpty()) {
+                return;
+            }
+            if (text.isEmpty()) {
+                meterRegistry.timer("llm.stream.first_chunk", "client", "gemini")
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            text.append(delta);
+            onChunk.accept(delta);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        /**
+         * Called when the caller gives up on the stream: stops reading the body and frees the permit right away
+         * instead of when the request times out.
+         */
+        private void cancel() {
+            cancelled = true;
+            closeSubscription();
+            releasePermit();
+        }
+
+        private boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void closeSubscription() {
+            Flow.Subscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        private void releasePermit() {
+            if (permitHeld.compareAndSet(true, false)) {
+                permits.release();
+            }
+        }
+
+        private LlmResponse result() {
+            return new LlmResponse(text.isEmpty() ? null : text.toString(), promptTokens, outputTokens,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    private static LlmResponse toResponse(GeminiResponse response, long latencyMs) {
+        GeminiResponse.UsageMetadata usage = response == null ? null : response.getUsageMetadata();
+        return new LlmResponse(firstText(response),
+            usage == null ? 0 : usage.getPromptTokenCount(),
+            usage == null ? 0 : usage.getCandidatesTokenCount(),
+            latencyMs);
+    }
+
+    private static String firstText(GeminiResponse response) {
+        if (response == null || response.getCandidates() == null || response.getCandidates().isEmpty()) {
+            return null;
+        }
+        GeminiResponse.Content content = response.getCandidates().get(0).getContent();
+        if (content == null || content.getParts() == null) {
+            return null;
+        }
+        List<GeminiResponse.Part> parts = content.getParts();
+        return parts.isEmpty() ? null : parts.get(0).getText();
+    }
+}
@@ -0,0 +1,4 @@
+package kz.sayat.diploma_backend.quiz_module.client;
+
+public record LlmResponse(String text, int promptTokens, int outputTokens, long latencyMs) {
+}
@@ -0,0 +1,41 @@
+package kz.sayat.diploma_backend.quiz_module.client;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces calls at least {@code 1 / permitsPerSecond} apart; a rate of zero or less disables limiting.
+ */
+public class RateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeNanos = System.nanoTime();
+
+    public RateLimiter(double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+    }
+
+    public boolean tryAcquire(long timeoutMs) {
+        if (intervalNanos == 0) {
+            return true;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(nextFreeNanos, now);
+            waitNanos = slot - now;
+            if (waitNanos > TimeUnit.MILLISECONDS.toNanos(timeoutMs)) {
+                return false;
+            }
+            nextFreeNanos = slot + intervalNanos;
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
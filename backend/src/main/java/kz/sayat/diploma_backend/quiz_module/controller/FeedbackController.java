@@ -1,25 +1,86 @@
 package kz.sayat.diploma_backend.quiz_module.controller;
 
 
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackBatchDto;
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackBatchRequest;
 import kz.sayat.diploma_backend.quiz_module.dto.FeedbackDto;
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackJobDto;
+import kz.sayat.diploma_backend.quiz_module.jobs.FeedbackJobNotifier;
+import kz.sayat.diploma_backend.quiz_module.service.FeedbackBatchService;
+import kz.sayat.diploma_backend.quiz_module.service.FeedbackJobService;
 import kz.sayat.diploma_backend.quiz_module.service.FeedbackService;
+import kz.sayat.diploma_backend.util.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
-import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/quiz/feedback")
 public class FeedbackController {
 
+    private static final long STREAM_TIMEOUT_MS = 120_000;
+
     private final FeedbackService feedbackService;
+    private final FeedbackJobService feedbackJobService;
+    private final FeedbackJobNotifier feedbackJobNotifier;
+    private final FeedbackBatchService feedbackBatchService;
 
     @PostMapping("/{attemptId}")
-    public ResponseEntity<String> getQuizFeedback(@PathVariable(name = "attemptId") int attemptId ) {
-        return ResponseEntity.status(201).body(feedbackService.generateFeedback(attemptId));
+    public ResponseEntity<FeedbackJobDto> getQuizFeedback(@PathVariable(name = "attemptId") int attemptId ) {
+        return ResponseEntity.accepted().body(feedbackJobService.submit(attemptId));
+    }
+
+    @GetMapping(value = "/{attemptId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamFeedback(@PathVariable(name = "attemptId") int attemptId,
+                                                     Authentication authentication) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        CompletableFuture<String> stream = feedbackService.streamFeedback(attemptId, authentication,
+            chunk -> send(emitter, "chunk", chunk));
+        stream.whenComplete((text, error) -> {
+            if (error instanceof CancellationException) {
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            finish(emitter, cause == null ? "done" : "failed", cause == null ? "" : cause.getMessage());
+        });
+        // Stop reading from Gemini as soon as the client goes away so the stream gives its permit back.
+        emitter.onTimeout(() -> stream.cancel(true));
+        emitter.onError(error -> stream.cancel(true));
+        emitter.onCompletion(() -> stream.cancel(true));
+        return ResponseEntity.ok()
+            .header("X-Accel-Buffering", "no")
+            .body(emitter);
+    }
+
+    @PostMapping("/batches")
+    public ResponseEntity<FeedbackBatchDto> submitBatch(@RequestBody FeedbackBatchRequest request,
+                                                        Authentication authentication) {
+        return ResponseEntity.accepted().body(feedbackBatchService.submit(request, authentication));
+    }
+
+    @GetMapping("/batches/{batchId}")
+    public ResponseEntity<FeedbackBatchDto> getBatch(@PathVariable(name = "batchId") int batchId,
+                                                     Authentication authentication) {
+        return ResponseEntity.ok(feedbackBatchService.getBatch(batchId, authentication));
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public DeferredResult<FeedbackJobDto> getFeedbackJob(@PathVariable(name = "jobId") int jobId,
+                                                         @RequestParam(defaultValue = "0") int wait,
+                                                         Authentication authentication) {
+        return feedbackJobNotifier.await(feedbackJobService.getJob(jobId, authentication), wait);
     }
 
     @GetMapping("/{attemptId}")
@@ -29,8 +90,11 @@ public class FeedbackController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<FeedbackDto>> getAllFeedback(){
-        return ResponseEntity.ok(feedbackService.getAllFeedback());
+    public ResponseEntity<CursorPage<FeedbackDto>> getAllFeedback(
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal){
+        return ResponseEntity.ok(feedbackService.getAllFeedback(cursor, size, withTotal));
     }
 
     @DeleteMapping("/{id}")
@@ -38,4 +102,19 @@ public class FeedbackController {
         feedbackService.deleteFeedback(id);
     }
 
+    private static void finish(SseEmitter emitter, String event, String text) {
+        try {
+            send(emitter, event, text);
+        } finally {
+            emitter.complete();
+        }
+    }
+
+    private static void send(SseEmitter emitter, String event, String text) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(Map.of("text", text == null ? "" : text), MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            throw new IllegalStateException("Feedback stream client disconnected", e);
+        }
+    }
 }
@@ -1,17 +1,16 @@
 package kz.sayat.diploma_backend.quiz_module.controller;
 
+import kz.sayat.diploma_backend.course_module.dto.QuizSummaryDto;
 import kz.sayat.diploma_backend.quiz_module.dto.QuizAttemptDto;
 import kz.sayat.diploma_backend.quiz_module.dto.QuizDto;
+import kz.sayat.diploma_backend.quiz_module.dto.QuizSessionDto;
 import kz.sayat.diploma_backend.quiz_module.dto.QuizSubmissionDto;
-import kz.sayat.diploma_backend.quiz_module.dto.StudentAnswerDto;
 import kz.sayat.diploma_backend.quiz_module.service.QuizService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("api/modules")
 @RequiredArgsConstructor
@@ -35,18 +34,28 @@ public class QuizController {
        return ResponseEntity.ok().body( quizService.findQuiz(quizId));
     }
 
+    @GetMapping("/quizzes/{quizId}/summary")
+    public ResponseEntity<QuizSummaryDto> getQuizSummary(@PathVariable(name = "quizId") int quizId) {
+        return ResponseEntity.ok(quizService.findQuizSummary(quizId));
+    }
+
+
+    @PostMapping("/quizzes/{quizId}/sessions")
+    public ResponseEntity<QuizSessionDto> startQuiz(@PathVariable(name = "quizId") int quizId,
+                                                    Authentication authentication) {
+        return ResponseEntity.status(201).body(quizService.startSession(quizId, authentication));
+    }
 
-    @PostMapping("/quizzes/{quizId}/submit")
+    @PostMapping("/quizzes/sessions/{sessionId}/submit")
     public ResponseEntity<QuizAttemptDto> submitQuiz(
-            @PathVariable(name = "quizId") int quizId,
+            @PathVariable(name = "sessionId") int sessionId,
             @RequestBody QuizSubmissionDto submission,
             Authentication authentication
     ) {
         return ResponseEntity.ok(quizService.assignGrade(
+                sessionId,
                 submission.getAttemptAnswers(),
-                authentication,
-                quizId,
-                submission.getDuration()
+                authentication
         ));
     }
 
@@ -0,0 +1,19 @@
+package kz.sayat.diploma_backend.quiz_module.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedbackBatchDto {
+    private int id;
+    private Integer quizId;
+    private int total;
+    private long pending;
+    private long running;
+    private long done;
+    private long failed;
+    private boolean finished;
+}
@@ -0,0 +1,15 @@
+package kz.sayat.diploma_backend.quiz_module.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedbackBatchRequest {
+    private Integer quizId;
+    private List<Integer> attemptIds;
+}
@@ -0,0 +1,18 @@
+package kz.sayat.diploma_backend.quiz_module.dto;
+
+import kz.sayat.diploma_backend.quiz_module.models.enums.FeedbackJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedbackJobDto {
+    private int id;
+    private int attemptId;
+    private FeedbackJobStatus status;
+    private int attempts;
+    private String error;
+    private String feedbackText;
+}
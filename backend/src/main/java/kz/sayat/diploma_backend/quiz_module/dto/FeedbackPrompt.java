@@ -0,0 +1,13 @@
+package kz.sayat.diploma_backend.quiz_module.dto;
+
+public record FeedbackPrompt(int attemptId, int quizId, String studentName, String promptText, String fingerprint,
+                             String existingFeedback, String error) {
+
+    public static FeedbackPrompt existing(int attemptId, String feedbackText) {
+        return new FeedbackPrompt(attemptId, 0, null, null, null, feedbackText, null);
+    }
+
+    public static FeedbackPrompt failed(int attemptId, String error) {
+        return new FeedbackPrompt(attemptId, 0, null, null, null, null, error);
+    }
+}
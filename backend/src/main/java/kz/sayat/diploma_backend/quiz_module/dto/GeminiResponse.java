@@ -1,9 +1,13 @@
 package kz.sayat.diploma_backend.quiz_module.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import java.util.List;
 
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class GeminiResponse {
     private List<Candidate> candidates;
+    private UsageMetadata usageMetadata;
 
     public List<Candidate> getCandidates() {
         return candidates;
@@ -13,7 +17,16 @@ public class GeminiResponse {
         this.candidates = candidates;
     }
 
+    public UsageMetadata getUsageMetadata() {
+        return usageMetadata;
+    }
+
+    public void setUsageMetadata(UsageMetadata usageMetadata) {
+        this.usageMetadata = usageMetadata;
+    }
+
     // Nested class for Candidate
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class Candidate {
         private Content content;
 
@@ -27,6 +40,7 @@ public class GeminiResponse {
     }
 
     // Nested class for Content
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class Content {
         private List<Part> parts;
 
@@ -40,6 +54,7 @@ public class GeminiResponse {
     }
 
     // Nested class for Part
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class Part {
         private String text;
 
@@ -51,4 +66,27 @@ public class GeminiResponse {
             this.text = text;
         }
     }
+
+    // Nested class for UsageMetadata
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class UsageMetadata {
+        private int promptTokenCount;
+        private int candidatesTokenCount;
+
+        public int getPromptTokenCount() {
+            return promptTokenCount;
+        }
+
+        public void setPromptTokenCount(int promptTokenCount) {
+            this.promptTokenCount = promptTokenCount;
+        }
+
+        public int getCandidatesTokenCount() {
+            return candidatesTokenCount;
+        }
+
+        public void setCandidatesTokenCount(int candidatesTokenCount) {
+            this.candidatesTokenCount = candidatesTokenCount;
+        }
+    }
 }
@@ -0,0 +1,4 @@
+package kz.sayat.diploma_backend.quiz_module.dto;
+
+public record GeneratedFeedback(int attemptId, String promptText, String feedbackText) {
+}
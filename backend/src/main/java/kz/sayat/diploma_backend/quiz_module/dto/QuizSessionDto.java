@@ -0,0 +1,19 @@
+package kz.sayat.diploma_backend.quiz_module.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuizSessionDto {
+    private int sessionId;
+    private int quizId;
+    private String title;
+    private int durationInMinutes;
+    private Integer remainingSeconds;
+    private List<SessionQuestionDto> questions;
+}
@@ -6,5 +6,4 @@ import java.util.List;
 @Data
 public class QuizSubmissionDto {
     private List<StudentAnswerDto> attemptAnswers;
-    private int duration;
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package kz.sayat.diploma_backend.quiz_module.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SessionAnswerDto {
+    private int id;
+    private String answerText;
+}
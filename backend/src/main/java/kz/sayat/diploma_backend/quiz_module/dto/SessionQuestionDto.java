@@ -0,0 +1,16 @@
+package kz.sayat.diploma_backend.quiz_module.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SessionQuestionDto {
+    private int id;
+    private String questionText;
+    private List<SessionAnswerDto> answers;
+}
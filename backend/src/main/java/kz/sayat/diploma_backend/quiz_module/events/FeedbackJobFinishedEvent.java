@@ -0,0 +1,4 @@
+package kz.sayat.diploma_backend.quiz_module.events;
+
+public record FeedbackJobFinishedEvent(int jobId) {
+}
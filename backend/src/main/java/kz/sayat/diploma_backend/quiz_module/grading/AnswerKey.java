@@ -0,0 +1,113 @@
+package kz.sayat.diploma_backend.quiz_module.grading;
+
+import kz.sayat.diploma_backend.quiz_module.repository.projection.AnswerKeyRow;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * Immutable grading key of one quiz: which question every answer belongs to and whether it is correct, held
+ * in open-addressed primitive tables so a lookup is a hash probe with no boxing or allocation.
+ * <p>
+ * Ids come from identity columns and are always positive, so {@code 0} marks an empty slot.
+ */
+public final class AnswerKey implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final int NOT_FOUND = -1;
+
+    private static final int EMPTY = 0;
+
+    private final int[] answerIds;
+    private final int[] answerQuestionIds;
+    private final BitSet correct;
+    private final int[] questionIds;
+
+    private AnswerKey(int[] answerIds, int[] answerQuestionIds, BitSet correct, int[] questionIds) {
+        this.answerIds = answerIds;
+        this.answerQuestionIds = answerQuestionIds;
+        this.correct = correct;
+        this.questionIds = questionIds;
+    }
+
+    public static AnswerKey of(Collection<? extends AnswerKeyRow> rows) {
+        int answerCount = 0;
+        for (AnswerKeyRow row : rows) {
+            if (row.getAnswerId() != null) {
+                answerCount++;
+            }
+        }
+
+        int[] answerIds = new int[tableSize(answerCount)];
+        int[] answerQuestionIds = new int[answerIds.length];
+        BitSet correct = new BitSet(answerIds.length);
+        int[] questionIds = new int[tableSize(rows.size())];
+        for (AnswerKeyRow row : rows) {
+            insert(questionIds, row.getQuestionId());
+            if (row.getAnswerId() != null) {
+                int slot = insert(answerIds, row.getAnswerId());
+                answerQuestionIds[slot] = row.getQuestionId();
+                correct.set(slot, Boolean.TRUE.equals(row.getCorrect()));
+            }
+        }
+        return new AnswerKey(answerIds, answerQuestionIds, correct, questionIds);
+    }
+
+    public boolean hasQuestion(int questionId) {
+        return find(questionIds, questionId) >= 0;
+    }
+
+    /**
+     * Question the answer belongs to, or {@link #NOT_FOUND} when the answer is not part of this quiz.
+     */
+    public int questionOf(int answerId) {
+        int slot = find(answerIds, answerId);
+        return slot < 0 ? NOT_FOUND : answerQuestionIds[slot];
+    }
+
+    public boolean isCorrect(int answerId) {
+        int slot = find(answerIds, answerId);
+        return slot >= 0 && correct.get(slot);
+    }
+
+    private static int tableSize(int entries) {
+        return Math.max(2, Integer.highestOneBit(Math.max(1, entries) * 2 - 1) << 1);
+    }
+
+    private static int insert(int[] table, int id) {
+        if (id <= EMPTY) {
+            throw new IllegalArgumentException("Answer key ids must be positive, got " + id);
+        }
+        int mask = table.length - 1;
+        for (int slot = hash(id) & mask; ; slot = (slot + 1) & mask) {
+            if (table[slot] == EMPTY || table[slot] == id) {
+                table[slot] = id;
+                return slot;
+            }
+        }
+    }
+
+    private static int find(int[] table, int id) {
+        if (id <= EMPTY) {
+            return NOT_FOUND;
+        }
+        int mask = table.length - 1;
+        for (int slot = hash(id) & mask; ; slot = (slot + 1) & mask) {
+            if (table[slot] == id) {
+                return slot;
+            }
+            if (table[slot] == EMPTY) {
+                return NOT_FOUND;
+            }
+        }
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
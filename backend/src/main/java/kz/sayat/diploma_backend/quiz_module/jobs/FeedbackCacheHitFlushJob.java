@@ -0,0 +1,32 @@
+package kz.sayat.diploma_backend.quiz_module.jobs;
+
+import jakarta.annotation.PreDestroy;
+import kz.sayat.diploma_backend.quiz_module.client.FeedbackResponseCache;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class FeedbackCacheHitFlushJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackCacheHitFlushJob.class);
+
+    private final FeedbackResponseCache feedbackResponseCache;
+
+    @Scheduled(fixedDelayString = "${feedback.cache.hit-flush-ms:60000}")
+    public void flush() {
+        try {
+            feedbackResponseCache.flushHits();
+        } catch (RuntimeException e) {
+            logger.error("Failed to flush feedback cache hit counts", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
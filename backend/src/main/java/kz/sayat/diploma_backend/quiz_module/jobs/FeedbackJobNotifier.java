@@ -0,0 +1,65 @@
+package kz.sayat.diploma_backend.quiz_module.jobs;
+
+import jakarta.transaction.Transactional;
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackJobDto;
+import kz.sayat.diploma_backend.quiz_module.events.FeedbackJobFinishedEvent;
+import kz.sayat.diploma_backend.quiz_module.service.FeedbackJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class FeedbackJobNotifier {
+
+    public static final int MAX_WAIT_SECONDS = 30;
+
+    private final FeedbackJobService feedbackJobService;
+    private final Map<Integer, List<DeferredResult<FeedbackJobDto>>> waiters = new ConcurrentHashMap<>();
+
+    public DeferredResult<FeedbackJobDto> await(FeedbackJobDto job, int waitSeconds) {
+        if (job.getStatus().isFinished() || waitSeconds <= 0) {
+            DeferredResult<FeedbackJobDto> result = new DeferredResult<>();
+            result.setResult(job);
+            return result;
+        }
+
+        int jobId = job.getId();
+        DeferredResult<FeedbackJobDto> result =
+            new DeferredResult<>(TimeUnit.SECONDS.toMillis(Math.min(waitSeconds, MAX_WAIT_SECONDS)));
+        result.onTimeout(() -> result.setResult(feedbackJobService.findJob(jobId)));
+        result.onCompletion(() -> remove(jobId, result));
+        waiters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>()).add(result);
+
+        FeedbackJobDto current = feedbackJobService.findJob(jobId);
+        if (current.getStatus().isFinished()) {
+            result.setResult(current);
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void onJobFinished(FeedbackJobFinishedEvent event) {
+        List<DeferredResult<FeedbackJobDto>> pending = waiters.remove(event.jobId());
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+        FeedbackJobDto job = feedbackJobService.findJob(event.jobId());
+        pending.forEach(result -> result.setResult(job));
+    }
+
+    private void remove(int jobId, DeferredResult<FeedbackJobDto> result) {
+        waiters.computeIfPresent(jobId, (id, list) -> {
+            list.remove(result);
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
@@ -0,0 +1,147 @@
+package kz.sayat.diploma_backend.quiz_module.jobs;
+
+import jakarta.annotation.PreDestroy;
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackJobDto;
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackPrompt;
+import kz.sayat.diploma_backend.quiz_module.dto.GeneratedFeedback;
+import kz.sayat.diploma_backend.quiz_module.service.FeedbackJobService;
+import kz.sayat.diploma_backend.quiz_module.service.FeedbackService;
+import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class FeedbackJobWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackJobWorker.class);
+
+    private final FeedbackJobService feedbackJobService;
+    private final FeedbackService feedbackService;
+    private final int workers;
+    private final ThreadPoolExecutor executor;
+    private final Queue<Completed> completed = new ConcurrentLinkedQueue<>();
+
+    public FeedbackJobWorker(FeedbackJobService feedbackJobService,
+                             FeedbackService feedbackService,
+                             @Value("${feedback.jobs.workers:4}") int workers) {
+        this.feedbackJobService = feedbackJobService;
+        this.feedbackService = feedbackService;
+        this.workers = workers;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), new CustomizableThreadFactory("feedback-worker-"));
+    }
+
+    @Scheduled(fixedDelayString = "${feedback.jobs.poll-interval-ms:1000}")
+    public void poll() {
+        flush();
+        int free = workers - executor.getActiveCount() - executor.getQueue().size();
+        if (free <= 0) {
+            return;
+        }
+        List<FeedbackJobDto> jobs = feedbackJobService.claim(free);
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, FeedbackPrompt> prompts;
+        try {
+            prompts = feedbackService.prepareFeedback(jobs.stream().map(FeedbackJobDto::getAttemptId).toList()).stream()
+                .collect(Collectors.toMap(FeedbackPrompt::attemptId, Function.identity()));
+        } catch (RuntimeException e) {
+            logger.warn("Could not prepare prompts for {} feedback jobs", jobs.size(), e);
+            jobs.forEach(job -> finishWithError(job, e.getMessage(), true));
+            return;
+        }
+
+        for (FeedbackJobDto job : jobs) {
+            FeedbackPrompt prompt = prompts.get(job.getAttemptId());
+            if (prompt == null) {
+                finishWithError(job, "Quiz attempt not found", false);
+            } else if (prompt.error() != null) {
+                finishWithError(job, prompt.error(), false);
+            } else if (prompt.existingFeedback() != null) {
+                completed.add(new Completed(job.getId(), null));
+            } else {
+                executor.execute(() -> process(job, prompt));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${feedback.jobs.requeue-interval-ms:60000}")
+    public void requeueStale() {
+        int requeued = feedbackJobService.requeueStale();
+        if (requeued > 0) {
+            logger.warn("Requeued {} stale feedback jobs", requeued);
+        }
+    }
+
+    void process(FeedbackJobDto job, FeedbackPrompt prompt) {
+        try {
+            completed.add(new Completed(job.getId(), feedbackService.generateFeedback(prompt)));
+        } catch (ResourceNotFoundException | IllegalStateException e) {
+            finishWithError(job, e.getMessage(), false);
+        } catch (RuntimeException e) {
+            logger.warn("Feedback job {} failed on attempt {}", job.getId(), job.getAttempts(), e);
+            finishWithError(job, e.getMessage(), true);
+        }
+    }
+
+    /**
+     * Persists generated feedback and marks the jobs done in two bulk statements. A crash in between leaves the
+     * jobs RUNNING; they are requeued as stale and finish immediately because the feedback already exists.
+     */
+    void flush() {
+        List<Completed> batch = new ArrayList<>();
+        for (Completed next; (next = completed.poll()) != null; ) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            feedbackService.saveFeedback(batch.stream().map(Completed::feedback).filter(Objects::nonNull).toList());
+            feedbackJobService.complete(batch.stream().map(Completed::jobId).toList());
+        } catch (RuntimeException e) {
+            logger.error("Could not persist {} finished feedback jobs", batch.size(), e);
+            batch.forEach(done -> finishWithError(done.jobId(), e.getMessage(), true));
+        }
+    }
+
+    private void finishWithError(FeedbackJobDto job, String error, boolean retryable) {
+        finishWithError(job.getId(), error, retryable);
+    }
+
+    private void finishWithError(int jobId, String error, boolean retryable) {
+        try {
+            feedbackJobService.fail(jobId, error, retryable);
+        } catch (RuntimeException e) {
+            logger.error("Could not record failure of feedback job {}", jobId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        flush();
+    }
+
+    private record Completed(int jobId, GeneratedFeedback feedback) {
+    }
+}
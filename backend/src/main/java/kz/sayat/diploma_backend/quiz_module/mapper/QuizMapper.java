@@ -3,7 +3,10 @@ package kz.sayat.diploma_backend.quiz_module.mapper;
 import kz.sayat.diploma_backend.course_module.dto.QuizSummaryDto;
 import kz.sayat.diploma_backend.course_module.models.Module;
 import kz.sayat.diploma_backend.quiz_module.dto.QuizDto;
+import kz.sayat.diploma_backend.quiz_module.dto.QuizSessionDto;
+import kz.sayat.diploma_backend.quiz_module.models.Question;
 import kz.sayat.diploma_backend.quiz_module.models.Quiz;
+import kz.sayat.diploma_backend.quiz_module.models.QuizSession;
 
 import java.util.List;
 
@@ -14,4 +17,6 @@ public interface QuizMapper {
     QuizSummaryDto toQuizSummaryDto(Quiz quiz);
 
     List<QuizSummaryDto> toQuizSummaryDtoList(List<Quiz> quizzes);
+
+    QuizSessionDto toQuizSessionDto(Quiz quiz, QuizSession session, List<Question> questions, Integer remainingSeconds);
 }
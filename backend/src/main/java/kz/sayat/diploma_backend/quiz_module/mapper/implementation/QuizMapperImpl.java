@@ -3,9 +3,14 @@ package kz.sayat.diploma_backend.quiz_module.mapper.implementation;
 import kz.sayat.diploma_backend.course_module.dto.QuizSummaryDto;
 import kz.sayat.diploma_backend.course_module.models.Module;
 import kz.sayat.diploma_backend.quiz_module.dto.QuizDto;
+import kz.sayat.diploma_backend.quiz_module.dto.QuizSessionDto;
+import kz.sayat.diploma_backend.quiz_module.dto.SessionAnswerDto;
+import kz.sayat.diploma_backend.quiz_module.dto.SessionQuestionDto;
 import kz.sayat.diploma_backend.quiz_module.mapper.QuestionMapper;
 import kz.sayat.diploma_backend.quiz_module.mapper.QuizMapper;
+import kz.sayat.diploma_backend.quiz_module.models.Question;
 import kz.sayat.diploma_backend.quiz_module.models.Quiz;
+import kz.sayat.diploma_backend.quiz_module.models.QuizSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -81,4 +86,17 @@ public class QuizMapperImpl implements QuizMapper {
             map(this::toQuizSummaryDto).
             collect(Collectors.toList());
     }
+
+    @Override
+    public QuizSessionDto toQuizSessionDto(Quiz quiz, QuizSession session, List<Question> questions,
+                                           Integer remainingSeconds) {
+        List<SessionQuestionDto> questionDtos = questions.stream()
+            .map(question -> new SessionQuestionDto(question.getId(), question.getQuestionText(),
+                question.getAnswers().stream()
+                    .map(answer -> new SessionAnswerDto(answer.getId(), answer.getAnswerText()))
+                    .collect(Collectors.toList())))
+            .collect(Collectors.toList());
+        return new QuizSessionDto(session.getId(), quiz.getId(), quiz.getTitle(), quiz.getDurationInMinutes(),
+            remainingSeconds, questionDtos);
+    }
 }
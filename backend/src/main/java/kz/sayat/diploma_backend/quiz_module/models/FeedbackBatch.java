@@ -0,0 +1,44 @@
+package kz.sayat.diploma_backend.quiz_module.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "feedback_batches")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedbackBatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    @Column(name = "quiz_id")
+    private Integer quizId;
+
+    @Column(name = "requested_by", nullable = false)
+    private int requestedBy;
+
+    private int total;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public FeedbackBatch(Integer quizId, int requestedBy, int total) {
+        this.quizId = quizId;
+        this.requestedBy = requestedBy;
+        this.total = total;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+}
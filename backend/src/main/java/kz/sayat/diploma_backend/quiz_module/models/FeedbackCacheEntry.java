@@ -0,0 +1,43 @@
+package kz.sayat.diploma_backend.quiz_module.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "feedback_cache")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedbackCacheEntry {
+
+    @Id
+    private String fingerprint;
+
+    @Column(name = "quiz_id", nullable = false)
+    private int quizId;
+
+    @Column(name = "response_text", columnDefinition = "TEXT", nullable = false)
+    private String responseText;
+
+    @Column(name = "prompt_tokens")
+    private int promptTokens;
+
+    @Column(name = "output_tokens")
+    private int outputTokens;
+
+    @Column(name = "latency_ms")
+    private long latencyMs;
+
+    @Column(name = "hit_count")
+    private int hitCount;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_hit_at")
+    private LocalDateTime lastHitAt;
+}
@@ -0,0 +1,67 @@
+package kz.sayat.diploma_backend.quiz_module.models;
+
+import jakarta.persistence.*;
+import kz.sayat.diploma_backend.quiz_module.models.enums.FeedbackJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "feedback_jobs")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FeedbackJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    @Column(name = "attempt_id", nullable = false)
+    private int attemptId;
+
+    @Column(name = "batch_id")
+    private Integer batchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FeedbackJobStatus status;
+
+    private int attempts;
+
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public FeedbackJob(int attemptId) {
+        this.attemptId = attemptId;
+        this.status = FeedbackJobStatus.PENDING;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        LocalDateTime now = LocalDateTime.now();
+        if (this.createdAt == null) {
+            this.createdAt = now;
+        }
+        if (this.nextRunAt == null) {
+            this.nextRunAt = now;
+        }
+        this.updatedAt = now;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,40 @@
+package kz.sayat.diploma_backend.quiz_module.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "prompt_templates")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PromptTemplateVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    @Column(nullable = false)
+    private String name;
+
+    private int version;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String body;
+
+    private boolean active;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+}
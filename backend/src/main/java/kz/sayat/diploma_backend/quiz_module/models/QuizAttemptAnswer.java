@@ -13,7 +13,8 @@ import lombok.NoArgsConstructor;
 public class QuizAttemptAnswer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attempt_answers_seq")
+    @SequenceGenerator(name = "attempt_answers_seq", sequenceName = "attempt_answers_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -0,0 +1,52 @@
+package kz.sayat.diploma_backend.quiz_module.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "quiz_sessions")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuizSession {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    @Column(name = "student_id", nullable = false)
+    private int studentId;
+
+    @Column(name = "quiz_id", nullable = false)
+    private int quizId;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "question_ids", columnDefinition = "integer[]", nullable = false)
+    private int[] questionIds;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "submitted_at")
+    private LocalDateTime submittedAt;
+
+    @Column(name = "attempt_id")
+    private Integer attemptId;
+
+    public QuizSession(int studentId, int quizId, int[] questionIds, LocalDateTime startedAt, LocalDateTime expiresAt) {
+        this.studentId = studentId;
+        this.quizId = quizId;
+        this.questionIds = questionIds;
+        this.startedAt = startedAt;
+        this.expiresAt = expiresAt;
+    }
+}
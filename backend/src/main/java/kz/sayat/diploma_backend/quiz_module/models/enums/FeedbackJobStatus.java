@@ -0,0 +1,12 @@
+package kz.sayat.diploma_backend.quiz_module.models.enums;
+
+public enum FeedbackJobStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == DONE || this == FAILED;
+    }
+}
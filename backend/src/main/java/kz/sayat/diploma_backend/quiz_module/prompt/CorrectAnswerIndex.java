@@ -0,0 +1,31 @@
+package kz.sayat.diploma_backend.quiz_module.prompt;
+
+import kz.sayat.diploma_backend.quiz_module.models.Answer;
+import kz.sayat.diploma_backend.quiz_module.models.Question;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Correct answer text per question of one quiz, resolved the first time a question is seen so the answers
+ * of a question are scanned once however many attempts are rendered against it.
+ */
+public final class CorrectAnswerIndex {
+
+    static final String NOT_FOUND = "Correct answer not found";
+
+    private final Map<Integer, String> correctAnswers = new HashMap<>();
+
+    public String of(Question question) {
+        return correctAnswers.computeIfAbsent(question.getId(), id -> scan(question));
+    }
+
+    private static String scan(Question question) {
+        for (Answer answer : question.getAnswers()) {
+            if (answer.isCorrect()) {
+                return answer.getAnswerText();
+            }
+        }
+        return NOT_FOUND;
+    }
+}
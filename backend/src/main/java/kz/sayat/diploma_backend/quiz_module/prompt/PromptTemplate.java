@@ -0,0 +1,219 @@
+package kz.sayat.diploma_backend.quiz_module.prompt;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A prompt template compiled once into literal segments and variable slots, so rendering is a plain sequence
+ * of appends into a buffer sized up front.
+ * <p>
+ * The source is split into sections by {@code ### <section>} marker lines; every line up to the next marker,
+ * blank lines included, belongs to that section. {@code ${variable}} references are filled in at render time,
+ * everything else (including the {@code {{student_name}}} placeholder) is copied verbatim.
+ */
+public final class PromptTemplate {
+
+    private static final String SECTION_MARKER = "### ";
+
+    public enum Section {
+        HEADER("header"),
+        ANSWER_PASSED_CORRECT("answer.passed.correct"),
+        ANSWER_PASSED_INCORRECT("answer.passed.incorrect"),
+        ANSWER_FAILED_CORRECT("answer.failed.correct"),
+        ANSWER_FAILED_INCORRECT("answer.failed.incorrect"),
+        FOOTER("footer");
+
+        private final String key;
+
+        Section(String key) {
+            this.key = key;
+        }
+
+        public static Section answer(boolean passed, boolean correct) {
+            if (passed) {
+                return correct ? ANSWER_PASSED_CORRECT : ANSWER_PASSED_INCORRECT;
+            }
+            return correct ? ANSWER_FAILED_CORRECT : ANSWER_FAILED_INCORRECT;
+        }
+
+        private boolean isAnswer() {
+            return this != HEADER && this != FOOTER;
+        }
+    }
+
+    public enum Variable {
+        QUIZ_TITLE("quiz_title"),
+        SCORE("score"),
+        MAX_TIME("max_time"),
+        TIME_TAKEN("time_taken"),
+        LECTURE_URL("lecture_url"),
+        QUESTION("question"),
+        STUDENT_ANSWER("student_answer"),
+        CORRECT_ANSWER("correct_answer");
+
+        private final String key;
+
+        Variable(String key) {
+            this.key = key;
+        }
+    }
+
+    private final String name;
+    private final int version;
+    private final Segment[] sections;
+
+    private PromptTemplate(String name, int version, Segment[] sections) {
+        this.name = name;
+        this.version = version;
+        this.sections = sections;
+    }
+
+    public static PromptTemplate compile(String name, int version, String source) {
+        Segment[] sections = new Segment[Section.values().length];
+        Section current = null;
+        StringBuilder text = new StringBuilder();
+
+        String[] lines = source.split("\r?\n", -1);
+        int lineCount = lines.length > 0 && lines[lines.length - 1].isEmpty() ? lines.length - 1 : lines.length;
+        for (int i = 0; i < lineCount; i++) {
+            String line = lines[i];
+            if (line.startsWith(SECTION_MARKER)) {
+                if (current != null) {
+                    sections[current.ordinal()] = Segment.parse(name, text.toString());
+                }
+                current = section(name, line.substring(SECTION_MARKER.length()).trim());
+                if (sections[current.ordinal()] != null) {
+                    throw new IllegalArgumentException("Template " + name + " defines section " + current.key + " twice");
+                }
+                text.setLength(0);
+            } else if (current == null) {
+                if (!line.isBlank()) {
+                    throw new IllegalArgumentException("Template " + name + " has text before its first section");
+                }
+            } else {
+                text.append(line).append('\n');
+            }
+        }
+        if (current != null) {
+            sections[current.ordinal()] = Segment.parse(name, text.toString());
+        }
+
+        for (Section section : Section.values()) {
+            if (sections[section.ordinal()] == null) {
+                throw new IllegalArgumentException("Template " + name + " has no section " + section.key);
+            }
+        }
+        return new PromptTemplate(name, version, sections);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public Map<Variable, String> newValues() {
+        return new EnumMap<>(Variable.class);
+    }
+
+    /**
+     * Buffer size for a whole prompt: header and footer with the given values, plus the longest answer section
+     * per answer and the combined length of the per-answer texts.
+     */
+    public int capacity(Map<Variable, String> values, int answerCount, int answerTextLength) {
+        int answerLength = 0;
+        for (Section section : Section.values()) {
+            if (section.isAnswer()) {
+                answerLength = Math.max(answerLength, sections[section.ordinal()].length(values));
+            }
+        }
+        return sections[Section.HEADER.ordinal()].length(values)
+            + sections[Section.FOOTER.ordinal()].length(values)
+            + answerCount * answerLength
+            + answerTextLength;
+    }
+
+    public void append(StringBuilder out, Section section, Map<Variable, String> values) {
+        sections[section.ordinal()].append(out, values, this);
+    }
+
+    private static Section section(String template, String key) {
+        for (Section section : Section.values()) {
+            if (section.key.equals(key)) {
+                return section;
+            }
+        }
+        throw new IllegalArgumentException("Template " + template + " has unknown section " + key);
+    }
+
+    private static Variable variable(String template, String key) {
+        for (Variable variable : Variable.values()) {
+            if (variable.key.equals(key)) {
+                return variable;
+            }
+        }
+        throw new IllegalArgumentException("Template " + template + " references unknown variable ${" + key + "}");
+    }
+
+    private static final class Segment {
+
+        private final String[] literals;
+        private final Variable[] slots;
+        private final int literalLength;
+
+        private Segment(String[] literals, Variable[] slots) {
+            this.literals = literals;
+            this.slots = slots;
+            int length = 0;
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            this.literalLength = length;
+        }
+
+        private static Segment parse(String template, String text) {
+            List<String> literals = new ArrayList<>();
+            List<Variable> slots = new ArrayList<>();
+            int from = 0;
+            int start;
+            while ((start = text.indexOf("${", from)) >= 0) {
+                int end = text.indexOf('}', start);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Template " + template + " has an unterminated variable");
+                }
+                literals.add(text.substring(from, start));
+                slots.add(variable(template, text.substring(start + 2, end)));
+                from = end + 1;
+            }
+            literals.add(text.substring(from));
+            return new Segment(literals.toArray(String[]::new), slots.toArray(Variable[]::new));
+        }
+
+        private int length(Map<Variable, String> values) {
+            int length = literalLength;
+            for (Variable slot : slots) {
+                String value = values.get(slot);
+                if (value != null) {
+                    length += value.length();
+                }
+            }
+            return length;
+        }
+
+        private void append(StringBuilder out, Map<Variable, String> values, PromptTemplate template) {
+            out.append(literals[0]);
+            for (int i = 0; i < slots.length; i++) {
+                String value = values.get(slots[i]);
+                if (value == null) {
+                    throw new IllegalStateException("Template " + template.name + " v" + template.version
+                        + " needs a value for ${" + slots[i].key + "}");
+                }
+                out.append(value).append(literals[i + 1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package kz.sayat.diploma_backend.quiz_module.prompt;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import kz.sayat.diploma_backend.quiz_module.models.PromptTemplateVersion;
+import kz.sayat.diploma_backend.quiz_module.repository.PromptTemplateVersionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Compiled prompt templates by name. The active version in {@code prompt_templates} wins; without one, or when
+ * it does not compile, the template bundled under {@code prompts/} is used as version 0.
+ */
+@Component
+public class PromptTemplateRegistry {
+
+    public static final String QUIZ_FEEDBACK = "quiz_feedback";
+
+    private static final Logger logger = LoggerFactory.getLogger(PromptTemplateRegistry.class);
+
+    private final PromptTemplateVersionRepository promptTemplateVersionRepository;
+    private final LoadingCache<String, PromptTemplate> templates;
+
+    public PromptTemplateRegistry(PromptTemplateVersionRepository promptTemplateVersionRepository,
+                                  @Value("${feedback.prompt.refresh-seconds:60}") long refreshSeconds) {
+        this.promptTemplateVersionRepository = promptTemplateVersionRepository;
+        this.templates = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(refreshSeconds))
+            .build(this::load);
+    }
+
+    public PromptTemplate get(String name) {
+        return templates.get(name);
+    }
+
+    private PromptTemplate load(String name) {
+        Optional<PromptTemplateVersion> active = promptTemplateVersionRepository.findFirstByNameAndActiveTrueOrderByVersionDesc(name);
+        if (active.isPresent()) {
+            try {
+                return PromptTemplate.compile(name, active.get().getVersion(), active.get().getBody());
+            } catch (IllegalArgumentException e) {
+                logger.error("Prompt template {} v{} does not compile, using the bundled one", name, active.get().getVersion(), e);
+            }
+        }
+        return bundled(name);
+    }
+
+    private static PromptTemplate bundled(String name) {
+        try (InputStream in = PromptTemplateRegistry.class.getResourceAsStream("/prompts/" + name + ".txt")) {
+            if (in == null) {
+                throw new IllegalStateException("No prompt template named " + name);
+            }
+            return PromptTemplate.compile(name, 0, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
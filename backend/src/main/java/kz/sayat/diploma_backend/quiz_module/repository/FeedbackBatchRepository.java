@@ -0,0 +1,9 @@
+package kz.sayat.diploma_backend.quiz_module.repository;
+
+import kz.sayat.diploma_backend.quiz_module.models.FeedbackBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FeedbackBatchRepository extends JpaRepository<FeedbackBatch, Integer> {
+}
@@ -0,0 +1,32 @@
+package kz.sayat.diploma_backend.quiz_module.repository;
+
+import kz.sayat.diploma_backend.quiz_module.models.FeedbackCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface FeedbackCacheRepository extends JpaRepository<FeedbackCacheEntry, String> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO feedback_cache (fingerprint, quiz_id, response_text, prompt_tokens, output_tokens, latency_ms)
+        VALUES (:fingerprint, :quizId, :responseText, :promptTokens, :outputTokens, :latencyMs)
+        ON CONFLICT (fingerprint) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("fingerprint") String fingerprint, @Param("quizId") int quizId,
+                       @Param("responseText") String responseText, @Param("promptTokens") int promptTokens,
+                       @Param("outputTokens") int outputTokens, @Param("latencyMs") long latencyMs);
+
+    @Modifying
+    @Query("""
+        UPDATE FeedbackCacheEntry e SET e.hitCount = e.hitCount + :hits, e.lastHitAt = :lastHitAt
+        WHERE e.fingerprint = :fingerprint
+        """)
+    int recordHits(@Param("fingerprint") String fingerprint, @Param("hits") int hits,
+                   @Param("lastHitAt") LocalDateTime lastHitAt);
+}
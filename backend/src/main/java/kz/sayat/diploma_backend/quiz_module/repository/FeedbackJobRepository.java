@@ -0,0 +1,50 @@
+package kz.sayat.diploma_backend.quiz_module.repository;
+
+import kz.sayat.diploma_backend.quiz_module.models.FeedbackJob;
+import kz.sayat.diploma_backend.quiz_module.models.enums.FeedbackJobStatus;
+import kz.sayat.diploma_backend.quiz_module.repository.projection.JobStatusCountView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FeedbackJobRepository extends JpaRepository<FeedbackJob, Integer> {
+
+    Optional<FeedbackJob> findFirstByAttemptIdAndStatusNotOrderByIdDesc(int attemptId, FeedbackJobStatus status);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO feedback_jobs (attempt_id, batch_id, status, attempts, next_run_at, created_at, updated_at)
+        SELECT a.id, CAST(:batchId AS integer), 'PENDING', 0, :now, :now, :now FROM attempts a WHERE a.id IN (:attemptIds)
+        ON CONFLICT (attempt_id) WHERE status <> 'FAILED' DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("attemptIds") Collection<Integer> attemptIds, @Param("batchId") Integer batchId,
+                       @Param("now") LocalDateTime now);
+
+    @Query("SELECT j.status AS status, COUNT(j) AS count FROM FeedbackJob j WHERE j.batchId = :batchId GROUP BY j.status")
+    List<JobStatusCountView> countByStatusForBatch(@Param("batchId") int batchId);
+
+    @Query(value = """
+        SELECT * FROM feedback_jobs
+        WHERE status = 'PENDING' AND next_run_at <= :now
+        ORDER BY next_run_at, id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<FeedbackJob> lockRunnable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+        UPDATE FeedbackJob j SET j.status = :pending, j.nextRunAt = :now, j.updatedAt = :now
+        WHERE j.status = :running AND j.updatedAt < :staleBefore
+        """)
+    int requeueStale(@Param("pending") FeedbackJobStatus pending, @Param("running") FeedbackJobStatus running,
+                     @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -1,13 +1,35 @@
 package kz.sayat.diploma_backend.quiz_module.repository;
 
 import kz.sayat.diploma_backend.quiz_module.models.Feedback;
-import kz.sayat.diploma_backend.quiz_module.models.QuizAttempt;
+import kz.sayat.diploma_backend.quiz_module.repository.projection.FeedbackView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FeedbackRepository extends JpaRepository<Feedback,Integer> {
-    Optional<Feedback> findByQuizAttempt(QuizAttempt attempt);
+    Optional<Feedback> findFirstByQuizAttemptIdOrderByIdDesc(int attemptId);
+
+    List<Feedback> findByQuizAttemptIdIn(Collection<Integer> attemptIds);
+
+    @Query("""
+        SELECT f.id AS id, f.feedbackText AS feedbackText, s.firstname AS studentFirstname,
+               s.lastname AS studentLastname, c.title AS courseTitle, q.title AS quizTitle,
+               f.createdAt AS createdAt
+        FROM Feedback f
+        JOIN f.quizAttempt a
+        JOIN a.student s
+        JOIN a.quiz q
+        JOIN q.module m
+        JOIN m.course c
+        WHERE f.id < :beforeId
+        ORDER BY f.id DESC
+        """)
+    List<FeedbackView> findViewsBefore(@Param("beforeId") int beforeId, Pageable pageable);
 }
@@ -0,0 +1,13 @@
+package kz.sayat.diploma_backend.quiz_module.repository;
+
+import kz.sayat.diploma_backend.quiz_module.models.PromptTemplateVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PromptTemplateVersionRepository extends JpaRepository<PromptTemplateVersion, Integer> {
+
+    Optional<PromptTemplateVersion> findFirstByNameAndActiveTrueOrderByVersionDesc(String name);
+}
@@ -2,12 +2,29 @@ package kz.sayat.diploma_backend.quiz_module.repository;
 
 import kz.sayat.diploma_backend.quiz_module.models.Question;
 import kz.sayat.diploma_backend.quiz_module.models.Quiz;
+import kz.sayat.diploma_backend.quiz_module.repository.projection.AnswerKeyRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Integer> {
     List<Question> findByQuiz(Quiz quiz);
+
+    @Query("SELECT DISTINCT q FROM Question q LEFT JOIN FETCH q.answers WHERE q.id IN :ids")
+    List<Question> findWithAnswersByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query("""
+        SELECT q.id AS questionId, a.id AS answerId, a.isCorrect AS correct
+        FROM Question q LEFT JOIN q.answers a
+        WHERE q.quiz.id = :quizId
+        """)
+    List<AnswerKeyRow> findAnswerKeyRows(@Param("quizId") int quizId);
+
+    @Query(value = "SELECT id FROM questions WHERE quiz_id = :quizId ORDER BY random() LIMIT :count", nativeQuery = true)
+    List<Integer> drawIds(@Param("quizId") int quizId, @Param("count") int count);
 }
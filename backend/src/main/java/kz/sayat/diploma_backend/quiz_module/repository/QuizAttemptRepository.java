@@ -3,15 +3,60 @@ package kz.sayat.diploma_backend.quiz_module.repository;
 import kz.sayat.diploma_backend.auth_module.models.Student;
 import kz.sayat.diploma_backend.quiz_module.models.Quiz;
 import kz.sayat.diploma_backend.quiz_module.models.QuizAttempt;
+import kz.sayat.diploma_backend.quiz_module.repository.projection.LatestAttemptView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface QuizAttemptRepository extends JpaRepository<QuizAttempt, Integer> {
 
-    List<QuizAttempt> findByStudentAndQuiz(Student student, Quiz quiz);
     QuizAttempt findTopByStudentAndQuizOrderByAttemptNumberDesc(Student student, Quiz quiz);
     QuizAttempt findTopByStudentIdAndQuizIdOrderByAttemptNumberDesc(Integer studentId, int quizId);
+
+    @Query(value = """
+        INSERT INTO attempt_counters (student_id, quiz_id, last_number)
+        VALUES (:studentId, :quizId, 1)
+        ON CONFLICT (student_id, quiz_id) DO UPDATE SET last_number = attempt_counters.last_number + 1
+        RETURNING last_number
+        """, nativeQuery = true)
+    int nextAttemptNumber(@Param("studentId") int studentId, @Param("quizId") int quizId);
+
+    @Query("SELECT a.id FROM QuizAttempt a WHERE a.quiz.id = :quizId ORDER BY a.id")
+    List<Integer> findIdsByQuizId(@Param("quizId") int quizId);
+
+    @Query("SELECT a.id FROM QuizAttempt a WHERE a.id IN :ids AND a.quiz.module.course.teacher.id = :teacherId")
+    List<Integer> findIdsTaughtBy(@Param("ids") Collection<Integer> ids, @Param("teacherId") int teacherId);
+
+    @Query("SELECT a.id FROM QuizAttempt a WHERE a.id IN :ids")
+    List<Integer> findExistingIds(@Param("ids") Collection<Integer> ids);
+
+    @Query("""
+        SELECT DISTINCT a FROM QuizAttempt a
+        JOIN FETCH a.student
+        JOIN FETCH a.quiz q
+        JOIN FETCH q.module
+        LEFT JOIN FETCH a.attemptAnswers aa
+        LEFT JOIN FETCH aa.question
+        LEFT JOIN FETCH aa.answer
+        WHERE a.id IN :ids
+        """)
+    List<QuizAttempt> findWithAnswersByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query(value = """
+        SELECT DISTINCT ON (a.quiz_id)
+               a.quiz_id AS quizId, a.id AS attemptId, a.attempt_number AS attemptNumber,
+               a.score AS score, a.passed AS passed
+        FROM attempts a
+        JOIN quizzes q ON q.id = a.quiz_id
+        JOIN modules m ON m.id = q.module_id
+        WHERE a.student_id = :studentId AND m.course_id = :courseId
+        ORDER BY a.quiz_id, a.attempt_number DESC
+        """, nativeQuery = true)
+    List<LatestAttemptView> findLatestAttemptsByCourse(@Param("studentId") int studentId,
+                                                       @Param("courseId") int courseId);
 }
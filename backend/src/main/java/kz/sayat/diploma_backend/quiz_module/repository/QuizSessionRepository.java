@@ -0,0 +1,21 @@
+package kz.sayat.diploma_backend.quiz_module.repository;
+
+import jakarta.persistence.LockModeType;
+import kz.sayat.diploma_backend.quiz_module.models.QuizSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface QuizSessionRepository extends JpaRepository<QuizSession, Integer> {
+
+    Optional<QuizSession> findFirstByStudentIdAndQuizIdAndSubmittedAtIsNullOrderByIdDesc(int studentId, int quizId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM QuizSession s WHERE s.id = :id")
+    Optional<QuizSession> findByIdForUpdate(@Param("id") int id);
+}
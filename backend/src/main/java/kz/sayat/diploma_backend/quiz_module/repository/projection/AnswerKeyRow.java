@@ -0,0 +1,10 @@
+package kz.sayat.diploma_backend.quiz_module.repository.projection;
+
+public interface AnswerKeyRow {
+
+    int getQuestionId();
+
+    Integer getAnswerId();
+
+    Boolean getCorrect();
+}
@@ -0,0 +1,20 @@
+package kz.sayat.diploma_backend.quiz_module.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface FeedbackView {
+
+    Integer getId();
+
+    String getFeedbackText();
+
+    String getStudentFirstname();
+
+    String getStudentLastname();
+
+    String getCourseTitle();
+
+    String getQuizTitle();
+
+    LocalDateTime getCreatedAt();
+}
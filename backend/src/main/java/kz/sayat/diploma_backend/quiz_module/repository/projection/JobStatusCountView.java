@@ -0,0 +1,10 @@
+package kz.sayat.diploma_backend.quiz_module.repository.projection;
+
+import kz.sayat.diploma_backend.quiz_module.models.enums.FeedbackJobStatus;
+
+public interface JobStatusCountView {
+
+    FeedbackJobStatus getStatus();
+
+    Long getCount();
+}
@@ -0,0 +1,14 @@
+package kz.sayat.diploma_backend.quiz_module.repository.projection;
+
+public interface LatestAttemptView {
+
+    Integer getQuizId();
+
+    Integer getAttemptId();
+
+    Integer getAttemptNumber();
+
+    Double getScore();
+
+    Boolean getPassed();
+}
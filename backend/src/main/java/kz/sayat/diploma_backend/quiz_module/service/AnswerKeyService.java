@@ -0,0 +1,8 @@
+package kz.sayat.diploma_backend.quiz_module.service;
+
+import kz.sayat.diploma_backend.quiz_module.grading.AnswerKey;
+
+public interface AnswerKeyService {
+
+    AnswerKey getAnswerKey(int quizId);
+}
@@ -0,0 +1,12 @@
+package kz.sayat.diploma_backend.quiz_module.service;
+
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackBatchDto;
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackBatchRequest;
+import org.springframework.security.core.Authentication;
+
+public interface FeedbackBatchService {
+
+    FeedbackBatchDto submit(FeedbackBatchRequest request, Authentication authentication);
+
+    FeedbackBatchDto getBatch(int batchId, Authentication authentication);
+}
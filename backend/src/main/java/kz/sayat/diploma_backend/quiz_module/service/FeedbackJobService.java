@@ -0,0 +1,24 @@
+package kz.sayat.diploma_backend.quiz_module.service;
+
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackJobDto;
+import org.springframework.security.core.Authentication;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface FeedbackJobService {
+
+    FeedbackJobDto submit(int attemptId);
+
+    FeedbackJobDto getJob(int jobId, Authentication authentication);
+
+    FeedbackJobDto findJob(int jobId);
+
+    List<FeedbackJobDto> claim(int limit);
+
+    void complete(Collection<Integer> jobIds);
+
+    void fail(int jobId, String error, boolean retryable);
+
+    int requeueStale();
+}
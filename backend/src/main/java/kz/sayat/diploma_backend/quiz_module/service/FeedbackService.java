@@ -1,17 +1,31 @@
 package kz.sayat.diploma_backend.quiz_module.service;
 
 import kz.sayat.diploma_backend.quiz_module.dto.FeedbackDto;
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackPrompt;
+import kz.sayat.diploma_backend.quiz_module.dto.GeneratedFeedback;
+import kz.sayat.diploma_backend.util.pagination.CursorPage;
 import org.springframework.security.core.Authentication;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface FeedbackService {
 
     String generateFeedback(int attemptId);
 
+    List<FeedbackPrompt> prepareFeedback(Collection<Integer> attemptIds);
+
+    GeneratedFeedback generateFeedback(FeedbackPrompt prompt);
+
+    void saveFeedback(Collection<GeneratedFeedback> feedback);
+
+    CompletableFuture<String> streamFeedback(int attemptId, Authentication authentication, Consumer<String> onChunk);
+
     String getFeedbackOfStudent(int attemptId, Authentication authentication);
 
-    List<FeedbackDto> getAllFeedback();
+    CursorPage<FeedbackDto> getAllFeedback(Integer cursor, int size, boolean withTotal);
 
     void deleteFeedback(int id);
 }
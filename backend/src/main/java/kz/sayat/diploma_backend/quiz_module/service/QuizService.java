@@ -3,6 +3,7 @@ package kz.sayat.diploma_backend.quiz_module.service;
 import kz.sayat.diploma_backend.course_module.dto.QuizSummaryDto;
 import kz.sayat.diploma_backend.quiz_module.dto.QuizAttemptDto;
 import kz.sayat.diploma_backend.quiz_module.dto.QuizDto;
+import kz.sayat.diploma_backend.quiz_module.dto.QuizSessionDto;
 import kz.sayat.diploma_backend.quiz_module.dto.StudentAnswerDto;
 import org.springframework.security.core.Authentication;
 
@@ -14,9 +15,13 @@ public interface QuizService {
 
     QuizDto findQuiz(int quizId);
 
+    QuizSummaryDto findQuizSummary(int quizId);
+
     List<QuizSummaryDto> findAllQuizByModuleId(int moduleId);
 
-    QuizAttemptDto assignGrade(List<StudentAnswerDto> studentAnswers, Authentication authentication, int quizId, int durationSeconds);
+    QuizSessionDto startSession(int quizId, Authentication authentication);
+
+    QuizAttemptDto assignGrade(int sessionId, List<StudentAnswerDto> studentAnswers, Authentication authentication);
 
     void delete(int quizId);
 
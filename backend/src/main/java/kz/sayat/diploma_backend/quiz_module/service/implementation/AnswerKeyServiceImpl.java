@@ -0,0 +1,24 @@
+package kz.sayat.diploma_backend.quiz_module.service.implementation;
+
+import jakarta.transaction.Transactional;
+import kz.sayat.diploma_backend.quiz_module.grading.AnswerKey;
+import kz.sayat.diploma_backend.quiz_module.repository.QuestionRepository;
+import kz.sayat.diploma_backend.quiz_module.service.AnswerKeyService;
+import kz.sayat.diploma_backend.util.cache.CacheNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class AnswerKeyServiceImpl implements AnswerKeyService {
+
+    private final QuestionRepository questionRepository;
+
+    @Override
+    @Cacheable(cacheNames = CacheNames.ANSWER_KEYS, key = "#quizId")
+    public AnswerKey getAnswerKey(int quizId) {
+        return AnswerKey.of(questionRepository.findAnswerKeyRows(quizId));
+    }
+}
@@ -0,0 +1,98 @@
+package kz.sayat.diploma_backend.quiz_module.service.implementation;
+
+import jakarta.transaction.Transactional;
+import kz.sayat.diploma_backend.auth_module.models.enums.UserRole;
+import kz.sayat.diploma_backend.auth_module.security.MyUserDetails;
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackBatchDto;
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackBatchRequest;
+import kz.sayat.diploma_backend.quiz_module.models.FeedbackBatch;
+import kz.sayat.diploma_backend.quiz_module.models.enums.FeedbackJobStatus;
+import kz.sayat.diploma_backend.quiz_module.repository.FeedbackBatchRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.FeedbackJobRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.QuizAttemptRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.projection.JobStatusCountView;
+import kz.sayat.diploma_backend.quiz_module.service.FeedbackBatchService;
+import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class FeedbackBatchServiceImpl implements FeedbackBatchService {
+
+    private final FeedbackBatchRepository feedbackBatchRepository;
+    private final FeedbackJobRepository feedbackJobRepository;
+    private final QuizAttemptRepository quizAttemptRepository;
+
+    @Value("${feedback.batch.max-size:1000}")
+    private int maxSize;
+
+    @Override
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+    public FeedbackBatchDto submit(FeedbackBatchRequest request, Authentication authentication) {
+        MyUserDetails user = (MyUserDetails) authentication.getPrincipal();
+        List<Integer> attemptIds = resolveAttemptIds(request);
+        if (attemptIds.isEmpty()) {
+            throw new IllegalArgumentException("There are no quiz attempts to generate feedback for");
+        }
+        if (attemptIds.size() > maxSize) {
+            throw new IllegalArgumentException("A feedback batch can contain at most " + maxSize + " attempts");
+        }
+
+        List<Integer> accessible = user.getRole() == UserRole.TEACHER
+            ? quizAttemptRepository.findIdsTaughtBy(attemptIds, user.getId())
+            : quizAttemptRepository.findExistingIds(attemptIds);
+        if (accessible.size() != attemptIds.size()) {
+            throw new ResourceNotFoundException("Some quiz attempts were not found");
+        }
+
+        FeedbackBatch batch = feedbackBatchRepository.save(
+            new FeedbackBatch(request.getQuizId(), user.getId(), attemptIds.size()));
+        // Attempts that already have a queued, running or finished job are skipped rather than
+        // queued twice, so the batch only tracks the jobs it actually created.
+        batch.setTotal(feedbackJobRepository.insertIfAbsent(attemptIds, batch.getId(), LocalDateTime.now()));
+        return new FeedbackBatchDto(batch.getId(), batch.getQuizId(), batch.getTotal(),
+            batch.getTotal(), 0, 0, 0, false);
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN')")
+    public FeedbackBatchDto getBatch(int batchId, Authentication authentication) {
+        FeedbackBatch batch = feedbackBatchRepository.findById(batchId)
+            .orElseThrow(() -> new ResourceNotFoundException("Feedback batch not found"));
+        MyUserDetails user = (MyUserDetails) authentication.getPrincipal();
+        if (user.getRole() == UserRole.TEACHER && batch.getRequestedBy() != user.getId()) {
+            throw new ResourceNotFoundException("Feedback batch not found");
+        }
+
+        Map<FeedbackJobStatus, Long> counts = new EnumMap<>(FeedbackJobStatus.class);
+        for (JobStatusCountView row : feedbackJobRepository.countByStatusForBatch(batchId)) {
+            counts.put(row.getStatus(), row.getCount());
+        }
+        long done = counts.getOrDefault(FeedbackJobStatus.DONE, 0L);
+        long failed = counts.getOrDefault(FeedbackJobStatus.FAILED, 0L);
+        return new FeedbackBatchDto(batch.getId(), batch.getQuizId(), batch.getTotal(),
+            counts.getOrDefault(FeedbackJobStatus.PENDING, 0L),
+            counts.getOrDefault(FeedbackJobStatus.RUNNING, 0L),
+            done, failed, done + failed >= batch.getTotal());
+    }
+
+    private List<Integer> resolveAttemptIds(FeedbackBatchRequest request) {
+        boolean hasAttempts = request.getAttemptIds() != null && !request.getAttemptIds().isEmpty();
+        if ((request.getQuizId() == null) == !hasAttempts) {
+            throw new IllegalArgumentException("Provide either a quiz id or a list of attempt ids");
+        }
+        return hasAttempts
+            ? request.getAttemptIds().stream().distinct().toList()
+            : quizAttemptRepository.findIdsByQuizId(request.getQuizId());
+    }
+}
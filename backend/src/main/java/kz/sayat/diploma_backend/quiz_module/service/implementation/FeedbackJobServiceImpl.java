@@ -0,0 +1,135 @@
+package kz.sayat.diploma_backend.quiz_module.service.implementation;
+
+import jakarta.transaction.Transactional;
+import kz.sayat.diploma_backend.auth_module.models.enums.UserRole;
+import kz.sayat.diploma_backend.auth_module.security.MyUserDetails;
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackJobDto;
+import kz.sayat.diploma_backend.quiz_module.events.FeedbackJobFinishedEvent;
+import kz.sayat.diploma_backend.quiz_module.models.Feedback;
+import kz.sayat.diploma_backend.quiz_module.models.FeedbackJob;
+import kz.sayat.diploma_backend.quiz_module.models.QuizAttempt;
+import kz.sayat.diploma_backend.quiz_module.models.enums.FeedbackJobStatus;
+import kz.sayat.diploma_backend.quiz_module.repository.FeedbackJobRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.FeedbackRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.QuizAttemptRepository;
+import kz.sayat.diploma_backend.quiz_module.service.FeedbackJobService;
+import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class FeedbackJobServiceImpl implements FeedbackJobService {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final FeedbackJobRepository feedbackJobRepository;
+    private final FeedbackRepository feedbackRepository;
+    private final QuizAttemptRepository quizAttemptRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${feedback.jobs.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${feedback.jobs.backoff-seconds:10}")
+    private long backoffSeconds;
+
+    @Value("${feedback.jobs.stale-after-seconds:300}")
+    private long staleAfterSeconds;
+
+    @Override
+    public FeedbackJobDto submit(int attemptId) {
+        if (!quizAttemptRepository.existsById(attemptId)) {
+            throw new ResourceNotFoundException("Quiz attempt not found");
+        }
+        feedbackJobRepository.insertIfAbsent(List.of(attemptId), null, LocalDateTime.now());
+        FeedbackJob job = feedbackJobRepository
+            .findFirstByAttemptIdAndStatusNotOrderByIdDesc(attemptId, FeedbackJobStatus.FAILED)
+            .orElseThrow(() -> new IllegalStateException("Feedback job was not queued for attempt " + attemptId));
+        return toDto(job);
+    }
+
+    @Override
+    public FeedbackJobDto getJob(int jobId, Authentication authentication) {
+        FeedbackJob job = feedbackJobRepository.findById(jobId)
+            .orElseThrow(() -> new ResourceNotFoundException("Feedback job not found"));
+
+        MyUserDetails user = (MyUserDetails) authentication.getPrincipal();
+        if (user.getRole() == UserRole.STUDENT) {
+            QuizAttempt attempt = quizAttemptRepository.findById(job.getAttemptId())
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz attempt not found"));
+            if (attempt.getStudent().getId() != user.getId()) {
+                throw new ResourceNotFoundException("You are not allowed to view this feedback");
+            }
+        }
+        return toDto(job);
+    }
+
+    @Override
+    public FeedbackJobDto findJob(int jobId) {
+        return feedbackJobRepository.findById(jobId)
+            .map(this::toDto)
+            .orElseThrow(() -> new ResourceNotFoundException("Feedback job not found"));
+    }
+
+    @Override
+    public List<FeedbackJobDto> claim(int limit) {
+        List<FeedbackJob> jobs = feedbackJobRepository.lockRunnable(LocalDateTime.now(), limit);
+        for (FeedbackJob job : jobs) {
+            job.setStatus(FeedbackJobStatus.RUNNING);
+            job.setAttempts(job.getAttempts() + 1);
+        }
+        return jobs.stream().map(this::toDto).toList();
+    }
+
+    @Override
+    public void complete(Collection<Integer> jobIds) {
+        for (FeedbackJob job : feedbackJobRepository.findAllById(jobIds)) {
+            job.setStatus(FeedbackJobStatus.DONE);
+            job.setLastError(null);
+            eventPublisher.publishEvent(new FeedbackJobFinishedEvent(job.getId()));
+        }
+    }
+
+    @Override
+    public void fail(int jobId, String error, boolean retryable) {
+        FeedbackJob job = feedbackJobRepository.findById(jobId)
+            .orElseThrow(() -> new ResourceNotFoundException("Feedback job not found"));
+        job.setLastError(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+        if (retryable && job.getAttempts() < maxAttempts) {
+            long delay = backoffSeconds << Math.min(job.getAttempts() - 1, 10);
+            job.setStatus(FeedbackJobStatus.PENDING);
+            job.setNextRunAt(LocalDateTime.now().plusSeconds(delay));
+        } else {
+            job.setStatus(FeedbackJobStatus.FAILED);
+            eventPublisher.publishEvent(new FeedbackJobFinishedEvent(jobId));
+        }
+    }
+
+    @Override
+    public int requeueStale() {
+        LocalDateTime now = LocalDateTime.now();
+        return feedbackJobRepository.requeueStale(FeedbackJobStatus.PENDING, FeedbackJobStatus.RUNNING,
+            now, now.minusSeconds(staleAfterSeconds));
+    }
+
+    private FeedbackJobDto toDto(FeedbackJob job) {
+        String feedbackText = null;
+        if (job.getStatus() == FeedbackJobStatus.DONE) {
+            feedbackText = feedbackRepository.findFirstByQuizAttemptIdOrderByIdDesc(job.getAttemptId())
+                .map(Feedback::getFeedbackText)
+                .orElse(null);
+        }
+        return new FeedbackJobDto(job.getId(), job.getAttemptId(), job.getStatus(), job.getAttempts(),
+            job.getLastError(), feedbackText);
+    }
+}
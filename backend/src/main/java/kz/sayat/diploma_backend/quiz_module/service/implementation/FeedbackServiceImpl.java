@@ -2,26 +2,49 @@ package kz.sayat.diploma_backend.quiz_module.service.implementation;
 
 import jakarta.transaction.Transactional;
 import kz.sayat.diploma_backend.auth_module.models.Student;
+import kz.sayat.diploma_backend.auth_module.models.enums.UserRole;
+import kz.sayat.diploma_backend.auth_module.security.MyUserDetails;
 import kz.sayat.diploma_backend.auth_module.service.StudentService;
 import kz.sayat.diploma_backend.course_module.models.Lecture; // Import Lecture entity
+import kz.sayat.diploma_backend.quiz_module.client.FeedbackResponseCache;
+import kz.sayat.diploma_backend.quiz_module.client.GeminiClient;
+import kz.sayat.diploma_backend.quiz_module.client.LlmResponse;
+import kz.sayat.diploma_backend.course_module.repository.ModuleRepository;
 import kz.sayat.diploma_backend.quiz_module.dto.FeedbackDto;
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackPrompt;
+import kz.sayat.diploma_backend.quiz_module.dto.GeneratedFeedback;
+import kz.sayat.diploma_backend.quiz_module.prompt.CorrectAnswerIndex;
+import kz.sayat.diploma_backend.quiz_module.prompt.PromptTemplate;
+import kz.sayat.diploma_backend.quiz_module.prompt.PromptTemplate.Section;
+import kz.sayat.diploma_backend.quiz_module.prompt.PromptTemplate.Variable;
+import kz.sayat.diploma_backend.quiz_module.prompt.PromptTemplateRegistry;
 import kz.sayat.diploma_backend.quiz_module.service.FeedbackService;
 import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
-import kz.sayat.diploma_backend.quiz_module.dto.GeminiRequest;
-import kz.sayat.diploma_backend.quiz_module.dto.GeminiResponse;
 import kz.sayat.diploma_backend.quiz_module.models.*;
 import kz.sayat.diploma_backend.quiz_module.repository.FeedbackRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.QuestionRepository;
 import kz.sayat.diploma_backend.quiz_module.repository.QuizAttemptRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.projection.FeedbackView;
+import kz.sayat.diploma_backend.util.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,21 +52,167 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class FeedbackServiceImpl implements FeedbackService {
 
+    private static final DateTimeFormatter ATTEMPT_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    static final String STUDENT_PLACEHOLDER = "{{student_name}}";
+    private static final int DURATION_BUCKETS = 10;
+    private static final String NO_FEEDBACK = "No feedback available.";
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackServiceImpl.class);
+
     private final FeedbackRepository feedbackRepository;
     private final QuizAttemptRepository quizAttemptRepository;
+    private final QuestionRepository questionRepository;
+    private final ModuleRepository moduleRepository;
     private final StudentService studentService;
+    private final TransactionTemplate transactionTemplate;
+    private final GeminiClient geminiClient;
+    private final FeedbackResponseCache feedbackResponseCache;
+    private final PromptTemplateRegistry promptTemplates;
 
-    @Value("${gemini.api-key}")
-    private String apiKey;
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public String generateFeedback(int attemptId) {
+        FeedbackPrompt prompt = transactionTemplate.execute(status -> preparePrompt(attemptId, null));
+        if (prompt.existingFeedback() != null) {
+            return prompt.existingFeedback();
+        }
 
-    @Value("${gemini.api-url}")
-    private String apiUrl;
+        String template = feedbackResponseCache.lookup(prompt.fingerprint())
+            .map(LlmResponse::text)
+            .orElseGet(() -> getFeedback(prompt));
+        return persist(prompt, template);
+    }
 
     @Override
-    public String generateFeedback(int attemptId) {
+    public List<FeedbackPrompt> prepareFeedback(Collection<Integer> attemptIds) {
+        if (attemptIds.isEmpty()) {
+            return List.of();
+        }
+        List<QuizAttempt> attempts = quizAttemptRepository.findWithAnswersByIdIn(attemptIds);
+        moduleRepository.findWithLecturesByIdIn(attempts.stream()
+            .map(attempt -> attempt.getQuiz().getModule().getId())
+            .collect(Collectors.toSet()));
+        questionRepository.findWithAnswersByIdIn(attempts.stream()
+            .flatMap(attempt -> attempt.getAttemptAnswers().stream())
+            .map(attemptAnswer -> attemptAnswer.getQuestion().getId())
+            .collect(Collectors.toSet()));
+        Map<Integer, String> existing = feedbackRepository.findByQuizAttemptIdIn(attemptIds).stream()
+            .collect(Collectors.toMap(feedback -> feedback.getQuizAttempt().getId(), Feedback::getFeedbackText,
+                (first, second) -> second));
+
+        PromptTemplate template = promptTemplates.get(PromptTemplateRegistry.QUIZ_FEEDBACK);
+        Map<Integer, CorrectAnswerIndex> correctAnswers = new HashMap<>();
+        List<FeedbackPrompt> prompts = new ArrayList<>(attempts.size());
+        for (QuizAttempt attempt : attempts) {
+            String feedbackText = existing.get(attempt.getId());
+            if (feedbackText != null) {
+                prompts.add(FeedbackPrompt.existing(attempt.getId(), feedbackText));
+                continue;
+            }
+            try {
+                prompts.add(buildFeedbackPrompt(attempt, template,
+                    correctAnswers.computeIfAbsent(attempt.getQuiz().getId(), quizId -> new CorrectAnswerIndex())));
+            } catch (ResourceNotFoundException | IllegalStateException e) {
+                prompts.add(FeedbackPrompt.failed(attempt.getId(), e.getMessage()));
+            }
+        }
+        return prompts;
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public GeneratedFeedback generateFeedback(FeedbackPrompt prompt) {
+        String template = feedbackResponseCache.lookup(prompt.fingerprint())
+            .map(LlmResponse::text)
+            .orElseGet(() -> getFeedback(prompt));
+        return new GeneratedFeedback(prompt.attemptId(), prompt.promptText(), personalize(prompt, template));
+    }
+
+    @Override
+    public void saveFeedback(Collection<GeneratedFeedback> feedback) {
+        feedbackRepository.saveAll(feedback.stream()
+            .map(generated -> new Feedback(generated.promptText(), generated.feedbackText(),
+                quizAttemptRepository.getReferenceById(generated.attemptId())))
+            .toList());
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public CompletableFuture<String> streamFeedback(int attemptId, Authentication authentication, Consumer<String> onChunk) {
+        FeedbackPrompt prompt = transactionTemplate.execute(status -> preparePrompt(attemptId, authentication));
+        if (prompt.existingFeedback() != null) {
+            emit(onChunk, prompt.existingFeedback());
+            return CompletableFuture.completedFuture(prompt.existingFeedback());
+        }
+
+        Optional<LlmResponse> cached = feedbackResponseCache.lookup(prompt.fingerprint());
+        if (cached.isPresent()) {
+            String feedbackText = persist(prompt, cached.get().text());
+            emit(onChunk, feedbackText);
+            return CompletableFuture.completedFuture(feedbackText);
+        }
+
+        NameFiller nameFiller = new NameFiller(prompt.studentName());
+        CompletableFuture<LlmResponse> stream = geminiClient.stream(prompt.promptText(),
+            chunk -> emit(onChunk, nameFiller.fill(chunk)));
+        CompletableFuture<String> feedback = stream.thenApply(response -> {
+            emit(onChunk, nameFiller.flush());
+            if (response.text() == null) {
+                emit(onChunk, NO_FEEDBACK);
+                return persist(prompt, NO_FEEDBACK);
+            }
+            feedbackResponseCache.store(prompt.fingerprint(), prompt.quizId(), response);
+            return persist(prompt, response.text());
+        });
+        feedback.whenComplete((text, error) -> {
+            if (error instanceof CancellationException) {
+                stream.cancel(true);
+            }
+        });
+        return feedback;
+    }
+
+    private String persist(FeedbackPrompt prompt, String template) {
+        String feedbackText = personalize(prompt, template);
+        transactionTemplate.executeWithoutResult(status -> feedbackRepository.save(
+            new Feedback(prompt.promptText(), feedbackText, quizAttemptRepository.getReferenceById(prompt.attemptId()))));
+        return feedbackText;
+    }
+
+    private static String personalize(FeedbackPrompt prompt, String template) {
+        return template.replace(STUDENT_PLACEHOLDER, prompt.studentName());
+    }
+
+    private static void emit(Consumer<String> onChunk, String text) {
+        if (text.isEmpty()) {
+            return;
+        }
+        try {
+            onChunk.accept(text);
+        } catch (RuntimeException e) {
+            logger.debug("Dropping feedback chunk for a disconnected client", e);
+        }
+    }
+
+    private FeedbackPrompt preparePrompt(int attemptId, Authentication authentication) {
         QuizAttempt quizAttempt = quizAttemptRepository.findById(attemptId)
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz attempt not found"));
+        if (authentication != null) {
+            MyUserDetails user = (MyUserDetails) authentication.getPrincipal();
+            if (user.getRole() == UserRole.STUDENT && quizAttempt.getStudent().getId() != user.getId()) {
+                throw new ResourceNotFoundException("You are not allowed to view this feedback");
+            }
+        }
 
+        Optional<Feedback> existing = feedbackRepository.findFirstByQuizAttemptIdOrderByIdDesc(attemptId);
+        if (existing.isPresent()) {
+            return FeedbackPrompt.existing(attemptId, existing.get().getFeedbackText());
+        }
+        return buildFeedbackPrompt(quizAttempt, promptTemplates.get(PromptTemplateRegistry.QUIZ_FEEDBACK),
+            new CorrectAnswerIndex());
+    }
+
+    private FeedbackPrompt buildFeedbackPrompt(QuizAttempt quizAttempt, PromptTemplate template,
+                                               CorrectAnswerIndex correctAnswers) {
         int passingScore = quizAttempt.getQuiz().getPassingScore();
         boolean isPassed = quizAttempt.getScore() >= passingScore;
 
@@ -59,11 +228,15 @@ public class FeedbackServiceImpl implements FeedbackService {
             throw new ResourceNotFoundException("YouTube link not found for the lecture");
         }
 
-        String promptText = buildPrompt(quizAttempt, isPassed, youtubeLink);
-        String feedbackText = getFeedback(promptText);
+        Quiz quiz = quizAttempt.getQuiz();
+        int durationBucket = durationBucket(quizAttempt.getDurationSeconds(), quiz.getDurationInMinutes() * 60);
+        String promptText = buildPrompt(quizAttempt, isPassed, youtubeLink, durationBucket, template, correctAnswers);
+        List<Integer> answerIds = quizAttempt.getAttemptAnswers().stream()
+            .map(attemptAnswer -> attemptAnswer.getAnswer().getId())
+            .toList();
 
-        feedbackRepository.save(new Feedback(promptText, feedbackText, quizAttempt));
-        return feedbackText;
+        return new FeedbackPrompt(quizAttempt.getId(), quiz.getId(), quizAttempt.getStudent().getFirstname(), promptText,
+            FeedbackResponseCache.fingerprint(quiz.getId(), answerIds, durationBucket, promptText), null, null);
     }
 
     @Override
@@ -76,7 +249,7 @@ public class FeedbackServiceImpl implements FeedbackService {
             throw new ResourceNotFoundException("You are not allowed to view this feedback");
         }
 
-        Feedback feedback = feedbackRepository.findByQuizAttempt(attempt)
+        Feedback feedback = feedbackRepository.findFirstByQuizAttemptIdOrderByIdDesc(attempt.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Feedback not found for this attempt"));
 
         return feedback.getFeedbackText();
@@ -84,29 +257,23 @@ public class FeedbackServiceImpl implements FeedbackService {
 
     @Override
     @PreAuthorize("hasRole('ADMIN')")
-    public List<FeedbackDto> getAllFeedback() {
-        List<Feedback> feedbacks = feedbackRepository.findAll();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
-        return feedbacks.stream()
-                .map(feedback -> {
-                    String studentFirstname = feedback.getQuizAttempt().getStudent().getFirstname();
-                    String studentLastname = feedback.getQuizAttempt().getStudent().getLastname();
-                    String courseTitle = feedback.getQuizAttempt().getQuiz().getModule().getCourse().getTitle();
-                    String quizTitle = feedback.getQuizAttempt().getQuiz().getTitle();
-                    String attemptTime = feedback.getCreatedAt().format(formatter);
-
-                    return new FeedbackDto(
-                            feedback.getId(),
-                            feedback.getFeedbackText(),
-                            studentFirstname,
-                            studentLastname,
-                            courseTitle,
-                            quizTitle,
-                            attemptTime
-                    );
-                })
-                .collect(Collectors.toList());
+    public CursorPage<FeedbackDto> getAllFeedback(Integer cursor, int size, boolean withTotal) {
+        List<FeedbackView> feedbacks = feedbackRepository.findViewsBefore(
+            cursor == null ? Integer.MAX_VALUE : cursor, CursorPage.request(size));
+        return CursorPage.of(feedbacks, size, FeedbackView::getId, this::toFeedbackDto,
+            withTotal, feedbackRepository::count);
+    }
+
+    private FeedbackDto toFeedbackDto(FeedbackView feedback) {
+        return new FeedbackDto(
+                feedback.getId(),
+                feedback.getFeedbackText(),
+                feedback.getStudentFirstname(),
+                feedback.getStudentLastname(),
+                feedback.getCourseTitle(),
+                feedback.getQuizTitle(),
+                feedback.getCreatedAt() == null ? null : feedback.getCreatedAt().format(ATTEMPT_TIME_FORMAT)
+        );
     }
 
     @Override
@@ -115,98 +282,103 @@ public class FeedbackServiceImpl implements FeedbackService {
         feedbackRepository.deleteById(id);
     }
 
-    private String buildPrompt(QuizAttempt quizAttempt, boolean isPassed, String youtubeLink) {
-        StringBuilder prompt = new StringBuilder();
-        prompt.append("Quiz Attempt Summary:\n");
-        prompt.append("Student: ").append(quizAttempt.getStudent().getFirstname()).append("\n");
-        prompt.append("Quiz Topic: ").append(quizAttempt.getQuiz().getTitle()).append("\n");
-        prompt.append("Attempt Number: ").append(quizAttempt.getAttemptNumber()).append("\n");
-        prompt.append("Score: ").append(quizAttempt.getScore()).append("/100\n");
-        prompt.append("Maximum Allowed Time: ").append(formatDuration(quizAttempt.getQuiz().getDurationInMinutes() * 60)).append("\n");
-        prompt.append("Time Taken: ").append(formatDuration(quizAttempt.getDurationSeconds())).append("\n\n");
+    private String buildPrompt(QuizAttempt quizAttempt, boolean isPassed, String youtubeLink, int durationBucket,
+                               PromptTemplate template, CorrectAnswerIndex correctAnswers) {
+        Map<Variable, String> values = template.newValues();
+        values.put(Variable.QUIZ_TITLE, quizAttempt.getQuiz().getTitle());
+        values.put(Variable.SCORE, String.valueOf(quizAttempt.getScore()));
+        values.put(Variable.MAX_TIME, formatDuration(quizAttempt.getQuiz().getDurationInMinutes() * 60));
+        values.put(Variable.TIME_TAKEN, describeDurationBucket(durationBucket));
+        values.put(Variable.LECTURE_URL, youtubeLink);
+
+        List<QuizAttemptAnswer> attemptAnswers = new ArrayList<>(quizAttempt.getAttemptAnswers());
+        attemptAnswers.sort(Comparator.comparingInt(attemptAnswer -> attemptAnswer.getQuestion().getId()));
+        int answerTextLength = 0;
+        for (QuizAttemptAnswer attemptAnswer : attemptAnswers) {
+            answerTextLength += attemptAnswer.getQuestion().getQuestionText().length()
+                + attemptAnswer.getAnswer().getAnswerText().length()
+                + (isPassed ? correctAnswers.of(attemptAnswer.getQuestion()).length() : 0);
+        }
 
-        prompt.append("Lecture YouTube Link: ").append(youtubeLink).append("\n\n");
-        prompt.append("Instructions: Analyze the YouTube lecture video to identify timecodes where topics related to the quiz questions are discussed. For incorrect answers, suggest specific timecodes where the student should revisit to understand the correct concepts.\n\n");
+        StringBuilder prompt = new StringBuilder(template.capacity(values, attemptAnswers.size(), answerTextLength));
+        template.append(prompt, Section.HEADER, values);
+        for (QuizAttemptAnswer attemptAnswer : attemptAnswers) {
+            Question question = attemptAnswer.getQuestion();
+            values.put(Variable.QUESTION, question.getQuestionText());
+            values.put(Variable.STUDENT_ANSWER, attemptAnswer.getAnswer().getAnswerText());
+            if (isPassed) {
+                values.put(Variable.CORRECT_ANSWER, correctAnswers.of(question));
+            }
+            template.append(prompt, Section.answer(isPassed, attemptAnswer.isCorrect()), values);
+        }
+        template.append(prompt, Section.FOOTER, values);
+        return prompt.toString();
+    }
 
-        prompt.append("⏳ Time Analysis:\n");
-        prompt.append("Compare the time taken (").append(formatDuration(quizAttempt.getDurationSeconds())).append(") ");
-        prompt.append("with the maximum allowed time (").append(formatDuration(quizAttempt.getQuiz().getDurationInMinutes() * 60)).append("). ");
-        prompt.append("Provide feedback on the student's time management. Did they rush? Were they too slow? Could pacing affect accuracy?\n\n");
+    /**
+     * Substitutes the student's name into streamed text, holding back any tail that may be the start of a
+     * placeholder split across chunks.
+     */
+    private static final class NameFiller {
 
-        prompt.append("Answers:\n");
+        private final String name;
+        private final StringBuilder pending = new StringBuilder();
 
-        for (QuizAttemptAnswer attemptAnswer : quizAttempt.getAttemptAnswers()) {
-            Question question = attemptAnswer.getQuestion();
-            String studentAnswer = attemptAnswer.getAnswer().getAnswerText();
+        private NameFiller(String name) {
+            this.name = name;
+        }
 
-            prompt.append("- Question: ").append(question.getQuestionText()).append("\n");
-            prompt.append("  Student's Answer: ").append(studentAnswer).append("\n");
+        private synchronized String fill(String chunk) {
+            pending.append(chunk);
+            String text = pending.toString().replace(STUDENT_PLACEHOLDER, name);
+            int keep = partialPlaceholderLength(text);
+            pending.setLength(0);
+            pending.append(text, text.length() - keep, text.length());
+            return text.substring(0, text.length() - keep);
+        }
 
-            if (isPassed) {
-                String correctAnswerText = question.getAnswers().stream()
-                        .filter(Answer::isCorrect)
-                        .map(Answer::getAnswerText)
-                        .findFirst()
-                        .orElse("Correct answer not found");
-                prompt.append("  Correct Answer: ").append(correctAnswerText).append("\n");
-            } else {
-                prompt.append("  Correct Answer: 🔒 Hidden (will be available after passing the quiz)\n");
-            }
+        private synchronized String flush() {
+            String rest = pending.toString();
+            pending.setLength(0);
+            return rest;
+        }
 
-            prompt.append("  Result: ").append(attemptAnswer.isCorrect() ? "✅ Correct" : "❌ Incorrect").append("\n\n");
-            prompt.append("  🧐 Explanation:\n");
-
-            if (!attemptAnswer.isCorrect()) {
-                if (isPassed) {
-                    prompt.append("  ❌ The student answered this question incorrectly. Analyze the mistake and explain why the chosen answer is wrong.\n");
-                    prompt.append("  ✅ Explain the correct answer. What facts or logic support it?\n");
-                    prompt.append("  📽️ Suggest a specific timecode in the YouTube lecture (").append(youtubeLink).append(") where the relevant topic is discussed to help the student review.\n\n");
-                } else {
-                    prompt.append("  ❌ The student answered incorrectly. Suggest what concepts they might have misunderstood and what topics they should revisit. Do not mention the correct answer directly.\n");
-                    prompt.append("  📽️ Suggest a specific timecode in the YouTube lecture (").append(youtubeLink).append(") where the relevant topic is discussed to help the student review.\n\n");
+        private static int partialPlaceholderLength(String text) {
+            for (int length = Math.min(text.length(), STUDENT_PLACEHOLDER.length() - 1); length > 0; length--) {
+                if (text.endsWith(STUDENT_PLACEHOLDER.substring(0, length))) {
+                    return length;
                 }
-            } else {
-                prompt.append("  ✅ The student answered correctly. Provide additional insight or context to deepen understanding.\n");
-                prompt.append("  📽️ Suggest a specific timecode in the YouTube lecture (").append(youtubeLink).append(") for further exploration of this topic.\n\n");
             }
+            return 0;
         }
+    }
 
-        prompt.append("📌 Advice:\n");
-        prompt.append("Based on the overall performance, highlight which topics the student should review. Do not reveal answers directly unless the quiz was passed.\n");
-        prompt.append("📌 Identify knowledge gaps based on patterns in incorrect answers and recommend specific subject areas or concepts.\n");
-        prompt.append("📌 For each recommended topic, suggest a specific timecode in the YouTube lecture (").append(youtubeLink).append(") where the topic is covered.\n");
-        prompt.append("📌 Make the explanation clear, informative, and concise. Avoid vague answers.\n");
+    private static int durationBucket(int durationSeconds, int allowedSeconds) {
+        if (allowedSeconds <= 0) {
+            return DURATION_BUCKETS;
+        }
+        return Math.min(DURATION_BUCKETS, durationSeconds * DURATION_BUCKETS / allowedSeconds);
+    }
 
-        return prompt.toString();
+    private static String describeDurationBucket(int bucket) {
+        if (bucket >= DURATION_BUCKETS) {
+            return "the entire allowed time";
+        }
+        int step = 100 / DURATION_BUCKETS;
+        return "between " + bucket * step + "% and " + (bucket + 1) * step + "% of the allowed time";
     }
 
-    private String formatDuration(int seconds) {
-        int minutes = seconds / 60;
+    private static String formatDuration(int seconds) {
         int remainingSeconds = seconds % 60;
-        return String.format("%d:%02d", minutes, remainingSeconds);
+        return (seconds / 60) + (remainingSeconds < 10 ? ":0" : ":") + remainingSeconds;
     }
 
-    private String getFeedback(String quizResult) {
-        RestTemplate restTemplate = new RestTemplate();
-        String API_URL = apiUrl + apiKey;
-
-        GeminiRequest request = new GeminiRequest(quizResult);
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        HttpEntity<GeminiRequest> entity = new HttpEntity<>(request, headers);
-        ResponseEntity<GeminiResponse> response = restTemplate.exchange(API_URL, HttpMethod.POST, entity, GeminiResponse.class);
-
-        if (response.getBody() != null && response.getBody().getCandidates() != null) {
-            List<GeminiResponse.Candidate> candidates = response.getBody().getCandidates();
-            if (!candidates.isEmpty() && candidates.get(0).getContent() != null) {
-                List<GeminiResponse.Part> parts = candidates.get(0).getContent().getParts();
-                if (!parts.isEmpty()) {
-                    return parts.get(0).getText();
-                }
-            }
+    private String getFeedback(FeedbackPrompt prompt) {
+        LlmResponse response = geminiClient.generate(prompt.promptText());
+        if (response.text() == null) {
+            return NO_FEEDBACK;
         }
-
-        return "No feedback available.";
+        feedbackResponseCache.store(prompt.fingerprint(), prompt.quizId(), response);
+        return response.text();
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package kz.sayat.diploma_backend.quiz_module.service.implementation;
 
+import kz.sayat.diploma_backend.quiz_module.events.QuizAnswersChangedEvent;
 import kz.sayat.diploma_backend.quiz_module.service.QuestionService;
 import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
 import kz.sayat.diploma_backend.quiz_module.dto.QuestionDto;
@@ -9,6 +10,7 @@ import kz.sayat.diploma_backend.quiz_module.models.Quiz;
 import kz.sayat.diploma_backend.quiz_module.repository.QuestionRepository;
 import kz.sayat.diploma_backend.quiz_module.repository.QuizRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import jakarta.transaction.Transactional;
@@ -22,6 +24,7 @@ public class QuestionServiceImpl implements QuestionService {
     private final QuestionRepository questionRepository;
     private final QuizRepository quizRepository;
     private final QuestionMapper questionMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @PreAuthorize("hasRole('TEACHER')")
@@ -33,6 +36,7 @@ public class QuestionServiceImpl implements QuestionService {
 
         Question question = questionMapper.toQuestion(dto, quiz);
         questionRepository.save(question);
+        eventPublisher.publishEvent(new QuizAnswersChangedEvent(quizId));
 
         return questionMapper.toDto(question);
     }
@@ -46,6 +50,7 @@ public class QuestionServiceImpl implements QuestionService {
 
         List<Question> questions = questionMapper.toQuestionList(dtos, quiz);
         questionRepository.saveAll(questions);
+        eventPublisher.publishEvent(new QuizAnswersChangedEvent(quizId));
 
         return questionMapper.toDtoList(questions);
 
@@ -71,9 +76,9 @@ public class QuestionServiceImpl implements QuestionService {
     @Override
     @PreAuthorize("hasRole('TEACHER')")
     public void deleteQuestion(int questionId) {
-        if (!questionRepository.existsById(questionId)) {
-            throw new ResourceNotFoundException("quiz not found");
-        }
-        questionRepository.deleteById(questionId);
+        Question question = questionRepository.findById(questionId)
+            .orElseThrow(() -> new ResourceNotFoundException("quiz not found"));
+        questionRepository.delete(question);
+        eventPublisher.publishEvent(new QuizAnswersChangedEvent(question.getQuiz().getId()));
     }
 }
@@ -4,27 +4,42 @@ import jakarta.transaction.Transactional;
 import kz.sayat.diploma_backend.auth_module.models.Student;
 import kz.sayat.diploma_backend.auth_module.service.StudentService;
 import kz.sayat.diploma_backend.quiz_module.dto.*;
+import kz.sayat.diploma_backend.quiz_module.events.QuizAnswersChangedEvent;
+import kz.sayat.diploma_backend.quiz_module.grading.AnswerKey;
+import kz.sayat.diploma_backend.quiz_module.service.AnswerKeyService;
 import kz.sayat.diploma_backend.quiz_module.service.QuizService;
+import kz.sayat.diploma_backend.util.exceptions.ConflictException;
 import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
 import kz.sayat.diploma_backend.course_module.dto.QuizSummaryDto;
+import kz.sayat.diploma_backend.course_module.events.CourseContentEditedEvent;
+import kz.sayat.diploma_backend.course_module.events.CourseStructureChangedEvent;
+import kz.sayat.diploma_backend.course_module.events.StudentProgressEvent;
 import kz.sayat.diploma_backend.quiz_module.mapper.QuizAttemptMapper;
 import kz.sayat.diploma_backend.quiz_module.mapper.QuizMapper;
 import kz.sayat.diploma_backend.course_module.models.Module;
 import kz.sayat.diploma_backend.quiz_module.models.*;
 import kz.sayat.diploma_backend.course_module.repository.ModuleRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.AnswerRepository;
 import kz.sayat.diploma_backend.quiz_module.repository.AttemptAnswerRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.QuestionRepository;
 import kz.sayat.diploma_backend.quiz_module.repository.QuizAttemptRepository;
 import kz.sayat.diploma_backend.quiz_module.repository.QuizRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.QuizSessionRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,6 +54,14 @@ public class QuizServiceImpl implements QuizService {
     private final QuizAttemptMapper quizAttemptMapper;
     private final StudentService studentService;
     private final QuizMapper quizMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AnswerKeyService answerKeyService;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final QuizSessionRepository quizSessionRepository;
+
+    @Value("${quiz.session.grace-seconds:30}")
+    private long sessionGraceSeconds;
 
 
     @Override
@@ -56,31 +79,26 @@ public class QuizServiceImpl implements QuizService {
             question.setQuiz(quiz);
         }
         quizRepository.save(quiz);
+        eventPublisher.publishEvent(new CourseStructureChangedEvent(module.getCourse().getId()));
 
         return quizMapper.toQuizDto(quiz);
     }
 
     @Override
+    @PreAuthorize("hasRole('TEACHER')")
     public QuizDto findQuiz(int quizId) {
         Quiz quiz = quizRepository.findById(quizId)
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz not found"));
 
-        List<Question> allQuestions = quiz.getQuestions();
-        int questionCount = quiz.getQuestionCount();
-
-        Collections.shuffle(allQuestions);
-
-        int availableCount = allQuestions.size();
-        int finalCount = Math.min(availableCount, questionCount);
-
-        List<Question> selectedQuestions = allQuestions.subList(0, finalCount);
-
+        return quizMapper.toQuizDto(quiz);
+    }
 
-        Quiz modifiedQuiz = new Quiz();
-        BeanUtils.copyProperties(quiz, modifiedQuiz);
-        modifiedQuiz.setQuestions(selectedQuestions);
+    @Override
+    public QuizSummaryDto findQuizSummary(int quizId) {
+        Quiz quiz = quizRepository.findById(quizId)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found"));
 
-        return quizMapper.toQuizDto(modifiedQuiz);
+        return quizMapper.toQuizSummaryDto(quiz);
     }
 
     public List<QuizSummaryDto> findAllQuizByModuleId(int moduleId) {
@@ -89,32 +107,93 @@ public class QuizServiceImpl implements QuizService {
     }
 
     @Override
-    public QuizAttemptDto assignGrade(List<StudentAnswerDto> studentAnswers, Authentication authentication, int quizId, int durationSeconds) {
-        Student student= studentService.getStudentFromUser(authentication);
+    public QuizSessionDto startSession(int quizId, Authentication authentication) {
+        Student student = studentService.getStudentFromUser(authentication);
+        Quiz quiz = quizRepository.findById(quizId)
+            .orElseThrow(() -> new ResourceNotFoundException("quiz not found"));
 
-        Quiz quiz = quizRepository.findById(quizId).
+        LocalDateTime now = LocalDateTime.now();
+        QuizSession session = quizSessionRepository
+            .findFirstByStudentIdAndQuizIdAndSubmittedAtIsNullOrderByIdDesc(student.getId(), quizId)
+            .filter(open -> open.getExpiresAt() == null || open.getExpiresAt().isAfter(now))
+            .orElseGet(() -> quizSessionRepository.save(drawSession(student, quiz, now)));
+
+        Map<Integer, Question> served = questionRepository.findWithAnswersByIdIn(
+                Arrays.stream(session.getQuestionIds()).boxed().toList()).stream()
+            .collect(Collectors.toMap(Question::getId, question -> question));
+        List<Question> questions = Arrays.stream(session.getQuestionIds())
+            .mapToObj(served::get)
+            .filter(Objects::nonNull)
+            .toList();
+        Integer remainingSeconds = session.getExpiresAt() == null
+            ? null
+            : (int) Math.max(0, Duration.between(now, session.getExpiresAt()).toSeconds());
+
+        return quizMapper.toQuizSessionDto(quiz, session, questions, remainingSeconds);
+    }
+
+    @Override
+    public QuizAttemptDto assignGrade(int sessionId, List<StudentAnswerDto> studentAnswers, Authentication authentication) {
+        Student student = studentService.getStudentFromUser(authentication);
+        QuizSession session = quizSessionRepository.findByIdForUpdate(sessionId)
+            .filter(found -> found.getStudentId() == student.getId())
+            .orElseThrow(() -> new ResourceNotFoundException("Quiz session not found"));
+        if (session.getSubmittedAt() != null) {
+            throw new ConflictException("Quiz session was already submitted");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (session.getExpiresAt() != null && now.isAfter(session.getExpiresAt().plusSeconds(sessionGraceSeconds))) {
+            throw new ConflictException("Quiz session has expired");
+        }
+
+        Quiz quiz = quizRepository.findById(session.getQuizId()).
             orElseThrow(() -> new ResourceNotFoundException("quiz not found"));
 
         QuizAttempt quizAttempt = new QuizAttempt();
         quizAttempt.setStudent(student);
         quizAttempt.setQuiz(quiz);
-        quizAttempt.setAttemptNumber(getNextAttemptNumber(student, quiz));
-        quizAttempt.setDurationSeconds(durationSeconds);
+        quizAttempt.setDurationSeconds(durationSeconds(session, now));
+
+        int[] served = session.getQuestionIds().clone();
+        Arrays.sort(served);
+        BitSet answered = new BitSet(served.length);
+        AnswerKey answerKey = answerKeyService.getAnswerKey(quiz.getId());
+        List<QuizAttemptAnswer> attemptAnswers = new ArrayList<>(studentAnswers.size());
+        int correctAnswers = 0;
+        for (StudentAnswerDto studentAnswer : studentAnswers) {
+            int position = Arrays.binarySearch(served, studentAnswer.getQuestionId());
+            if (position < 0) {
+                throw new ResourceNotFoundException("Question not found");
+            }
+            if (answered.get(position)) {
+                throw new IllegalArgumentException("Question " + studentAnswer.getQuestionId() + " was answered more than once");
+            }
+            answered.set(position);
 
-        List<QuizAttemptAnswer> attemptAnswers = mapStudentAnswersToAttempt(studentAnswers, quiz);
+            QuizAttemptAnswer attemptAnswer = gradeAnswer(studentAnswer, answerKey);
+            if (attemptAnswer.isCorrect()) {
+                correctAnswers++;
+            }
+            attemptAnswers.add(attemptAnswer);
+        }
 
-        double score = calculateScore(attemptAnswers, quiz);
+        double score = (double) correctAnswers / served.length * 100;
         quizAttempt.setScore(score);
 
         boolean passed = score >= quiz.getPassingScore();
         quizAttempt.setPassed(passed);
 
+        quizAttempt.setAttemptNumber(quizAttemptRepository.nextAttemptNumber(student.getId(), quiz.getId()));
         quizAttemptRepository.save(quizAttempt);
 
         for (QuizAttemptAnswer attemptAnswer : attemptAnswers) {
             attemptAnswer.setQuizAttempt(quizAttempt);
-            attemptAnswerRepository.save(attemptAnswer);
         }
+        attemptAnswerRepository.saveAll(attemptAnswers);
+        session.setSubmittedAt(now);
+        session.setAttemptId(quizAttempt.getId());
+        eventPublisher.publishEvent(new StudentProgressEvent(student.getId(),
+            quiz.getModule().getCourse().getId()));
 
         return quizAttemptMapper.toQuizAttemptDto(quizAttempt);
     }
@@ -124,7 +203,10 @@ public class QuizServiceImpl implements QuizService {
     public void delete(int quizId) {
         Quiz quiz = quizRepository.findById(quizId)
             .orElseThrow(() -> new ResourceNotFoundException("quiz not found"));
+        int courseId = quiz.getModule().getCourse().getId();
         quizRepository.delete(quiz);
+        eventPublisher.publishEvent(new CourseStructureChangedEvent(courseId));
+        eventPublisher.publishEvent(new QuizAnswersChangedEvent(quizId));
     }
 
     @Override
@@ -172,51 +254,43 @@ public class QuizServiceImpl implements QuizService {
         }
 
         quizRepository.save(quiz);
+        eventPublisher.publishEvent(new CourseContentEditedEvent(quiz.getModule().getCourse().getId()));
+        eventPublisher.publishEvent(new QuizAnswersChangedEvent(quizId));
     }
 
 
-    private int getNextAttemptNumber(Student student, Quiz quiz) {
-        List<QuizAttempt> attempts = quizAttemptRepository.findByStudentAndQuiz(student, quiz);
-        return attempts.size() + 1;
+    private QuizSession drawSession(Student student, Quiz quiz, LocalDateTime now) {
+        int count = quiz.getQuestionCount() > 0 ? quiz.getQuestionCount() : Integer.MAX_VALUE;
+        int[] questionIds = questionRepository.drawIds(quiz.getId(), count).stream()
+            .mapToInt(Integer::intValue)
+            .toArray();
+        if (questionIds.length == 0) {
+            throw new IllegalArgumentException("Quiz has no questions");
+        }
+        LocalDateTime expiresAt = quiz.getDurationInMinutes() > 0 ? now.plusMinutes(quiz.getDurationInMinutes()) : null;
+        return new QuizSession(student.getId(), quiz.getId(), questionIds, now, expiresAt);
     }
 
-    private double calculateScore(List<QuizAttemptAnswer> attemptAnswers, Quiz quiz) {
-        Map<Integer, Boolean> correctAnswersMap = quiz.getQuestions().stream()
-            .flatMap(q -> q.getAnswers().stream())
-            .collect(Collectors.toMap(Answer::getId, Answer::isCorrect));
-
-        long totalQuestions = quiz.getQuestionCount();
-        long correctAnswers = attemptAnswers.stream()
-            .filter(attemptAnswer -> correctAnswersMap.get(attemptAnswer.getAnswer().getId()))
-            .count();
-
-        return (double) correctAnswers / totalQuestions * 100;
+    private static int durationSeconds(QuizSession session, LocalDateTime now) {
+        long elapsed = Duration.between(session.getStartedAt(), now).toSeconds();
+        if (session.getExpiresAt() != null) {
+            elapsed = Math.min(elapsed, Duration.between(session.getStartedAt(), session.getExpiresAt()).toSeconds());
+        }
+        return (int) Math.max(0, elapsed);
     }
 
-    private List<QuizAttemptAnswer> mapStudentAnswersToAttempt(List<StudentAnswerDto> studentAnswers, Quiz quiz) {
-        return studentAnswers.stream()
-            .map(studentAnswer -> {
-                Question question = quiz.getQuestions().stream()
-                    .filter(q -> q.getId() == studentAnswer.getQuestionId())
-                    .findFirst()
-                    .orElseThrow(() -> new ResourceNotFoundException("Question not found"));
-
-                Answer answer = question.getAnswers().stream()
-                    .filter(a -> a.getId() == studentAnswer.getAnswerId())
-                    .findFirst()
-                    .orElseThrow(() -> new ResourceNotFoundException("Answer not found"));
-
-                return createAttemptAnswer(question, answer);
-            })
-            .collect(Collectors.toList());
-    }
-    private QuizAttemptAnswer createAttemptAnswer(Question question, Answer answer) {
+    private QuizAttemptAnswer gradeAnswer(StudentAnswerDto studentAnswer, AnswerKey answerKey) {
+        if (!answerKey.hasQuestion(studentAnswer.getQuestionId())) {
+            throw new ResourceNotFoundException("Question not found");
+        }
+        if (answerKey.questionOf(studentAnswer.getAnswerId()) != studentAnswer.getQuestionId()) {
+            throw new ResourceNotFoundException("Answer not found");
+        }
+
         QuizAttemptAnswer attemptAnswer = new QuizAttemptAnswer();
-        attemptAnswer.setQuestion(question);
-        attemptAnswer.setAnswer(answer);
-        attemptAnswer.setCorrect(answer.isCorrect());
+        attemptAnswer.setQuestion(questionRepository.getReferenceById(studentAnswer.getQuestionId()));
+        attemptAnswer.setAnswer(answerRepository.getReferenceById(studentAnswer.getAnswerId()));
+        attemptAnswer.setCorrect(answerKey.isCorrect(studentAnswer.getAnswerId()));
         return attemptAnswer;
     }
-
-
 }
@@ -0,0 +1,44 @@
+package kz.sayat.diploma_backend.util.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String SECOND_LEVEL_CACHE_MANAGER = "secondLevelCacheManager";
+
+    @Bean
+    @Primary
+    public CacheManager cacheManager(@Value("${app.cache.spec:maximumSize=1000,expireAfterWrite=30m}") String spec,
+                                     @Value("${app.cache.tiered-local-spec:maximumSize=1000,expireAfterWrite=60s}")
+                                     String tieredLocalSpec,
+                                     @Qualifier(SECOND_LEVEL_CACHE_MANAGER) ObjectProvider<CacheManager> secondLevel) {
+        CacheManager remote = secondLevel.getIfAvailable();
+        CaffeineCacheManager local = new CaffeineCacheManager(
+            CacheNames.COURSE_STRUCTURE, CacheNames.COURSE_CATALOG, CacheNames.TEACHERS, CacheNames.ANSWER_KEYS);
+        // With a shared second level the local tier only saves round trips, so it is kept short-lived.
+        local.setCaffeine(Caffeine.from(remote == null ? spec : tieredLocalSpec).recordStats());
+        local.setAllowNullValues(false);
+
+        return remote == null ? local : new TieredCacheManager(local, remote);
+    }
+
+    @Bean
+    @SuppressWarnings("unchecked")
+    public CacheMeterBinderProvider<TieredCache> tieredCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(
+            (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache(), cache.getName(), tags);
+    }
+}
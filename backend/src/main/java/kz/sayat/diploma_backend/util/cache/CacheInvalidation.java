@@ -0,0 +1,32 @@
+package kz.sayat.diploma_backend.util.cache;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One eviction ({@code cacheKey} set) or clear ({@code cacheKey} null) that every instance replays on its local tier.
+ */
+@Entity
+@Table(name = "cache_invalidations")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column(name = "cache_name", nullable = false, length = 64)
+    private String cacheName;
+
+    @Column(name = "cache_key")
+    private String cacheKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,34 @@
+package kz.sayat.diploma_backend.util.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationJob.class);
+
+    private final CacheInvalidator cacheInvalidator;
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation-poll-ms:2000}")
+    public void replay() {
+        try {
+            cacheInvalidator.replay();
+        } catch (RuntimeException e) {
+            logger.error("Failed to replay cache invalidations", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.cache.invalidation-purge-cron:0 */10 * * * *}")
+    public void purge() {
+        try {
+            cacheInvalidator.purge();
+        } catch (RuntimeException e) {
+            logger.error("Failed to purge cache invalidations", e);
+        }
+    }
+}
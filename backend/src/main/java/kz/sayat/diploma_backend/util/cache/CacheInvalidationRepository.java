@@ -0,0 +1,34 @@
+package kz.sayat.diploma_backend.util.cache;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    // Published from after-commit listeners, where the finished transaction is still bound to the thread.
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = """
+        INSERT INTO cache_invalidations (cache_name, cache_key, created_at)
+        VALUES (:cacheName, CAST(:cacheKey AS varchar), :createdAt)
+        """, nativeQuery = true)
+    int publish(@Param("cacheName") String cacheName, @Param("cacheKey") String cacheKey,
+                @Param("createdAt") LocalDateTime createdAt);
+
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM cache_invalidations", nativeQuery = true)
+    long findMaxId();
+
+    List<CacheInvalidation> findTop500ByIdGreaterThanOrderById(long id);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CacheInvalidation i WHERE i.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,104 @@
+package kz.sayat.diploma_backend.util.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Evicts cache entries on this instance and records the eviction in {@code cache_invalidations}, which every
+ * instance polls through {@link #replay()} to drop the same entries from its own local tier.
+ */
+@Component
+public class CacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidator.class);
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final long retentionMinutes;
+    private volatile long lastSeenId = -1;
+
+    public CacheInvalidator(CacheManager cacheManager,
+                            CacheInvalidationRepository cacheInvalidationRepository,
+                            @Value("${app.cache.invalidation-retention-minutes:60}") long retentionMinutes) {
+        this.cacheManager = cacheManager;
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    public void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+        publish(cacheName, String.valueOf(key));
+    }
+
+    public void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+        publish(cacheName, null);
+    }
+
+    /**
+     * Applies invalidations published since the previous call to the local tier. The first call only records
+     * where the log currently ends, since a freshly started instance has nothing stale to drop.
+     */
+    public int replay() {
+        if (lastSeenId < 0) {
+            lastSeenId = cacheInvalidationRepository.findMaxId();
+            return 0;
+        }
+        int applied = 0;
+        for (CacheInvalidation invalidation : cacheInvalidationRepository.findTop500ByIdGreaterThanOrderById(lastSeenId)) {
+            evictLocally(invalidation.getCacheName(), invalidation.getCacheKey());
+            lastSeenId = invalidation.getId();
+            applied++;
+        }
+        return applied;
+    }
+
+    public int purge() {
+        return cacheInvalidationRepository.deleteCreatedBefore(LocalDateTime.now().minusMinutes(retentionMinutes));
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            cacheInvalidationRepository.publish(cacheName, key, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            logger.warn("Could not publish invalidation of cache {}, other instances keep it until it expires",
+                cacheName, e);
+        }
+    }
+
+    private void evictLocally(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        // The shared tier was already evicted by the instance that published the change.
+        Cache local = cache instanceof TieredCache tiered ? tiered.getLocal() : cache;
+        Map<?, ?> entries = entries(local.getNativeCache());
+        if (key == null || entries == null) {
+            local.clear();
+            return;
+        }
+        // Keys travel as strings, so match them by their string form rather than their original type.
+        entries.keySet().removeIf(existing -> key.equals(String.valueOf(existing)));
+    }
+
+    private static Map<?, ?> entries(Object nativeCache) {
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            return caffeine.asMap();
+        }
+        return nativeCache instanceof Map<?, ?> map ? map : null;
+    }
+}
@@ -0,0 +1,12 @@
+package kz.sayat.diploma_backend.util.cache;
+
+public final class CacheNames {
+
+    public static final String COURSE_STRUCTURE = "courseStructure";
+    public static final String COURSE_CATALOG = "courseCatalog";
+    public static final String TEACHERS = "teachers";
+    public static final String ANSWER_KEYS = "answerKeys";
+
+    private CacheNames() {
+    }
+}
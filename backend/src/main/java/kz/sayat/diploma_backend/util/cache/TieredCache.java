@@ -0,0 +1,83 @@
+package kz.sayat.diploma_backend.util.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+public class TieredCache implements Cache {
+
+    private final Cache local;
+    private final Cache remote;
+
+    public TieredCache(Cache local, Cache remote) {
+        this.local = local;
+        this.remote = remote;
+    }
+
+    public Cache getLocal() {
+        return local;
+    }
+
+    public Cache getRemote() {
+        return remote;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value == null) {
+            value = remote.get(key);
+            if (value != null) {
+                local.put(key, value.get());
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null || value.get() == null) {
+            return null;
+        }
+        if (type != null && !type.isInstance(value.get())) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value.get());
+        }
+        return (T) value.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) local.get(key, () -> remote.get(key, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.clear();
+    }
+}
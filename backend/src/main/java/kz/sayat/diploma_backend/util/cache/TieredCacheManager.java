@@ -0,0 +1,37 @@
+package kz.sayat.diploma_backend.util.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TieredCacheManager implements CacheManager {
+
+    private final CacheManager local;
+    private final CacheManager remote;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TieredCacheManager(CacheManager local, CacheManager remote) {
+        this.local = local;
+        this.remote = remote;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache localCache = local.getCache(cacheName);
+            Cache remoteCache = remote.getCache(cacheName);
+            if (localCache == null) {
+                return remoteCache;
+            }
+            return remoteCache == null ? localCache : new TieredCache(localCache, remoteCache);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return local.getCacheNames();
+    }
+}
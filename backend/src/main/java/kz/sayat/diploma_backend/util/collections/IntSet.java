@@ -0,0 +1,35 @@
+package kz.sayat.diploma_backend.util.collections;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+public final class IntSet {
+
+    private static final IntSet EMPTY = new IntSet(new int[0]);
+
+    private final int[] values;
+
+    private IntSet(int[] values) {
+        this.values = values;
+    }
+
+    public static IntSet of(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return EMPTY;
+        }
+        int[] values = ids.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        return new IntSet(values);
+    }
+
+    public boolean contains(int value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+}
@@ -2,6 +2,8 @@ package kz.sayat.diploma_backend.util.exceptions.global;
 
 import jakarta.servlet.http.HttpServletRequest;
 import kz.sayat.diploma_backend.util.exceptions.AuthException;
+import kz.sayat.diploma_backend.util.exceptions.ConflictException;
+import kz.sayat.diploma_backend.util.exceptions.LlmUnavailableException;
 import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
 import kz.sayat.diploma_backend.util.exceptions.UnauthorizedException;
 import org.springframework.http.HttpStatus;
@@ -11,6 +13,7 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -87,6 +90,33 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), request);
     }
 
+    /**
+     * Handle ConflictException (409 Conflict)
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleConflict(ConflictException ex, HttpServletRequest request) {
+        logger.warn("Conflict at {}: {}", request.getRequestURI(), ex.getMessage());
+        return buildResponse(HttpStatus.CONFLICT, "Conflict", ex.getMessage(), request);
+    }
+
+    /**
+     * Handle LlmUnavailableException (503 Service Unavailable)
+     */
+    @ExceptionHandler(LlmUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleLlmUnavailable(LlmUnavailableException ex, HttpServletRequest request) {
+        logger.warn("LLM unavailable at {}: {}", request.getRequestURI(), ex.getMessage());
+        return buildResponse(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", ex.getMessage(), request);
+    }
+
+    /**
+     * Handle MaxUploadSizeExceededException (413 Payload Too Large)
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleMaxUploadSize(MaxUploadSizeExceededException ex, HttpServletRequest request) {
+        logger.warn("Upload too large at {}: {}", request.getRequestURI(), ex.getMessage());
+        return buildResponse(HttpStatus.PAYLOAD_TOO_LARGE, "Payload Too Large", "Uploaded file is too large", request);
+    }
+
     /**
      * Handle all unexpected errors (500 Internal Server Error)
      */
@@ -0,0 +1,56 @@
+package kz.sayat.diploma_backend.util.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> implements Serializable {
+
+    public static final int MAX_SIZE = 100;
+
+    private List<T> items;
+    private int size;
+    private Integer nextCursor;
+    private Long totalElements;
+
+    public static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    /**
+     * Requests one row more than the page size so that a following page can be detected
+     * without a count query.
+     */
+    public static PageRequest request(int size) {
+        return PageRequest.of(0, clampSize(size) + 1);
+    }
+
+    public static <S, T> CursorPage<T> of(List<S> rows, int size, ToIntFunction<S> idOf,
+                                          Function<S, T> mapper, boolean withTotal, Supplier<Long> total) {
+        return ofBatch(rows, size, idOf, content -> content.stream().map(mapper).toList(), withTotal, total);
+    }
+
+    /**
+     * Like {@link #of}, but maps the whole page at once so the mapper can load related rows for every item
+     * in a single query.
+     */
+    public static <S, T> CursorPage<T> ofBatch(List<S> rows, int size, ToIntFunction<S> idOf,
+                                               Function<List<S>, List<T>> mapper, boolean withTotal,
+                                               Supplier<Long> total) {
+        int pageSize = clampSize(size);
+        boolean hasNext = rows.size() > pageSize;
+        List<S> content = hasNext ? rows.subList(0, pageSize) : rows;
+        Integer nextCursor = hasNext ? idOf.applyAsInt(content.get(content.size() - 1)) : null;
+        return new CursorPage<>(mapper.apply(content), pageSize, nextCursor, withTotal ? total.get() : null);
+    }
+}
@@ -0,0 +1,26 @@
+package kz.sayat.diploma_backend.util.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PageDto<T> implements Serializable {
+    private List<T> items;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    public static <S, T> PageDto<T> of(Page<S> page, Function<S, T> mapper) {
+        return new PageDto<>(page.getContent().stream().map(mapper).toList(),
+            page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+    }
+}
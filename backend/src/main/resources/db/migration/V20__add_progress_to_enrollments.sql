@@ -0,0 +1,56 @@
+ALTER TABLE enrollments
+    ADD COLUMN total_lectures   INT              NOT NULL DEFAULT 0,
+    ADD COLUMN lectures_viewed  INT              NOT NULL DEFAULT 0,
+    ADD COLUMN total_quizzes    INT              NOT NULL DEFAULT 0,
+    ADD COLUMN quizzes_passed   INT              NOT NULL DEFAULT 0,
+    ADD COLUMN progress         DOUBLE PRECISION NOT NULL DEFAULT 0,
+    ADD COLUMN last_activity_at TIMESTAMP;
+
+CREATE INDEX idx_enrollments_course_id ON enrollments (course_id);
+
+UPDATE enrollments e
+SET total_lectures   = p.total_lectures,
+    lectures_viewed  = p.lectures_viewed,
+    total_quizzes    = p.total_quizzes,
+    quizzes_passed   = p.quizzes_passed,
+    progress         = p.progress,
+    completed        = p.completed,
+    last_activity_at = p.last_activity_at
+FROM (SELECT en.student_id,
+             en.course_id,
+             COALESCE(SUM(mp.total_lectures), 0)  AS total_lectures,
+             COALESCE(SUM(mp.lectures_viewed), 0) AS lectures_viewed,
+             COALESCE(SUM(mp.total_quizzes), 0)   AS total_quizzes,
+             COALESCE(SUM(mp.quizzes_passed), 0)  AS quizzes_passed,
+             COALESCE(AVG(CASE WHEN mp.total_lectures + mp.total_quizzes = 0 THEN 0
+                               ELSE (mp.lectures_viewed + mp.quizzes_passed) * 100.0
+                                    / (mp.total_lectures + mp.total_quizzes) END), 0) AS progress,
+             COUNT(mp.module_id) > 0
+                 AND COALESCE(BOOL_AND(mp.quizzes_passed = mp.total_quizzes), FALSE) AS completed,
+             MAX(mp.last_activity_at) AS last_activity_at
+      FROM enrollments en
+      LEFT JOIN LATERAL (
+          SELECT m.id AS module_id,
+                 (SELECT COUNT(*) FROM lectures l WHERE l.module_id = m.id) AS total_lectures,
+                 (SELECT COUNT(*) FROM lecture_views lv
+                      JOIN lectures l ON l.id = lv.lecture_id
+                  WHERE l.module_id = m.id AND lv.student_id = en.student_id) AS lectures_viewed,
+                 (SELECT COUNT(*) FROM quizzes q WHERE q.module_id = m.id) AS total_quizzes,
+                 (SELECT COUNT(*) FROM quizzes q
+                  WHERE q.module_id = m.id
+                    AND EXISTS (SELECT 1 FROM attempts a
+                                WHERE a.quiz_id = q.id AND a.student_id = en.student_id AND a.passed
+                                  AND a.attempt_number = (SELECT MAX(a2.attempt_number) FROM attempts a2
+                                                          WHERE a2.quiz_id = q.id
+                                                            AND a2.student_id = en.student_id))) AS quizzes_passed,
+                 GREATEST((SELECT MAX(lv.viewed_at) FROM lecture_views lv
+                               JOIN lectures l ON l.id = lv.lecture_id
+                           WHERE l.module_id = m.id AND lv.student_id = en.student_id),
+                          (SELECT MAX(a.submission_time) FROM attempts a
+                               JOIN quizzes q ON q.id = a.quiz_id
+                           WHERE q.module_id = m.id AND a.student_id = en.student_id)) AS last_activity_at
+          FROM modules m
+          WHERE m.course_id = en.course_id
+      ) mp ON TRUE
+      GROUP BY en.student_id, en.course_id) p
+WHERE e.student_id = p.student_id AND e.course_id = p.course_id;
@@ -0,0 +1,2 @@
+CREATE INDEX idx_attempts_student_quiz_number
+    ON attempts (student_id, quiz_id, attempt_number DESC);
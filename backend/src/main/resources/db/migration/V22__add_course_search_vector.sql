@@ -0,0 +1,7 @@
+ALTER TABLE courses
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_courses_search_vector ON courses USING GIN (search_vector) WHERE is_public;
@@ -0,0 +1,7 @@
+CREATE TABLE course_categories (
+    course_id INT NOT NULL REFERENCES courses(id) ON DELETE CASCADE,
+    category VARCHAR(32) NOT NULL,
+    PRIMARY KEY (course_id, category)
+);
+
+CREATE INDEX idx_course_categories_category ON course_categories (category, course_id);
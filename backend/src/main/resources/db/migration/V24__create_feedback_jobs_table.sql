@@ -0,0 +1,14 @@
+CREATE TABLE feedback_jobs
+(
+    id          integer GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    attempt_id  integer     NOT NULL REFERENCES attempts (id) ON DELETE CASCADE,
+    status      varchar(16) NOT NULL,
+    attempts    integer     NOT NULL DEFAULT 0,
+    next_run_at timestamp   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error  text,
+    created_at  timestamp   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at  timestamp   NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_feedback_jobs_runnable ON feedback_jobs (next_run_at, id) WHERE status = 'PENDING';
+CREATE INDEX idx_feedback_jobs_attempt ON feedback_jobs (attempt_id, id);
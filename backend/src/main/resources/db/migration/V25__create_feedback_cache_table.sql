@@ -0,0 +1,14 @@
+CREATE TABLE feedback_cache
+(
+    fingerprint   char(64)  PRIMARY KEY,
+    quiz_id       integer   NOT NULL REFERENCES quizzes (id) ON DELETE CASCADE,
+    response_text text      NOT NULL,
+    prompt_tokens integer   NOT NULL DEFAULT 0,
+    output_tokens integer   NOT NULL DEFAULT 0,
+    latency_ms    bigint    NOT NULL DEFAULT 0,
+    hit_count     integer   NOT NULL DEFAULT 0,
+    created_at    timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_hit_at   timestamp
+);
+
+CREATE INDEX idx_feedback_cache_quiz ON feedback_cache (quiz_id);
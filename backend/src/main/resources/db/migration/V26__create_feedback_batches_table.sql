@@ -0,0 +1,13 @@
+CREATE TABLE feedback_batches
+(
+    id           integer GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    quiz_id      integer REFERENCES quizzes (id) ON DELETE CASCADE,
+    requested_by integer   NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    total        integer   NOT NULL,
+    created_at   timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE feedback_jobs
+    ADD COLUMN batch_id integer REFERENCES feedback_batches (id) ON DELETE CASCADE;
+
+CREATE INDEX idx_feedback_jobs_batch ON feedback_jobs (batch_id, status) WHERE batch_id IS NOT NULL;
@@ -0,0 +1,12 @@
+CREATE TABLE prompt_templates
+(
+    id         integer GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    name       varchar(64) NOT NULL,
+    version    integer     NOT NULL,
+    body       text        NOT NULL,
+    active     boolean     NOT NULL DEFAULT false,
+    created_at timestamp   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (name, version)
+);
+
+CREATE UNIQUE INDEX idx_prompt_templates_active ON prompt_templates (name) WHERE active;
@@ -0,0 +1,8 @@
+-- Hibernate can batch inserts only when ids come from a sequence; it reserves blocks of 50 per nextval.
+ALTER TABLE attempt_answers ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE attempt_answers_seq INCREMENT BY 50 OWNED BY attempt_answers.id;
+
+SELECT setval('attempt_answers_seq', COALESCE(MAX(id), 0) + 50, false) FROM attempt_answers;
+
+ALTER TABLE attempt_answers ALTER COLUMN id SET DEFAULT nextval('attempt_answers_seq');
@@ -0,0 +1,26 @@
+UPDATE attempts a
+SET attempt_number = numbered.rn
+FROM (SELECT id,
+             ROW_NUMBER() OVER (PARTITION BY student_id, quiz_id ORDER BY attempt_number, id) AS rn
+      FROM attempts) numbered
+WHERE a.id = numbered.id
+  AND a.attempt_number IS DISTINCT FROM numbered.rn;
+
+CREATE TABLE attempt_counters
+(
+    student_id  integer NOT NULL REFERENCES students (id) ON DELETE CASCADE,
+    quiz_id     integer NOT NULL REFERENCES quizzes (id) ON DELETE CASCADE,
+    last_number integer NOT NULL,
+    PRIMARY KEY (student_id, quiz_id)
+);
+
+INSERT INTO attempt_counters (student_id, quiz_id, last_number)
+SELECT student_id, quiz_id, MAX(attempt_number)
+FROM attempts
+WHERE student_id IS NOT NULL
+  AND quiz_id IS NOT NULL
+GROUP BY student_id, quiz_id;
+
+DROP INDEX idx_attempts_student_quiz_number;
+
+CREATE UNIQUE INDEX uq_attempts_student_quiz_number ON attempts (student_id, quiz_id, attempt_number);
@@ -0,0 +1,13 @@
+CREATE TABLE quiz_sessions
+(
+    id           integer GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    student_id   integer   NOT NULL REFERENCES students (id) ON DELETE CASCADE,
+    quiz_id      integer   NOT NULL REFERENCES quizzes (id) ON DELETE CASCADE,
+    question_ids integer[] NOT NULL,
+    started_at   timestamp NOT NULL,
+    expires_at   timestamp,
+    submitted_at timestamp,
+    attempt_id   integer REFERENCES attempts (id) ON DELETE SET NULL
+);
+
+CREATE INDEX idx_quiz_sessions_open ON quiz_sessions (student_id, quiz_id) WHERE submitted_at IS NULL;
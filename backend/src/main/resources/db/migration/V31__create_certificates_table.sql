@@ -0,0 +1,16 @@
+CREATE TABLE certificates
+(
+    id           integer GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    number       varchar(16)      NOT NULL,
+    student_id   integer REFERENCES students (id) ON DELETE SET NULL,
+    course_id    integer REFERENCES courses (id) ON DELETE SET NULL,
+    student_name varchar(255)     NOT NULL,
+    course_title varchar(255)     NOT NULL,
+    progress     double precision NOT NULL,
+    issued_at    timestamp        NOT NULL,
+    pdf          bytea            NOT NULL,
+    pdf_sha256   char(64)         NOT NULL,
+    UNIQUE (student_id, course_id)
+);
+
+CREATE UNIQUE INDEX idx_certificates_number ON certificates (number);
@@ -0,0 +1,11 @@
+CREATE TABLE stored_images
+(
+    id           integer GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    directory    varchar(32)  NOT NULL,
+    filename     varchar(255) NOT NULL,
+    content_type varchar(100) NOT NULL,
+    size_bytes   bigint       NOT NULL,
+    sha256       char(64)     NOT NULL,
+    created_at   timestamp    NOT NULL,
+    UNIQUE (directory, filename)
+);
@@ -0,0 +1,18 @@
+ALTER TABLE stored_images
+    ADD COLUMN variants_at timestamp;
+
+CREATE INDEX idx_stored_images_sha256 ON stored_images (directory, sha256);
+
+CREATE TABLE image_variants
+(
+    id           integer GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    image_id     integer      NOT NULL REFERENCES stored_images (id) ON DELETE CASCADE,
+    name         varchar(16)  NOT NULL,
+    filename     varchar(255) NOT NULL,
+    content_type varchar(100) NOT NULL,
+    size_bytes   bigint       NOT NULL,
+    sha256       char(64)     NOT NULL,
+    width        integer      NOT NULL,
+    height       integer      NOT NULL,
+    UNIQUE (image_id, name, content_type)
+);
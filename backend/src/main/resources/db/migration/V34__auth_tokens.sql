@@ -0,0 +1,21 @@
+CREATE TABLE refresh_tokens
+(
+    id         integer GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    token_hash char(64)    NOT NULL UNIQUE,
+    family_id  varchar(36) NOT NULL,
+    user_id    integer     NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    issued_at  timestamp   NOT NULL,
+    expires_at timestamp   NOT NULL,
+    used_at    timestamp,
+    revoked_at timestamp
+);
+
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens (family_id);
+
+CREATE TABLE revoked_tokens
+(
+    jti        varchar(36) PRIMARY KEY,
+    expires_at timestamp NOT NULL
+);
+
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
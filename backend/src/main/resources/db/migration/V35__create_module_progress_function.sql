@@ -0,0 +1,35 @@
+CREATE FUNCTION module_progress(p_student_id INT, p_course_id INT)
+    RETURNS TABLE
+            (
+                module_id        INT,
+                total_lectures   BIGINT,
+                lectures_viewed  BIGINT,
+                total_quizzes    BIGINT,
+                quizzes_passed   BIGINT,
+                last_activity_at TIMESTAMP
+            )
+    LANGUAGE sql
+    STABLE
+AS
+$$
+SELECT m.id,
+       (SELECT COUNT(*) FROM lectures l WHERE l.module_id = m.id),
+       (SELECT COUNT(*) FROM lecture_views lv
+            JOIN lectures l ON l.id = lv.lecture_id
+        WHERE l.module_id = m.id AND lv.student_id = p_student_id),
+       (SELECT COUNT(*) FROM quizzes q WHERE q.module_id = m.id),
+       (SELECT COUNT(*) FROM quizzes q
+            JOIN LATERAL (SELECT a.passed FROM attempts a
+                          WHERE a.student_id = p_student_id AND a.quiz_id = q.id
+                          ORDER BY a.attempt_number DESC
+                          LIMIT 1) latest ON TRUE
+        WHERE q.module_id = m.id AND latest.passed),
+       GREATEST((SELECT MAX(lv.viewed_at) FROM lecture_views lv
+                     JOIN lectures l ON l.id = lv.lecture_id
+                 WHERE l.module_id = m.id AND lv.student_id = p_student_id),
+                (SELECT MAX(a.submission_time) FROM attempts a
+                     JOIN quizzes q ON q.id = a.quiz_id
+                 WHERE q.module_id = m.id AND a.student_id = p_student_id))
+FROM modules m
+WHERE m.course_id = p_course_id
+$$;
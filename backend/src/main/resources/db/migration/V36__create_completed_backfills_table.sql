@@ -0,0 +1,5 @@
+CREATE TABLE completed_backfills
+(
+    name         VARCHAR(64) PRIMARY KEY,
+    completed_at TIMESTAMP NOT NULL
+);
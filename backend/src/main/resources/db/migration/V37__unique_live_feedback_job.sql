@@ -0,0 +1,8 @@
+UPDATE feedback_jobs j
+SET status     = 'FAILED',
+    last_error = 'Superseded by a newer job',
+    updated_at = NOW()
+WHERE j.status <> 'FAILED'
+  AND j.id < (SELECT MAX(n.id) FROM feedback_jobs n WHERE n.attempt_id = j.attempt_id AND n.status <> 'FAILED');
+
+CREATE UNIQUE INDEX uq_feedback_jobs_live_attempt ON feedback_jobs (attempt_id) WHERE status <> 'FAILED';
@@ -0,0 +1,9 @@
+-- Same switch as attempt_answers in V28: the job worker saves a whole claim's feedback rows at once,
+-- which Hibernate can only batch when ids come from a pooled sequence.
+ALTER TABLE feedbacks ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE feedbacks_seq INCREMENT BY 50 OWNED BY feedbacks.id;
+
+SELECT setval('feedbacks_seq', COALESCE(MAX(id), 0) + 50, false) FROM feedbacks;
+
+ALTER TABLE feedbacks ALTER COLUMN id SET DEFAULT nextval('feedbacks_seq');
@@ -0,0 +1,9 @@
+CREATE TABLE cache_invalidations
+(
+    id         bigint GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    cache_name varchar(64)  NOT NULL,
+    cache_key  varchar(255),
+    created_at timestamp    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_cache_invalidations_created ON cache_invalidations (created_at);
@@ -1,14 +1,19 @@
 package kz.sayat.diploma_backend.auth_module;
 
+import jakarta.servlet.http.Cookie;
 import kz.sayat.diploma_backend.auth_module.dto.UserDto;
 import kz.sayat.diploma_backend.auth_module.models.Student;
 import kz.sayat.diploma_backend.auth_module.models.Teacher;
 import kz.sayat.diploma_backend.auth_module.models.User;
 import kz.sayat.diploma_backend.auth_module.models.enums.UserRole;
+import kz.sayat.diploma_backend.auth_module.security.AuthMode;
 import kz.sayat.diploma_backend.auth_module.security.MyUserDetails;
 import kz.sayat.diploma_backend.auth_module.security.dto.LoginRequest;
 import kz.sayat.diploma_backend.auth_module.security.dto.RegisterRequest;
+import kz.sayat.diploma_backend.auth_module.security.dto.TokenPair;
+import kz.sayat.diploma_backend.auth_module.security.token.TokenCookies;
 import kz.sayat.diploma_backend.auth_module.service.AuthService;
+import kz.sayat.diploma_backend.auth_module.service.TokenService;
 import kz.sayat.diploma_backend.auth_module.service.implementation.AuthServiceImpl;
 import kz.sayat.diploma_backend.auth_module.service.implementation.StudentServiceImpl;
 import kz.sayat.diploma_backend.auth_module.service.implementation.TeacherServiceImpl;
@@ -17,6 +22,7 @@ import kz.sayat.diploma_backend.auth_module.mapper.StudentMapper;
 import kz.sayat.diploma_backend.auth_module.mapper.TeacherMapper;
 import kz.sayat.diploma_backend.auth_module.repository.UserRepository;
 import kz.sayat.diploma_backend.util.exceptions.AuthException;
+import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
 import kz.sayat.diploma_backend.util.exceptions.UnauthorizedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +39,7 @@ import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -63,6 +70,10 @@ class AuthServiceTest {
     private UserRepository userRepository;
     @Mock
     private UserMapper userMapper;
+    @Mock
+    private TokenService tokenService;
+    @Mock
+    private TokenCookies tokenCookies;
 
     @InjectMocks
     private AuthServiceImpl authService;
@@ -151,6 +162,25 @@ class AuthServiceTest {
         verifyNoInteractions(securityContextHolderStrategy, securityContextRepository, userMapper);
     }
 
+    @Test
+    void refresh_StatefulMode_IsNotAvailable() {
+        assertThrows(ResourceNotFoundException.class, () -> authService.refresh(request, response, null));
+        verifyNoInteractions(tokenService, tokenCookies);
+    }
+
+    @Test
+    void refresh_StatelessMode_RotatesTheCookieToken() {
+        ReflectionTestUtils.setField(authService, "authMode", AuthMode.STATELESS);
+        request.setCookies(new Cookie(TokenCookies.REFRESH_TOKEN, "refresh-1"));
+        TokenPair tokens = new TokenPair("access-2", 900, "refresh-2", 3600);
+        when(tokenService.refresh("refresh-1")).thenReturn(tokens);
+
+        TokenPair result = authService.refresh(request, response, null);
+
+        assertSame(tokens, result);
+        verify(tokenCookies).write(response, tokens);
+    }
+
     @Test
     void register_Success() {
         when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
@@ -0,0 +1,82 @@
+package kz.sayat.diploma_backend.auth_module;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kz.sayat.diploma_backend.auth_module.models.enums.UserRole;
+import kz.sayat.diploma_backend.auth_module.security.AuthMode;
+import kz.sayat.diploma_backend.auth_module.security.token.AccessClaims;
+import kz.sayat.diploma_backend.auth_module.security.token.JwtCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtCodecTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private final JwtCodec codec = new JwtCodec(new ObjectMapper(), SECRET, AuthMode.STATELESS);
+
+    @Test
+    void decode_RoundTripsTheClaims() {
+        AccessClaims claims = claims(Instant.now().plusSeconds(900));
+
+        Optional<AccessClaims> decoded = codec.decode(codec.encode(claims));
+
+        assertEquals(Optional.of(claims), decoded);
+    }
+
+    @Test
+    void decode_TamperedPayload_IsRejected() {
+        String[] parts = codec.encode(claims(Instant.now().plusSeconds(900))).split("\\.");
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(
+            new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("STUDENT", "ADMIN").getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(codec.decode(parts[0] + "." + forged + "." + parts[2]).isEmpty());
+    }
+
+    @Test
+    void decode_ExpiredToken_IsRejected() {
+        assertTrue(codec.decode(codec.encode(claims(Instant.now().minusSeconds(1)))).isEmpty());
+    }
+
+    @Test
+    void decode_UnsignedHeader_IsRejected() {
+        String[] parts = codec.encode(claims(Instant.now().plusSeconds(900))).split("\\.");
+        String none = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("{\"alg\":\"none\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(codec.decode(none + "." + parts[1] + ".").isEmpty());
+    }
+
+    @Test
+    void decode_TokenFromAnotherSecret_IsRejected() {
+        JwtCodec other = new JwtCodec(new ObjectMapper(), "fedcba9876543210fedcba9876543210", AuthMode.STATELESS);
+
+        assertTrue(codec.decode(other.encode(claims(Instant.now().plusSeconds(900)))).isEmpty());
+    }
+
+    @Test
+    void decode_Garbage_IsRejected() {
+        assertTrue(codec.decode("not-a-token").isEmpty());
+        assertTrue(codec.decode("a.b.c").isEmpty());
+    }
+
+    @Test
+    void constructor_ShortSecretInStatelessMode_Throws() {
+        assertThrows(IllegalStateException.class,
+            () -> new JwtCodec(new ObjectMapper(), "short", AuthMode.STATELESS));
+        assertDoesNotThrow(() -> new JwtCodec(new ObjectMapper(), "", AuthMode.STATEFUL));
+    }
+
+    private static AccessClaims claims(Instant expiresAt) {
+        Instant expiry = expiresAt.truncatedTo(ChronoUnit.SECONDS);
+        return new AccessClaims("0f8fad5b-d9cb-469f-a165-70867728950e", 1, "student@example.com",
+            UserRole.STUDENT, expiry.minusSeconds(900), expiry);
+    }
+}
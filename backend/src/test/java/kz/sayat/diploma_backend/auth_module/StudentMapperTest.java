@@ -0,0 +1,69 @@
+package kz.sayat.diploma_backend.auth_module;
+
+import kz.sayat.diploma_backend.auth_module.dto.StudentDto;
+import kz.sayat.diploma_backend.auth_module.mapper.implementation.StudentMapperImpl;
+import kz.sayat.diploma_backend.auth_module.models.Student;
+import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
+import kz.sayat.diploma_backend.course_module.mapper.CourseMapper;
+import kz.sayat.diploma_backend.course_module.repository.EnrollmentRepository;
+import kz.sayat.diploma_backend.course_module.repository.projection.StudentCourseView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StudentMapperTest {
+
+    @Mock
+    private CourseMapper courseMapper;
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @InjectMocks
+    private StudentMapperImpl studentMapper;
+
+    @Test
+    void toStudentDtoList_LoadsEnrollmentsForThePageInOneQuery() {
+        StudentCourseView java = enrollment(1);
+        StudentCourseView sql = enrollment(1);
+        CourseSummaryDto javaDto = new CourseSummaryDto();
+        CourseSummaryDto sqlDto = new CourseSummaryDto();
+        when(enrollmentRepository.findCourseHeadersByStudentIdIn(List.of(1, 2))).thenReturn(List.of(java, sql));
+        when(courseMapper.toCourseSummaryDto(java)).thenReturn(javaDto);
+        when(courseMapper.toCourseSummaryDto(sql)).thenReturn(sqlDto);
+
+        List<StudentDto> result = studentMapper.toStudentDtoList(List.of(student(1), student(2)));
+
+        assertEquals(List.of(javaDto, sqlDto), result.get(0).getEnrolledCourses());
+        assertTrue(result.get(1).getEnrolledCourses().isEmpty());
+        assertEquals(2, result.get(1).getId());
+        verify(enrollmentRepository, never()).findCoursesByStudentId(anyInt());
+    }
+
+    @Test
+    void toStudentDtoList_EmptyPage_SkipsTheQuery() {
+        assertTrue(studentMapper.toStudentDtoList(List.of()).isEmpty());
+        verifyNoInteractions(enrollmentRepository);
+    }
+
+    private static Student student(int id) {
+        Student student = new Student();
+        student.setId(id);
+        student.setEmail("student" + id + "@example.com");
+        return student;
+    }
+
+    private static StudentCourseView enrollment(int studentId) {
+        StudentCourseView view = mock(StudentCourseView.class);
+        when(view.getStudentId()).thenReturn(studentId);
+        return view;
+    }
+}
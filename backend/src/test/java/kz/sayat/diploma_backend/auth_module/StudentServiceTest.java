@@ -71,8 +71,8 @@ class StudentServiceTest {
 
     @Test
     void getAllStudents_CanInvoke() {
-        studentService.getAllStudents();
-        verify(studentService).getAllStudents();
+        studentService.getAllStudents(null, 50, false);
+        verify(studentService).getAllStudents(null, 50, false);
     }
 
     @Test
@@ -0,0 +1,56 @@
+package kz.sayat.diploma_backend.auth_module;
+
+import kz.sayat.diploma_backend.auth_module.dto.TeacherDto;
+import kz.sayat.diploma_backend.auth_module.mapper.implementation.TeacherMapperImpl;
+import kz.sayat.diploma_backend.auth_module.models.Teacher;
+import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
+import kz.sayat.diploma_backend.course_module.mapper.CourseMapper;
+import kz.sayat.diploma_backend.course_module.repository.CourseRepository;
+import kz.sayat.diploma_backend.course_module.repository.projection.CourseHeaderView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TeacherMapperTest {
+
+    @Mock
+    private CourseMapper courseMapper;
+    @Mock
+    private CourseRepository courseRepository;
+
+    @InjectMocks
+    private TeacherMapperImpl teacherMapper;
+
+    @Test
+    void toTeacherDtoList_LoadsCreatedCoursesForThePageInOneQuery() {
+        CourseHeaderView course = mock(CourseHeaderView.class);
+        when(course.getTeacherId()).thenReturn(2);
+        CourseSummaryDto courseDto = new CourseSummaryDto();
+        when(courseRepository.findHeadersByTeacherIdIn(List.of(1, 2))).thenReturn(List.of(course));
+        when(courseMapper.toCourseSummaryDto(course)).thenReturn(courseDto);
+        Teacher first = teacher(1);
+        Teacher second = spy(teacher(2));
+
+        List<TeacherDto> result = teacherMapper.toTeacherDtoList(List.of(first, second));
+
+        assertTrue(result.get(0).getCreatedCourses().isEmpty());
+        assertEquals(List.of(courseDto), result.get(1).getCreatedCourses());
+        assertEquals("teacher2@example.com", result.get(1).getEmail());
+        verify(second, never()).getCreatedCourses();
+    }
+
+    private static Teacher teacher(int id) {
+        Teacher teacher = new Teacher();
+        teacher.setId(id);
+        teacher.setEmail("teacher" + id + "@example.com");
+        return teacher;
+    }
+}
@@ -2,6 +2,7 @@ package kz.sayat.diploma_backend.auth_module;
 
 import kz.sayat.diploma_backend.auth_module.dto.PasswordDto;
 import kz.sayat.diploma_backend.auth_module.dto.TeacherDto;
+import kz.sayat.diploma_backend.auth_module.events.TeacherUpdatedEvent;
 import kz.sayat.diploma_backend.auth_module.mapper.TeacherMapper;
 import kz.sayat.diploma_backend.auth_module.models.Teacher;
 import kz.sayat.diploma_backend.auth_module.models.User;
@@ -11,15 +12,21 @@ import kz.sayat.diploma_backend.auth_module.service.implementation.TeacherServic
 import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
 import kz.sayat.diploma_backend.course_module.mapper.CourseMapper;
 import kz.sayat.diploma_backend.course_module.models.Course;
+import kz.sayat.diploma_backend.media_module.service.ImageService;
 import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
 import kz.sayat.diploma_backend.util.exceptions.UnauthorizedException;
+import kz.sayat.diploma_backend.util.pagination.CursorPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -31,6 +38,9 @@ import static org.mockito.Mockito.*;
 
 class TeacherServiceTest {
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TeacherServiceImpl teacherService;
 
@@ -46,6 +56,9 @@ class TeacherServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private ImageService imageService;
+
     private Teacher mockTeacher;
 
     @BeforeEach
@@ -120,11 +133,13 @@ class TeacherServiceTest {
 
     @Test
     void testGetAllTeachers() {
-        when(teacherRepository.findAll()).thenReturn(List.of(mockTeacher));
-        when(teacherMapper.toTeacherDtoList(anyList())).thenReturn(List.of(new TeacherDto()));
+        when(teacherRepository.findByIdGreaterThanOrderByIdAsc(0, PageRequest.of(0, 51))).thenReturn(List.of(mockTeacher));
+        when(teacherMapper.toTeacherDtoList(List.of(mockTeacher))).thenReturn(List.of(new TeacherDto()));
 
-        List<TeacherDto> teachers = teacherService.getAllTeachers();
-        assertEquals(1, teachers.size());
+        CursorPage<TeacherDto> teachers = teacherService.getAllTeachers(null, 50, false);
+        assertEquals(1, teachers.getItems().size());
+        assertNull(teachers.getNextCursor());
+        assertNull(teachers.getTotalElements());
     }
 
 
@@ -133,38 +148,34 @@ class TeacherServiceTest {
     void testSaveFile() throws IOException {
         MockMultipartFile file = new MockMultipartFile(
                 "file", "image.jpg", "image/jpeg", "dummy content".getBytes());
-
-        Path uploadPath = Paths.get("uploads/teachers");
-        Files.createDirectories(uploadPath); // ensure path exists
+        when(teacherRepository.findById(1)).thenReturn(Optional.of(mockTeacher));
+        when(imageService.store(ImageService.TEACHERS, file)).thenReturn("stored.jpg");
 
         teacherService.saveFile(authentication, file);
 
+        assertEquals("stored.jpg", mockTeacher.getProfileImagePath());
         verify(teacherRepository).save(mockTeacher);
+        verify(eventPublisher).publishEvent(new TeacherUpdatedEvent(1));
     }
 
     @Test
     void testGetProfileImage_FileExists() throws IOException {
-        String fileName = "sample.jpg";
-        Path uploadPath = Paths.get("uploads/teachers");
-        Files.createDirectories(uploadPath);
-        Path filePath = uploadPath.resolve(fileName);
-        Files.write(filePath, "sample content".getBytes());
-
-        mockTeacher.setProfileImagePath(fileName);
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+        mockTeacher.setProfileImagePath("sample.jpg");
         when(teacherRepository.findById(1)).thenReturn(Optional.of(mockTeacher));
+        when(imageService.serve(ImageService.TEACHERS, "sample.jpg", null, request)).thenReturn(ResponseEntity.ok().build());
 
-        ResponseEntity<Resource> response = teacherService.getProfileImage(authentication);
+        ResponseEntity<Resource> response = teacherService.getProfileImage(authentication, null, request);
         assertEquals(200, response.getStatusCode().value());
-
-        Files.deleteIfExists(filePath); // clean up
     }
 
     @Test
-    void testGetProfileImageId_FileNotFound() {
+    void testGetProfileImageId_NoImage() {
         when(teacherRepository.findById(1)).thenReturn(Optional.of(mockTeacher));
-        mockTeacher.setProfileImagePath("nonexistent.jpg");
+        mockTeacher.setProfileImagePath(null);
 
-        assertThrows(FileNotFoundException.class, () -> teacherService.getProfileImageId(1));
+        assertThrows(FileNotFoundException.class, () -> teacherService.getProfileImageId(1, null, null));
+        verifyNoInteractions(imageService);
     }
 
     @Test
@@ -0,0 +1,167 @@
+package kz.sayat.diploma_backend.auth_module;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kz.sayat.diploma_backend.auth_module.models.RefreshToken;
+import kz.sayat.diploma_backend.auth_module.models.Student;
+import kz.sayat.diploma_backend.auth_module.models.User;
+import kz.sayat.diploma_backend.auth_module.models.enums.UserRole;
+import kz.sayat.diploma_backend.auth_module.repository.RefreshTokenRepository;
+import kz.sayat.diploma_backend.auth_module.repository.RevokedTokenRepository;
+import kz.sayat.diploma_backend.auth_module.repository.UserRepository;
+import kz.sayat.diploma_backend.auth_module.security.AuthMode;
+import kz.sayat.diploma_backend.auth_module.security.MyUserDetails;
+import kz.sayat.diploma_backend.auth_module.security.dto.TokenPair;
+import kz.sayat.diploma_backend.auth_module.security.token.JwtCodec;
+import kz.sayat.diploma_backend.auth_module.security.token.RevocationList;
+import kz.sayat.diploma_backend.auth_module.service.implementation.TokenServiceImpl;
+import kz.sayat.diploma_backend.util.exceptions.UnauthorizedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenServiceTest {
+
+    @Mock
+    private RevocationList revocationList;
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenServiceImpl tokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        JwtCodec jwtCodec = new JwtCodec(new ObjectMapper(), "0123456789abcdef0123456789abcdef", AuthMode.STATELESS);
+        tokenService = new TokenServiceImpl(jwtCodec, revocationList, refreshTokenRepository,
+            revokedTokenRepository, userRepository);
+        ReflectionTestUtils.setField(tokenService, "accessTtlSeconds", 900L);
+        ReflectionTestUtils.setField(tokenService, "refreshTtlSeconds", 3600L);
+
+        user = new Student();
+        user.setId(1);
+        user.setEmail("student@example.com");
+        user.setRole(UserRole.STUDENT);
+    }
+
+    @Test
+    void issue_StoresOnlyTheRefreshTokenHash() {
+        TokenPair tokens = tokenService.issue(user);
+
+        ArgumentCaptor<RefreshToken> stored = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(stored.capture());
+        assertEquals(64, stored.getValue().getTokenHash().length());
+        assertNotEquals(tokens.refreshToken(), stored.getValue().getTokenHash());
+        assertEquals(1, stored.getValue().getUserId());
+        assertEquals(900, tokens.accessExpiresIn());
+        assertEquals(3600, tokens.refreshExpiresIn());
+    }
+
+    @Test
+    void refresh_RotatesWithinTheSameFamily() {
+        TokenPair first = tokenService.issue(user);
+        RefreshToken stored = captureStored();
+        stored.setId(5);
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(eq(5), any(LocalDateTime.class))).thenReturn(1);
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+
+        TokenPair second = tokenService.refresh(first.refreshToken());
+
+        assertNotEquals(first.refreshToken(), second.refreshToken());
+        ArgumentCaptor<RefreshToken> rotated = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository, times(2)).save(rotated.capture());
+        assertEquals(stored.getFamilyId(), rotated.getAllValues().get(1).getFamilyId());
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+    }
+
+    @Test
+    void refresh_ReusedToken_RevokesTheFamily() {
+        TokenPair first = tokenService.issue(user);
+        RefreshToken stored = captureStored();
+        stored.setUsedAt(LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+
+        assertThrows(UnauthorizedException.class, () -> tokenService.refresh(first.refreshToken()));
+
+        verify(refreshTokenRepository).revokeFamily(eq(stored.getFamilyId()), any(LocalDateTime.class));
+        verify(refreshTokenRepository, never()).markUsed(anyInt(), any());
+    }
+
+    @Test
+    void refresh_ConcurrentRotationLosesTheRace_RevokesTheFamily() {
+        TokenPair first = tokenService.issue(user);
+        RefreshToken stored = captureStored();
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(anyInt(), any(LocalDateTime.class))).thenReturn(0);
+
+        assertThrows(UnauthorizedException.class, () -> tokenService.refresh(first.refreshToken()));
+
+        verify(refreshTokenRepository).revokeFamily(eq(stored.getFamilyId()), any(LocalDateTime.class));
+    }
+
+    @Test
+    void refresh_UnknownToken_Throws() {
+        when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.empty());
+
+        assertThrows(UnauthorizedException.class, () -> tokenService.refresh("unknown"));
+        assertThrows(UnauthorizedException.class, () -> tokenService.refresh(null));
+    }
+
+    @Test
+    void authenticate_ValidToken_DoesNotLoadTheUser() {
+        TokenPair tokens = tokenService.issue(user);
+        when(revocationList.isRevoked(any())).thenReturn(false);
+
+        MyUserDetails principal = tokenService.authenticate(tokens.accessToken()).orElseThrow();
+
+        assertEquals(1, principal.getId());
+        assertEquals(UserRole.STUDENT, principal.getRole());
+        assertEquals("student@example.com", principal.getUsername());
+        verifyNoInteractions(userRepository);
+
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        assertSame(user, principal.getUser());
+    }
+
+    @Test
+    void authenticate_RevokedToken_ReturnsEmpty() {
+        TokenPair tokens = tokenService.issue(user);
+        when(revocationList.isRevoked(any())).thenReturn(true);
+
+        assertTrue(tokenService.authenticate(tokens.accessToken()).isEmpty());
+    }
+
+    @Test
+    void revoke_RevokesAccessTokenAndRefreshFamily() {
+        TokenPair tokens = tokenService.issue(user);
+        RefreshToken stored = captureStored();
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+
+        tokenService.revoke(tokens.accessToken(), tokens.refreshToken());
+
+        verify(revocationList).revoke(any(String.class), any());
+        verify(refreshTokenRepository).revokeFamily(eq(stored.getFamilyId()), any(LocalDateTime.class));
+    }
+
+    private RefreshToken captureStored() {
+        ArgumentCaptor<RefreshToken> stored = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(stored.capture());
+        return stored.getValue();
+    }
+}
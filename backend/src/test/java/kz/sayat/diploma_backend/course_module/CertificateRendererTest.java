@@ -0,0 +1,102 @@
+package kz.sayat.diploma_backend.course_module;
+
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.parser.PdfTextExtractor;
+import kz.sayat.diploma_backend.course_module.certificate.CertificateContent;
+import kz.sayat.diploma_backend.course_module.certificate.CertificateRenderer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CertificateRendererTest {
+
+    private final CertificateRenderer renderer = new CertificateRenderer();
+
+    @Test
+    void render_WritesOnePageWithTheDynamicText() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        renderer.render(content(1), out);
+
+        PdfReader reader = new PdfReader(out.toByteArray());
+        assertEquals(1, reader.getNumberOfPages());
+        String text = PdfTextExtractor.getTextFromPage(reader, 1);
+        assertTrue(text.contains("Certificate No: CERT0001"));
+        assertTrue(text.contains("Awarded to: Student 1"));
+        assertTrue(text.contains("Course: Java Basics"));
+        assertTrue(text.contains("score of 88%"));
+        reader.close();
+    }
+
+    @Test
+    void render_LeavesTheResponseStreamOpen() throws IOException {
+        boolean[] closed = {false};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                bytes.write(b);
+            }
+
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        renderer.render(content(1), out);
+
+        assertFalse(closed[0]);
+        assertTrue(bytes.size() > 0);
+    }
+
+    @Test
+    void render_ConcurrentDownloads_ShareTheParsedAssets() throws Exception {
+        byte[] single = render(content(0));
+        int downloads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<byte[]>> results = new ArrayList<>();
+        for (int i = 1; i <= downloads; i++) {
+            CertificateContent content = content(i);
+            results.add(executor.submit(() -> {
+                start.await();
+                return render(content);
+            }));
+        }
+        start.countDown();
+
+        for (int i = 1; i <= downloads; i++) {
+            byte[] pdf = results.get(i - 1).get(30, TimeUnit.SECONDS);
+            PdfReader reader = new PdfReader(pdf);
+            assertTrue(PdfTextExtractor.getTextFromPage(reader, 1).contains("Awarded to: Student " + i));
+            assertEquals(1, reader.getNumberOfPages());
+            reader.close();
+            assertTrue(Math.abs(pdf.length - single.length) < 256, "every download embeds the same assets");
+        }
+        executor.shutdown();
+    }
+
+    private byte[] render(CertificateContent content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderer.render(content, out);
+        return out.toByteArray();
+    }
+
+    private static CertificateContent content(int student) {
+        return new CertificateContent(String.format("CERT%04d", student), "Student " + student, "Java Basics",
+            LocalDate.of(2025, 6, 1), 87.6);
+    }
+}
@@ -0,0 +1,203 @@
+package kz.sayat.diploma_backend.course_module;
+
+import kz.sayat.diploma_backend.auth_module.models.Student;
+import kz.sayat.diploma_backend.auth_module.repository.StudentRepository;
+import kz.sayat.diploma_backend.course_module.certificate.CertificateContent;
+import kz.sayat.diploma_backend.course_module.certificate.CertificateRenderer;
+import kz.sayat.diploma_backend.course_module.dto.CertificateVerificationDto;
+import kz.sayat.diploma_backend.course_module.models.Course;
+import kz.sayat.diploma_backend.course_module.models.Enrollment;
+import kz.sayat.diploma_backend.course_module.models.EnrollmentId;
+import kz.sayat.diploma_backend.course_module.repository.CertificateRepository;
+import kz.sayat.diploma_backend.course_module.repository.EnrollmentRepository;
+import kz.sayat.diploma_backend.course_module.repository.projection.CertificateView;
+import kz.sayat.diploma_backend.course_module.service.implementations.CertificateServiceImpl;
+import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CertificateServiceTest {
+
+    @Mock
+    private CertificateRepository certificateRepository;
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+    @Mock
+    private StudentRepository studentRepository;
+    @Mock
+    private CertificateRenderer certificateRenderer;
+    @Mock
+    private Authentication authentication;
+
+    @InjectMocks
+    private CertificateServiceImpl certificateService;
+
+    private Student student;
+    private Enrollment enrollment;
+
+    @BeforeEach
+    void setUp() {
+        student = new Student();
+        student.setId(1);
+        student.setFirstname("Aida");
+        student.setLastname("Bekova");
+
+        Course course = new Course();
+        course.setId(2);
+        course.setTitle("Java Basics");
+
+        enrollment = new Enrollment(new EnrollmentId(1, 2), student, course);
+        enrollment.setCompleted(true);
+        enrollment.setProgress(92.5);
+    }
+
+    @Test
+    void getCertificate_AlreadyIssued_IsServedFromStorage() {
+        CertificateView stored = view("ABCDEFGH2345");
+        when(authentication.getName()).thenReturn("student@example.com");
+        when(studentRepository.findByEmail("student@example.com")).thenReturn(Optional.of(student));
+        when(certificateRepository.findByStudentIdAndCourseId(1, 2)).thenReturn(Optional.of(stored));
+
+        CertificateView result = certificateService.getCertificate(2, authentication);
+
+        assertSame(stored, result);
+        verifyNoInteractions(certificateRenderer, enrollmentRepository);
+        verify(certificateRepository, never()).insertIfAbsent(any(), anyInt(), anyInt(), any(), any(),
+            anyDouble(), any(), any(), any());
+    }
+
+    @Test
+    void getCertificate_NotIssuedYet_RendersAndStoresOnce() throws IOException {
+        CertificateView stored = view("ABCDEFGH2345");
+        when(authentication.getName()).thenReturn("student@example.com");
+        when(studentRepository.findByEmail("student@example.com")).thenReturn(Optional.of(student));
+        when(certificateRepository.findByStudentIdAndCourseId(1, 2))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(stored));
+        when(enrollmentRepository.findById(new EnrollmentId(1, 2))).thenReturn(Optional.of(enrollment));
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write(new byte[]{1, 2, 3});
+            return null;
+        }).when(certificateRenderer).render(any(CertificateContent.class), any(OutputStream.class));
+
+        CertificateView result = certificateService.getCertificate(2, authentication);
+
+        assertSame(stored, result);
+        ArgumentCaptor<CertificateContent> content = ArgumentCaptor.forClass(CertificateContent.class);
+        verify(certificateRenderer).render(content.capture(), any(OutputStream.class));
+        assertEquals("Aida Bekova", content.getValue().studentName());
+        assertEquals("Java Basics", content.getValue().courseTitle());
+        assertEquals(92.5, content.getValue().progress());
+        assertTrue(content.getValue().number().matches("[A-HJ-NP-Z2-9]{12}"));
+        verify(certificateRepository).insertIfAbsent(eq(content.getValue().number()), eq(1), eq(2),
+            eq("Aida Bekova"), eq("Java Basics"), eq(92.5), any(LocalDateTime.class),
+            aryEq(new byte[]{1, 2, 3}),
+            eq("039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81"));
+    }
+
+    @Test
+    void issue_CourseNotCompleted_Throws() {
+        enrollment.setCompleted(false);
+        when(enrollmentRepository.findById(new EnrollmentId(1, 2))).thenReturn(Optional.of(enrollment));
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> certificateService.issue(1, 2));
+
+        assertEquals("Course is not completed", exception.getMessage());
+        verifyNoInteractions(certificateRenderer);
+    }
+
+    @Test
+    void issueIfAbsent_AlreadyIssued_DoesNothing() {
+        when(certificateRepository.existsByStudentIdAndCourseId(1, 2)).thenReturn(true);
+
+        certificateService.issueIfAbsent(1, 2);
+
+        verifyNoInteractions(enrollmentRepository, certificateRenderer);
+    }
+
+    @Test
+    void verify_ReturnsStoredDetails() {
+        when(certificateRepository.findByNumber("ABCDEFGH2345")).thenReturn(Optional.of(view("ABCDEFGH2345")));
+
+        CertificateVerificationDto result = certificateService.verify("ABCDEFGH2345");
+
+        assertEquals("ABCDEFGH2345", result.number());
+        assertEquals("Aida Bekova", result.studentName());
+        assertEquals("Java Basics", result.courseTitle());
+    }
+
+    @Test
+    void verify_UnknownNumber_ThrowsException() {
+        when(certificateRepository.findByNumber("NOPE")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> certificateService.verify("NOPE"));
+    }
+
+    @Test
+    void writePdf_CopiesStoredPdfIntoResponse() throws IOException {
+        OutputStream out = OutputStream.nullOutputStream();
+        when(certificateRepository.writePdf(3, out)).thenReturn(true);
+
+        certificateService.writePdf(3, out);
+
+        verify(certificateRepository).writePdf(3, out);
+    }
+
+    @Test
+    void writePdf_UnknownCertificate_ThrowsException() throws IOException {
+        when(certificateRepository.writePdf(eq(3), any(OutputStream.class))).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> certificateService.writePdf(3, OutputStream.nullOutputStream()));
+    }
+
+    private static CertificateView view(String number) {
+        return new CertificateView() {
+            public int getId() {
+                return 7;
+            }
+
+            public String getNumber() {
+                return number;
+            }
+
+            public String getStudentName() {
+                return "Aida Bekova";
+            }
+
+            public String getCourseTitle() {
+                return "Java Basics";
+            }
+
+            public double getProgress() {
+                return 92.5;
+            }
+
+            public LocalDateTime getIssuedAt() {
+                return LocalDateTime.of(2025, 6, 1, 12, 0);
+            }
+
+            public String getPdfSha256() {
+                return HexFormat.of().formatHex(new byte[32]);
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package kz.sayat.diploma_backend.course_module;
+
+import kz.sayat.diploma_backend.course_module.cache.CourseCacheEvictor;
+import kz.sayat.diploma_backend.course_module.events.CourseStructureChangedEvent;
+import kz.sayat.diploma_backend.course_module.events.CourseUpdatedEvent;
+import kz.sayat.diploma_backend.util.cache.CacheInvalidationRepository;
+import kz.sayat.diploma_backend.util.cache.CacheInvalidator;
+import kz.sayat.diploma_backend.util.cache.CacheNames;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class CourseCacheEvictorTest {
+
+    private CacheManager cacheManager;
+    private CourseCacheEvictor evictor;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(
+            CacheNames.COURSE_STRUCTURE, CacheNames.COURSE_CATALOG, CacheNames.TEACHERS);
+        evictor = new CourseCacheEvictor(
+            new CacheInvalidator(cacheManager, mock(CacheInvalidationRepository.class), 60));
+
+        cacheManager.getCache(CacheNames.COURSE_STRUCTURE).put(1, "course 1");
+        cacheManager.getCache(CacheNames.COURSE_STRUCTURE).put(2, "course 2");
+        cacheManager.getCache(CacheNames.COURSE_CATALOG).put("public", "catalog");
+        cacheManager.getCache(CacheNames.TEACHERS).put("all", "teachers");
+    }
+
+    @Test
+    void onCourseStructureChanged_EvictsOnlyThatCourse() {
+        evictor.onCourseStructureChanged(new CourseStructureChangedEvent(1));
+
+        assertNull(cacheManager.getCache(CacheNames.COURSE_STRUCTURE).get(1));
+        assertNotNull(cacheManager.getCache(CacheNames.COURSE_STRUCTURE).get(2));
+        assertNotNull(cacheManager.getCache(CacheNames.COURSE_CATALOG).get("public"));
+    }
+
+    @Test
+    void onCourseUpdated_EvictsCourseAndCatalog() {
+        evictor.onCourseUpdated(new CourseUpdatedEvent(1));
+
+        assertNull(cacheManager.getCache(CacheNames.COURSE_STRUCTURE).get(1));
+        assertNotNull(cacheManager.getCache(CacheNames.COURSE_STRUCTURE).get(2));
+        assertNull(cacheManager.getCache(CacheNames.COURSE_CATALOG).get("public"));
+        assertNull(cacheManager.getCache(CacheNames.TEACHERS).get("all"));
+    }
+}
@@ -0,0 +1,58 @@
+package kz.sayat.diploma_backend.course_module;
+
+import kz.sayat.diploma_backend.course_module.jobs.CourseCategoryBackfillJob;
+import kz.sayat.diploma_backend.course_module.service.CourseCategoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseCategoryBackfillJobTest {
+
+    @Mock
+    private CourseCategoryService courseCategoryService;
+
+    @InjectMocks
+    private CourseCategoryBackfillJob job;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(job, "batchSize", 2);
+    }
+
+    @Test
+    void backfill_AlreadyCompleted_SkipsTheScan() {
+        when(courseCategoryService.isBackfilled()).thenReturn(true);
+
+        job.backfill();
+
+        verify(courseCategoryService, never()).backfill(anyInt(), anyInt());
+        verify(courseCategoryService, never()).markBackfilled();
+    }
+
+    @Test
+    void backfill_WalksAllBatchesThenRecordsCompletion() {
+        when(courseCategoryService.backfill(0, 2)).thenReturn(7);
+        when(courseCategoryService.backfill(7, 2)).thenReturn(-1);
+
+        job.backfill();
+
+        verify(courseCategoryService).markBackfilled();
+    }
+
+    @Test
+    void backfill_Failure_DoesNotRecordCompletion() {
+        when(courseCategoryService.backfill(0, 2)).thenThrow(new IllegalStateException("database down"));
+
+        job.backfill();
+
+        verify(courseCategoryService, never()).markBackfilled();
+    }
+}
@@ -0,0 +1,77 @@
+package kz.sayat.diploma_backend.course_module;
+
+import kz.sayat.diploma_backend.course_module.events.CourseUpdatedEvent;
+import kz.sayat.diploma_backend.course_module.models.Course;
+import kz.sayat.diploma_backend.course_module.models.enums.CourseCategory;
+import kz.sayat.diploma_backend.course_module.repository.CompletedBackfillRepository;
+import kz.sayat.diploma_backend.course_module.repository.CourseRepository;
+import kz.sayat.diploma_backend.course_module.service.implementations.CourseCategoryServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseCategoryServiceTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private CompletedBackfillRepository completedBackfillRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CourseCategoryServiceImpl courseCategoryService;
+
+    @Test
+    void classify_MatchesWholeWordsAcrossTitleAndDescription() {
+        assertEquals(EnumSet.of(CourseCategory.AI, CourseCategory.IT),
+            courseCategoryService.classify("Intro to machine learning", "Hands-on Programming with AI tools"));
+        assertEquals(EnumSet.of(CourseCategory.Kazakh),
+            courseCategoryService.classify("ҚАЗАҚ ТІЛІ", null));
+    }
+
+    @Test
+    void classify_IgnoresTagsInsideOtherWords() {
+        assertTrue(courseCategoryService.classify("Maintaining gardens", "Work with plants").isEmpty());
+    }
+
+    @Test
+    void backfill_ClassifiesBatchAndReturnsLastId() {
+        Course algebra = course(3, "Algebra basics");
+        Course cooking = course(7, "Cooking");
+        when(courseRepository.findUncategorizedAfter(0, PageRequest.of(0, 2))).thenReturn(List.of(algebra, cooking));
+
+        int lastId = courseCategoryService.backfill(0, 2);
+
+        assertEquals(7, lastId);
+        assertEquals(EnumSet.of(CourseCategory.Math), algebra.getCategories());
+        assertTrue(cooking.getCategories().isEmpty());
+        verify(eventPublisher).publishEvent(new CourseUpdatedEvent(3));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void backfill_NothingLeft_ReturnsMinusOne() {
+        when(courseRepository.findUncategorizedAfter(7, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        assertEquals(-1, courseCategoryService.backfill(7, 2));
+    }
+
+    private Course course(int id, String title) {
+        Course course = new Course();
+        course.setId(id);
+        course.setTitle(title);
+        return course;
+    }
+}
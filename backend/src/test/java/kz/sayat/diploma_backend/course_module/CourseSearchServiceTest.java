@@ -0,0 +1,82 @@
+package kz.sayat.diploma_backend.course_module;
+
+import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
+import kz.sayat.diploma_backend.course_module.mapper.CourseMapper;
+import kz.sayat.diploma_backend.course_module.repository.CourseRepository;
+import kz.sayat.diploma_backend.course_module.repository.projection.CourseHeaderView;
+import kz.sayat.diploma_backend.course_module.service.implementations.CourseSearchServiceImpl;
+import kz.sayat.diploma_backend.util.pagination.PageDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseSearchServiceTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private CourseMapper courseMapper;
+
+    @InjectMocks
+    private CourseSearchServiceImpl courseSearchService;
+
+    @Test
+    void toPrefixTsQuery_StripsOperatorsAndAddsPrefixMatch() {
+        assertEquals("java:* & spring:*", CourseSearchServiceImpl.toPrefixTsQuery("  Java & (spring)!|"));
+        assertEquals("", CourseSearchServiceImpl.toPrefixTsQuery(" :* & "));
+        assertEquals("", CourseSearchServiceImpl.toPrefixTsQuery(null));
+    }
+
+    @Test
+    void search_BlankQuery_SkipsDatabase() {
+        PageDto<CourseSummaryDto> result = courseSearchService.search("!!", 0, 20);
+
+        assertTrue(result.getItems().isEmpty());
+        assertEquals(0, result.getTotalElements());
+        verifyNoInteractions(courseRepository);
+    }
+
+    @Test
+    void search_CapsPageSizeAndMapsRows() {
+        CourseHeaderView row = mock(CourseHeaderView.class);
+        CourseSummaryDto dto = new CourseSummaryDto();
+        PageRequest expected = PageRequest.of(2, CourseSearchServiceImpl.MAX_PAGE_SIZE);
+        when(courseRepository.searchPublic("java:*", expected))
+            .thenReturn(new PageImpl<>(List.of(row), expected, 201));
+        when(courseMapper.toCourseSummaryDto(row)).thenReturn(dto);
+
+        PageDto<CourseSummaryDto> result = courseSearchService.search("java", 2, 10_000);
+
+        assertEquals(List.of(dto), result.getItems());
+        assertEquals(2, result.getPage());
+        assertEquals(CourseSearchServiceImpl.MAX_PAGE_SIZE, result.getSize());
+        assertEquals(201, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+    }
+
+    @Test
+    void searchAll_ReturnsEveryMatchUnpaged() {
+        List<CourseHeaderView> rows = IntStream.range(0, CourseSearchServiceImpl.MAX_PAGE_SIZE + 5)
+            .mapToObj(i -> mock(CourseHeaderView.class))
+            .toList();
+        when(courseRepository.searchPublic("java:*", Pageable.unpaged())).thenReturn(new PageImpl<>(rows));
+        when(courseMapper.toCourseSummaryDto(any(CourseHeaderView.class))).thenReturn(new CourseSummaryDto());
+
+        List<CourseSummaryDto> result = courseSearchService.searchAll("java");
+
+        assertEquals(CourseSearchServiceImpl.MAX_PAGE_SIZE + 5, result.size());
+    }
+}
@@ -11,10 +11,14 @@ import kz.sayat.diploma_backend.auth_module.security.MyUserDetails;
 import kz.sayat.diploma_backend.auth_module.service.StudentService;
 import kz.sayat.diploma_backend.auth_module.service.TeacherService;
 import kz.sayat.diploma_backend.course_module.dto.CourseDto;
+import kz.sayat.diploma_backend.course_module.dto.CourseProgressDto;
+import kz.sayat.diploma_backend.course_module.dto.CourseStructure;
 import kz.sayat.diploma_backend.course_module.dto.CourseSummaryDto;
 import kz.sayat.diploma_backend.course_module.dto.LectureDto;
 import kz.sayat.diploma_backend.course_module.dto.ModuleDto;
 import kz.sayat.diploma_backend.course_module.dto.QuizSummaryDto;
+import kz.sayat.diploma_backend.course_module.events.CourseUpdatedEvent;
+import kz.sayat.diploma_backend.course_module.events.StudentProgressEvent;
 import kz.sayat.diploma_backend.course_module.models.Course;
 import kz.sayat.diploma_backend.course_module.models.Enrollment;
 import kz.sayat.diploma_backend.course_module.models.EnrollmentId;
@@ -25,26 +29,40 @@ import kz.sayat.diploma_backend.course_module.repository.EnrollmentRepository;
 import kz.sayat.diploma_backend.course_module.repository.LectureRepository;
 import kz.sayat.diploma_backend.course_module.repository.LectureViewRepository;
 import kz.sayat.diploma_backend.course_module.repository.ModuleRepository;
+import kz.sayat.diploma_backend.course_module.models.enums.CourseCategory;
+import kz.sayat.diploma_backend.course_module.repository.projection.CourseHeaderView;
+import kz.sayat.diploma_backend.course_module.repository.projection.EnrolledCourseView;
 import kz.sayat.diploma_backend.course_module.mapper.CourseMapper;
+import kz.sayat.diploma_backend.course_module.service.CourseCategoryService;
+import kz.sayat.diploma_backend.course_module.service.CourseSearchService;
 import kz.sayat.diploma_backend.course_module.service.CourseService;
+import kz.sayat.diploma_backend.course_module.service.CourseStructureService;
+import kz.sayat.diploma_backend.course_module.service.ProgressService;
 import kz.sayat.diploma_backend.course_module.service.implementations.CourseServiceImpl;
 import kz.sayat.diploma_backend.quiz_module.models.Quiz;
 import kz.sayat.diploma_backend.quiz_module.models.QuizAttempt;
 import kz.sayat.diploma_backend.quiz_module.repository.QuizAttemptRepository;
 import kz.sayat.diploma_backend.quiz_module.repository.QuizRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.projection.LatestAttemptView;
+import kz.sayat.diploma_backend.util.collections.IntSet;
 import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
+import kz.sayat.diploma_backend.util.pagination.CursorPage;
+import kz.sayat.diploma_backend.util.pagination.PageDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import kz.sayat.diploma_backend.media_module.service.ImageService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -84,9 +102,21 @@ class CourseServiceTest {
     @Mock
     private LectureRepository lectureRepository;
     @Mock
+    private ProgressService progressService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private CourseStructureService courseStructureService;
+    @Mock
+    private CourseSearchService courseSearchService;
+    @Mock
+    private CourseCategoryService courseCategoryService;
+    @Mock
     private Authentication authentication;
     @Mock
     private MultipartFile multipartFile;
+    @Mock
+    private ImageService imageService;
 
     @InjectMocks
     private CourseServiceImpl courseService;
@@ -182,9 +212,56 @@ class CourseServiceTest {
 //        verify(courseRepository).findById(1);
 //    }
 
+    @Test
+    void findCourseById_Student_UsesBatchedLookups() {
+        QuizSummaryDto passedQuiz = new QuizSummaryDto();
+        passedQuiz.setId(5);
+        QuizSummaryDto failedQuiz = new QuizSummaryDto();
+        failedQuiz.setId(6);
+        ModuleDto moduleDto = new ModuleDto();
+        moduleDto.setId(1);
+        moduleDto.setQuizzes(new ArrayList<>(List.of(passedQuiz, failedQuiz)));
+        LectureDto viewedLecture = new LectureDto();
+        viewedLecture.setId(7);
+        LectureDto newLecture = new LectureDto();
+        newLecture.setId(8);
+        moduleDto.setLectures(new ArrayList<>(List.of(viewedLecture, newLecture)));
+        courseDto.setModules(new ArrayList<>(List.of(moduleDto)));
+
+        LatestAttemptView latestAttempt = mock(LatestAttemptView.class);
+        when(latestAttempt.getQuizId()).thenReturn(5);
+        when(latestAttempt.getPassed()).thenReturn(true);
+
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal()).thenReturn(userDetails);
+        CourseStructure structure = new CourseStructure(1, "Test Course", "Test Description", true,
+            new CourseStructure.Teacher(1, "teacher@example.com", "Jane", "Doe", null, null), List.of());
+        when(courseStructureService.getCourseStructure(1)).thenReturn(structure);
+        when(studentService.getStudentFromUser(authentication)).thenReturn(student);
+        when(enrollmentRepository.existsById(new EnrollmentId(1, 1))).thenReturn(true);
+        when(courseMapper.toCourseDto(structure)).thenReturn(courseDto);
+        when(progressService.getCourseProgress(1, 1))
+            .thenReturn(new CourseProgressDto(1, 50.0, false, Map.of(1, 50.0)));
+        when(quizAttemptRepository.findLatestAttemptsByCourse(1, 1)).thenReturn(List.of(latestAttempt));
+        when(lectureViewRepository.findViewedLectureIdSetByCourse(1, 1)).thenReturn(IntSet.of(List.of(7)));
+
+        CourseDto result = service.findCourseById(1, authentication);
+
+        assertTrue(passedQuiz.isPassed());
+        assertFalse(failedQuiz.isPassed());
+        assertTrue(viewedLecture.isViewed());
+        assertFalse(newLecture.isViewed());
+        verify(lectureViewRepository, never()).existsByStudentIdAndLectureId(anyInt(), anyInt());
+        assertTrue(result.isEnrolled());
+        assertEquals(50.0, result.getModules().get(0).getProgress());
+        verify(quizAttemptRepository, never())
+            .findTopByStudentAndQuizOrderByAttemptNumberDesc(any(), any());
+        verifyNoInteractions(quizRepository, courseRepository);
+    }
+
     @Test
     void findCourseById_CourseNotFound_ThrowsException() {
-        when(courseRepository.findById(1)).thenReturn(Optional.empty());
+        when(courseStructureService.getCourseStructure(1)).thenThrow(new ResourceNotFoundException("Course not found"));
 
         assertThrows(ResourceNotFoundException.class, () -> service.findCourseById(1, authentication));
     }
@@ -198,6 +275,7 @@ class CourseServiceTest {
         service.enrollCourse(1, authentication);
 
         verify(enrollmentRepository).save(any(Enrollment.class));
+        verify(eventPublisher).publishEvent(new StudentProgressEvent(1, 1));
     }
 
     @Test
@@ -212,43 +290,104 @@ class CourseServiceTest {
 
     @Test
     void getAllCourses_Success() {
-        List<Course> courses = new ArrayList<>(List.of(course));
-        when(courseRepository.findAll()).thenReturn(courses);
-        when(courseMapper.toCourseSummaryDtoList(courses)).thenReturn(List.of(courseSummaryDto));
+        CourseHeaderView first = header(3);
+        CourseHeaderView second = header(5);
+        CourseHeaderView extra = header(8);
+        when(courseRepository.findHeadersAfter(0, PageRequest.of(0, 3))).thenReturn(List.of(first, second, extra));
+        when(courseMapper.toCourseSummaryDto(any(CourseHeaderView.class))).thenReturn(courseSummaryDto);
+        when(courseRepository.count()).thenReturn(7L);
+
+        CursorPage<CourseSummaryDto> result = service.getAllCourses(null, 2, true);
+
+        assertEquals(2, result.getItems().size());
+        assertEquals(5, result.getNextCursor());
+        assertEquals(7L, result.getTotalElements());
+        verify(courseMapper, never()).toCourseSummaryDto(extra);
+    }
 
-        List<CourseSummaryDto> result = service.getAllCourses();
+    @Test
+    void getAllCourses_LastPage_HasNoCursorAndSkipsCount() {
+        CourseHeaderView last = header(9);
+        when(courseRepository.findHeadersAfter(5, PageRequest.of(0, 3))).thenReturn(List.of(last));
+        when(courseMapper.toCourseSummaryDto(last)).thenReturn(courseSummaryDto);
+
+        CursorPage<CourseSummaryDto> result = service.getAllCourses(5, 2, false);
+
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+        assertNull(result.getTotalElements());
+        verify(courseRepository, never()).count();
+    }
+
+    @Test
+    void getMyCourses_ReadsStoredProgress() {
+        EnrolledCourseView active = enrolledCourse(true, false);
+        EnrolledCourseView completed = enrolledCourse(true, true);
+        when(authentication.getPrincipal()).thenReturn(userDetails);
+        when(enrollmentRepository.findEnrolledCoursesByStudentId(1)).thenReturn(List.of(active, completed));
+        when(courseMapper.toCourseSummaryDto(active)).thenReturn(courseSummaryDto);
+
+        List<CourseSummaryDto> result = service.getMyCourses(authentication);
 
-        assertNotNull(result);
         assertEquals(1, result.size());
-        verify(courseRepository).findAll();
+        assertSame(courseSummaryDto, result.get(0));
+        verify(enrollmentRepository, never()).save(any());
+        verifyNoInteractions(progressService, quizAttemptRepository, lectureViewRepository);
+    }
+
+    @Test
+    void getCompletedCourses_NoWrites() {
+        EnrolledCourseView active = enrolledCourse(true, false);
+        EnrolledCourseView completed = enrolledCourse(true, true);
+        when(authentication.getName()).thenReturn("student@example.com");
+        when(studentRepository.findByEmail("student@example.com")).thenReturn(Optional.of(student));
+        when(enrollmentRepository.findEnrolledCoursesByStudentId(1)).thenReturn(List.of(active, completed));
+        when(courseMapper.toCourseSummaryDto(completed)).thenReturn(courseSummaryDto);
+
+        List<CourseSummaryDto> result = service.getCompletedCourses(authentication);
+
+        assertEquals(List.of(courseSummaryDto), result);
+        verify(enrollmentRepository, never()).save(any());
+        verifyNoInteractions(progressService);
+    }
+
+    private CourseHeaderView header(int id) {
+        CourseHeaderView view = mock(CourseHeaderView.class);
+        lenient().when(view.getId()).thenReturn(id);
+        return view;
+    }
+
+    private EnrolledCourseView enrolledCourse(boolean isPublic, boolean completed) {
+        EnrolledCourseView view = mock(EnrolledCourseView.class);
+        lenient().when(view.getIsPublic()).thenReturn(isPublic);
+        lenient().when(view.getCompleted()).thenReturn(completed);
+        return view;
     }
 
     @Test
     void getStudentForCourse_Success() {
         List<Student> students = new ArrayList<>(List.of(student));
-        List<StudentDto> studentDtos = List.of(new StudentDto());
-        when(enrollmentRepository.findStudentsByCourseId(1)).thenReturn(students);
-        when(studentMapper.toStudentDtoList(students)).thenReturn(studentDtos);
+        when(enrollmentRepository.findStudentsByCourseIdAfter(1, 0, PageRequest.of(0, 51))).thenReturn(students);
+        when(studentMapper.toStudentDtoList(students)).thenReturn(List.of(new StudentDto()));
+        when(enrollmentRepository.countByCourseId(1)).thenReturn(1L);
 
-        List<StudentDto> result = service.getStudentForCourse(1);
+        CursorPage<StudentDto> result = service.getStudentForCourse(1, null, 50, true);
 
         assertNotNull(result);
-        assertEquals(studentDtos.size(), result.size());
-        verify(enrollmentRepository).findStudentsByCourseId(1);
+        assertEquals(1, result.getItems().size());
+        assertEquals(1L, result.getTotalElements());
+        verify(enrollmentRepository).findStudentsByCourseIdAfter(1, 0, PageRequest.of(0, 51));
     }
 
     @Test
     void getCoursesByQuery_Success() {
-        List<Course> courses = new ArrayList<>(List.of(course));
-        when(courseRepository.findByIsPublicTrueAndTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase("test", "test"))
-                .thenReturn(courses);
-        when(courseMapper.toCourseSummaryDtoList(courses)).thenReturn(List.of(courseSummaryDto));
+        when(courseSearchService.searchAll("test")).thenReturn(List.of(courseSummaryDto));
 
         List<CourseSummaryDto> result = service.getCoursesByQuery("test");
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(courseRepository).findByIsPublicTrueAndTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase("test", "test");
+        verify(courseSearchService).searchAll("test");
     }
 
     @Test
@@ -270,15 +409,15 @@ class CourseServiceTest {
 
     @Test
     void getPrivateCourses_Success() {
-        List<Course> courses = new ArrayList<>(List.of(course));
-        when(courseRepository.findByIsPublicFalse()).thenReturn(courses);
-        when(courseMapper.toCourseSummaryDtoList(courses)).thenReturn(List.of(courseSummaryDto));
+        CourseHeaderView row = header(1);
+        when(courseRepository.findPrivateHeadersAfter(0, PageRequest.of(0, 51))).thenReturn(List.of(row));
+        when(courseMapper.toCourseSummaryDto(row)).thenReturn(courseSummaryDto);
 
-        List<CourseSummaryDto> result = service.getPrivateCourses();
+        CursorPage<CourseSummaryDto> result = service.getPrivateCourses(null, 50, false);
 
         assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(courseRepository).findByIsPublicFalse();
+        assertEquals(1, result.getItems().size());
+        verify(courseRepository).findPrivateHeadersAfter(0, PageRequest.of(0, 51));
     }
 
     @Test
@@ -295,10 +434,14 @@ class CourseServiceTest {
     void editCourse_Success() {
         when(courseRepository.findById(1)).thenReturn(Optional.of(course));
 
+        when(courseCategoryService.classify(courseDto.getTitle(), courseDto.getDescription()))
+            .thenReturn(EnumSet.of(CourseCategory.IT));
+
         service.editCourse(courseDto, 1);
 
         assertEquals(courseDto.getTitle(), course.getTitle());
         assertEquals(courseDto.getDescription(), course.getDescription());
+        assertEquals(EnumSet.of(CourseCategory.IT), course.getCategories());
         verify(courseRepository).findById(1);
     }
 
@@ -314,12 +457,13 @@ class CourseServiceTest {
     @Test
     void saveFile_Success() throws IOException {
         when(courseRepository.findById(1)).thenReturn(Optional.of(course));
-        when(multipartFile.getOriginalFilename()).thenReturn("test.jpg");
-        when(multipartFile.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[0]));
+        when(imageService.store(ImageService.COURSES, multipartFile)).thenReturn("stored.jpg");
 
         service.saveFile(1, multipartFile);
 
+        assertEquals("stored.jpg", course.getProfileImagePath());
         verify(courseRepository).save(any(Course.class));
+        verify(eventPublisher).publishEvent(new CourseUpdatedEvent(1));
     }
 
 
@@ -329,12 +473,38 @@ class CourseServiceTest {
         course.setProfileImagePath(null);
         when(courseRepository.findById(1)).thenReturn(Optional.of(course));
 
-        assertThrows(FileNotFoundException.class, () -> service.getProfileImageId(1));
+        assertThrows(FileNotFoundException.class, () -> service.getProfileImageId(1, null, null));
+        verifyNoInteractions(imageService);
+    }
+
+    @Test
+    void getProfileImageId_ServesStoredImage() throws IOException {
+        course.setProfileImagePath("stored.jpg");
+        when(courseRepository.findById(1)).thenReturn(Optional.of(course));
+        when(imageService.serve(ImageService.COURSES, "stored.jpg", "thumb", null))
+            .thenReturn(ResponseEntity.ok().build());
+
+        assertEquals(200, service.getProfileImageId(1, "thumb", null).getStatusCode().value());
     }
 
 
     @Test
     void getCoursesByCategory_InvalidCategory_ThrowsException() {
-        assertThrows(IllegalArgumentException.class, () -> service.getCoursesByCategory(List.of("INVALID")));
+        assertThrows(IllegalArgumentException.class, () -> service.getCoursesByCategory(List.of("INVALID"), 0, 20));
+    }
+
+    @Test
+    void getCoursesByCategory_AcceptsNamesAndLabelsInOneQuery() {
+        CourseHeaderView row = mock(CourseHeaderView.class);
+        PageRequest pageRequest = PageRequest.of(1, 20);
+        when(courseRepository.findPublicByCategories(EnumSet.of(CourseCategory.AI, CourseCategory.Math), pageRequest))
+            .thenReturn(new PageImpl<>(List.of(row), pageRequest, 21));
+        when(courseMapper.toCourseSummaryDto(row)).thenReturn(courseSummaryDto);
+
+        PageDto<CourseSummaryDto> result = service.getCoursesByCategory(List.of("Artificial Intelligence", "Math"), 1, 20);
+
+        assertEquals(List.of(courseSummaryDto), result.getItems());
+        assertEquals(21, result.getTotalElements());
+        verify(courseRepository).findPublicByCategories(EnumSet.of(CourseCategory.AI, CourseCategory.Math), pageRequest);
     }
 }
\ No newline at end of file
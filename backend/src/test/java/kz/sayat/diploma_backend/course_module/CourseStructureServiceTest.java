@@ -0,0 +1,94 @@
+package kz.sayat.diploma_backend.course_module;
+
+import kz.sayat.diploma_backend.course_module.dto.CourseStructure;
+import kz.sayat.diploma_backend.course_module.repository.CourseRepository;
+import kz.sayat.diploma_backend.course_module.repository.LectureRepository;
+import kz.sayat.diploma_backend.course_module.repository.ModuleRepository;
+import kz.sayat.diploma_backend.course_module.repository.projection.CourseHeaderView;
+import kz.sayat.diploma_backend.course_module.repository.projection.LectureSummaryView;
+import kz.sayat.diploma_backend.course_module.repository.projection.ModuleQuizView;
+import kz.sayat.diploma_backend.course_module.service.implementations.CourseStructureServiceImpl;
+import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseStructureServiceTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private ModuleRepository moduleRepository;
+    @Mock
+    private LectureRepository lectureRepository;
+
+    @InjectMocks
+    private CourseStructureServiceImpl courseStructureService;
+
+    @Test
+    void getCourseStructure_LoadsWholeCourseInThreeQueries() {
+        CourseHeaderView header = mock(CourseHeaderView.class);
+        when(header.getId()).thenReturn(1);
+        when(header.getTitle()).thenReturn("Java");
+        when(header.getIsPublic()).thenReturn(true);
+        when(header.getTeacherId()).thenReturn(9);
+        when(courseRepository.findHeaderById(1)).thenReturn(Optional.of(header));
+        List<ModuleQuizView> moduleQuizzes = List.of(
+            moduleQuiz(10, "Basics", 100),
+            moduleQuiz(10, "Basics", 101),
+            moduleQuiz(11, "Empty", null)
+        );
+        List<LectureSummaryView> lectures = List.of(lecture(200, 10));
+        when(moduleRepository.findModuleQuizzesByCourseId(1)).thenReturn(moduleQuizzes);
+        when(lectureRepository.findSummariesByCourseId(1)).thenReturn(lectures);
+
+        CourseStructure structure = courseStructureService.getCourseStructure(1);
+
+        assertEquals("Java", structure.title());
+        assertTrue(structure.isPublic());
+        assertEquals(9, structure.teacher().id());
+        assertEquals(2, structure.modules().size());
+        CourseStructure.Module basics = structure.modules().get(0);
+        assertEquals(List.of(100, 101), basics.quizzes().stream().map(CourseStructure.Quiz::id).toList());
+        assertEquals(200, basics.lectures().get(0).id());
+        CourseStructure.Module empty = structure.modules().get(1);
+        assertTrue(empty.quizzes().isEmpty());
+        assertTrue(empty.lectures().isEmpty());
+        verifyNoMoreInteractions(courseRepository, moduleRepository, lectureRepository);
+    }
+
+    @Test
+    void getCourseStructure_NotFound_ThrowsException() {
+        when(courseRepository.findHeaderById(1)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> courseStructureService.getCourseStructure(1));
+        verifyNoInteractions(moduleRepository, lectureRepository);
+    }
+
+    private ModuleQuizView moduleQuiz(int moduleId, String moduleTitle, Integer quizId) {
+        ModuleQuizView row = mock(ModuleQuizView.class);
+        when(row.getModuleId()).thenReturn(moduleId);
+        lenient().when(row.getModuleTitle()).thenReturn(moduleTitle);
+        when(row.getQuizId()).thenReturn(quizId);
+        lenient().when(row.getPassingScore()).thenReturn(50);
+        lenient().when(row.getDurationInMinutes()).thenReturn(10);
+        lenient().when(row.getQuestionCount()).thenReturn(5);
+        return row;
+    }
+
+    private LectureSummaryView lecture(int id, int moduleId) {
+        LectureSummaryView row = mock(LectureSummaryView.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getModuleId()).thenReturn(moduleId);
+        return row;
+    }
+}
@@ -0,0 +1,55 @@
+package kz.sayat.diploma_backend.course_module;
+
+import kz.sayat.diploma_backend.course_module.events.CourseCompletedEvent;
+import kz.sayat.diploma_backend.course_module.events.CourseStructureChangedEvent;
+import kz.sayat.diploma_backend.course_module.events.StudentProgressEvent;
+import kz.sayat.diploma_backend.course_module.repository.EnrollmentRepository;
+import kz.sayat.diploma_backend.course_module.service.implementations.EnrollmentProgressServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EnrollmentProgressServiceTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private EnrollmentProgressServiceImpl enrollmentProgressService;
+
+    @Test
+    void onStudentProgress_RefreshesSingleEnrollment() {
+        enrollmentProgressService.onStudentProgress(new StudentProgressEvent(1, 2));
+
+        verify(enrollmentRepository).refreshProgress(2, 1);
+        verify(enrollmentRepository).isCompletedWithoutCertificate(1, 2);
+        verifyNoMoreInteractions(enrollmentRepository);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void onStudentProgress_Completed_AnnouncesCompletion() {
+        when(enrollmentRepository.isCompletedWithoutCertificate(1, 2)).thenReturn(true);
+
+        enrollmentProgressService.onStudentProgress(new StudentProgressEvent(1, 2));
+
+        verify(eventPublisher).publishEvent(new CourseCompletedEvent(1, 2));
+    }
+
+    @Test
+    void onCourseStructureChanged_RefreshesWholeCourse() {
+        enrollmentProgressService.onCourseStructureChanged(new CourseStructureChangedEvent(2));
+
+        verify(enrollmentRepository).refreshProgress(2, null);
+        verifyNoMoreInteractions(enrollmentRepository);
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -7,6 +7,8 @@ import kz.sayat.diploma_backend.auth_module.security.MyUserDetails;
 import kz.sayat.diploma_backend.course_module.dto.LectureDto;
 import kz.sayat.diploma_backend.course_module.models.Lecture;
 import kz.sayat.diploma_backend.course_module.models.LectureView;
+import kz.sayat.diploma_backend.course_module.events.StudentProgressEvent;
+import kz.sayat.diploma_backend.course_module.models.Course;
 import kz.sayat.diploma_backend.course_module.models.Module;
 import kz.sayat.diploma_backend.course_module.repository.LectureRepository;
 import kz.sayat.diploma_backend.course_module.repository.LectureViewRepository;
@@ -22,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 
 import java.time.LocalDateTime;
@@ -48,6 +51,9 @@ class LectureServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private LectureServiceImpl lectureService;
 
@@ -69,8 +75,13 @@ class LectureServiceTest {
         lectureDto.setTitle("Test Lecture");
         lectureDto.setUrl("http://example.com");
 
+        Course course = new Course();
+        course.setId(1);
+
         module = new Module();
         module.setId(1);
+        module.setCourse(course);
+        lecture.setModule(module);
 
         student = new Student();
         student.setId(1);
@@ -209,6 +220,7 @@ class LectureServiceTest {
         lectureService.markLectureAsViewed(authentication, 1);
 
         verify(lectureViewRepository).save(any(LectureView.class));
+        verify(eventPublisher).publishEvent(new StudentProgressEvent(1, 1));
     }
 
     @Test
@@ -239,5 +251,6 @@ class LectureServiceTest {
         lectureService.markLectureAsViewed(authentication, 1);
 
         verify(lectureViewRepository, never()).save(any(LectureView.class));
+        verifyNoInteractions(eventPublisher);
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import kz.sayat.diploma_backend.course_module.dto.LectureDto;
 import kz.sayat.diploma_backend.course_module.dto.ModuleDto;
 import kz.sayat.diploma_backend.course_module.dto.QuizSummaryDto;
 import kz.sayat.diploma_backend.course_module.mapper.ModuleMapper;
+import kz.sayat.diploma_backend.course_module.events.CourseContentEditedEvent;
 import kz.sayat.diploma_backend.course_module.models.Course;
 import kz.sayat.diploma_backend.course_module.models.Module;
 import kz.sayat.diploma_backend.course_module.repository.CourseRepository;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collections;
 import java.util.NoSuchElementException;
@@ -42,8 +44,9 @@ class ModuleServiceTest {
     private QuizServiceImpl quizService;
     @Mock
     private LectureServiceImpl lectureService;
+
     @Mock
-    private ModuleMapper moduleMapper;
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ModuleServiceImpl moduleService;
@@ -65,6 +68,7 @@ class ModuleServiceTest {
 
         course = new Course();
         course.setId(1);
+        module.setCourse(course);
     }
 
 //    @Test
@@ -146,6 +150,7 @@ class ModuleServiceTest {
 
         assertEquals(moduleDto.getTitle(), module.getTitle());
         verify(moduleRepository).save(module);
+        verify(eventPublisher).publishEvent(new CourseContentEditedEvent(1));
     }
 
     @Test
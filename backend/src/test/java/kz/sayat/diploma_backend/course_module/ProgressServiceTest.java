@@ -0,0 +1,106 @@
+package kz.sayat.diploma_backend.course_module;
+
+import kz.sayat.diploma_backend.course_module.dto.CourseProgressDto;
+import kz.sayat.diploma_backend.course_module.repository.ModuleRepository;
+import kz.sayat.diploma_backend.course_module.repository.projection.ModuleProgressView;
+import kz.sayat.diploma_backend.course_module.service.implementations.ProgressServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProgressServiceTest {
+
+    @Mock
+    private ModuleRepository moduleRepository;
+
+    @InjectMocks
+    private ProgressServiceImpl progressService;
+
+    @Test
+    void getCourseProgress_TenModules_SingleQuery() {
+        List<ModuleProgressView> rows = new ArrayList<>();
+        for (int moduleId = 1; moduleId <= 10; moduleId++) {
+            rows.add(row(1, moduleId, 5, 5, 5, 5));
+        }
+        when(moduleRepository.findModuleProgress(eq(1), anyCollection())).thenReturn(rows);
+
+        CourseProgressDto result = progressService.getCourseProgress(1, 1);
+
+        assertEquals(100.0, result.getProgress());
+        assertTrue(result.isCompleted());
+        assertEquals(10, result.getModuleProgress().size());
+        verify(moduleRepository, times(1)).findModuleProgress(eq(1), anyCollection());
+        verifyNoMoreInteractions(moduleRepository);
+    }
+
+    @Test
+    void getCourseProgress_AveragesModules() {
+        when(moduleRepository.findModuleProgress(eq(1), anyCollection())).thenReturn(List.of(
+            row(1, 1, 2, 1, 2, 2),
+            row(1, 2, 0, 0, 0, 0)
+        ));
+
+        CourseProgressDto result = progressService.getCourseProgress(1, 1);
+
+        assertEquals(75.0, result.getModuleProgress().get(1));
+        assertEquals(0.0, result.getModuleProgress().get(2));
+        assertEquals(37.5, result.getProgress());
+        assertTrue(result.isCompleted());
+    }
+
+    @Test
+    void getCourseProgress_QuizNotPassed_NotCompleted() {
+        when(moduleRepository.findModuleProgress(eq(1), anyCollection())).thenReturn(List.of(
+            row(1, 1, 1, 1, 2, 1)
+        ));
+
+        CourseProgressDto result = progressService.getCourseProgress(1, 1);
+
+        assertFalse(result.isCompleted());
+    }
+
+    @Test
+    void getCoursesProgress_CourseWithoutModules_NotCompleted() {
+        when(moduleRepository.findModuleProgress(eq(1), anyCollection())).thenReturn(List.of(
+            row(1, 1, 1, 1, 0, 0)
+        ));
+
+        Map<Integer, CourseProgressDto> result = progressService.getCoursesProgress(1, List.of(1, 2));
+
+        assertTrue(result.get(1).isCompleted());
+        assertFalse(result.get(2).isCompleted());
+        assertEquals(0.0, result.get(2).getProgress());
+        verify(moduleRepository, times(1)).findModuleProgress(eq(1), anyCollection());
+    }
+
+    @Test
+    void getCoursesProgress_NoCourses_NoQuery() {
+        Map<Integer, CourseProgressDto> result = progressService.getCoursesProgress(1, List.of());
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(moduleRepository);
+    }
+
+    private ModuleProgressView row(int courseId, int moduleId, long totalLectures, long viewedLectures,
+                                   long totalQuizzes, long passedQuizzes) {
+        return new ModuleProgressView() {
+            public Integer getCourseId() { return courseId; }
+            public Integer getModuleId() { return moduleId; }
+            public Long getTotalLectures() { return totalLectures; }
+            public Long getViewedLectures() { return viewedLectures; }
+            public Long getTotalQuizzes() { return totalQuizzes; }
+            public Long getPassedQuizzes() { return passedQuizzes; }
+        };
+    }
+}
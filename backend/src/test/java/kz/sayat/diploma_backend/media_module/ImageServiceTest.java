@@ -0,0 +1,405 @@
+package kz.sayat.diploma_backend.media_module;
+
+import kz.sayat.diploma_backend.media_module.events.ImageStoredEvent;
+import kz.sayat.diploma_backend.media_module.models.ImageVariant;
+import kz.sayat.diploma_backend.media_module.models.StoredImage;
+import kz.sayat.diploma_backend.media_module.repository.ImageVariantRepository;
+import kz.sayat.diploma_backend.media_module.repository.StoredImageRepository;
+import kz.sayat.diploma_backend.media_module.service.ImageService;
+import kz.sayat.diploma_backend.media_module.service.implementation.ImageServiceImpl;
+import kz.sayat.diploma_backend.media_module.variants.ImageVariantRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageServiceTest {
+
+    private static final byte[] PNG = HexFormat.of().parseHex(
+        "89504e470d0a1a0a0000000d4948445200000001000000010806000000"
+            + "1f15c4890000000d49444154789c6300010000050001a5f645400000000049454e44ae426082");
+    private static final String PNG_SHA256 = sha256(PNG);
+
+    @TempDir
+    Path root;
+
+    @Mock
+    private StoredImageRepository storedImageRepository;
+    @Mock
+    private ImageVariantRepository imageVariantRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private ImageVariantRenderer imageVariantRenderer = new ImageVariantRenderer();
+
+    @InjectMocks
+    private ImageServiceImpl imageService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(imageService, "root", root.toString());
+        ReflectionTestUtils.setField(imageService, "delivery", ImageServiceImpl.Delivery.SENDFILE);
+        ReflectionTestUtils.setField(imageService, "accelRedirectPrefix", "/internal/uploads/");
+        ReflectionTestUtils.setField(imageService, "maxAgeSeconds", 300L);
+        ReflectionTestUtils.setField(imageService, "maxUploadBytes", 1024L * 1024);
+        ReflectionTestUtils.setField(imageService, "orphanGraceHours", 24L);
+        ReflectionTestUtils.setField(imageVariantRenderer, "maxPixels", 40_000_000L);
+    }
+
+    @Test
+    void store_NamesTheFileByItsContentHash() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("file", "../../avatar.png", "text/plain", PNG);
+        String expected = PNG_SHA256 + ".png";
+        when(storedImageRepository.findFirstByDirectoryAndSha256OrderById(ImageService.COURSES, PNG_SHA256))
+            .thenReturn(Optional.empty());
+        when(storedImageRepository.findByDirectoryAndFilename(ImageService.COURSES, expected))
+            .thenReturn(Optional.of(image(5, expected)));
+
+        String filename = imageService.store(ImageService.COURSES, file);
+
+        assertEquals(expected, filename);
+        assertArrayEquals(PNG, Files.readAllBytes(root.resolve("courses").resolve(filename)));
+        assertEquals(1, fileCount("courses"));
+        verify(storedImageRepository).insertIfAbsent(eq(ImageService.COURSES), eq(expected), eq("image/png"),
+            eq((long) PNG.length), eq(PNG_SHA256), any(LocalDateTime.class));
+        verify(eventPublisher).publishEvent(new ImageStoredEvent(5));
+    }
+
+    @Test
+    void store_SameContentTwice_ReusesTheStoredFile() throws IOException {
+        String existing = PNG_SHA256 + ".png";
+        writeFile(existing);
+        when(storedImageRepository.findFirstByDirectoryAndSha256OrderById(ImageService.COURSES, PNG_SHA256))
+            .thenReturn(Optional.of(image(5, existing)));
+
+        String filename = imageService.store(ImageService.COURSES,
+            new MockMultipartFile("file", "copy.png", "image/png", PNG));
+
+        assertEquals(existing, filename);
+        assertEquals(1, fileCount("courses"));
+        verify(storedImageRepository, never()).insertIfAbsent(any(), any(), any(), anyLong(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void store_WebpAndAvif_AreRecognisedBySignature() throws IOException {
+        byte[] webp = "RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII);
+        byte[] avif = "\0\0\0\u001cftypavif\0\0\0\0".getBytes(StandardCharsets.US_ASCII);
+        when(storedImageRepository.findByDirectoryAndFilename(eq(ImageService.COURSES), anyString()))
+            .thenAnswer(invocation -> Optional.of(image(5, invocation.getArgument(1))));
+
+        String webpName = imageService.store(ImageService.COURSES,
+            new MockMultipartFile("file", "photo", "application/octet-stream", webp));
+        String avifName = imageService.store(ImageService.COURSES,
+            new MockMultipartFile("file", "photo", "application/octet-stream", avif));
+
+        assertTrue(webpName.endsWith(".webp"));
+        assertTrue(avifName.endsWith(".avif"));
+        verify(storedImageRepository).insertIfAbsent(eq(ImageService.COURSES), eq(webpName), eq("image/webp"),
+            eq((long) webp.length), anyString(), any(LocalDateTime.class));
+        verify(storedImageRepository).insertIfAbsent(eq(ImageService.COURSES), eq(avifName), eq("image/avif"),
+            eq((long) avif.length), anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void store_Heic_IsRejected() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("file", "photo.heic", "image/heic",
+            "\0\0\0\u0018ftypheic\0\0\0\0".getBytes(StandardCharsets.US_ASCII));
+
+        assertThrows(IllegalArgumentException.class, () -> imageService.store(ImageService.COURSES, file));
+        assertEquals(0, fileCount("courses"));
+    }
+
+    @Test
+    void store_NotAnImage_IsRejected() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("file", "notes.png", "image/png",
+            "just some text".getBytes());
+
+        assertThrows(IllegalArgumentException.class, () -> imageService.store(ImageService.COURSES, file));
+        assertEquals(0, fileCount("courses"));
+        verifyNoInteractions(storedImageRepository, eventPublisher);
+    }
+
+    @Test
+    void store_TooLarge_IsRejectedBeforeWriting() {
+        ReflectionTestUtils.setField(imageService, "maxUploadBytes", 10L);
+
+        assertThrows(IllegalArgumentException.class, () -> imageService.store(ImageService.COURSES,
+            new MockMultipartFile("file", "avatar.png", "image/png", PNG)));
+        assertFalse(Files.exists(root.resolve("courses")));
+        verifyNoInteractions(storedImageRepository);
+    }
+
+    @Test
+    void serve_MatchingETag_IsNotModified() throws IOException {
+        stored("a.png");
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/image");
+        servletRequest.addHeader("If-None-Match", "\"" + PNG_SHA256 + "\"");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        ResponseEntity<Resource> response = imageService.serve(ImageService.COURSES, "a.png",
+            new ServletWebRequest(servletRequest, servletResponse));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(304, servletResponse.getStatus());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void serve_SendfileSupported_HandsTheFileToTheContainer() throws IOException {
+        writeFile("a.png");
+        stored("a.png");
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/image");
+        servletRequest.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+        ResponseEntity<Resource> response = imageService.serve(ImageService.COURSES, "a.png",
+            new ServletWebRequest(servletRequest));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(PNG.length, response.getHeaders().getContentLength());
+        assertEquals("\"" + PNG_SHA256 + "\"", response.getHeaders().getETag());
+        assertEquals("max-age=300, private", response.getHeaders().getCacheControl());
+        assertEquals(root.resolve("courses/a.png").toAbsolutePath().toString(),
+            servletRequest.getAttribute("org.apache.tomcat.sendfile.filename"));
+        assertEquals((long) PNG.length, servletRequest.getAttribute("org.apache.tomcat.sendfile.end"));
+    }
+
+    @Test
+    void serve_AccelRedirect_LeavesTheBodyToNginx() throws IOException {
+        ReflectionTestUtils.setField(imageService, "delivery", ImageServiceImpl.Delivery.ACCEL_REDIRECT);
+        stored("a b.png");
+
+        ResponseEntity<Resource> response = imageService.serve(ImageService.TEACHERS, "a b.png",
+            new ServletWebRequest(new MockHttpServletRequest("GET", "/image")));
+
+        assertNull(response.getBody());
+        assertEquals("/internal/uploads/teachers/a%20b.png", response.getHeaders().getFirst("X-Accel-Redirect"));
+        assertEquals("image/png", response.getHeaders().getContentType().toString());
+    }
+
+    @Test
+    void serve_WithoutSendfile_StreamsTheFile() throws IOException {
+        writeFile("a.png");
+        stored("a.png");
+
+        ResponseEntity<Resource> response = imageService.serve(ImageService.COURSES, "a.png",
+            new ServletWebRequest(new MockHttpServletRequest("GET", "/image")));
+
+        assertNotNull(response.getBody());
+        assertEquals(PNG.length, response.getBody().contentLength());
+    }
+
+    @Test
+    void serve_Variant_PrefersWebpWhenTheBrowserAcceptsIt() throws IOException {
+        ReflectionTestUtils.setField(imageService, "delivery", ImageServiceImpl.Delivery.ACCEL_REDIRECT);
+        stored("a.png");
+        when(imageVariantRepository.findByImageIdAndName(0, "thumb"))
+            .thenReturn(List.of(variant("a-thumb.jpg", "image/jpeg"), variant("a-thumb.webp", "image/webp")));
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/image");
+        servletRequest.addHeader("Accept", "image/avif,image/webp,*/*");
+
+        ResponseEntity<Resource> response = imageService.serve(ImageService.COURSES, "a.png", "thumb",
+            new ServletWebRequest(servletRequest));
+
+        assertEquals("/internal/uploads/courses/a-thumb.webp", response.getHeaders().getFirst("X-Accel-Redirect"));
+        assertEquals("image/webp", response.getHeaders().getContentType().toString());
+        assertEquals("\"a-thumb.webp-sha\"", response.getHeaders().getETag());
+        assertEquals(List.of("Accept"), response.getHeaders().getVary());
+    }
+
+    @Test
+    void serve_Variant_FallsBackToJpegWithoutWebpSupport() throws IOException {
+        ReflectionTestUtils.setField(imageService, "delivery", ImageServiceImpl.Delivery.ACCEL_REDIRECT);
+        stored("a.png");
+        when(imageVariantRepository.findByImageIdAndName(0, "medium"))
+            .thenReturn(List.of(variant("a-medium.webp", "image/webp"), variant("a-medium.jpg", "image/jpeg")));
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/image");
+        servletRequest.addHeader("Accept", "image/*");
+
+        ResponseEntity<Resource> response = imageService.serve(ImageService.COURSES, "a.png", "medium",
+            new ServletWebRequest(servletRequest));
+
+        assertEquals("/internal/uploads/courses/a-medium.jpg", response.getHeaders().getFirst("X-Accel-Redirect"));
+    }
+
+    @Test
+    void serve_VariantNotGeneratedYet_ServesTheOriginal() throws IOException {
+        writeFile("a.png");
+        stored("a.png");
+        when(imageVariantRepository.findByImageIdAndName(0, "thumb")).thenReturn(List.of());
+
+        ResponseEntity<Resource> response = imageService.serve(ImageService.COURSES, "a.png", "thumb",
+            new ServletWebRequest(new MockHttpServletRequest("GET", "/image")));
+
+        assertEquals(PNG.length, response.getBody().contentLength());
+        assertEquals("\"" + PNG_SHA256 + "\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void serve_UnknownVariant_IsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> imageService.serve(ImageService.COURSES, "a.png",
+            "huge", new ServletWebRequest(new MockHttpServletRequest())));
+        verifyNoInteractions(storedImageRepository);
+    }
+
+    @Test
+    void serve_LegacyFile_IsDescribedOnce() throws IOException {
+        writeFile("old.png");
+        StoredImage described = new StoredImage(ImageService.COURSES, "old.png", "image/png", PNG.length,
+            PNG_SHA256, LocalDateTime.now());
+        when(storedImageRepository.findByDirectoryAndFilename(ImageService.COURSES, "old.png"))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(described));
+
+        when(storedImageRepository.insertIfAbsent(any(), any(), any(), anyLong(), any(), any())).thenReturn(1);
+
+        imageService.serve(ImageService.COURSES, "old.png", new ServletWebRequest(new MockHttpServletRequest()));
+
+        verify(storedImageRepository).insertIfAbsent(eq(ImageService.COURSES), eq("old.png"), eq("image/png"),
+            eq((long) PNG.length), eq(PNG_SHA256), any(LocalDateTime.class));
+        verify(eventPublisher).publishEvent(new ImageStoredEvent(0));
+    }
+
+    @Test
+    void serve_MissingFile_ThrowsFileNotFound() {
+        when(storedImageRepository.findByDirectoryAndFilename(ImageService.COURSES, "gone.png"))
+            .thenReturn(Optional.empty());
+
+        assertThrows(FileNotFoundException.class, () -> imageService.serve(ImageService.COURSES, "gone.png",
+            new ServletWebRequest(new MockHttpServletRequest())));
+        verify(storedImageRepository, never()).insertIfAbsent(any(), any(), any(), anyLong(), any(), any());
+    }
+
+    @Test
+    void generateVariants_WritesResizedCopiesAndRecordsThem() throws IOException {
+        Files.createDirectories(root.resolve("courses"));
+        ImageIO.write(new BufferedImage(1200, 600, BufferedImage.TYPE_INT_RGB), "png",
+            root.resolve("courses/photo.png").toFile());
+        StoredImage image = image(5, "photo.png");
+        when(storedImageRepository.findById(5)).thenReturn(Optional.of(image));
+
+        imageService.generateVariants(5);
+
+        verify(imageVariantRepository).insertIfAbsent(eq(5), eq("thumb"), eq("photo-thumb.jpg"), eq("image/jpeg"),
+            anyLong(), anyString(), eq(320), eq(160));
+        verify(imageVariantRepository).insertIfAbsent(eq(5), eq("medium"), eq("photo-medium.jpg"), eq("image/jpeg"),
+            anyLong(), anyString(), eq(960), eq(480));
+        BufferedImage thumb = ImageIO.read(root.resolve("courses/photo-thumb.jpg").toFile());
+        assertEquals(320, thumb.getWidth());
+        assertTrue(Files.size(root.resolve("courses/photo-thumb.jpg")) < Files.size(root.resolve("courses/photo.png")));
+        assertNotNull(image.getVariantsAt());
+    }
+
+    @Test
+    void generateVariants_UndecodableFile_IsOnlyMarkedDone() throws IOException {
+        Files.createDirectories(root.resolve("courses"));
+        Files.writeString(root.resolve("courses/broken.png"), "not an image");
+        StoredImage image = image(5, "broken.png");
+        when(storedImageRepository.findById(5)).thenReturn(Optional.of(image));
+
+        imageService.generateVariants(5);
+
+        verifyNoInteractions(imageVariantRepository);
+        assertNotNull(image.getVariantsAt());
+    }
+
+    @Test
+    void collectOrphans_DeletesUnreferencedImagesAndStrayFiles() throws IOException {
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofDays(2)));
+        for (String name : List.of("orphan.png", "orphan-thumb.jpg", "legacy.png", "upload-1.tmp")) {
+            writeFile(name);
+            Files.setLastModifiedTime(root.resolve("courses").resolve(name), old);
+        }
+        writeFile("fresh.png");
+        StoredImage orphan = image(5, "orphan.png");
+        when(storedImageRepository.findUnreferencedBefore(any(LocalDateTime.class))).thenReturn(List.of(orphan));
+        when(imageVariantRepository.findByImageId(5)).thenReturn(List.of(variant("orphan-thumb.jpg", "image/jpeg")));
+        when(storedImageRepository.findFilenamesByDirectory(ImageService.COURSES)).thenReturn(List.of());
+        when(imageVariantRepository.findFilenamesByDirectory(ImageService.COURSES)).thenReturn(List.of());
+        when(storedImageRepository.findReferencedFilenames(ImageService.COURSES)).thenReturn(List.of("legacy.png"));
+
+        int removed = imageService.collectOrphans();
+
+        assertEquals(2, removed);
+        verify(storedImageRepository).delete(orphan);
+        try (var files = Files.list(root.resolve("courses"))) {
+            assertEquals(List.of("fresh.png", "legacy.png"),
+                files.map(file -> file.getFileName().toString()).sorted().toList());
+        }
+    }
+
+    private void writeFile(String filename) throws IOException {
+        Files.createDirectories(root.resolve("courses"));
+        Files.write(root.resolve("courses").resolve(filename), PNG);
+    }
+
+    private void stored(String filename) {
+        when(storedImageRepository.findByDirectoryAndFilename(anyString(), eq(filename)))
+            .thenReturn(Optional.of(new StoredImage(ImageService.COURSES, filename, "image/png", PNG.length,
+                PNG_SHA256, LocalDateTime.of(2025, 6, 1, 12, 0))));
+    }
+
+    private long fileCount(String directory) throws IOException {
+        if (!Files.isDirectory(root.resolve(directory))) {
+            return 0;
+        }
+        try (var files = Files.list(root.resolve(directory))) {
+            return files.count();
+        }
+    }
+
+    private static StoredImage image(int id, String filename) {
+        StoredImage image = new StoredImage(ImageService.COURSES, filename, "image/png", PNG.length, PNG_SHA256,
+            LocalDateTime.of(2025, 6, 1, 12, 0));
+        image.setId(id);
+        return image;
+    }
+
+    private static ImageVariant variant(String filename, String contentType) {
+        return new ImageVariant(0, 0, "thumb", filename, contentType, 100, filename + "-sha", 320, 160);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package kz.sayat.diploma_backend.media_module;
+
+import kz.sayat.diploma_backend.media_module.models.enums.ImageVariantSize;
+import kz.sayat.diploma_backend.media_module.variants.ImageVariantRenderer;
+import kz.sayat.diploma_backend.media_module.variants.RenderedVariant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageVariantRendererTest {
+
+    @TempDir
+    Path root;
+
+    private final ImageVariantRenderer renderer = new ImageVariantRenderer();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(renderer, "maxPixels", 40_000_000L);
+    }
+
+    @Test
+    void render_OpaqueImage_IsScaledIntoTheBoxAsJpeg() throws IOException {
+        List<RenderedVariant> variants = renderer.render(
+            new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), ImageVariantSize.THUMB);
+
+        RenderedVariant jpeg = variants.get(0);
+        assertEquals("image/jpeg", jpeg.contentType());
+        assertEquals("jpg", jpeg.extension());
+        assertEquals(320, jpeg.width());
+        assertEquals(160, jpeg.height());
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(jpeg.bytes()));
+        assertEquals(320, decoded.getWidth());
+        assertEquals(160, decoded.getHeight());
+    }
+
+    @Test
+    void render_TransparentImage_StaysPngAndIsNotUpscaled() throws IOException {
+        RenderedVariant png = renderer.render(
+            new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB), ImageVariantSize.MEDIUM).get(0);
+
+        assertEquals("image/png", png.contentType());
+        assertEquals(100, png.width());
+        assertEquals(50, png.height());
+        assertTrue(ImageIO.read(new ByteArrayInputStream(png.bytes())).getColorModel().hasAlpha());
+    }
+
+    @Test
+    void read_OverThePixelBudget_IsSkippedBeforeDecoding() throws IOException {
+        ReflectionTestUtils.setField(renderer, "maxPixels", 100L);
+        Path image = root.resolve("big.png");
+        ImageIO.write(new BufferedImage(20, 20, BufferedImage.TYPE_INT_RGB), "png", image.toFile());
+
+        assertNull(renderer.read(image));
+    }
+
+    @Test
+    void read_NotAnImage_ReturnsNull() throws IOException {
+        Path text = root.resolve("notes.png");
+        Files.writeString(text, "not an image");
+
+        assertNull(renderer.read(text));
+    }
+}
@@ -0,0 +1,29 @@
+package kz.sayat.diploma_backend.quiz_module;
+
+import kz.sayat.diploma_backend.quiz_module.cache.AnswerKeyCacheEvictor;
+import kz.sayat.diploma_backend.quiz_module.events.QuizAnswersChangedEvent;
+import kz.sayat.diploma_backend.util.cache.CacheInvalidationRepository;
+import kz.sayat.diploma_backend.util.cache.CacheInvalidator;
+import kz.sayat.diploma_backend.util.cache.CacheNames;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class AnswerKeyCacheEvictorTest {
+
+    @Test
+    void onQuizAnswersChanged_EvictsOnlyThatQuiz() {
+        CacheManager cacheManager = new ConcurrentMapCacheManager(CacheNames.ANSWER_KEYS);
+        cacheManager.getCache(CacheNames.ANSWER_KEYS).put(1, "key 1");
+        cacheManager.getCache(CacheNames.ANSWER_KEYS).put(2, "key 2");
+
+        new AnswerKeyCacheEvictor(new CacheInvalidator(cacheManager, mock(CacheInvalidationRepository.class), 60))
+            .onQuizAnswersChanged(new QuizAnswersChangedEvent(1));
+
+        assertNull(cacheManager.getCache(CacheNames.ANSWER_KEYS).get(1));
+        assertNotNull(cacheManager.getCache(CacheNames.ANSWER_KEYS).get(2));
+    }
+}
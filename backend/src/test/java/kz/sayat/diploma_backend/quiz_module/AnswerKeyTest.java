@@ -0,0 +1,121 @@
+package kz.sayat.diploma_backend.quiz_module;
+
+import kz.sayat.diploma_backend.quiz_module.grading.AnswerKey;
+import kz.sayat.diploma_backend.quiz_module.repository.projection.AnswerKeyRow;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnswerKeyTest {
+
+    private static final int QUESTIONS = 500;
+    private static final int ANSWERS_PER_QUESTION = 4;
+
+    @Test
+    void of_IndexesEveryAnswerOfTheBank() {
+        AnswerKey key = AnswerKey.of(bank());
+
+        for (int question = 1; question <= QUESTIONS; question++) {
+            assertTrue(key.hasQuestion(question));
+            for (int answer = 0; answer < ANSWERS_PER_QUESTION; answer++) {
+                int answerId = answerId(question, answer);
+                assertEquals(question, key.questionOf(answerId));
+                assertEquals(answer == 0, key.isCorrect(answerId));
+            }
+        }
+    }
+
+    @Test
+    void lookups_UnknownIds_AreNotFound() {
+        AnswerKey key = AnswerKey.of(bank());
+
+        assertFalse(key.hasQuestion(QUESTIONS + 1));
+        assertFalse(key.hasQuestion(0));
+        assertEquals(AnswerKey.NOT_FOUND, key.questionOf(answerId(QUESTIONS + 1, 0)));
+        assertEquals(AnswerKey.NOT_FOUND, key.questionOf(-5));
+        assertFalse(key.isCorrect(answerId(QUESTIONS + 1, 0)));
+    }
+
+    @Test
+    void of_QuestionWithoutAnswers_IsStillKnown() {
+        List<AnswerKeyRow> rows = new ArrayList<>();
+        rows.add(new Row(7, null, null));
+
+        AnswerKey key = AnswerKey.of(rows);
+
+        assertTrue(key.hasQuestion(7));
+        assertEquals(AnswerKey.NOT_FOUND, key.questionOf(1));
+    }
+
+    @Test
+    void grading_FullSubmission_DoesNotAllocate() {
+        AnswerKey key = AnswerKey.of(bank());
+        int[] questionIds = new int[QUESTIONS];
+        int[] answerIds = new int[QUESTIONS];
+        for (int i = 0; i < QUESTIONS; i++) {
+            questionIds[i] = i + 1;
+            answerIds[i] = answerId(i + 1, i % ANSWERS_PER_QUESTION);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 1_000; i++) {
+            grade(key, questionIds, answerIds);
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        int correct = 0;
+        for (int i = 0; i < 1_000; i++) {
+            correct = grade(key, questionIds, answerIds);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(QUESTIONS / ANSWERS_PER_QUESTION, correct);
+        assertTrue(allocated < 1024, allocated + " bytes allocated grading 1000 submissions");
+    }
+
+    private static int grade(AnswerKey key, int[] questionIds, int[] answerIds) {
+        int correct = 0;
+        for (int i = 0; i < answerIds.length; i++) {
+            if (key.hasQuestion(questionIds[i]) && key.questionOf(answerIds[i]) == questionIds[i]
+                && key.isCorrect(answerIds[i])) {
+                correct++;
+            }
+        }
+        return correct;
+    }
+
+    private static List<AnswerKeyRow> bank() {
+        List<AnswerKeyRow> rows = new ArrayList<>();
+        for (int question = 1; question <= QUESTIONS; question++) {
+            for (int answer = 0; answer < ANSWERS_PER_QUESTION; answer++) {
+                rows.add(new Row(question, answerId(question, answer), answer == 0));
+            }
+        }
+        return rows;
+    }
+
+    private static int answerId(int question, int answer) {
+        return 10_000 + question * ANSWERS_PER_QUESTION + answer;
+    }
+
+    private record Row(int questionId, Integer answerId, Boolean correct) implements AnswerKeyRow {
+
+        @Override
+        public int getQuestionId() {
+            return questionId;
+        }
+
+        @Override
+        public Integer getAnswerId() {
+            return answerId;
+        }
+
+        @Override
+        public Boolean getCorrect() {
+            return correct;
+        }
+    }
+}
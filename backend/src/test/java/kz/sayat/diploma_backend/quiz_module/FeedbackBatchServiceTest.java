@@ -0,0 +1,146 @@
+package kz.sayat.diploma_backend.quiz_module;
+
+import kz.sayat.diploma_backend.auth_module.models.enums.UserRole;
+import kz.sayat.diploma_backend.auth_module.security.MyUserDetails;
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackBatchDto;
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackBatchRequest;
+import kz.sayat.diploma_backend.quiz_module.models.FeedbackBatch;
+import kz.sayat.diploma_backend.quiz_module.models.enums.FeedbackJobStatus;
+import kz.sayat.diploma_backend.quiz_module.repository.FeedbackBatchRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.FeedbackJobRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.QuizAttemptRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.projection.JobStatusCountView;
+import kz.sayat.diploma_backend.quiz_module.service.implementation.FeedbackBatchServiceImpl;
+import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedbackBatchServiceTest {
+
+    @Mock
+    private FeedbackBatchRepository feedbackBatchRepository;
+    @Mock
+    private FeedbackJobRepository feedbackJobRepository;
+    @Mock
+    private QuizAttemptRepository quizAttemptRepository;
+    @Mock
+    private Authentication authentication;
+
+    @InjectMocks
+    private FeedbackBatchServiceImpl feedbackBatchService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(feedbackBatchService, "maxSize", 3);
+        MyUserDetails principal = new MyUserDetails(7, "teacher@example.com", UserRole.TEACHER,
+            () -> fail("the teacher entity should not be loaded"));
+        lenient().when(authentication.getPrincipal()).thenReturn(principal);
+    }
+
+    @Test
+    void submit_ForQuiz_QueuesOneJobPerAttempt() {
+        when(quizAttemptRepository.findIdsByQuizId(5)).thenReturn(List.of(1, 2, 3));
+        when(quizAttemptRepository.findIdsTaughtBy(List.of(1, 2, 3), 7)).thenReturn(List.of(1, 2, 3));
+        when(feedbackBatchRepository.save(any(FeedbackBatch.class))).thenAnswer(invocation -> {
+            FeedbackBatch batch = invocation.getArgument(0);
+            batch.setId(9);
+            return batch;
+        });
+
+        when(feedbackJobRepository.insertIfAbsent(eq(List.of(1, 2, 3)), eq(9), any(LocalDateTime.class)))
+            .thenReturn(3);
+
+        FeedbackBatchDto dto = feedbackBatchService.submit(new FeedbackBatchRequest(5, null), authentication);
+
+        assertEquals(9, dto.getId());
+        assertEquals(3, dto.getTotal());
+        assertEquals(3, dto.getPending());
+    }
+
+    @Test
+    void submit_SkipsAttemptsWithLiveJob() {
+        when(quizAttemptRepository.findIdsByQuizId(5)).thenReturn(List.of(1, 2, 3));
+        when(quizAttemptRepository.findIdsTaughtBy(List.of(1, 2, 3), 7)).thenReturn(List.of(1, 2, 3));
+        when(feedbackBatchRepository.save(any(FeedbackBatch.class))).thenAnswer(invocation -> {
+            FeedbackBatch batch = invocation.getArgument(0);
+            batch.setId(9);
+            return batch;
+        });
+        when(feedbackJobRepository.insertIfAbsent(eq(List.of(1, 2, 3)), eq(9), any(LocalDateTime.class)))
+            .thenReturn(2);
+
+        FeedbackBatchDto dto = feedbackBatchService.submit(new FeedbackBatchRequest(5, null), authentication);
+
+        assertEquals(2, dto.getTotal());
+        assertEquals(2, dto.getPending());
+    }
+
+    @Test
+    void submit_AttemptsOfAnotherTeacher_ThrowsException() {
+        when(quizAttemptRepository.findIdsTaughtBy(List.of(1, 2), 7)).thenReturn(List.of(1));
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> feedbackBatchService.submit(new FeedbackBatchRequest(null, List.of(1, 2, 2)), authentication));
+        verifyNoInteractions(feedbackBatchRepository, feedbackJobRepository);
+    }
+
+    @Test
+    void submit_TooLarge_ThrowsException() {
+        when(quizAttemptRepository.findIdsByQuizId(5)).thenReturn(List.of(1, 2, 3, 4));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> feedbackBatchService.submit(new FeedbackBatchRequest(5, null), authentication));
+    }
+
+    @Test
+    void submit_BothQuizAndAttempts_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> feedbackBatchService.submit(new FeedbackBatchRequest(5, List.of(1)), authentication));
+    }
+
+    @Test
+    void getBatch_SummarizesJobStatuses() {
+        FeedbackBatch batch = new FeedbackBatch(5, 7, 4);
+        batch.setId(9);
+        when(feedbackBatchRepository.findById(9)).thenReturn(Optional.of(batch));
+        List<JobStatusCountView> counts = List.of(count(FeedbackJobStatus.DONE, 3), count(FeedbackJobStatus.FAILED, 1));
+        when(feedbackJobRepository.countByStatusForBatch(9)).thenReturn(counts);
+
+        FeedbackBatchDto dto = feedbackBatchService.getBatch(9, authentication);
+
+        assertEquals(3, dto.getDone());
+        assertEquals(1, dto.getFailed());
+        assertEquals(0, dto.getPending());
+        assertTrue(dto.isFinished());
+    }
+
+    @Test
+    void getBatch_OfAnotherTeacher_ThrowsException() {
+        when(feedbackBatchRepository.findById(9)).thenReturn(Optional.of(new FeedbackBatch(5, 8, 4)));
+
+        assertThrows(ResourceNotFoundException.class, () -> feedbackBatchService.getBatch(9, authentication));
+    }
+
+    private JobStatusCountView count(FeedbackJobStatus status, long count) {
+        JobStatusCountView view = mock(JobStatusCountView.class);
+        when(view.getStatus()).thenReturn(status);
+        when(view.getCount()).thenReturn(count);
+        return view;
+    }
+}
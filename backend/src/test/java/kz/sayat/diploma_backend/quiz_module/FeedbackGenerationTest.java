@@ -0,0 +1,316 @@
+package kz.sayat.diploma_backend.quiz_module;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kz.sayat.diploma_backend.auth_module.models.Student;
+import kz.sayat.diploma_backend.auth_module.service.StudentService;
+import kz.sayat.diploma_backend.course_module.models.Lecture;
+import kz.sayat.diploma_backend.course_module.models.Module;
+import kz.sayat.diploma_backend.quiz_module.client.GeminiClient;
+import kz.sayat.diploma_backend.course_module.repository.ModuleRepository;
+import kz.sayat.diploma_backend.quiz_module.client.FeedbackResponseCache;
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackPrompt;
+import kz.sayat.diploma_backend.quiz_module.dto.GeneratedFeedback;
+import kz.sayat.diploma_backend.quiz_module.models.Answer;
+import kz.sayat.diploma_backend.quiz_module.models.Feedback;
+import kz.sayat.diploma_backend.quiz_module.models.FeedbackCacheEntry;
+import kz.sayat.diploma_backend.quiz_module.models.Question;
+import kz.sayat.diploma_backend.quiz_module.models.Quiz;
+import kz.sayat.diploma_backend.quiz_module.models.QuizAttempt;
+import kz.sayat.diploma_backend.quiz_module.models.QuizAttemptAnswer;
+import kz.sayat.diploma_backend.quiz_module.prompt.PromptTemplateRegistry;
+import kz.sayat.diploma_backend.quiz_module.repository.FeedbackCacheRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.FeedbackRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.PromptTemplateVersionRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.QuestionRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.QuizAttemptRepository;
+import kz.sayat.diploma_backend.quiz_module.service.implementation.FeedbackServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class FeedbackGenerationTest {
+
+    private HttpServer gemini;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicReference<String> lastRequest = new AtomicReference<>();
+
+    private FeedbackRepository feedbackRepository;
+    private QuizAttemptRepository quizAttemptRepository;
+    private FeedbackCacheRepository feedbackCacheRepository;
+    private FeedbackResponseCache responseCache;
+    private QuestionRepository questionRepository;
+    private ModuleRepository moduleRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private FeedbackServiceImpl feedbackService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        gemini = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        gemini.createContext("/v1/models/gemini:generateContent", exchange -> {
+            calls.incrementAndGet();
+            lastRequest.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            byte[] body = """
+                {"candidates":[{"content":{"parts":[{"text":"{{student_name}}, review 5:30 on loops."}]}}],
+                 "usageMetadata":{"promptTokenCount":900,"candidatesTokenCount":300}}
+                """.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        gemini.createContext("/v1/models/gemini:streamGenerateContent", exchange -> {
+            calls.incrementAndGet();
+            lastRequest.set(exchange.getRequestURI().getQuery());
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (String text : List.of("{{stud", "ent_name}}, rewatch ", "2:10.")) {
+                    out.write(("data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + text + "\"}]}}]}\r\n\r\n")
+                        .getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                }
+                out.write("data: {\"usageMetadata\":{\"promptTokenCount\":700,\"candidatesTokenCount\":50}}\r\n\r\n"
+                    .getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        gemini.start();
+
+        feedbackRepository = mock(FeedbackRepository.class);
+        quizAttemptRepository = mock(QuizAttemptRepository.class);
+        feedbackCacheRepository = mock(FeedbackCacheRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        GeminiClient geminiClient = new GeminiClient(
+            "http://127.0.0.1:" + gemini.getAddress().getPort() + "/v1/models/gemini:generateContent", "test-key",
+            1000, 5000, 2, 100, 0, 3, 30, new ObjectMapper(), meterRegistry);
+        questionRepository = mock(QuestionRepository.class);
+        moduleRepository = mock(ModuleRepository.class);
+        responseCache = new FeedbackResponseCache(feedbackCacheRepository, 100, meterRegistry);
+        feedbackService = new FeedbackServiceImpl(feedbackRepository, quizAttemptRepository, questionRepository,
+            moduleRepository, mock(StudentService.class), new TransactionTemplate(mock(PlatformTransactionManager.class)), geminiClient,
+            responseCache,
+            new PromptTemplateRegistry(mock(PromptTemplateVersionRepository.class), 60));
+    }
+
+    @AfterEach
+    void tearDown() {
+        gemini.stop(0);
+    }
+
+    @Test
+    void generateFeedback_CallsGeminiOutsideTransactionAndSaves() {
+        QuizAttempt attempt = attempt(1, "Aida", 300);
+        when(quizAttemptRepository.findById(1)).thenReturn(Optional.of(attempt));
+        when(quizAttemptRepository.getReferenceById(1)).thenReturn(attempt);
+        when(feedbackRepository.findFirstByQuizAttemptIdOrderByIdDesc(1)).thenReturn(Optional.empty());
+
+        String text = feedbackService.generateFeedback(1);
+
+        assertEquals("Aida, review 5:30 on loops.", text);
+        assertEquals(1, calls.get());
+        assertTrue(lastRequest.get().contains("Quiz Topic: Loops"));
+        assertFalse(lastRequest.get().contains("Aida"));
+        verify(feedbackRepository).save(any(Feedback.class));
+        verify(feedbackCacheRepository).insertIfAbsent(anyString(), eq(5),
+            eq("{{student_name}}, review 5:30 on loops."), eq(900), eq(300), anyLong());
+    }
+
+    @Test
+    void generateFeedback_SamePatternForAnotherStudent_ServedFromMemory() {
+        QuizAttempt first = attempt(1, "Aida", 300);
+        QuizAttempt second = attempt(2, "Nurlan", 320);
+        when(quizAttemptRepository.findById(1)).thenReturn(Optional.of(first));
+        when(quizAttemptRepository.findById(2)).thenReturn(Optional.of(second));
+
+        feedbackService.generateFeedback(1);
+        String text = feedbackService.generateFeedback(2);
+
+        assertEquals("Nurlan, review 5:30 on loops.", text);
+        assertEquals(1, calls.get());
+        assertEquals(1, meterRegistry.counter("llm.cache.requests", "result", "hit_memory").count());
+        assertEquals(1200, meterRegistry.get("llm.cache.saved.tokens").counter().count());
+    }
+
+    @Test
+    void generateFeedback_DifferentDurationBucket_CallsGemini() {
+        when(quizAttemptRepository.findById(1)).thenReturn(Optional.of(attempt(1, "Aida", 300)));
+        when(quizAttemptRepository.findById(2)).thenReturn(Optional.of(attempt(2, "Nurlan", 540)));
+
+        feedbackService.generateFeedback(1);
+        feedbackService.generateFeedback(2);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void generateFeedback_StoredResponse_SkipsGemini() {
+        when(quizAttemptRepository.findById(1)).thenReturn(Optional.of(attempt(1, "Aida", 300)));
+        when(feedbackCacheRepository.findById(anyString())).thenReturn(Optional.of(new FeedbackCacheEntry(
+            "fp", 5, "{{student_name}}, watch 2:10.", 800, 200, 4000, 3, LocalDateTime.now(), null)));
+
+        assertEquals("Aida, watch 2:10.", feedbackService.generateFeedback(1));
+        assertEquals(0, calls.get());
+        assertEquals(1, meterRegistry.counter("llm.cache.requests", "result", "hit_db").count());
+        verify(feedbackCacheRepository, never()).recordHits(anyString(), anyInt(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void flushHits_WritesCountedHitsOncePerFingerprint() {
+        when(quizAttemptRepository.findById(1)).thenReturn(Optional.of(attempt(1, "Aida", 300)));
+        when(feedbackCacheRepository.findById(anyString())).thenReturn(Optional.of(new FeedbackCacheEntry(
+            "fp", 5, "{{student_name}}, watch 2:10.", 800, 200, 4000, 3, LocalDateTime.now(), null)));
+
+        feedbackService.generateFeedback(1);
+        feedbackService.generateFeedback(1);
+
+        assertEquals(1, responseCache.flushHits());
+        verify(feedbackCacheRepository).recordHits(anyString(), eq(2), any(LocalDateTime.class));
+        assertEquals(0, responseCache.flushHits());
+    }
+
+    @Test
+    void generateFeedback_ExistingFeedback_SkipsGemini() {
+        QuizAttempt attempt = attempt(1, "Aida", 300);
+        when(quizAttemptRepository.findById(1)).thenReturn(Optional.of(attempt));
+        when(feedbackRepository.findFirstByQuizAttemptIdOrderByIdDesc(1))
+            .thenReturn(Optional.of(new Feedback("prompt", "Already generated", attempt)));
+
+        assertEquals("Already generated", feedbackService.generateFeedback(1));
+        assertEquals(0, calls.get());
+        verify(feedbackRepository, never()).save(any());
+    }
+
+    @Test
+    void streamFeedback_RelaysChunksWithNameAndPersistsFullText() {
+        QuizAttempt attempt = attempt(1, "Aida", 300);
+        when(quizAttemptRepository.findById(1)).thenReturn(Optional.of(attempt));
+        List<String> chunks = new CopyOnWriteArrayList<>();
+
+        String text = feedbackService.streamFeedback(1, null, chunks::add).join();
+
+        assertEquals("Aida, rewatch 2:10.", text);
+        assertEquals(text, String.join("", chunks));
+        assertTrue(chunks.size() > 1);
+        assertEquals("alt=sse", lastRequest.get());
+        verify(feedbackRepository).save(any(Feedback.class));
+        verify(feedbackCacheRepository).insertIfAbsent(anyString(), eq(5),
+            eq("{{student_name}}, rewatch 2:10."), eq(700), eq(50), anyLong());
+    }
+
+    @Test
+    void streamFeedback_CachedPattern_SendsWholeTextAtOnce() {
+        when(quizAttemptRepository.findById(1)).thenReturn(Optional.of(attempt(1, "Aida", 300)));
+        when(feedbackCacheRepository.findById(anyString())).thenReturn(Optional.of(new FeedbackCacheEntry(
+            "fp", 5, "{{student_name}}, watch 2:10.", 800, 200, 4000, 3, LocalDateTime.now(), null)));
+        List<String> chunks = new ArrayList<>();
+
+        assertEquals("Aida, watch 2:10.", feedbackService.streamFeedback(1, null, chunks::add).join());
+        assertEquals(List.of("Aida, watch 2:10."), chunks);
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void prepareFeedback_LoadsCohortInBulkAndReportsPerAttemptProblems() {
+        QuizAttempt fresh = attempt(1, "Aida", 300);
+        QuizAttempt answered = attempt(2, "Nurlan", 300);
+        QuizAttempt noLecture = attempt(3, "Dana", 300);
+        noLecture.getQuiz().getModule().setLectures(List.of());
+        when(quizAttemptRepository.findWithAnswersByIdIn(List.of(1, 2, 3))).thenReturn(List.of(fresh, answered, noLecture));
+        when(feedbackRepository.findByQuizAttemptIdIn(List.of(1, 2, 3)))
+            .thenReturn(List.of(new Feedback("prompt", "Done before", answered)));
+
+        List<FeedbackPrompt> prompts = feedbackService.prepareFeedback(List.of(1, 2, 3));
+
+        assertEquals(3, prompts.size());
+        assertTrue(prompts.get(0).promptText().contains("Quiz Topic: Loops"));
+        assertEquals("Done before", prompts.get(1).existingFeedback());
+        assertEquals("No lecture found for this module", prompts.get(2).error());
+        verify(moduleRepository).findWithLecturesByIdIn(any());
+        verify(questionRepository).findWithAnswersByIdIn(any());
+        verify(quizAttemptRepository, never()).findById(anyInt());
+    }
+
+    @Test
+    void generateFeedbackForPrompt_DoesNotPersistUntilSaved() {
+        when(feedbackRepository.findByQuizAttemptIdIn(List.of(1))).thenReturn(List.of());
+        when(quizAttemptRepository.findWithAnswersByIdIn(List.of(1))).thenReturn(List.of(attempt(1, "Aida", 300)));
+        FeedbackPrompt prompt = feedbackService.prepareFeedback(List.of(1)).get(0);
+
+        GeneratedFeedback generated = feedbackService.generateFeedback(prompt);
+        verify(feedbackRepository, never()).save(any());
+
+        feedbackService.saveFeedback(List.of(generated));
+        assertEquals("Aida, review 5:30 on loops.", generated.feedbackText());
+        verify(feedbackRepository).saveAll(anyList());
+    }
+
+    private QuizAttempt attempt(int id, String firstname, int durationSeconds) {
+        Student student = new Student();
+        student.setId(id + 100);
+        student.setFirstname(firstname);
+
+        Lecture lecture = new Lecture();
+        lecture.setUrl("https://youtube.com/watch?v=loops");
+        Module module = new Module();
+        module.setLectures(List.of(lecture));
+
+        Quiz quiz = new Quiz();
+        quiz.setId(5);
+        quiz.setTitle("Loops");
+        quiz.setPassingScore(70);
+        quiz.setDurationInMinutes(10);
+        quiz.setModule(module);
+
+        Question question = new Question();
+        question.setId(11);
+        question.setQuestionText("What does break do?");
+        Answer right = new Answer();
+        right.setId(21);
+        right.setAnswerText("Exits the loop");
+        right.setCorrect(true);
+        Answer wrong = new Answer();
+        wrong.setId(22);
+        wrong.setAnswerText("Skips an iteration");
+        question.setAnswers(List.of(right, wrong));
+
+        QuizAttemptAnswer answer = new QuizAttemptAnswer();
+        answer.setQuestion(question);
+        answer.setAnswer(wrong);
+        answer.setCorrect(false);
+
+        QuizAttempt attempt = new QuizAttempt();
+        attempt.setId(id);
+        attempt.setStudent(student);
+        attempt.setQuiz(quiz);
+        attempt.setScore(50);
+        attempt.setDurationSeconds(durationSeconds);
+        attempt.setAttemptAnswers(new ArrayList<>(List.of(answer)));
+        return attempt;
+    }
+}
@@ -0,0 +1,143 @@
+package kz.sayat.diploma_backend.quiz_module;
+
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackJobDto;
+import kz.sayat.diploma_backend.quiz_module.events.FeedbackJobFinishedEvent;
+import kz.sayat.diploma_backend.quiz_module.models.FeedbackJob;
+import kz.sayat.diploma_backend.quiz_module.models.enums.FeedbackJobStatus;
+import kz.sayat.diploma_backend.quiz_module.repository.FeedbackJobRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.FeedbackRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.QuizAttemptRepository;
+import kz.sayat.diploma_backend.quiz_module.service.implementation.FeedbackJobServiceImpl;
+import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedbackJobServiceTest {
+
+    @Mock
+    private FeedbackJobRepository feedbackJobRepository;
+    @Mock
+    private FeedbackRepository feedbackRepository;
+    @Mock
+    private QuizAttemptRepository quizAttemptRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private FeedbackJobServiceImpl feedbackJobService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(feedbackJobService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(feedbackJobService, "backoffSeconds", 10L);
+    }
+
+    @Test
+    void submit_ReusesActiveJobForAttempt() {
+        FeedbackJob running = job(4, FeedbackJobStatus.RUNNING, 1);
+        when(quizAttemptRepository.existsById(7)).thenReturn(true);
+        when(feedbackJobRepository.insertIfAbsent(eq(List.of(7)), isNull(), any(LocalDateTime.class))).thenReturn(0);
+        when(feedbackJobRepository.findFirstByAttemptIdAndStatusNotOrderByIdDesc(7, FeedbackJobStatus.FAILED))
+            .thenReturn(Optional.of(running));
+
+        FeedbackJobDto dto = feedbackJobService.submit(7);
+
+        assertEquals(4, dto.getId());
+        assertEquals(FeedbackJobStatus.RUNNING, dto.getStatus());
+        verify(feedbackJobRepository, never()).save(any());
+    }
+
+    @Test
+    void submit_WithoutLiveJob_QueuesNewJob() {
+        when(quizAttemptRepository.existsById(7)).thenReturn(true);
+        when(feedbackJobRepository.insertIfAbsent(eq(List.of(7)), isNull(), any(LocalDateTime.class))).thenReturn(1);
+        when(feedbackJobRepository.findFirstByAttemptIdAndStatusNotOrderByIdDesc(7, FeedbackJobStatus.FAILED))
+            .thenReturn(Optional.of(job(5, FeedbackJobStatus.PENDING, 0)));
+
+        FeedbackJobDto dto = feedbackJobService.submit(7);
+
+        assertEquals(5, dto.getId());
+        assertEquals(FeedbackJobStatus.PENDING, dto.getStatus());
+    }
+
+    @Test
+    void submit_UnknownAttempt_ThrowsException() {
+        when(quizAttemptRepository.existsById(7)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> feedbackJobService.submit(7));
+    }
+
+    @Test
+    void claim_MarksJobsRunningAndCountsAttempt() {
+        FeedbackJob pending = job(4, FeedbackJobStatus.PENDING, 0);
+        when(feedbackJobRepository.lockRunnable(any(LocalDateTime.class), eq(2))).thenReturn(List.of(pending));
+
+        List<FeedbackJobDto> claimed = feedbackJobService.claim(2);
+
+        assertEquals(1, claimed.size());
+        assertEquals(FeedbackJobStatus.RUNNING, pending.getStatus());
+        assertEquals(1, pending.getAttempts());
+    }
+
+    @Test
+    void fail_Retryable_BacksOffExponentially() {
+        FeedbackJob running = job(4, FeedbackJobStatus.RUNNING, 2);
+        when(feedbackJobRepository.findById(4)).thenReturn(Optional.of(running));
+
+        feedbackJobService.fail(4, "503 Service Unavailable", true);
+
+        assertEquals(FeedbackJobStatus.PENDING, running.getStatus());
+        assertTrue(running.getNextRunAt().isAfter(LocalDateTime.now().plusSeconds(15)));
+        assertEquals("503 Service Unavailable", running.getLastError());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void fail_AttemptsExhausted_MarksFailedAndNotifies() {
+        FeedbackJob running = job(4, FeedbackJobStatus.RUNNING, 3);
+        when(feedbackJobRepository.findById(4)).thenReturn(Optional.of(running));
+
+        feedbackJobService.fail(4, "timeout", true);
+
+        assertEquals(FeedbackJobStatus.FAILED, running.getStatus());
+        verify(eventPublisher).publishEvent(new FeedbackJobFinishedEvent(4));
+    }
+
+    @Test
+    void complete_MarksDoneAndNotifies() {
+        FeedbackJob running = job(4, FeedbackJobStatus.RUNNING, 1);
+        running.setLastError("earlier failure");
+        when(feedbackJobRepository.findAllById(List.of(4))).thenReturn(List.of(running));
+
+        feedbackJobService.complete(List.of(4));
+
+        assertEquals(FeedbackJobStatus.DONE, running.getStatus());
+        assertNull(running.getLastError());
+        verify(eventPublisher).publishEvent(new FeedbackJobFinishedEvent(4));
+    }
+
+    private FeedbackJob job(int id, FeedbackJobStatus status, int attempts) {
+        FeedbackJob job = new FeedbackJob(7);
+        job.setId(id);
+        job.setStatus(status);
+        job.setAttempts(attempts);
+        return job;
+    }
+}
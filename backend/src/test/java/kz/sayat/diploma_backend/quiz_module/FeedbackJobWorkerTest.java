@@ -0,0 +1,75 @@
+package kz.sayat.diploma_backend.quiz_module;
+
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackJobDto;
+import kz.sayat.diploma_backend.quiz_module.dto.FeedbackPrompt;
+import kz.sayat.diploma_backend.quiz_module.dto.GeneratedFeedback;
+import kz.sayat.diploma_backend.quiz_module.jobs.FeedbackJobWorker;
+import kz.sayat.diploma_backend.quiz_module.models.enums.FeedbackJobStatus;
+import kz.sayat.diploma_backend.quiz_module.service.FeedbackJobService;
+import kz.sayat.diploma_backend.quiz_module.service.FeedbackService;
+import kz.sayat.diploma_backend.util.exceptions.LlmUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedbackJobWorkerTest {
+
+    @Mock
+    private FeedbackJobService feedbackJobService;
+    @Mock
+    private FeedbackService feedbackService;
+
+    private FeedbackJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new FeedbackJobWorker(feedbackJobService, feedbackService, 4);
+    }
+
+    @Test
+    void poll_PreparesClaimedJobsTogetherAndPersistsResultsInBulk() throws InterruptedException {
+        FeedbackPrompt ready = new FeedbackPrompt(1, 5, "Aida", "prompt", "fp", null, null);
+        GeneratedFeedback generated = new GeneratedFeedback(1, "prompt", "Aida, well done");
+        when(feedbackJobService.claim(4)).thenReturn(List.of(job(10, 1), job(11, 2), job(12, 3), job(13, 4)));
+        when(feedbackService.prepareFeedback(List.of(1, 2, 3, 4))).thenReturn(List.of(
+            ready,
+            FeedbackPrompt.existing(2, "Done before"),
+            FeedbackPrompt.failed(3, "No lecture found for this module")));
+        when(feedbackService.generateFeedback(ready)).thenReturn(generated);
+
+        worker.poll();
+        worker.shutdown();
+
+        verify(feedbackService).prepareFeedback(List.of(1, 2, 3, 4));
+        verify(feedbackJobService).fail(12, "No lecture found for this module", false);
+        verify(feedbackJobService).fail(13, "Quiz attempt not found", false);
+        verify(feedbackService).saveFeedback(List.of(generated));
+        verify(feedbackJobService).complete(argThat(ids -> ids.containsAll(List.of(10, 11)) && ids.size() == 2));
+    }
+
+    @Test
+    void poll_TransientLlmFailure_IsRetryable() throws InterruptedException {
+        FeedbackPrompt ready = new FeedbackPrompt(1, 5, "Aida", "prompt", "fp", null, null);
+        when(feedbackJobService.claim(4)).thenReturn(List.of(job(10, 1)));
+        when(feedbackService.prepareFeedback(List.of(1))).thenReturn(List.of(ready));
+        when(feedbackService.generateFeedback(ready)).thenThrow(new LlmUnavailableException("Gemini responded with 503"));
+
+        worker.poll();
+        worker.shutdown();
+
+        verify(feedbackJobService).fail(10, "Gemini responded with 503", true);
+        verify(feedbackService, never()).saveFeedback(any());
+    }
+
+    private FeedbackJobDto job(int id, int attemptId) {
+        return new FeedbackJobDto(id, attemptId, FeedbackJobStatus.RUNNING, 1, null, null);
+    }
+}
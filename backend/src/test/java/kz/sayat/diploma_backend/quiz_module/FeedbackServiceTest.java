@@ -10,6 +10,7 @@ import kz.sayat.diploma_backend.quiz_module.models.Quiz;
 import kz.sayat.diploma_backend.quiz_module.models.QuizAttempt;
 import kz.sayat.diploma_backend.quiz_module.service.FeedbackService;
 import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
+import kz.sayat.diploma_backend.util.pagination.CursorPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -150,11 +151,11 @@ class FeedbackServiceTest {
                 "Java Basics",
                 feedback.getCreatedAt().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
         );
-        List<FeedbackDto> feedbackList = Collections.singletonList(feedbackDto);
+        CursorPage<FeedbackDto> page = new CursorPage<>(Collections.singletonList(feedbackDto), 50, null, null);
 
-        when(feedbackService.getAllFeedback()).thenReturn(feedbackList);
+        when(feedbackService.getAllFeedback(null, 50, false)).thenReturn(page);
 
-        List<FeedbackDto> result = feedbackService.getAllFeedback();
+        List<FeedbackDto> result = feedbackService.getAllFeedback(null, 50, false).getItems();
 
         assertNotNull(result);
         assertFalse(result.isEmpty());
@@ -166,18 +167,19 @@ class FeedbackServiceTest {
         assertEquals("Doe", resultDto.getStudentLastname());
         assertEquals("Computer Science", resultDto.getCourseTitle());
         assertEquals("Java Basics", resultDto.getQuizTitle());
-        verify(feedbackService).getAllFeedback();
+        verify(feedbackService).getAllFeedback(null, 50, false);
     }
 
     @Test
     void getAllFeedback_EmptyList_ReturnsEmpty() {
-        when(feedbackService.getAllFeedback()).thenReturn(Collections.emptyList());
+        when(feedbackService.getAllFeedback(null, 50, false))
+            .thenReturn(new CursorPage<>(Collections.emptyList(), 50, null, null));
 
-        List<FeedbackDto> result = feedbackService.getAllFeedback();
+        List<FeedbackDto> result = feedbackService.getAllFeedback(null, 50, false).getItems();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(feedbackService).getAllFeedback();
+        verify(feedbackService).getAllFeedback(null, 50, false);
     }
 
     @Test
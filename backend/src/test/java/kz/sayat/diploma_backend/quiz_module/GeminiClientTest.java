@@ -0,0 +1,280 @@
+package kz.sayat.diploma_backend.quiz_module;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kz.sayat.diploma_backend.quiz_module.client.CircuitBreaker;
+import kz.sayat.diploma_backend.quiz_module.client.GeminiClient;
+import kz.sayat.diploma_backend.quiz_module.client.LlmResponse;
+import kz.sayat.diploma_backend.util.exceptions.LlmUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeminiClientTest {
+
+    private static final String OK_BODY = """
+        {"candidates":[{"content":{"parts":[{"text":"Well done"}],"role":"model"}}],"usageMetadata":{"totalTokenCount":12}}
+        """;
+
+    private HttpServer server;
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicReference<String> lastKeyHeader = new AtomicReference<>();
+    private final AtomicReference<String> lastQuery = new AtomicReference<>();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/generate", exchange -> {
+            calls.incrementAndGet();
+            lastKeyHeader.set(exchange.getRequestHeaders().getFirst("x-goog-api-key"));
+            lastQuery.set(exchange.getRequestURI().getQuery());
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = (status.get() == 200 ? OK_BODY : "{}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status.get(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void generate_SendsKeyAsHeaderAndParsesFirstPart() {
+        GeminiClient client = client("/generate?key=", 3);
+
+        LlmResponse response = client.generate("prompt");
+
+        assertEquals("Well done", response.text());
+        assertEquals("test-key", lastKeyHeader.get());
+        assertNull(lastQuery.get());
+        assertEquals(1, meterRegistry.get("llm.requests").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void generate_ServerErrors_OpenCircuit() {
+        status.set(503);
+        GeminiClient client = client("/generate", 2);
+
+        assertThrows(LlmUnavailableException.class, () -> client.generate("prompt"));
+        assertThrows(LlmUnavailableException.class, () -> client.generate("prompt"));
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+
+        assertThrows(LlmUnavailableException.class, () -> client.generate("prompt"));
+        assertEquals(2, calls.get());
+        assertEquals(1, meterRegistry.get("llm.requests").tag("outcome", "circuit_open").timer().count());
+    }
+
+    @Test
+    void generate_ClientError_IsNotRetryableAndKeepsCircuitClosed() {
+        status.set(400);
+        GeminiClient client = client("/generate", 1);
+
+        assertThrows(IllegalStateException.class, () -> client.generate("prompt"));
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+    }
+
+    @Test
+    void stream_ServerError_FailsFutureWithRetryableException() {
+        status.set(503);
+        server.createContext("/v1/models/gemini:streamGenerateContent", exchange -> {
+            calls.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        GeminiClient client = client("/v1/models/gemini:generateContent", 3);
+
+        CompletionException error = assertThrows(CompletionException.class,
+            () -> client.stream("prompt", chunk -> fail("no chunks expected")).join());
+        assertInstanceOf(LlmUnavailableException.class, error.getCause());
+        assertEquals(1, meterRegistry.get("llm.requests").tag("outcome", "server_error").timer().count());
+    }
+
+    @Test
+    void stream_WithinAcquireTimeout_WaitsForRateLimitSlot() {
+        server.createContext("/v1/models/gemini:streamGenerateContent", exchange -> {
+            calls.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = ("data: " + OK_BODY.strip() + "\n\n").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        GeminiClient client = client("/v1/models/gemini:generateContent", 3, 20);
+
+        assertEquals("Well done", client.stream("prompt", chunk -> { }).join().text());
+        assertEquals("Well done", client.stream("prompt", chunk -> { }).join().text());
+
+        assertEquals(2, calls.get());
+        assertEquals(2, meterRegistry.get("llm.requests").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void stream_TruncatedBody_IsRecordedAsIoError() {
+        server.createContext("/v1/models/gemini:streamGenerateContent", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, 1024);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write("data: {".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        GeminiClient client = client("/v1/models/gemini:generateContent", 3);
+
+        CompletionException error = assertThrows(CompletionException.class,
+            () -> client.stream("prompt", chunk -> { }).join());
+        assertInstanceOf(LlmUnavailableException.class, error.getCause());
+        assertEquals(1, meterRegistry.get("llm.requests").tag("outcome", "io_error").timer().count());
+    }
+
+    @Test
+    void stream_StalledBody_TimesOutAndReleasesPermit() throws InterruptedException {
+        CountDownLatch release = stallingStream();
+        GeminiClient client = new GeminiClient(
+            "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/models/gemini:generateContent", "test-key",
+            1000, 300, 2, 100, 0, 3, 30, new ObjectMapper(), meterRegistry);
+        try {
+            CompletionException error = assertThrows(CompletionException.class,
+                () -> client.stream("prompt", chunk -> { }).join());
+            assertInstanceOf(LlmUnavailableException.class, error.getCause());
+            assertEquals(1, meterRegistry.get("llm.requests").tag("outcome", "timeout").timer().count());
+            assertEquals(0, meterRegistry.get("llm.requests.in_flight").gauge().value());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void stream_Cancelled_ReleasesPermitWithoutWaitingForTimeout() throws InterruptedException {
+        CountDownLatch release = stallingStream();
+        GeminiClient client = client("/v1/models/gemini:generateContent", 3);
+        CountDownLatch firstChunk = new CountDownLatch(1);
+        try {
+            CompletableFuture<LlmResponse> stream = client.stream("prompt", chunk -> firstChunk.countDown());
+            assertTrue(firstChunk.await(2, TimeUnit.SECONDS));
+
+            stream.cancel(true);
+
+            assertEquals(0, meterRegistry.get("llm.requests.in_flight").gauge().value());
+            assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void generate_OverRateLimit_RejectsWithoutCallingGemini() {
+        GeminiClient client = client("/generate", 3, 0.5);
+
+        client.generate("prompt");
+        assertThrows(LlmUnavailableException.class, () -> client.generate("prompt"));
+
+        assertEquals(1, calls.get());
+        assertEquals(1, meterRegistry.get("llm.requests").tag("outcome", "rate_limited").timer().count());
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+    }
+
+    @Test
+    void generate_WithoutUrl_ThrowsException() {
+        GeminiClient client = new GeminiClient("", "test-key", 1000, 1000, 1, 100, 0, 1, 30,
+            new ObjectMapper(), meterRegistry);
+
+        assertThrows(IllegalStateException.class, () -> client.generate("prompt"));
+    }
+
+    @Test
+    void circuitBreaker_AllowsSingleProbeAfterOpenDuration() {
+        MutableClock clock = new MutableClock();
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofSeconds(30), clock);
+
+        breaker.onFailure();
+        assertFalse(breaker.tryAcquire());
+
+        clock.advance(Duration.ofSeconds(31));
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    /**
+     * Serves one stream event and then holds the response open until the returned latch is released.
+     */
+    private CountDownLatch stallingStream() {
+        CountDownLatch release = new CountDownLatch(1);
+        server.createContext("/v1/models/gemini:streamGenerateContent", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(("data: " + OK_BODY.strip() + "\n\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException ignored) {
+                // the client closed the connection
+            }
+        });
+        return release;
+    }
+
+    private GeminiClient client(String path, int failureThreshold) {
+        return client(path, failureThreshold, 0);
+    }
+
+    private GeminiClient client(String path, int failureThreshold, double ratePerSecond) {
+        return new GeminiClient("http://127.0.0.1:" + server.getAddress().getPort() + path, "test-key",
+            1000, 5000, 2, 100, ratePerSecond, failureThreshold, 30, new ObjectMapper(), meterRegistry);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package kz.sayat.diploma_backend.quiz_module;
+
+import kz.sayat.diploma_backend.quiz_module.models.PromptTemplateVersion;
+import kz.sayat.diploma_backend.quiz_module.prompt.PromptTemplate;
+import kz.sayat.diploma_backend.quiz_module.prompt.PromptTemplate.Section;
+import kz.sayat.diploma_backend.quiz_module.prompt.PromptTemplate.Variable;
+import kz.sayat.diploma_backend.quiz_module.prompt.PromptTemplateRegistry;
+import kz.sayat.diploma_backend.quiz_module.repository.PromptTemplateVersionRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PromptTemplateTest {
+
+    private static final String SOURCE = """
+        ### header
+        Quiz: ${quiz_title} (${score})
+        ### answer.passed.correct
+        + ${question}: ${student_answer} = ${correct_answer}
+        ### answer.passed.incorrect
+        - ${question}: ${student_answer} != ${correct_answer}
+
+        ### answer.failed.correct
+        + ${question}
+        ### answer.failed.incorrect
+        - ${question}
+        ### footer
+        Review ${lecture_url}
+        """;
+
+    private final PromptTemplateVersionRepository repository = mock(PromptTemplateVersionRepository.class);
+
+    @Test
+    void compile_SplitsSectionsAndFillsVariables() {
+        PromptTemplate template = PromptTemplate.compile("test", 3, SOURCE);
+
+        assertEquals("""
+            Quiz: Loops (80.0)
+            + Q1: A = A
+            - Q2: B != C
+
+            Review https://youtube.com/watch?v=loops
+            """, render(template, true));
+        assertEquals(3, template.getVersion());
+    }
+
+    @Test
+    void compile_RejectsUnknownVariablesAndMissingSections() {
+        assertThrows(IllegalArgumentException.class,
+            () -> PromptTemplate.compile("test", 1, SOURCE.replace("${score}", "${grade}")));
+        assertThrows(IllegalArgumentException.class,
+            () -> PromptTemplate.compile("test", 1, SOURCE.replace("### footer", "### advice")));
+        assertThrows(IllegalArgumentException.class,
+            () -> PromptTemplate.compile("test", 1, SOURCE.substring(0, SOURCE.indexOf("### footer"))));
+    }
+
+    @Test
+    void append_MissingValue_Throws() {
+        PromptTemplate template = PromptTemplate.compile("test", 1, SOURCE);
+        Map<Variable, String> values = template.newValues();
+
+        assertThrows(IllegalStateException.class, () -> template.append(new StringBuilder(), Section.HEADER, values));
+    }
+
+    @Test
+    void render_BundledTemplate_FitsPresizedBufferWithoutGrowing() {
+        PromptTemplate template = new PromptTemplateRegistry(repository, 60).get(PromptTemplateRegistry.QUIZ_FEEDBACK);
+        int capacity = template.capacity(values(template), 20, 20 * 60);
+        StringBuilder prompt = render(template);
+
+        assertEquals(0, template.getVersion());
+        assertEquals(capacity, prompt.capacity());
+        assertTrue(prompt.indexOf("Quiz Topic: Loops\n") >= 0);
+        assertTrue(prompt.indexOf("Correct Answer: 🔒 Hidden") < 0);
+        assertTrue(prompt.toString().endsWith("Avoid vague answers.\n"));
+    }
+
+    @Test
+    void registry_ActiveDatabaseVersionWins() {
+        when(repository.findFirstByNameAndActiveTrueOrderByVersionDesc("quiz_feedback"))
+            .thenReturn(Optional.of(version(SOURCE)));
+
+        PromptTemplate template = new PromptTemplateRegistry(repository, 60).get(PromptTemplateRegistry.QUIZ_FEEDBACK);
+
+        assertEquals(7, template.getVersion());
+    }
+
+    @Test
+    void registry_BrokenDatabaseVersion_FallsBackToBundled() {
+        when(repository.findFirstByNameAndActiveTrueOrderByVersionDesc("quiz_feedback"))
+            .thenReturn(Optional.of(version("### header\n${nope}\n")));
+
+        PromptTemplate template = new PromptTemplateRegistry(repository, 60).get(PromptTemplateRegistry.QUIZ_FEEDBACK);
+
+        assertEquals(0, template.getVersion());
+    }
+
+    private static String render(PromptTemplate template, boolean passed) {
+        Map<Variable, String> values = values(template);
+        StringBuilder prompt = new StringBuilder();
+        template.append(prompt, Section.HEADER, values);
+        answer(template, prompt, values, passed, true, "Q1", "A", "A");
+        answer(template, prompt, values, passed, false, "Q2", "B", "C");
+        template.append(prompt, Section.FOOTER, values);
+        return prompt.toString();
+    }
+
+    private static StringBuilder render(PromptTemplate template) {
+        Map<Variable, String> values = values(template);
+        StringBuilder prompt = new StringBuilder(template.capacity(values, 20, 20 * 60));
+        template.append(prompt, Section.HEADER, values);
+        for (int i = 0; i < 20; i++) {
+            answer(template, prompt, values, true, i % 3 == 0, "What does statement " + i + " do?",
+                "Skips an iteration", "Exits the loop");
+        }
+        template.append(prompt, Section.FOOTER, values);
+        return prompt;
+    }
+
+    private static void answer(PromptTemplate template, StringBuilder prompt, Map<Variable, String> values,
+                               boolean passed, boolean correct, String question, String answer, String correctAnswer) {
+        values.put(Variable.QUESTION, question);
+        values.put(Variable.STUDENT_ANSWER, answer);
+        values.put(Variable.CORRECT_ANSWER, correctAnswer);
+        template.append(prompt, Section.answer(passed, correct), values);
+    }
+
+    private static Map<Variable, String> values(PromptTemplate template) {
+        Map<Variable, String> values = template.newValues();
+        values.put(Variable.QUIZ_TITLE, "Loops");
+        values.put(Variable.SCORE, "80.0");
+        values.put(Variable.MAX_TIME, "10:00");
+        values.put(Variable.TIME_TAKEN, "between 50% and 60% of the allowed time");
+        values.put(Variable.LECTURE_URL, "https://youtube.com/watch?v=loops");
+        return values;
+    }
+
+    private static PromptTemplateVersion version(String body) {
+        return new PromptTemplateVersion(1, "quiz_feedback", 7, body, true, LocalDateTime.now());
+    }
+}
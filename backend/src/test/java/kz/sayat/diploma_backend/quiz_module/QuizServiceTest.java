@@ -3,30 +3,52 @@ package kz.sayat.diploma_backend.quiz_module;
 import kz.sayat.diploma_backend.auth_module.models.Student;
 import kz.sayat.diploma_backend.auth_module.service.StudentService;
 import kz.sayat.diploma_backend.course_module.dto.QuizSummaryDto;
+import kz.sayat.diploma_backend.course_module.events.StudentProgressEvent;
+import kz.sayat.diploma_backend.course_module.models.Course;
 import kz.sayat.diploma_backend.course_module.models.Module;
 import kz.sayat.diploma_backend.course_module.repository.ModuleRepository;
 import kz.sayat.diploma_backend.quiz_module.dto.*;
 import kz.sayat.diploma_backend.quiz_module.mapper.QuizAttemptMapper;
 import kz.sayat.diploma_backend.quiz_module.mapper.QuizMapper;
 import kz.sayat.diploma_backend.quiz_module.models.*;
+import kz.sayat.diploma_backend.quiz_module.events.QuizAnswersChangedEvent;
+import kz.sayat.diploma_backend.quiz_module.grading.AnswerKey;
+import kz.sayat.diploma_backend.quiz_module.repository.AnswerRepository;
 import kz.sayat.diploma_backend.quiz_module.repository.AttemptAnswerRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.QuestionRepository;
 import kz.sayat.diploma_backend.quiz_module.repository.QuizAttemptRepository;
 import kz.sayat.diploma_backend.quiz_module.repository.QuizRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.QuizSessionRepository;
+import kz.sayat.diploma_backend.quiz_module.repository.projection.AnswerKeyRow;
+import kz.sayat.diploma_backend.quiz_module.service.AnswerKeyService;
 import kz.sayat.diploma_backend.quiz_module.service.QuizService;
 import kz.sayat.diploma_backend.quiz_module.service.implementation.QuizServiceImpl;
+import kz.sayat.diploma_backend.util.exceptions.ConflictException;
 import kz.sayat.diploma_backend.util.exceptions.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +69,17 @@ class QuizServiceTest {
     @Mock
     private QuizMapper quizMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private AnswerKeyService answerKeyService;
+    @Mock
+    private QuestionRepository questionRepository;
+    @Mock
+    private AnswerRepository answerRepository;
+    @Mock
+    private QuizSessionRepository quizSessionRepository;
+
     @InjectMocks
     private QuizServiceImpl quizService;
 
@@ -61,11 +94,16 @@ class QuizServiceTest {
     void setUp() {
         service = quizService;
 
+        Course course = new Course();
+        course.setId(1);
+
         module = new Module();
         module.setId(1);
+        module.setCourse(course);
 
         quiz = new Quiz();
         quiz.setId(1);
+        quiz.setModule(module);
         quiz.setTitle("Test Quiz");
         quiz.setPassingScore(70);
         quiz.setQuestionCount(2);
@@ -122,7 +160,7 @@ class QuizServiceTest {
     @Test
     void findQuiz_Success() {
         when(quizRepository.findById(1)).thenReturn(Optional.of(quiz));
-        when(quizMapper.toQuizDto(any(Quiz.class))).thenReturn(quizDto);
+        when(quizMapper.toQuizDto(quiz)).thenReturn(quizDto);
 
         QuizDto result = service.findQuiz(1);
 
@@ -131,6 +169,16 @@ class QuizServiceTest {
         verify(quizRepository).findById(1);
     }
 
+    @Test
+    void findQuizSummary_Success() {
+        QuizSummaryDto summaryDto = new QuizSummaryDto();
+        when(quizRepository.findById(1)).thenReturn(Optional.of(quiz));
+        when(quizMapper.toQuizSummaryDto(quiz)).thenReturn(summaryDto);
+
+        assertSame(summaryDto, service.findQuizSummary(1));
+        verify(quizMapper, never()).toQuizDto(any(Quiz.class));
+    }
+
     @Test
     void findQuiz_NotFound_ThrowsException() {
         when(quizRepository.findById(1)).thenReturn(Optional.empty());
@@ -165,24 +213,223 @@ class QuizServiceTest {
         quizAttempt.setPassed(true);
 
         when(studentService.getStudentFromUser(authentication)).thenReturn(student);
+        when(quizSessionRepository.findByIdForUpdate(5)).thenReturn(Optional.of(session(1)));
         when(quizRepository.findById(1)).thenReturn(Optional.of(quiz));
-        when(quizAttemptRepository.findByStudentAndQuiz(student, quiz)).thenReturn(new ArrayList<>());
+        when(quizAttemptRepository.nextAttemptNumber(1, 1)).thenReturn(3);
+        when(answerKeyService.getAnswerKey(1)).thenReturn(answerKey());
         when(quizAttemptRepository.save(any(QuizAttempt.class))).thenReturn(quizAttempt);
         when(quizAttemptMapper.toQuizAttemptDto(any(QuizAttempt.class))).thenReturn(new QuizAttemptDto());
 
-        QuizAttemptDto result = service.assignGrade(studentAnswers, authentication, 1, 300);
+        QuizAttemptDto result = service.assignGrade(5, studentAnswers, authentication);
 
         assertNotNull(result);
         verify(quizAttemptRepository).save(any(QuizAttempt.class));
-        verify(attemptAnswerRepository).save(any(QuizAttemptAnswer.class));
+        verify(attemptAnswerRepository).saveAll(argThat((List<QuizAttemptAnswer> answers) ->
+            answers.size() == 1 && answers.get(0).getQuizAttempt() != null));
+        verify(attemptAnswerRepository, never()).save(any(QuizAttemptAnswer.class));
+        verify(eventPublisher).publishEvent(new StudentProgressEvent(1, 1));
+        verify(quizAttemptRepository).save(argThat(attempt -> attempt.getAttemptNumber() == 3));
     }
 
     @Test
-    void assignGrade_QuizNotFound_ThrowsException() {
-        when(quizRepository.findById(1)).thenReturn(Optional.empty());
+    void assignGrade_ParallelSubmits_GetDistinctGapFreeNumbers() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        Queue<Integer> numbers = new ConcurrentLinkedQueue<>();
+        when(studentService.getStudentFromUser(authentication)).thenReturn(student);
+        when(quizSessionRepository.findByIdForUpdate(anyInt())).thenAnswer(invocation -> Optional.of(session(1)));
+        when(quizRepository.findById(1)).thenReturn(Optional.of(quiz));
+        when(answerKeyService.getAnswerKey(1)).thenReturn(answerKey());
+        when(quizAttemptRepository.nextAttemptNumber(1, 1)).thenAnswer(invocation -> counter.incrementAndGet());
+        when(quizAttemptRepository.save(any(QuizAttempt.class))).thenAnswer(invocation -> {
+            QuizAttempt attempt = invocation.getArgument(0);
+            numbers.add(attempt.getAttemptNumber());
+            return attempt;
+        });
+
+        int submits = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(submits);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<QuizAttemptDto>> results = new ArrayList<>();
+        for (int i = 0; i < submits; i++) {
+            int sessionId = i + 1;
+            results.add(executor.submit(() -> {
+                start.await();
+                return service.assignGrade(sessionId, List.of(studentAnswer(1, 1)), authentication);
+            }));
+        }
+        start.countDown();
+        for (Future<QuizAttemptDto> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        List<Integer> sorted = numbers.stream().sorted().toList();
+        assertEquals(IntStream.rangeClosed(1, submits).boxed().toList(), sorted);
+        verify(quizAttemptRepository, times(submits)).nextAttemptNumber(1, 1);
+    }
+
+    @Test
+    void assignGrade_ScoresFromAnswerKeyWithoutLoadingQuestions() {
+        List<StudentAnswerDto> studentAnswers = List.of(studentAnswer(1, 1), studentAnswer(2, 4));
+        when(studentService.getStudentFromUser(authentication)).thenReturn(student);
+        when(quizSessionRepository.findByIdForUpdate(5)).thenReturn(Optional.of(session(1)));
+        when(quizRepository.findById(1)).thenReturn(Optional.of(quiz));
+        when(answerKeyService.getAnswerKey(1)).thenReturn(answerKey());
+
+        service.assignGrade(5, studentAnswers, authentication);
+
+        ArgumentCaptor<QuizAttempt> attempt = ArgumentCaptor.forClass(QuizAttempt.class);
+        verify(quizAttemptRepository).save(attempt.capture());
+        assertEquals(50.0, attempt.getValue().getScore());
+        assertFalse(attempt.getValue().isPassed());
+        ArgumentCaptor<List<QuizAttemptAnswer>> answers = ArgumentCaptor.forClass(List.class);
+        verify(attemptAnswerRepository).saveAll(answers.capture());
+        assertEquals(2, answers.getValue().size());
+        assertTrue(answers.getValue().get(0).isCorrect());
+        assertFalse(answers.getValue().get(1).isCorrect());
+        assertSame(attempt.getValue(), answers.getValue().get(1).getQuizAttempt());
+        verify(questionRepository).getReferenceById(2);
+        verify(answerRepository).getReferenceById(4);
+    }
+
+    @Test
+    void assignGrade_UnansweredServedQuestions_CountAgainstTheScore() {
+        when(studentService.getStudentFromUser(authentication)).thenReturn(student);
+        when(quizSessionRepository.findByIdForUpdate(5)).thenReturn(Optional.of(session(1)));
+        when(quizRepository.findById(1)).thenReturn(Optional.of(quiz));
+        when(answerKeyService.getAnswerKey(1)).thenReturn(answerKey());
+
+        service.assignGrade(5, List.of(studentAnswer(2, 3)), authentication);
+
+        verify(quizAttemptRepository).save(argThat(attempt -> attempt.getScore() == 50.0));
+    }
+
+    @Test
+    void assignGrade_DurationIsMeasuredByTheServer() {
+        QuizSession session = session(1);
+        session.setStartedAt(LocalDateTime.now().minusMinutes(30));
+        session.setExpiresAt(null);
+        when(studentService.getStudentFromUser(authentication)).thenReturn(student);
+        when(quizSessionRepository.findByIdForUpdate(5)).thenReturn(Optional.of(session));
+        when(quizRepository.findById(1)).thenReturn(Optional.of(quiz));
+        when(answerKeyService.getAnswerKey(1)).thenReturn(answerKey());
+
+        service.assignGrade(5, List.of(studentAnswer(1, 1)), authentication);
+
+        ArgumentCaptor<QuizAttempt> attempt = ArgumentCaptor.forClass(QuizAttempt.class);
+        verify(quizAttemptRepository).save(attempt.capture());
+        assertTrue(Math.abs(attempt.getValue().getDurationSeconds() - 30 * 60) <= 5);
+        assertNotNull(session.getSubmittedAt());
+    }
+
+    @Test
+    void assignGrade_AnswerOfAnotherQuestion_ThrowsException() {
+        when(studentService.getStudentFromUser(authentication)).thenReturn(student);
+        when(quizSessionRepository.findByIdForUpdate(5)).thenAnswer(invocation -> Optional.of(session(1)));
+        when(quizRepository.findById(1)).thenReturn(Optional.of(quiz));
+        when(answerKeyService.getAnswerKey(1)).thenReturn(answerKey());
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> service.assignGrade(5, List.of(studentAnswer(1, 3)), authentication));
+        assertThrows(ResourceNotFoundException.class,
+            () -> service.assignGrade(5, List.of(studentAnswer(9, 1)), authentication));
+        verify(quizAttemptRepository, never()).save(any());
+    }
+
+    @Test
+    void assignGrade_QuestionAnsweredTwice_ThrowsException() {
+        when(studentService.getStudentFromUser(authentication)).thenReturn(student);
+        when(quizSessionRepository.findByIdForUpdate(5)).thenReturn(Optional.of(session(1)));
+        when(quizRepository.findById(1)).thenReturn(Optional.of(quiz));
+        when(answerKeyService.getAnswerKey(1)).thenReturn(answerKey());
+
+        assertThrows(IllegalArgumentException.class,
+            () -> service.assignGrade(5, List.of(studentAnswer(1, 1), studentAnswer(1, 2)), authentication));
+        verify(quizAttemptRepository, never()).save(any());
+    }
+
+    @Test
+    void assignGrade_AlreadySubmitted_ThrowsConflict() {
+        QuizSession session = session(1);
+        session.setSubmittedAt(LocalDateTime.now());
+        when(studentService.getStudentFromUser(authentication)).thenReturn(student);
+        when(quizSessionRepository.findByIdForUpdate(5)).thenReturn(Optional.of(session));
+
+        assertThrows(ConflictException.class,
+            () -> service.assignGrade(5, List.of(studentAnswer(1, 1)), authentication));
+        verify(quizAttemptRepository, never()).save(any());
+    }
+
+    @Test
+    void assignGrade_Expired_ThrowsConflict() {
+        QuizSession session = session(1);
+        session.setStartedAt(LocalDateTime.now().minusMinutes(20));
+        session.setExpiresAt(LocalDateTime.now().minusMinutes(10));
+        when(studentService.getStudentFromUser(authentication)).thenReturn(student);
+        when(quizSessionRepository.findByIdForUpdate(5)).thenReturn(Optional.of(session));
+
+        assertThrows(ConflictException.class,
+            () -> service.assignGrade(5, List.of(studentAnswer(1, 1)), authentication));
+        verify(quizAttemptRepository, never()).save(any());
+    }
+
+    @Test
+    void assignGrade_SessionOfAnotherStudent_ThrowsException() {
+        when(studentService.getStudentFromUser(authentication)).thenReturn(student);
+        when(quizSessionRepository.findByIdForUpdate(5)).thenReturn(Optional.of(session(2)));
+
+        assertThrows(ResourceNotFoundException.class,
+            () -> service.assignGrade(5, List.of(studentAnswer(1, 1)), authentication));
+    }
+
+    @Test
+    void assignGrade_SessionNotFound_ThrowsException() {
+        when(studentService.getStudentFromUser(authentication)).thenReturn(student);
+        when(quizSessionRepository.findByIdForUpdate(5)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () ->
-                service.assignGrade(new ArrayList<>(), authentication, 1, 300));
+                service.assignGrade(5, new ArrayList<>(), authentication));
+    }
+
+    @Test
+    void startSession_DrawsQuestionsInTheDatabase() {
+        quiz.setDurationInMinutes(10);
+        Question question2 = new Question();
+        question2.setId(2);
+        question2.setAnswers(new ArrayList<>());
+        when(studentService.getStudentFromUser(authentication)).thenReturn(student);
+        when(quizRepository.findById(1)).thenReturn(Optional.of(quiz));
+        when(quizSessionRepository.findFirstByStudentIdAndQuizIdAndSubmittedAtIsNullOrderByIdDesc(1, 1))
+            .thenReturn(Optional.empty());
+        when(questionRepository.drawIds(1, 2)).thenReturn(List.of(2, 1));
+        when(quizSessionRepository.save(any(QuizSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(questionRepository.findWithAnswersByIdIn(List.of(2, 1)))
+            .thenReturn(List.of(quiz.getQuestions().get(0), question2));
+
+        service.startSession(1, authentication);
+
+        ArgumentCaptor<QuizSession> session = ArgumentCaptor.forClass(QuizSession.class);
+        verify(quizSessionRepository).save(session.capture());
+        assertArrayEquals(new int[]{2, 1}, session.getValue().getQuestionIds());
+        assertEquals(session.getValue().getStartedAt().plusMinutes(10), session.getValue().getExpiresAt());
+        verify(quizMapper).toQuizSessionDto(eq(quiz), same(session.getValue()),
+            argThat(questions -> questions.get(0) == question2), eq(600));
+    }
+
+    @Test
+    void startSession_ReusesOpenSession() {
+        QuizSession open = session(1);
+        when(studentService.getStudentFromUser(authentication)).thenReturn(student);
+        when(quizRepository.findById(1)).thenReturn(Optional.of(quiz));
+        when(quizSessionRepository.findFirstByStudentIdAndQuizIdAndSubmittedAtIsNullOrderByIdDesc(1, 1))
+            .thenReturn(Optional.of(open));
+        when(questionRepository.findWithAnswersByIdIn(List.of(1, 2))).thenReturn(quiz.getQuestions());
+
+        service.startSession(1, authentication);
+
+        verify(quizSessionRepository, never()).save(any());
+        verify(questionRepository, never()).drawIds(anyInt(), anyInt());
+        verify(quizMapper).toQuizSessionDto(eq(quiz), same(open), anyList(), argThat(seconds -> seconds > 500));
     }
 
     @Test
@@ -192,6 +439,7 @@ class QuizServiceTest {
         service.delete(1);
 
         verify(quizRepository).delete(quiz);
+        verify(eventPublisher).publishEvent(new QuizAnswersChangedEvent(1));
     }
 
     @Test
@@ -234,6 +482,7 @@ class QuizServiceTest {
         verify(quizRepository).save(any(Quiz.class));
         assertEquals(quizDto.getTitle(), quiz.getTitle());
         assertEquals(quizDto.getPassingScore(), quiz.getPassingScore());
+        verify(eventPublisher).publishEvent(new QuizAnswersChangedEvent(1));
     }
 
     @Test
@@ -242,4 +491,36 @@ class QuizServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> service.update(1, quizDto));
     }
-}
\ No newline at end of file
+
+    private static StudentAnswerDto studentAnswer(int questionId, int answerId) {
+        StudentAnswerDto studentAnswer = new StudentAnswerDto();
+        studentAnswer.setQuestionId(questionId);
+        studentAnswer.setAnswerId(answerId);
+        return studentAnswer;
+    }
+
+    private static QuizSession session(int studentId) {
+        LocalDateTime startedAt = LocalDateTime.now().minusSeconds(60);
+        return new QuizSession(studentId, 1, new int[]{1, 2}, startedAt, startedAt.plusMinutes(10));
+    }
+
+    private static AnswerKey answerKey() {
+        return AnswerKey.of(List.of(row(1, 1, true), row(1, 2, false), row(2, 3, true), row(2, 4, false)));
+    }
+
+    private static AnswerKeyRow row(int questionId, int answerId, boolean correct) {
+        return new AnswerKeyRow() {
+            public int getQuestionId() {
+                return questionId;
+            }
+
+            public Integer getAnswerId() {
+                return answerId;
+            }
+
+            public Boolean getCorrect() {
+                return correct;
+            }
+        };
+    }
+}
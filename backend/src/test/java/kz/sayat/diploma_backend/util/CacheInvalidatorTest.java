@@ -0,0 +1,104 @@
+package kz.sayat.diploma_backend.util;
+
+import kz.sayat.diploma_backend.util.cache.CacheInvalidation;
+import kz.sayat.diploma_backend.util.cache.CacheInvalidationRepository;
+import kz.sayat.diploma_backend.util.cache.CacheInvalidator;
+import kz.sayat.diploma_backend.util.cache.CacheNames;
+import kz.sayat.diploma_backend.util.cache.TieredCacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidatorTest {
+
+    @Mock
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    private ConcurrentMapCacheManager local;
+    private ConcurrentMapCacheManager remote;
+    private CacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        local = new ConcurrentMapCacheManager(CacheNames.COURSE_STRUCTURE);
+        remote = new ConcurrentMapCacheManager(CacheNames.COURSE_STRUCTURE);
+        CacheManager cacheManager = new TieredCacheManager(local, remote);
+        invalidator = new CacheInvalidator(cacheManager, cacheInvalidationRepository, 60);
+
+        remote.getCache(CacheNames.COURSE_STRUCTURE).put(1, "course 1");
+        local.getCache(CacheNames.COURSE_STRUCTURE).put(1, "course 1");
+        local.getCache(CacheNames.COURSE_STRUCTURE).put(2, "course 2");
+    }
+
+    @Test
+    void evict_EvictsBothTiersAndPublishesKey() {
+        invalidator.evict(CacheNames.COURSE_STRUCTURE, 1);
+
+        assertNull(local.getCache(CacheNames.COURSE_STRUCTURE).get(1));
+        assertNull(remote.getCache(CacheNames.COURSE_STRUCTURE).get(1));
+        verify(cacheInvalidationRepository).publish(eq(CacheNames.COURSE_STRUCTURE), eq("1"), any(LocalDateTime.class));
+    }
+
+    @Test
+    void evict_PublishFails_StillEvictsLocally() {
+        when(cacheInvalidationRepository.publish(any(), any(), any())).thenThrow(new IllegalStateException("down"));
+
+        assertDoesNotThrow(() -> invalidator.evict(CacheNames.COURSE_STRUCTURE, 1));
+
+        assertNull(local.getCache(CacheNames.COURSE_STRUCTURE).get(1));
+    }
+
+    @Test
+    void replay_FirstCall_OnlyRecordsWhereTheLogEnds() {
+        when(cacheInvalidationRepository.findMaxId()).thenReturn(10L);
+
+        assertEquals(0, invalidator.replay());
+
+        verify(cacheInvalidationRepository, never()).findTop500ByIdGreaterThanOrderById(anyLong());
+        assertNotNull(local.getCache(CacheNames.COURSE_STRUCTURE).get(1));
+    }
+
+    @Test
+    void replay_EvictsMatchingKeyFromLocalTierOnly() {
+        when(cacheInvalidationRepository.findMaxId()).thenReturn(10L);
+        when(cacheInvalidationRepository.findTop500ByIdGreaterThanOrderById(10L))
+            .thenReturn(List.of(invalidation(11, "1")));
+        invalidator.replay();
+
+        assertEquals(1, invalidator.replay());
+
+        assertNull(local.getCache(CacheNames.COURSE_STRUCTURE).get(1));
+        assertNotNull(local.getCache(CacheNames.COURSE_STRUCTURE).get(2));
+        assertNotNull(remote.getCache(CacheNames.COURSE_STRUCTURE).get(1));
+    }
+
+    @Test
+    void replay_NullKey_ClearsLocalTierAndAdvancesCursor() {
+        when(cacheInvalidationRepository.findMaxId()).thenReturn(10L);
+        when(cacheInvalidationRepository.findTop500ByIdGreaterThanOrderById(10L))
+            .thenReturn(List.of(invalidation(11, null)));
+        invalidator.replay();
+
+        invalidator.replay();
+        invalidator.replay();
+
+        assertNull(local.getCache(CacheNames.COURSE_STRUCTURE).get(2));
+        verify(cacheInvalidationRepository).findTop500ByIdGreaterThanOrderById(11L);
+    }
+
+    private static CacheInvalidation invalidation(long id, String key) {
+        return new CacheInvalidation(id, CacheNames.COURSE_STRUCTURE, key, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,49 @@
+package kz.sayat.diploma_backend.util;
+
+import kz.sayat.diploma_backend.util.exceptions.LlmUnavailableException;
+import kz.sayat.diploma_backend.util.exceptions.global.GlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GlobalExceptionHandlerTest {
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new FailingController())
+        .setControllerAdvice(new GlobalExceptionHandler())
+        .build();
+
+    @Test
+    void llmUnavailable_Returns503() throws Exception {
+        mockMvc.perform(get("/llm"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(jsonPath("$.status").value(503))
+            .andExpect(jsonPath("$.message").value("LLM circuit is open"));
+    }
+
+    @Test
+    void unexpectedException_Returns500() throws Exception {
+        mockMvc.perform(get("/failure"))
+            .andExpect(status().isInternalServerError())
+            .andExpect(jsonPath("$.message").value("An unexpected error occurred."));
+    }
+
+    @RestController
+    static class FailingController {
+
+        @GetMapping("/llm")
+        String llm() {
+            throw new LlmUnavailableException("LLM circuit is open");
+        }
+
+        @GetMapping("/failure")
+        String failure() {
+            throw new IllegalStateException("failure");
+        }
+    }
+}
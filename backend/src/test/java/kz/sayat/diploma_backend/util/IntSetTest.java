@@ -0,0 +1,29 @@
+package kz.sayat.diploma_backend.util;
+
+import kz.sayat.diploma_backend.util.collections.IntSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntSetTest {
+
+    @Test
+    void of_SortsAndDeduplicates() {
+        IntSet set = IntSet.of(List.of(42, 7, 19, 7));
+
+        assertEquals(3, set.size());
+        assertTrue(set.contains(7));
+        assertTrue(set.contains(19));
+        assertTrue(set.contains(42));
+        assertFalse(set.contains(8));
+    }
+
+    @Test
+    void of_EmptyOrNull_ReturnsEmpty() {
+        assertTrue(IntSet.of(List.of()).isEmpty());
+        assertTrue(IntSet.of(null).isEmpty());
+        assertFalse(IntSet.of(List.of()).contains(0));
+    }
+}
@@ -0,0 +1,49 @@
+package kz.sayat.diploma_backend.util;
+
+import kz.sayat.diploma_backend.util.cache.TieredCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TieredCacheTest {
+
+    private ConcurrentMapCache local;
+    private ConcurrentMapCache remote;
+    private TieredCache cache;
+
+    @BeforeEach
+    void setUp() {
+        local = new ConcurrentMapCache("courses", false);
+        remote = new ConcurrentMapCache("courses", false);
+        cache = new TieredCache(local, remote);
+    }
+
+    @Test
+    void get_RemoteHit_PopulatesLocal() {
+        remote.put(1, "course");
+
+        assertEquals("course", cache.get(1, String.class));
+        assertEquals("course", local.get(1, String.class));
+    }
+
+    @Test
+    void get_WithLoader_LoadsOnceIntoBothLevels() {
+        assertEquals("course", cache.get(1, () -> "course"));
+        assertEquals("course", cache.get(1, () -> "other"));
+
+        assertEquals("course", local.get(1, String.class));
+        assertEquals("course", remote.get(1, String.class));
+    }
+
+    @Test
+    void evict_RemovesFromBothLevels() {
+        cache.put(1, "course");
+
+        cache.evict(1);
+
+        assertNull(local.get(1));
+        assertNull(remote.get(1));
+    }
+}
@@ -0,0 +1,35 @@
+import axios from "axios";
+
+const SKIPPED = ["/api/auth/refresh", "/api/auth/login", "/api/auth/logout"];
+
+let pendingRefresh = null;
+
+// Refresh tokens are single use, so concurrent 401s must share one refresh request.
+const refreshTokens = () => {
+    if (!pendingRefresh) {
+        pendingRefresh = axios
+            .post("/api/auth/refresh", null, { withCredentials: true, skipTokenRefresh: true })
+            .finally(() => {
+                pendingRefresh = null;
+            });
+    }
+    return pendingRefresh;
+};
+
+axios.interceptors.response.use(
+    response => response,
+    async error => {
+        const config = error.config;
+        if (!error.response || error.response.status !== 401 || !config
+            || config.skipTokenRefresh || config.tokenRefreshed
+            || SKIPPED.some(path => (config.url || "").startsWith(path))) {
+            return Promise.reject(error);
+        }
+        try {
+            await refreshTokens();
+        } catch (refreshError) {
+            return Promise.reject(error);
+        }
+        return axios({ ...config, tokenRefreshed: true });
+    }
+);
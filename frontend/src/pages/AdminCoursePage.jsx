@@ -6,11 +6,16 @@ import { Link } from 'react-router-dom';
 const AdminCoursePage = () => {
     const [courses, setCourses] = useState([]);
     const [loading, setLoading] = useState(true);
+    const [nextCursor, setNextCursor] = useState(null);
 
-    const fetchCourses = async () => {
+    const fetchCourses = async (cursor = null) => {
         try {
-            const response = await axios.get('/api/courses/all', { withCredentials: true });
-            setCourses(response.data);
+            const response = await axios.get('/api/courses/all', {
+                params: cursor ? { cursor } : {},
+                withCredentials: true
+            });
+            setCourses(prev => cursor ? [...prev, ...response.data.items] : response.data.items);
+            setNextCursor(response.data.nextCursor);
             setLoading(false);
         } catch (error) {
             console.error("Error fetching courses:", error);
@@ -83,6 +88,11 @@ const AdminCoursePage = () => {
                     </tbody>
                 </Table>
             )}
+            {!loading && nextCursor && (
+                <div className="text-center mb-4">
+                    <Button variant="secondary" onClick={() => fetchCourses(nextCursor)}>Load more</Button>
+                </div>
+            )}
         </Container>
     );
 };
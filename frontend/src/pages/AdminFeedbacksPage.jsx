@@ -3,16 +3,21 @@ import axios from "axios";
 
 const AdminFeedbacks = () => {
     const [feedbacks, setFeedbacks] = useState([]);
+    const [nextCursor, setNextCursor] = useState(null);
 
-    useEffect(() => {
-        axios.get("/api/quiz/feedback/all", { withCredentials: true })
+    const fetchFeedbacks = (cursor = null) => {
+        axios.get("/api/quiz/feedback/all", { params: cursor ? { cursor } : {}, withCredentials: true })
             .then(response => {
-                const sortedFeedbacks = response.data.sort((a, b) => new Date(b.attemptTime) - new Date(a.attemptTime));
-                setFeedbacks(sortedFeedbacks);
+                setFeedbacks(prev => cursor ? [...prev, ...response.data.items] : response.data.items);
+                setNextCursor(response.data.nextCursor);
             })
             .catch(error => {
                 console.error("Error fetching feedbacks", error);
             });
+    };
+
+    useEffect(() => {
+        fetchFeedbacks();
     }, []);
 
     const [openFeedbackId, setOpenFeedbackId] = useState(null);
@@ -85,6 +90,11 @@ const AdminFeedbacks = () => {
                 ))}
                 </tbody>
             </table>
+            {nextCursor && (
+                <button className="btn btn-secondary mb-4" onClick={() => fetchFeedbacks(nextCursor)}>
+                    Load more
+                </button>
+            )}
         </div>
     );
 };
@@ -5,18 +5,24 @@ import { Link } from "react-router-dom";
 const AdminStudentsPage = () => {
     const [students, setStudents] = useState([]);
     const [loading, setLoading] = useState(true);
+    const [nextCursor, setNextCursor] = useState(null);
+
+    const fetchStudents = async (cursor = null) => {
+        try {
+            const response = await axios.get("/api/student/all", {
+                params: cursor ? { cursor } : {},
+                withCredentials: true
+            });
+            setStudents(prev => cursor ? [...prev, ...response.data.items] : response.data.items);
+            setNextCursor(response.data.nextCursor);
+        } catch (error) {
+            console.error("Error fetching students:", error);
+        } finally {
+            setLoading(false);
+        }
+    };
 
     useEffect(() => {
-        const fetchStudents = async () => {
-            try {
-                const response = await axios.get("/api/student/all", { withCredentials: true });
-                setStudents(response.data);
-            } catch (error) {
-                console.error("Error fetching students:", error);
-            } finally {
-                setLoading(false);
-            }
-        };
         fetchStudents();
     }, []);
 
@@ -77,6 +83,11 @@ const AdminStudentsPage = () => {
             ) : (
                 <p className="text-muted">No students.</p>
             )}
+            {nextCursor && (
+                <button className="btn btn-secondary mb-4" onClick={() => fetchStudents(nextCursor)}>
+                    Load more
+                </button>
+            )}
         </div>
     );
 };
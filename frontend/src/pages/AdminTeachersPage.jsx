@@ -5,18 +5,24 @@ import { Link } from "react-router-dom";
 const TeachersManagement = () => {
     const [teachers, setTeachers] = useState([]);
     const [loading, setLoading] = useState(true);
+    const [nextCursor, setNextCursor] = useState(null);
+
+    const fetchTeachers = async (cursor = null) => {
+        try {
+            const response = await axios.get("/api/teachers", {
+                params: cursor ? { cursor } : {},
+                withCredentials: true
+            });
+            setTeachers(prev => cursor ? [...prev, ...response.data.items] : response.data.items);
+            setNextCursor(response.data.nextCursor);
+        } catch (error) {
+            console.error("Error fetching teachers:", error);
+        } finally {
+            setLoading(false);
+        }
+    };
 
     useEffect(() => {
-        const fetchTeachers = async () => {
-            try {
-                const response = await axios.get("/api/teachers", { withCredentials: true });
-                setTeachers(response.data);
-            } catch (error) {
-                console.error("Error fetching teachers:", error);
-            } finally {
-                setLoading(false);
-            }
-        };
         fetchTeachers();
     }, []);
 
@@ -74,6 +80,11 @@ const TeachersManagement = () => {
             ) : (
                 <p className="text-muted">No teachers.</p>
             )}
+            {nextCursor && (
+                <button className="btn btn-secondary mb-4" onClick={() => fetchTeachers(nextCursor)}>
+                    Load more
+                </button>
+            )}
         </div>
     );
 };
@@ -52,10 +52,11 @@ const CourseList = () => {
 
     const fetchCoursesData = async (url) => {
         const response = await axios.get(url);
-        if (Array.isArray(response.data)) {
-            setCourses(response.data);
-            const imagePromises = response.data.map((course) =>
-                axios.get(`/api/courses/profile/image/${course.id}`, { responseType: "blob" })
+        const data = Array.isArray(response.data) ? response.data : response.data?.items;
+        if (Array.isArray(data)) {
+            setCourses(data);
+            const imagePromises = data.map((course) =>
+                axios.get(course.image?.thumb ?? `/api/courses/profile/image/${course.id}`, { responseType: "blob" })
                     .then((imageResponse) => ({
                         id: course.id,
                         url: URL.createObjectURL(imageResponse.data),
@@ -109,7 +110,7 @@ const CourseList = () => {
     useEffect(() => {
         const fetchTeacherImages = async () => {
             const teacherImagePromises = courses.map((course) =>
-                axios.get(`/api/teachers/profile/image/${course.teacher.id}`, { responseType: "blob" })
+                axios.get(course.teacher.image?.thumb ?? `/api/teachers/profile/image/${course.teacher.id}`, { responseType: "blob" })
                     .then((response) => ({
                         id: course.teacher.id,
                         url: URL.createObjectURL(response.data),
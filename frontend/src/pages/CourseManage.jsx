@@ -8,6 +8,7 @@ const CourseManage = () => {
     const navigate = useNavigate();
     const [course, setCourse] = useState(null);
     const [students, setStudents] = useState([]);
+    const [studentsCursor, setStudentsCursor] = useState(null);
     const [profileImage, setProfileImage] = useState(null);
     const [loading, setLoading] = useState(true);
     const [isEditing, setIsEditing] = useState(false);
@@ -47,12 +48,19 @@ const CourseManage = () => {
             .finally(() => setLoading(false));
     }, [id]);
 
-    useEffect(() => {
-        // Fetch enrolled students
+    const fetchStudents = (cursor = null) => {
         axios
-            .get(`/api/courses/${id}/students`, { withCredentials: true })
-            .then((response) => setStudents(response.data))
+            .get(`/api/courses/${id}/students`, { params: cursor ? { cursor } : {}, withCredentials: true })
+            .then((response) => {
+                setStudents((prev) => (cursor ? [...prev, ...response.data.items] : response.data.items));
+                setStudentsCursor(response.data.nextCursor);
+            })
             .catch((error) => console.error("Error fetching students:", error));
+    };
+
+    useEffect(() => {
+        // Fetch enrolled students
+        fetchStudents();
     }, [id]);
 
     // Clean up blob URL to prevent memory leaks
@@ -406,6 +414,11 @@ const CourseManage = () => {
             ) : (
                 <p className="text-muted">No students enrolled.</p>
             )}
+            {studentsCursor && (
+                <button className="btn btn-secondary" onClick={() => fetchStudents(studentsCursor)}>
+                    Load more
+                </button>
+            )}
 
             <div className="text-center mt-5">
                 <Link to={`/courses/${id}`} className="btn btn-outline-primary">
@@ -20,7 +20,7 @@ const Dashboard = () => {
                 setCourses(response.data);
 
                 const imagePromises = response.data.map((course) => {
-                    const teacherImagePromise = axios.get(`/api/teachers/profile/image/${course.teacher.id}`, {
+                    const teacherImagePromise = axios.get(course.teacher.image?.thumb ?? `/api/teachers/profile/image/${course.teacher.id}`, {
                         withCredentials: true,
                         responseType: "blob",
                     })
@@ -33,7 +33,7 @@ const Dashboard = () => {
                             url: defaultImage,
                         }));
 
-                    const courseImagePromise = axios.get(`/api/courses/profile/image/${course.id}`, {
+                    const courseImagePromise = axios.get(course.image?.thumb ?? `/api/courses/profile/image/${course.id}`, {
                         withCredentials: true,
                         responseType: "blob",
                     })
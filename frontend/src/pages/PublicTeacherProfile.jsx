@@ -25,7 +25,7 @@ const PublicTeacherProfile = () => {
                 if (response.data.createdCourses && response.data.createdCourses.length > 0) {
                     const imagePromises = response.data.createdCourses.map((course) =>
                         axios
-                            .get(`/api/courses/profile/image/${course.id}`, {
+                            .get(course.image?.thumb ?? `/api/courses/profile/image/${course.id}`, {
                                 withCredentials: true,
                                 responseType: "blob",
                             })
@@ -20,7 +20,7 @@ const QuizProfile = () => {
     const [courseId, setCourseId] = useState(null); // New state for course ID
 
     useEffect(() => {
-        axios.get(`/api/modules/quizzes/${quizId}`, { withCredentials: true })
+        axios.get(`/api/modules/quizzes/${quizId}/summary`, { withCredentials: true })
             .then((response) => {
                 setQuiz(response.data);
                 // Fetch module data to get course ID
@@ -55,16 +55,61 @@ const QuizProfile = () => {
             .catch((error) => console.error("Error fetching attempt or feedback:", error));
     }, [quizId]);
 
-    const handleGenerateFeedback = () => {
-        if (!lastAttempt) return;
-        setGeneratingFeedback(true);
+    const generateFeedbackWithJob = () => {
+        const waitForJob = (job) => {
+            if (job.status === "DONE") {
+                setFeedback(job.feedbackText);
+                return;
+            }
+            if (job.status === "FAILED") {
+                throw new Error(job.error || "Feedback generation failed");
+            }
+            return axios.get(`/api/quiz/feedback/jobs/${job.id}?wait=25`, { withCredentials: true })
+                .then((response) => waitForJob(response.data));
+        };
 
         axios.post(`/api/quiz/feedback/${lastAttempt.attemptId}`, {}, { withCredentials: true })
-            .then((response) => setFeedback(response.data))
+            .then((response) => waitForJob(response.data))
             .catch((error) => console.error("Error generating feedback:", error))
             .finally(() => setGeneratingFeedback(false));
     };
 
+    const handleGenerateFeedback = () => {
+        if (!lastAttempt) return;
+        setGeneratingFeedback(true);
+
+        if (typeof EventSource === "undefined") {
+            generateFeedbackWithJob();
+            return;
+        }
+
+        const source = new EventSource(`/api/quiz/feedback/${lastAttempt.attemptId}/stream`, { withCredentials: true });
+        let text = "";
+
+        source.addEventListener("chunk", (event) => {
+            text += JSON.parse(event.data).text;
+            setFeedback(text);
+            setShowFeedback(true);
+        });
+        source.addEventListener("done", () => {
+            source.close();
+            setGeneratingFeedback(false);
+        });
+        source.addEventListener("failed", (event) => {
+            source.close();
+            console.error("Error generating feedback:", JSON.parse(event.data).text);
+            setGeneratingFeedback(false);
+        });
+        source.onerror = () => {
+            source.close();
+            if (text) {
+                setGeneratingFeedback(false);
+            } else {
+                generateFeedbackWithJob();
+            }
+        };
+    };
+
     const handleStartOrRestartQuiz = () => {
         if (!quiz) return;
 
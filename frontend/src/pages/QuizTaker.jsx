@@ -12,15 +12,14 @@ const QuizTaker = () => {
     const [error, setError] = useState(null);
     const [timeLeft, setTimeLeft] = useState(null);
     const [timerExpired, setTimerExpired] = useState(false);
-    const [startTime, setStartTime] = useState(null);
-    const [durationSeconds, setDurationSeconds] = useState(0);
+    const [sessionId, setSessionId] = useState(null);
 
     const shuffleArray = (array) => {
         return array.sort(() => Math.random() - 0.5);
     };
 
     useEffect(() => {
-        axios.get(`/api/modules/quizzes/${quizId}`, { withCredentials: true })
+        axios.post(`/api/modules/quizzes/${quizId}/sessions`, null, { withCredentials: true })
             .then((response) => {
                 const shuffledQuiz = {
                     ...response.data,
@@ -30,9 +29,9 @@ const QuizTaker = () => {
                     })),
                 };
                 setQuiz(shuffledQuiz);
-                if (response.data.durationInMinutes) {
-                    setTimeLeft(response.data.durationInMinutes * 60);
-                    setStartTime(Date.now());
+                setSessionId(response.data.sessionId);
+                if (response.data.remainingSeconds !== null) {
+                    setTimeLeft(response.data.remainingSeconds);
                 }
                 setLoading(false);
             })
@@ -54,11 +53,10 @@ const QuizTaker = () => {
 
         const timer = setInterval(() => {
             setTimeLeft((prev) => prev - 1);
-            setDurationSeconds(Math.floor((Date.now() - startTime) / 1000));
         }, 1000);
 
         return () => clearInterval(timer);
-    }, [timeLeft, result, timerExpired, startTime]);
+    }, [timeLeft, result, timerExpired]);
 
     const handleSelectAnswer = (questionId, answerId) => {
         if (timerExpired || result) return;
@@ -73,10 +71,9 @@ const QuizTaker = () => {
                 questionId: Number(questionId),
                 answerId: Number(answerId),
             })),
-            duration: durationSeconds
         };
 
-        axios.post(`/api/modules/quizzes/${quizId}/submit`, submissionData, { withCredentials: true })
+        axios.post(`/api/modules/quizzes/sessions/${sessionId}/submit`, submissionData, { withCredentials: true })
             .then((response) => {
                 setResult(response.data);
                 setTimerExpired(true);
@@ -115,7 +112,7 @@ const QuizTaker = () => {
                 <div className="alert alert-success text-center rounded-4">
                     <h2>🎉 Quiz Completed!</h2>
                     <p><strong>Score:</strong> {result.score} / 100</p>
-                    <p><strong>Time Taken:</strong> {formatTime(durationSeconds)}</p>
+                    <p><strong>Time Taken:</strong> {formatTime(result.durationSeconds)}</p>
                     <button className="btn btn-success btn-lg px-4" onClick={() => navigate(`/quiz/${quizId}/profile`)}>
                         Go to Quiz Profile
                     </button>
@@ -1,4 +1,4 @@
-import React, { useEffect, useState } from "react";
+import React, { useEffect, useRef, useState } from "react";
 import { Link } from "react-router-dom";
 import axios from "axios";
 import { Box } from "@mui/material";
@@ -9,20 +9,23 @@ const Teachers = () => {
     const [profileImages, setProfileImages] = useState({});
     const [loading, setLoading] = useState(true);
     const [error, setError] = useState(null);
+    const [nextCursor, setNextCursor] = useState(null);
+    const imagesRef = useRef({});
 
     const defaultImage =
         "https://img.freepik.com/premium-vector/girl-holding-pencil-picture-girl-holding-book_1013341-447639.jpg?semt=ais_hybrid";
 
-    useEffect(() => {
-        // Fetch teachers list
+    const fetchTeachers = (cursor = null) => {
         axios
-            .get("/api/teachers", { withCredentials: true })
+            .get("/api/teachers", { params: cursor ? { cursor } : {}, withCredentials: true })
             .then((response) => {
-                if (Array.isArray(response.data)) {
-                    setTeachers(response.data);
-                    const imagePromises = response.data.map((teacher) =>
+                const page = response.data;
+                if (Array.isArray(page?.items)) {
+                    setTeachers((prev) => (cursor ? [...prev, ...page.items] : page.items));
+                    setNextCursor(page.nextCursor);
+                    const imagePromises = page.items.map((teacher) =>
                         axios
-                            .get(`/api/teachers/profile/image/${teacher.id}`, {
+                            .get(teacher.image?.thumb ?? `/api/teachers/profile/image/${teacher.id}`, {
                                 withCredentials: true,
                                 responseType: "blob",
                             })
@@ -40,7 +43,7 @@ const Teachers = () => {
                             acc[id] = url;
                             return acc;
                         }, {});
-                        setProfileImages(images);
+                        setProfileImages((prev) => ({ ...prev, ...images }));
                     });
                 } else {
                     console.error("Invalid data format:", response.data);
@@ -52,17 +55,25 @@ const Teachers = () => {
                 setError("Failed to fetch teachers");
             })
             .finally(() => setLoading(false));
+    };
+
+    useEffect(() => {
+        fetchTeachers();
     }, []);
 
+    useEffect(() => {
+        imagesRef.current = profileImages;
+    }, [profileImages]);
+
     useEffect(() => {
         return () => {
-            Object.values(profileImages).forEach((url) => {
+            Object.values(imagesRef.current).forEach((url) => {
                 if (url.startsWith("blob:")) {
                     URL.revokeObjectURL(url);
                 }
             });
         };
-    }, [profileImages]);
+    }, []);
 
     if (loading) {
         return <div className="text-center fs-4 fw-semibold mt-4">Loading...</div>;
@@ -175,6 +186,13 @@ const Teachers = () => {
                 ))}
             </div>
 
+            {nextCursor && (
+                <div className="text-center mb-5">
+                    <button className="btn btn-outline-success rounded-pill px-4" onClick={() => fetchTeachers(nextCursor)}>
+                        Load more
+                    </button>
+                </div>
+            )}
         </div>
 
     );